@@ -0,0 +1,43 @@
+/**
+ * Mars Simulation Project
+ * BenchmarkRunner.java
+ */
+package org.mars_sim.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmark suites and writes the results as JSON so that they can
+ * be compared from build to build.
+ * <p>
+ * Usage : java -jar benchmarks.jar [regex of the benchmarks] [result file]
+ */
+public class BenchmarkRunner {
+
+	/** The default benchmarks to be run. */
+	private static final String DEFAULT_INCLUDE = ".*Benchmark.*";
+	/** The default file to write the results to. */
+	private static final String DEFAULT_RESULT = "mars-sim-benchmarks.json";
+
+	public static void main(String[] args) throws RunnerException {
+		String include = DEFAULT_INCLUDE;
+		String result = DEFAULT_RESULT;
+
+		if (args.length > 0)
+			include = args[0];
+		if (args.length > 1)
+			result = args[1];
+
+		Options opt = new OptionsBuilder()
+				.include(include)
+				.resultFormat(ResultFormatType.JSON)
+				.result(result)
+				.build();
+
+		new Runner(opt).run();
+	}
+}
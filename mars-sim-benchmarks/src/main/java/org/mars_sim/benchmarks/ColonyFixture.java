@@ -0,0 +1,66 @@
+/**
+ * Mars Simulation Project
+ * ColonyFixture.java
+ */
+package org.mars_sim.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.SettlementConfig;
+import org.mars_sim.msp.core.structure.SettlementTemplate;
+
+/**
+ * Generates a colony of settlements for the benchmarks.
+ */
+public final class ColonyFixture {
+
+	/** The sponsor of the generated settlements. */
+	public static final String SPONSOR = "Mars Society (MS)";
+
+	private ColonyFixture() {
+		// Static helper only
+	}
+
+	/**
+	 * Loads the configuration files.
+	 */
+	public static void loadConfig() {
+		SimulationConfig.instance().loadConfig();
+	}
+
+	/**
+	 * Creates a new simulation with a number of settlements built from the first
+	 * settlement template, placed at random locations.
+	 * 
+	 * @param numSettlements the number of settlements
+	 * @return the settlements of the simulation
+	 */
+	public static List<Settlement> create(int numSettlements) {
+		SimulationConfig simulationConfig = SimulationConfig.instance();
+		simulationConfig.loadConfig();
+
+		SettlementConfig settlementConfig = simulationConfig.getSettlementConfiguration();
+		settlementConfig.clearInitialSettlements();
+
+		SettlementTemplate template = settlementConfig.getSettlementTemplates().get(0);
+		for (int i = 0; i < numSettlements; i++) {
+			settlementConfig.addInitialSettlement(SettlementConfig.RANDOM, 
+					template.getTemplateName(), 
+					template.getDefaultPopulation(),
+					template.getDefaultNumOfRobots(), 
+					SPONSOR, 
+					SettlementConfig.RANDOM, // latitude
+					SettlementConfig.RANDOM  // longitude
+					);
+		}
+
+		Simulation sim = Simulation.instance();
+		sim.createNewSimulation(-1, false);
+
+		return new ArrayList<>(sim.getUnitManager().getSettlements());
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * Mars Simulation Project
+ * InventoryBenchmark.java
+ */
+package org.mars_sim.msp.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.mars_sim.msp.core.resource.ResourceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the amount resource store, retrieve and query operations of
+ * {@link Inventory} on a mock unit, as in TestInventory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+
+	private static final double AMOUNT = 0.01D;
+
+	private Inventory inventory;
+
+	private int oxygenID;
+	private int waterID;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ColonyFixture.loadConfig();
+		Simulation.instance().testRun();
+
+		oxygenID = ResourceUtil.oxygenID;
+		waterID = ResourceUtil.waterID;
+
+		inventory = new MockUnit1().getInventory();
+		inventory.addAmountResourceTypeCapacity(oxygenID, 1_000D);
+		inventory.addAmountResourceTypeCapacity(waterID, 1_000D);
+		inventory.storeAmountResource(oxygenID, 500D, true);
+		inventory.storeAmountResource(waterID, 500D, true);
+	}
+
+	@Benchmark
+	public void storeAndRetrieve() {
+		inventory.storeAmountResource(oxygenID, AMOUNT, true);
+		inventory.retrieveAmountResource(oxygenID, AMOUNT);
+	}
+
+	@Benchmark
+	public double getAmountStored() {
+		return inventory.getAmountResourceStored(waterID, false);
+	}
+
+	@Benchmark
+	public double getRemainingCapacity() {
+		return inventory.getAmountResourceRemainingCapacity(waterID, true, false);
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * Mars Simulation Project
+ * SimulationBenchmark.java
+ */
+package org.mars_sim.msp.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.mars_sim.msp.core.Simulation.SaveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Simulation#serialize} and {@link Simulation#deserialize} of
+ * generated colonies. Note that serialize() includes a fixed delay of 500 ms
+ * before writing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SimulationBenchmark {
+
+	@Param({ "1", "10", "50" })
+	public int settlements;
+
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		ColonyFixture.create(settlements);
+		file = File.createTempFile("mars-sim-benchmark", ".sim");
+		// Writes a saved sim for deserialize()
+		Simulation.instance().serialize(SaveType.SAVE_AS, file, null, null);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public void serialize() throws IOException {
+		Simulation.instance().serialize(SaveType.SAVE_AS, file, null, null);
+	}
+
+	@Benchmark
+	public void deserialize() throws IOException, ClassNotFoundException {
+		Simulation.instance().deserialize(file);
+	}
+}
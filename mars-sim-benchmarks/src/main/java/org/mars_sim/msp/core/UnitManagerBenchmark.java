@@ -0,0 +1,53 @@
+/**
+ * Mars Simulation Project
+ * UnitManagerBenchmark.java
+ */
+package org.mars_sim.msp.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a full {@link UnitManager#timePassing(double)} tick on generated
+ * colonies of 1, 10 and 50 settlements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnitManagerBenchmark {
+
+	/** The time of a pulse [in millisols]. */
+	private static final double PULSE = 0.5D;
+
+	@Param({ "1", "10", "50" })
+	public int settlements;
+
+	private UnitManager unitManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ColonyFixture.create(settlements);
+		unitManager = Simulation.instance().getUnitManager();
+	}
+
+	@Benchmark
+	public void timePassing() {
+		unitManager.timePassing(PULSE);
+	}
+}
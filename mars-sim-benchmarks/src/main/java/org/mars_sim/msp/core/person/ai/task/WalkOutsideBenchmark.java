@@ -0,0 +1,88 @@
+/**
+ * Mars Simulation Project
+ * WalkOutsideBenchmark.java
+ */
+package org.mars_sim.msp.core.person.ai.task;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.mars_sim.msp.core.LocalAreaUtil;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.BuildingManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the path planning of {@link WalkOutside} for a person walking
+ * across a generated settlement from one side to the other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WalkOutsideBenchmark {
+
+	/** The distance to keep from the outermost buildings [in m]. */
+	private static final double MARGIN = 10D;
+
+	private WalkOutside walk;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Settlement settlement = ColonyFixture.create(1).get(0);
+		Person person = settlement.getIndoorPeople().iterator().next();
+
+		// Step the person outside as BuildingAirlock does
+		Building building = person.getBuildingLocation();
+		if (building != null)
+			BuildingManager.removePersonOrRobotFromBuilding(person, building);
+		person.transfer(settlement, Simulation.instance().getUnitManager().getMarsSurface());
+		person.setCoordinates(settlement.getCoordinates());
+
+		// Find the extent of the settlement
+		double minX = Double.MAX_VALUE;
+		double maxX = -Double.MAX_VALUE;
+		double sumY = 0;
+		List<Building> buildings = settlement.getBuildingManager().getACopyOfBuildings();
+		for (Building b : buildings) {
+			double halfSize = Math.max(b.getWidth(), b.getLength()) / 2D;
+			minX = Math.min(minX, b.getXLocation() - halfSize);
+			maxX = Math.max(maxX, b.getXLocation() + halfSize);
+			sumY += b.getYLocation();
+		}
+		double y = sumY / buildings.size();
+
+		person.setXLocation(minX - MARGIN);
+		person.setYLocation(y);
+
+		walk = new WalkOutside(person, minX - MARGIN, y, maxX + MARGIN, y, true);
+	}
+
+	@Benchmark
+	public List<Point2D> determineWalkingPath() {
+		return walk.determineWalkingPath();
+	}
+
+	@Benchmark
+	public List<Point2D> determineWalkingPathColdCache() {
+		LocalAreaUtil.clearObstacleCache();
+		return walk.determineWalkingPath();
+	}
+}
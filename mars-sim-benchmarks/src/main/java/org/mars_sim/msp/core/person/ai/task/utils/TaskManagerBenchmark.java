@@ -0,0 +1,66 @@
+/**
+ * Mars Simulation Project
+ * TaskManagerBenchmark.java
+ */
+package org.mars_sim.msp.core.person.ai.task.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the meta task probability calculation behind {@link TaskManager}
+ * for all the people of generated colonies. The meta tasks are called directly,
+ * since the probability cache of the task manager only recomputes once per
+ * millisol, and the clock stands still during the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskManagerBenchmark {
+
+	@Param({ "1", "10", "50" })
+	public int settlements;
+
+	private List<Person> people;
+	private List<MetaTask> metaTasks;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		people = new ArrayList<>();
+		for (Settlement settlement : ColonyFixture.create(settlements)) {
+			people.addAll(settlement.getAllAssociatedPeople());
+		}
+		metaTasks = MetaTaskUtil.getAllMetaTasks();
+	}
+
+	@Benchmark
+	public double calculateProbability() {
+		double result = 0;
+		for (Person person : people) {
+			for (MetaTask mt : metaTasks) {
+				result += mt.getProbability(person);
+			}
+		}
+		return result;
+	}
+}
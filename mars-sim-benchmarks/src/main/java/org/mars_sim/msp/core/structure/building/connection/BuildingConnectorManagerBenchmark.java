@@ -0,0 +1,61 @@
+/**
+ * Mars Simulation Project
+ * BuildingConnectorManagerBenchmark.java
+ */
+package org.mars_sim.msp.core.structure.building.connection;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link BuildingConnectorManager#determineShortestPath} between all
+ * pairs of buildings of a generated settlement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildingConnectorManagerBenchmark {
+
+	private BuildingConnectorManager manager;
+
+	private List<Building> buildings;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Settlement settlement = ColonyFixture.create(1).get(0);
+		manager = settlement.getBuildingConnectorManager();
+		buildings = settlement.getBuildingManager().getACopyOfBuildings();
+	}
+
+	@Benchmark
+	public int determineShortestPath() {
+		int found = 0;
+		for (Building b1 : buildings) {
+			for (Building b2 : buildings) {
+				InsideBuildingPath path = manager.determineShortestPath(b1, b1.getXLocation(), b1.getYLocation(), 
+						b2, b2.getXLocation(), b2.getYLocation());
+				if (path != null)
+					found++;
+			}
+		}
+		return found;
+	}
+}
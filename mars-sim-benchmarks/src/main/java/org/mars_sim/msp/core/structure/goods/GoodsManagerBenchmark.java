@@ -0,0 +1,49 @@
+/**
+ * Mars Simulation Project
+ * GoodsManagerBenchmark.java
+ */
+package org.mars_sim.msp.core.structure.goods;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mars_sim.benchmarks.ColonyFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link GoodsManager#updateGoodsValues()} of a settlement in
+ * generated colonies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoodsManagerBenchmark {
+
+	@Param({ "1", "10", "50" })
+	public int settlements;
+
+	private GoodsManager goodsManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		goodsManager = ColonyFixture.create(settlements).get(0).getGoodsManager();
+	}
+
+	@Benchmark
+	public void updateGoodsValues() {
+		goodsManager.updateGoodsValues();
+	}
+}
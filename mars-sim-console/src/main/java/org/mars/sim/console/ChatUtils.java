@@ -139,7 +139,8 @@ public class ChatUtils {
 			{"bed", 			"what are the quarters arrangement in this settlement"},
 			{"social", 			"how is this settlement doing socially"},
 			{"science", 		"how is the science score in this settlement"},
-			{"researchers", 	"who are conducting reseach in this settlement"}
+			{"researchers", 	"who are conducting reseach in this settlement"},
+			{"telemetry", 		"export the telemetry of this settlement to csv files"}
 		};
 	};
 
@@ -7,6 +7,10 @@
 
 package org.mars.sim.console;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -19,7 +23,10 @@ import java.util.stream.Collectors;
 
 import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.Msg;
+import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.data.RollupPeriod;
+import org.mars_sim.msp.core.data.TelemetryStore;
 import org.mars_sim.msp.core.person.GenderType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ai.job.Job;
@@ -51,6 +58,9 @@ import com.google.common.collect.Multimap;
 public class SettlementChatUtils extends ChatUtils {
 
 	private static Logger logger = Logger.getLogger(SettlementChatUtils.class.getName());
+
+	/** The folder in the mars-sim home for the exported telemetry. */
+	private static final String TELEMETRY_FOLDER = "telemetry";
 	
 	/**
 	 * Asks the settlement when the input is a number
@@ -1956,6 +1966,19 @@ public class SettlementChatUtils extends ChatUtils {
 			responseText.append(System.lineSeparator());
 		}
 
+		else if (text.equalsIgnoreCase("telemetry")) {
+			questionText = YOU_PROMPT + "I'd like to export the telemetry of this settlement.";
+
+			try {
+				File dir = exportTelemetry(settlementCache);
+				responseText.append("The telemetry has been exported to " + dir.getPath());
+			} catch (IOException e) {
+				String s = settlementCache + " : Unable to export the telemetry. " + e.getMessage();
+				responseText.append(s);
+				logger.warning(s);
+			}
+		}
+
 		else if (text.equalsIgnoreCase("key") || text.equalsIgnoreCase("keys") || text.equalsIgnoreCase("keyword")
 				|| text.equalsIgnoreCase("keywords") || text.equalsIgnoreCase("/k")) {
 
@@ -1998,6 +2021,35 @@ public class SettlementChatUtils extends ChatUtils {
 		return new String[] { questionText, responseText.toString() };
 	}
 
+	/**
+	 * Exports the telemetry of a settlement as csv files, one for the held
+	 * samples and one for each rollup period.
+	 * 
+	 * @param settlement
+	 * @return the directory of the files
+	 * @throws IOException if the files cannot be written
+	 */
+	public static File exportTelemetry(Settlement settlement) throws IOException {
+		File dir = new File(Simulation.HOME_DIR, TELEMETRY_FOLDER);
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Cannot create " + dir.getPath());
+		}
+
+		TelemetryStore telemetry = settlement.getTelemetry();
+		String prefix = settlement.getName().replace(' ', '_') + "_";
+
+		try (Writer out = new FileWriter(new File(dir, prefix + "samples.csv"))) {
+			telemetry.exportSamples(out);
+		}
+		for (RollupPeriod period : RollupPeriod.values()) {
+			try (Writer out = new FileWriter(new File(dir, prefix + period.name().toLowerCase() + ".csv"))) {
+				telemetry.exportRollups(out, period);
+			}
+		}
+
+		return dir;
+	}
+
 	/**
 	 * Obtains the distances between settlements
 	 * 
@@ -69,6 +69,12 @@ public class Inventory implements Serializable {
 	/** Collection of units in inventory. */
 //	private Collection<Unit> containedUnits = null;
 	private Collection<Integer> containedUnitIDs;
+	/** The identifiers of the contained units, for fast membership checks. */
+	private transient Set<Integer> containedUnitIDSet;
+	/** The identifiers of the contained people. */
+	private transient Set<Integer> containedPeopleIDs;
+	/** The identifiers of the contained robots. */
+	private transient Set<Integer> containedRobotIDs;
 	
 	/** Map of item resources. */
 	private Map<Integer, Integer> containedItemResources = null;
@@ -1376,7 +1382,7 @@ public class Inventory implements Serializable {
 	public Collection<Person> getContainedPeople() {
 		List<Person> result = new ArrayList<>();
 		if (containedUnitIDs != null) {
-			for (Integer id : containedUnitIDs) {
+			for (Integer id : getContainedPeopleIDs()) {
 				Person p = unitManager.getPersonByID(id);
 				if (p != null)
 					result.add(p);
@@ -1391,15 +1397,9 @@ public class Inventory implements Serializable {
 	 * @return the number of people contained
 	 */
 	public int getNumContainedPeople() {
-		int result = 0;
-		if (containedUnitIDs != null) {
-			for (Integer id : containedUnitIDs) {
-				Person p = unitManager.getPersonByID(id);
-				if (p != null)
-					result++;
-			}
-		}
-		return result;
+		if (containedUnitIDs == null)
+			return 0;
+		return getContainedPeopleIDs().size();
 	}
 	
 	/**
@@ -1410,7 +1410,7 @@ public class Inventory implements Serializable {
 	public Collection<Robot> getContainedRobots() {
 		List<Robot> result = new ArrayList<>();
 		if (containedUnitIDs != null) {
-			for (Integer id : containedUnitIDs) {
+			for (Integer id : getContainedRobotIDs()) {
 				Robot r = unitManager.getRobotByID(id);
 				if (r != null)
 					result.add(r);
@@ -1425,15 +1425,9 @@ public class Inventory implements Serializable {
 	 * @return a number of robots contained
 	 */
 	public int getNumContainedRobots() {
-		int result = 0;
-		if (containedUnitIDs != null) {
-			for (Integer id : containedUnitIDs) {
-				Robot r = unitManager.getRobotByID(id);
-				if (r != null)
-					result++;
-			}
-		}
-		return result;
+		if (containedUnitIDs == null)
+			return 0;
+		return getContainedRobotIDs().size();
 	}
 	
 	/**
@@ -1498,10 +1492,74 @@ public class Inventory implements Serializable {
 		if (containedUnitIDs == null) {
 			containedUnitIDs = new ConcurrentLinkedQueue<>();
 		}
-		if (!containedUnitIDs.contains(id)) {
+		if (!getContainedUnitIDSet().contains(id)) {
 			containedUnitIDs.add(id);
+			indexContainedUnit(id, unitManager.getUnitByID(id));
 		}
 	}
+
+	/**
+	 * Gets the set of the identifiers of the contained units, indexing the
+	 * contained units by type if needed.
+	 * 
+	 * @return set of identifiers
+	 */
+	private Set<Integer> getContainedUnitIDSet() {
+		if (containedUnitIDSet == null)
+			indexContainedUnits();
+		return containedUnitIDSet;
+	}
+
+	private Set<Integer> getContainedPeopleIDs() {
+		if (containedPeopleIDs == null)
+			indexContainedUnits();
+		return containedPeopleIDs;
+	}
+
+	private Set<Integer> getContainedRobotIDs() {
+		if (containedRobotIDs == null)
+			indexContainedUnits();
+		return containedRobotIDs;
+	}
+
+	/**
+	 * Indexes the contained units by type, e.g. after loading a saved sim.
+	 */
+	private synchronized void indexContainedUnits() {
+		if (containedUnitIDSet != null)
+			return;
+		Set<Integer> people = ConcurrentHashMap.newKeySet();
+		Set<Integer> robots = ConcurrentHashMap.newKeySet();
+		Set<Integer> all = ConcurrentHashMap.newKeySet();
+		if (containedUnitIDs != null) {
+			for (Integer id : containedUnitIDs) {
+				all.add(id);
+				if (unitManager == null)
+					continue;
+				if (unitManager.getPersonByID(id) != null)
+					people.add(id);
+				else if (unitManager.getRobotByID(id) != null)
+					robots.add(id);
+			}
+		}
+		containedPeopleIDs = people;
+		containedRobotIDs = robots;
+		containedUnitIDSet = all;
+	}
+
+	private void indexContainedUnit(Integer id, Unit unit) {
+		getContainedUnitIDSet().add(id);
+		if (unit instanceof Person)
+			containedPeopleIDs.add(id);
+		else if (unit instanceof Robot)
+			containedRobotIDs.add(id);
+	}
+
+	private void unindexContainedUnit(Integer id) {
+		getContainedUnitIDSet().remove(id);
+		containedPeopleIDs.remove(id);
+		containedRobotIDs.remove(id);
+	}
 	
 	/**
 	 * Checks if a unit is in storage.
@@ -1513,7 +1571,7 @@ public class Inventory implements Serializable {
 		Integer id = unit.getIdentifier();
 		boolean result = false;
 		if (containedUnitIDs != null) {
-			result = containedUnitIDs.contains(id);
+			result = getContainedUnitIDSet().contains(id);
 		}
 		return result;
 	}
@@ -2203,6 +2261,7 @@ public class Inventory implements Serializable {
 				containedUnitIDs = new ConcurrentLinkedQueue<>();
 			}
 
+			indexContainedUnit(unit.getIdentifier(), unit);
 			containedUnitIDs.add(unit.getIdentifier());
 
 			Unit newOwner = getOwner();
@@ -2304,11 +2363,12 @@ public class Inventory implements Serializable {
 		
 		Integer id = unit.getIdentifier();
 
-		if (containedUnitIDs.contains(id)) {
+		if (containedUnitIDs != null && getContainedUnitIDSet().contains(id)) {
 			
 			setUnitTotalMassCacheDirty();
 
 			containedUnitIDs.remove(id);
+			unindexContainedUnit(id);
 
 			// Update owner
 			Unit owner = getOwner();
@@ -3224,6 +3284,9 @@ public class Inventory implements Serializable {
         if (containedUnitIDs != null) 
         	containedUnitIDs.clear();
 		containedUnitIDs = null;
+		containedUnitIDSet = null;
+		containedPeopleIDs = null;
+		containedRobotIDs = null;
         if (containedItemResources != null) 
         	containedItemResources.clear();
 		containedItemResources = null;
@@ -99,6 +99,7 @@ import org.mars_sim.msp.core.structure.construction.SalvageValues;
 import org.mars_sim.msp.core.structure.goods.CreditManager;
 import org.mars_sim.msp.core.structure.goods.GoodsManager;
 import org.mars_sim.msp.core.time.AutosaveScheduler;
+import org.mars_sim.msp.core.time.BatchReport;
 import org.mars_sim.msp.core.time.ClockListener;
 import org.mars_sim.msp.core.time.EarthClock;
 import org.mars_sim.msp.core.time.MarsClock;
@@ -1970,6 +1971,36 @@ public class Simulation implements ClockListener, Serializable {
 		}
 	}
 
+	/**
+	 * Advances the simulation by one pulse on the calling thread, timing each
+	 * subsystem. Used by the batch mode of the master clock.
+	 *
+	 * @param time   the amount of time passing (in millisols)
+	 * @param report the report accumulating the time spent in each subsystem
+	 */
+	public void batchPulse(double time, BatchReport report) {
+		long t0 = System.nanoTime();
+		mars.timePassing(time);
+		long t1 = System.nanoTime();
+		report.addTime(BatchReport.Subsystem.MARS, t1 - t0);
+
+		missionManager.timePassing(time);
+		t0 = System.nanoTime();
+		report.addTime(BatchReport.Subsystem.MISSION_MANAGER, t0 - t1);
+
+		unitManager.timePassing(time);
+		t1 = System.nanoTime();
+		report.addTime(BatchReport.Subsystem.UNIT_MANAGER, t1 - t0);
+
+		scientificStudyManager.updateStudies();
+		t0 = System.nanoTime();
+		report.addTime(BatchReport.Subsystem.SCIENTIFIC_STUDY_MANAGER, t0 - t1);
+
+		transportManager.timePassing(time);
+		t1 = System.nanoTime();
+		report.addTime(BatchReport.Subsystem.TRANSPORT_MANAGER, t1 - t0);
+	}
+
 	public boolean getAutosaveDefault() {
 		return autosaveDefault;
 	}
@@ -0,0 +1,260 @@
+/**
+ * Mars Simulation Project
+ * MetricSeries.java
+ */
+package org.mars_sim.msp.core.data;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.mars_sim.msp.core.time.MarsClock;
+
+/**
+ * The MetricSeries class records the samples of one metric. The latest samples
+ * are kept in a ring buffer of primitive arrays, and every sample is also
+ * rolled up into the count, sum, minimum and maximum of its sol, month and
+ * orbit. Each level keeps a fixed number of periods, so the memory used by a
+ * series does not grow over the course of a simulation.
+ */
+public class MetricSeries implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The time of the samples, as mission sol * 1000 + millisol. */
+	private double[] times;
+	/** The value of the samples. */
+	private double[] values;
+	/** The index of the next sample to be written. */
+	private int head;
+	/** The number of samples held. */
+	private int size;
+
+	/** The aggregates of each rollup period. */
+	private Aggregates[] rollups;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param sampleCapacity the number of latest samples to keep
+	 * @param solRetention   the number of sols to keep aggregates for
+	 * @param monthRetention the number of months to keep aggregates for
+	 * @param orbitRetention the number of orbits to keep aggregates for
+	 */
+	public MetricSeries(int sampleCapacity, int solRetention, int monthRetention, int orbitRetention) {
+		times = new double[sampleCapacity];
+		values = new double[sampleCapacity];
+		rollups = new Aggregates[RollupPeriod.values().length];
+		rollups[RollupPeriod.SOL.ordinal()] = new Aggregates(solRetention);
+		rollups[RollupPeriod.MONTH.ordinal()] = new Aggregates(monthRetention);
+		rollups[RollupPeriod.ORBIT.ordinal()] = new Aggregates(orbitRetention);
+	}
+
+	/**
+	 * Records a sample.
+	 * 
+	 * @param time  the time of the sample
+	 * @param value the value
+	 */
+	public void record(MarsClock time, double value) {
+		record(time.getMissionSol(), time.getMillisol(), RollupPeriod.MONTH.getKey(time),
+				RollupPeriod.ORBIT.getKey(time), value);
+	}
+
+	/**
+	 * Records a sample.
+	 * 
+	 * @param sol      the mission sol
+	 * @param millisol the millisol of the sol
+	 * @param month    the month key
+	 * @param orbit    the orbit
+	 * @param value    the value
+	 */
+	synchronized void record(int sol, double millisol, int month, int orbit, double value) {
+		if (times.length > 0) {
+			times[head] = sol * 1000D + millisol;
+			values[head] = value;
+			head = (head + 1) % times.length;
+			if (size < times.length)
+				size++;
+		}
+
+		rollups[RollupPeriod.SOL.ordinal()].add(sol, value);
+		rollups[RollupPeriod.MONTH.ordinal()].add(month, value);
+		rollups[RollupPeriod.ORBIT.ordinal()].add(orbit, value);
+	}
+
+	/**
+	 * Gets the number of samples of a period.
+	 * 
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return number of samples, or 0 if the period is not kept
+	 */
+	public synchronized int getCount(RollupPeriod period, int key) {
+		return rollups[period.ordinal()].getCount(key);
+	}
+
+	/**
+	 * Gets the sum of the samples of a period.
+	 * 
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return sum, or 0 if the period is not kept
+	 */
+	public synchronized double getSum(RollupPeriod period, int key) {
+		Aggregates a = rollups[period.ordinal()];
+		int i = a.indexOf(key);
+		return (i < 0 ? 0 : a.sums[i]);
+	}
+
+	/**
+	 * Gets the average of the samples of a period.
+	 * 
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return average, or 0 if the period is not kept
+	 */
+	public synchronized double getAverage(RollupPeriod period, int key) {
+		Aggregates a = rollups[period.ordinal()];
+		int i = a.indexOf(key);
+		return (i < 0 ? 0 : a.sums[i] / a.counts[i]);
+	}
+
+	/**
+	 * Gets the minimum of the samples of a period.
+	 * 
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return minimum, or 0 if the period is not kept
+	 */
+	public synchronized double getMin(RollupPeriod period, int key) {
+		Aggregates a = rollups[period.ordinal()];
+		int i = a.indexOf(key);
+		return (i < 0 ? 0 : a.mins[i]);
+	}
+
+	/**
+	 * Gets the maximum of the samples of a period.
+	 * 
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return maximum, or 0 if the period is not kept
+	 */
+	public synchronized double getMax(RollupPeriod period, int key) {
+		Aggregates a = rollups[period.ordinal()];
+		int i = a.indexOf(key);
+		return (i < 0 ? 0 : a.maxs[i]);
+	}
+
+	/**
+	 * Gets the keys of the kept periods, in ascending order.
+	 * 
+	 * @param period the rollup period
+	 * @return keys
+	 */
+	public synchronized int[] getKeys(RollupPeriod period) {
+		return rollups[period.ordinal()].getKeys();
+	}
+
+	/**
+	 * Gets the number of samples held in the ring buffer.
+	 * 
+	 * @return number of samples
+	 */
+	public synchronized int getSampleCount() {
+		return size;
+	}
+
+	/**
+	 * Gets the time of a held sample.
+	 * 
+	 * @param index the index of the sample, 0 being the oldest
+	 * @return the time, as mission sol * 1000 + millisol
+	 */
+	public synchronized double getSampleTime(int index) {
+		return times[getSampleIndex(index)];
+	}
+
+	/**
+	 * Gets the value of a held sample.
+	 * 
+	 * @param index the index of the sample, 0 being the oldest
+	 * @return the value
+	 */
+	public synchronized double getSampleValue(int index) {
+		return values[getSampleIndex(index)];
+	}
+
+	private int getSampleIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Sample " + index + " of " + size);
+		return (head - size + index + times.length) % times.length;
+	}
+
+	/**
+	 * The count, sum, minimum and maximum of the latest periods of one rollup
+	 * level. A period is stored in the slot of its key modulo the retention, so
+	 * a newer period replaces the one a full retention before it.
+	 */
+	private static class Aggregates implements Serializable {
+
+		/** default serial id. */
+		private static final long serialVersionUID = 1L;
+
+		private static final int EMPTY = Integer.MIN_VALUE;
+
+		private int[] keys;
+		private int[] counts;
+		private double[] sums;
+		private double[] mins;
+		private double[] maxs;
+
+		Aggregates(int retention) {
+			keys = new int[retention];
+			counts = new int[retention];
+			sums = new double[retention];
+			mins = new double[retention];
+			maxs = new double[retention];
+			Arrays.fill(keys, EMPTY);
+		}
+
+		void add(int key, double value) {
+			if (keys.length == 0)
+				return;
+			int i = Math.floorMod(key, keys.length);
+			if (keys[i] != key) {
+				// Ignore a late sample of a period that has been replaced
+				if (keys[i] != EMPTY && keys[i] > key)
+					return;
+				keys[i] = key;
+				counts[i] = 0;
+				sums[i] = 0;
+				mins[i] = value;
+				maxs[i] = value;
+			}
+			counts[i]++;
+			sums[i] += value;
+			if (value < mins[i])
+				mins[i] = value;
+			if (value > maxs[i])
+				maxs[i] = value;
+		}
+
+		int indexOf(int key) {
+			if (keys.length == 0)
+				return -1;
+			int i = Math.floorMod(key, keys.length);
+			return (keys[i] == key ? i : -1);
+		}
+
+		int getCount(int key) {
+			int i = indexOf(key);
+			return (i < 0 ? 0 : counts[i]);
+		}
+
+		int[] getKeys() {
+			return Arrays.stream(keys).filter(k -> k != EMPTY).sorted().toArray();
+		}
+	}
+}
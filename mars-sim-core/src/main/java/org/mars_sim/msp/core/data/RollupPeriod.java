@@ -0,0 +1,33 @@
+/**
+ * Mars Simulation Project
+ * RollupPeriod.java
+ */
+package org.mars_sim.msp.core.data;
+
+import org.mars_sim.msp.core.time.MarsClock;
+
+/**
+ * The periods over which the samples of a metric are aggregated.
+ */
+public enum RollupPeriod {
+
+	SOL, MONTH, ORBIT;
+
+	/**
+	 * Gets the key of the period holding a given time.
+	 * 
+	 * @param time the time
+	 * @return the mission sol, the month since the start of the calendar or the
+	 *         orbit
+	 */
+	public int getKey(MarsClock time) {
+		switch (this) {
+		case SOL:
+			return time.getMissionSol();
+		case MONTH:
+			return time.getOrbit() * MarsClock.MONTHS_PER_ORBIT + time.getMonth() - 1;
+		default:
+			return time.getOrbit();
+		}
+	}
+}
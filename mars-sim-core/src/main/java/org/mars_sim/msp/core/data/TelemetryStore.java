@@ -0,0 +1,169 @@
+/**
+ * Mars Simulation Project
+ * TelemetryStore.java
+ */
+package org.mars_sim.msp.core.data;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mars_sim.msp.core.time.MarsClock;
+
+/**
+ * The TelemetryStore class holds the named time series of an owner, such as
+ * the resource levels or the water usage of a settlement. Each series is
+ * created on its first sample with the retention given to the store.
+ */
+public class TelemetryStore implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	private static final String COMMA = ",";
+	private static final String NEW_LINE = System.lineSeparator();
+
+	private int sampleCapacity;
+	private int solRetention;
+	private int monthRetention;
+	private int orbitRetention;
+
+	private Map<String, MetricSeries> series = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param sampleCapacity the number of latest samples to keep per metric
+	 * @param solRetention   the number of sols to keep aggregates for
+	 * @param monthRetention the number of months to keep aggregates for
+	 * @param orbitRetention the number of orbits to keep aggregates for
+	 */
+	public TelemetryStore(int sampleCapacity, int solRetention, int monthRetention, int orbitRetention) {
+		this.sampleCapacity = sampleCapacity;
+		this.solRetention = solRetention;
+		this.monthRetention = monthRetention;
+		this.orbitRetention = orbitRetention;
+	}
+
+	/**
+	 * Records a sample of a metric.
+	 * 
+	 * @param metric the name of the metric
+	 * @param time   the time of the sample
+	 * @param value  the value
+	 */
+	public void record(String metric, MarsClock time, double value) {
+		getSeries(metric).record(time, value);
+	}
+
+	/**
+	 * Gets the series of a metric, creating it if needed.
+	 * 
+	 * @param metric the name of the metric
+	 * @return series
+	 */
+	public MetricSeries getSeries(String metric) {
+		return series.computeIfAbsent(metric,
+				m -> new MetricSeries(sampleCapacity, solRetention, monthRetention, orbitRetention));
+	}
+
+	/**
+	 * Checks if a metric has been recorded.
+	 * 
+	 * @param metric the name of the metric
+	 * @return true if it has a series
+	 */
+	public boolean hasSeries(String metric) {
+		return series.containsKey(metric);
+	}
+
+	/**
+	 * Gets the sum of the samples of a metric over a period.
+	 * 
+	 * @param metric the name of the metric
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return sum, or 0 if there is none
+	 */
+	public double getSum(String metric, RollupPeriod period, int key) {
+		MetricSeries s = series.get(metric);
+		return (s == null ? 0 : s.getSum(period, key));
+	}
+
+	/**
+	 * Gets the average of the samples of a metric over a period.
+	 * 
+	 * @param metric the name of the metric
+	 * @param period the rollup period
+	 * @param key    the key of the period
+	 * @return average, or 0 if there is none
+	 */
+	public double getAverage(String metric, RollupPeriod period, int key) {
+		MetricSeries s = series.get(metric);
+		return (s == null ? 0 : s.getAverage(period, key));
+	}
+
+	/**
+	 * Gets the names of the recorded metrics, in alphabetical order.
+	 * 
+	 * @return names
+	 */
+	public List<String> getMetrics() {
+		List<String> result = new ArrayList<>(series.keySet());
+		Collections.sort(result);
+		return result;
+	}
+
+	/**
+	 * Writes the held samples of all the metrics as comma separated values,
+	 * one column per field.
+	 * 
+	 * @param out the writer
+	 * @throws IOException if the samples cannot be written
+	 */
+	public void exportSamples(Writer out) throws IOException {
+		out.write("metric,sol,millisol,value");
+		out.write(NEW_LINE);
+		for (String metric : getMetrics()) {
+			MetricSeries s = series.get(metric);
+			synchronized (s) {
+				for (int i = 0; i < s.getSampleCount(); i++) {
+					double time = s.getSampleTime(i);
+					int sol = (int) (time / 1000D);
+					out.write(metric + COMMA + sol + COMMA + (time - sol * 1000D) + COMMA + s.getSampleValue(i));
+					out.write(NEW_LINE);
+				}
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * Writes the aggregates of all the metrics over a rollup period as comma
+	 * separated values, one column per field.
+	 * 
+	 * @param out    the writer
+	 * @param period the rollup period
+	 * @throws IOException if the aggregates cannot be written
+	 */
+	public void exportRollups(Writer out, RollupPeriod period) throws IOException {
+		out.write("metric," + period.name().toLowerCase() + ",count,sum,min,max");
+		out.write(NEW_LINE);
+		for (String metric : getMetrics()) {
+			MetricSeries s = series.get(metric);
+			synchronized (s) {
+				for (int key : s.getKeys(period)) {
+					out.write(metric + COMMA + key + COMMA + s.getCount(period, key) + COMMA + s.getSum(period, key)
+							+ COMMA + s.getMin(period, key) + COMMA + s.getMax(period, key));
+					out.write(NEW_LINE);
+				}
+			}
+		}
+		out.flush();
+	}
+}
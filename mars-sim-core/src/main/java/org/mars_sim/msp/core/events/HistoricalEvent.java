@@ -9,7 +9,7 @@ package org.mars_sim.msp.core.events;
 import java.io.Serializable;
 
 import org.mars_sim.msp.core.person.EventType;
-import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 
 /**
  * This class represents a time based event that has occurred in the simulation.
@@ -35,7 +35,7 @@ public abstract class HistoricalEvent implements Serializable {
 //	/** TODO Long description of historical events should be internationalizable. */
 //	private String description;
 	/** Time event occurred. */
-	private MarsClock timestamp;
+	private MarsInstant timestamp;
 	/** Source of event may be null. */
 	private Object source;
 	private String whileDoing;
@@ -75,7 +75,7 @@ public abstract class HistoricalEvent implements Serializable {
 	 * 
 	 * @param timestamp
 	 */
-	void setTimestamp(MarsClock timestamp) {
+	void setTimestamp(MarsInstant timestamp) {
 		this.timestamp = timestamp;
 	}
 
@@ -138,7 +138,7 @@ public abstract class HistoricalEvent implements Serializable {
 	 * 
 	 * @return Time the event happened
 	 */
-	public MarsClock getTimestamp() {
+	public MarsInstant getTimestamp() {
 		return timestamp;
 	}
 
@@ -173,14 +173,9 @@ public class HistoricalEventManager implements Serializable {
 		if (marsClock == null)
 			marsClock = Simulation.instance().getMasterClock().getMarsClock();
 
-		MarsClock timestamp = (MarsClock) marsClock.clone();
+		newEvent.setTimestamp(marsClock.getInstant());
 
-		if (timestamp == null)
-			throw new IllegalStateException("timestamp is null");
-
-		newEvent.setTimestamp(timestamp);
-
-		SimpleEvent se = convert2SimpleEvent(newEvent, timestamp);
+		SimpleEvent se = convert2SimpleEvent(newEvent, marsClock);
 
 		if (listeners == null) {
 			listeners = new ArrayList<HistoricalEventListener>();
@@ -195,7 +190,7 @@ public class HistoricalEventManager implements Serializable {
 
 	private SimpleEvent convert2SimpleEvent(HistoricalEvent event, MarsClock timestamp) {
 		short missionSol = (short) (timestamp.getMissionSol());//event.getTimestamp().getMissionSol());
-		float millisols = (float) (event.getTimestamp().getMillisol());
+		float millisols = (float) (timestamp.getMillisol());
 		byte cat = (byte) (event.getCategory().ordinal());
 		byte type = (byte) (event.getType().ordinal());
 		short what = (short) (getID(whatList, event.getWhatCause()));
@@ -51,6 +51,7 @@ import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.building.BuildingConfig;
 import org.mars_sim.msp.core.structure.building.BuildingManager;
+import org.mars_sim.msp.core.structure.building.FreeSpaceIndex;
 import org.mars_sim.msp.core.structure.building.function.FunctionType;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
@@ -302,6 +303,11 @@ public class Resupply implements Serializable, Transportable {
 			if (!noImmovable || !noConflictResupply || !inZone) {// if there are obstacles
 				// get a new template
 				BuildingTemplate repositioned = positionNewResupplyBuilding(bt.getBuildingType());
+				if (repositioned == null) {
+					logger.config("clearCollision() : no open location left for " + bt.getNickName()
+							+ ". Quit building placement.");
+					return null;
+				}
 
 				repositioned.setMissionName(bt.getMissionName());
 				// Call again recursively to check for any collision
@@ -731,12 +737,14 @@ public class Resupply implements Serializable, Transportable {
 
 		if (newPosition == null) {
 			// System.out.println("no life support, no same type of building");
-			// Put this non-habitable building next to a different type building.
-			// If not successful, try again 10m from each building and continue out at 10m
-			// increments
-			// until a location is found.
+			// Put this building at the nearest open location to a different type building.
 			if (buildingManager.getNumBuildings() > 0) {
-				for (int x = BUILDING_CENTER_SEPARATION; newPosition == null; x = x + 2) {
+				newPosition = positionNearestOpenLocation(buildingType);
+
+				// If not successful, try again 11m from each building and continue out at 2m
+				// increments until a location is found.
+				int maxDistance = (int) (FreeSpaceIndex.HALF_SIZE * FreeSpaceIndex.CELL_SIZE);
+				for (int x = BUILDING_CENTER_SEPARATION; newPosition == null && x <= maxDistance; x = x + 2) {
 					List<Building> allBuildings = buildingManager.getACopyOfBuildings();
 					// System.out.println("allBuildings.size() is "+ allBuildings.size());
 					// System.out.println("Building type is "+ buildingType);
@@ -785,6 +793,66 @@ public class Resupply implements Serializable, Transportable {
 		return newPosition;
 	}
 
+	/**
+	 * Positions a new building at the nearest open location to an existing
+	 * building, keeping the least distance for its type from the other buildings.
+	 * 
+	 * @param buildingType the new building type.
+	 * @return new building template with determined position, or null if none
+	 *         found.
+	 */
+	private BuildingTemplate positionNearestOpenLocation(String buildingType) {
+		BuildingManager buildingManager = unitManager.getSettlementByID(settlementID).getBuildingManager();
+
+		// Replace width and length defaults to deal with variable width and length
+		// buildings.
+		double width = buildingConfig.getWidth(buildingType);
+		if (width <= 0D) {
+			width = DEFAULT_VARIABLE_BUILDING_WIDTH;
+		}
+		double length = buildingConfig.getLength(buildingType);
+		if (length <= 0D) {
+			length = DEFAULT_VARIABLE_BUILDING_LENGTH;
+		}
+
+		double clearance = MIN_NONINHABITABLE_BUILDING_DISTANCE;
+		if (buildingType.equalsIgnoreCase("Astronomy Observatory")) {
+			clearance = MIN_OBSERVATORY_BUILDING_DISTANCE;
+		} else if (buildingConfig.hasLifeSupport(buildingType)) {
+			clearance = MIN_INHABITABLE_BUILDING_DISTANCE;
+		}
+
+		List<Building> allBuildings = buildingManager.getACopyOfBuildings();
+		Collections.shuffle(allBuildings);
+		Iterator<Building> i = allBuildings.iterator();
+		while (i.hasNext()) {
+			Building building = i.next();
+			// Don't want to place any building next to the observatory
+			if (building.getBuildingType().equalsIgnoreCase("Astronomy Observatory"))
+				continue;
+			Point2D location = buildingManager.getNearestOpenLocation(building, width, length, building.getFacing(),
+					clearance, null);
+			if (location != null) {
+				int buildingID = buildingManager.getNextTemplateID();
+				int buildingTypeID = buildingManager.getNextBuildingTypeID(buildingType);
+
+				String scenario = getCharForNumber(scenarioID + 1);
+
+				String buildingNickName = buildingType + " " + buildingTypeID;
+
+				logger.config("Positioning " + buildingNickName + " at (" + Math.round(location.getX() * 10D) / 10D
+						+ ", " + Math.round(location.getY() * 10D) / 10D + ") near " + building.getNickName());
+
+				return new BuildingTemplate(
+						"Resupply Mission launched on " + MarsClock.getDateTimeStamp(launchDate), buildingID, scenario,
+						buildingType, buildingNickName, width, length, location.getX(), location.getY(),
+						building.getFacing());
+			}
+		}
+
+		return null;
+	}
+
 	public BuildingTemplate positionSameType(String buildingType, boolean lifeSupport) {
 		BuildingTemplate newPosition = null;
 
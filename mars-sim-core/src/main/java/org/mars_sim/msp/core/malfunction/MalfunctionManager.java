@@ -131,6 +131,8 @@ public class MalfunctionManager implements Serializable {
 	 * is worn out.
 	 */
 	private final double wearLifeTime;
+	/** The hazard of a malfunction from wear and lack of maintenance. */
+	private final WearHazard wearHazard;
 
 	// Life support modifiers.
 	private double oxygenFlowModifier = 100D;
@@ -214,6 +216,7 @@ public class MalfunctionManager implements Serializable {
 		this.maintenanceWorkTime = maintenanceWorkTime;
 		this.wearLifeTime = wearLifeTime;
 		wearCondition = 100D;
+		wearHazard = new WearHazard();
 
 		masterClock = sim.getMasterClock();
 		if (masterClock != null)
@@ -875,7 +878,7 @@ public class MalfunctionManager implements Serializable {
 		double chance = time * maintFactor * wearFactor;
 
 		// Check for malfunction due to lack of maintenance and wear condition.
-		if (RandomUtil.lessThanRandPercent(chance)) {
+		if (wearHazard.accrue(chance)) {
 			int solsLastMaint = (int) (effectiveTimeSinceLastMaintenance / 1000D);
 			// Reduce the max possible health condition
 //			maxCondition = (wearCondition + 400D)/500D; 
@@ -900,14 +903,16 @@ public class MalfunctionManager implements Serializable {
 		// Check if life support modifiers are still in effect.
 //		setLifeSupportModifiers(time);
 
-		// Check if resources is still draining
-		try {
-			depleteResources(time);
-		} catch (Exception e) {
-			e.printStackTrace(System.err);
+		if (hasMalfunction()) {
+			// Check if resources is still draining
+			try {
+				depleteResources(time);
+			} catch (Exception e) {
+				e.printStackTrace(System.err);
+			}
+			
+			checkFixedMalfunction(time);
 		}
-		
-		checkFixedMalfunction(time);
 
 		// Add time passing.
 		timeSinceLastMaintenance += time;
@@ -957,7 +962,7 @@ public class MalfunctionManager implements Serializable {
 	 * @param time
 	 */
 	public void checkFixedMalfunction(double time) { 
-		Collection<Malfunction> fixedMalfunctions = new CopyOnWriteArrayList<Malfunction>();
+		Collection<Malfunction> fixedMalfunctions = null;
 
 		// Check if any malfunctions are fixed.
 		if (hasMalfunction()) {
@@ -1154,14 +1159,14 @@ public class MalfunctionManager implements Serializable {
 //				}
 //				
 				if (m.isFixed()) {
+					if (fixedMalfunctions == null)
+						fixedMalfunctions = new ArrayList<Malfunction>();
 					fixedMalfunctions.add(m);
 				}
 			}
 		}
 
-		int size = fixedMalfunctions.size();
-		
-		if (size > 0) {
+		if (fixedMalfunctions != null) {
 			Iterator<Malfunction> i = fixedMalfunctions.iterator();
 			while (i.hasNext()) {
 				Malfunction m = i.next();
@@ -1217,7 +1222,6 @@ public class MalfunctionManager implements Serializable {
 						+ loc1);
 			
 				// Remove the malfunction
-				fixedMalfunctions.remove(m);
 				malfunctions.remove(m);				
 			}
 		}
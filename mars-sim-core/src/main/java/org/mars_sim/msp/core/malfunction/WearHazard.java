@@ -0,0 +1,57 @@
+/**
+ * Mars Simulation Project
+ * WearHazard.java
+ */
+package org.mars_sim.msp.core.malfunction;
+
+import java.io.Serializable;
+
+import org.mars_sim.msp.core.tool.RandomUtil;
+
+/**
+ * The hazard of a malfunction from wear and lack of maintenance. Rather than
+ * rolling the chance every pulse, the chance is accrued as a hazard, and the
+ * malfunction happens once the hazard reaches a limit drawn from the
+ * exponential distribution. A new limit is drawn after each malfunction.
+ * <p>
+ * For a small chance per pulse this gives the same number of malfunctions as
+ * rolling every pulse. At most one malfunction happens per pulse, so the
+ * malfunctions per pulse approach 1 - e^(-chance/100) as the chance grows
+ * rather than reaching 1 at a chance of 100 %.
+ */
+class WearHazard implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The cumulative hazard accrued since the last malfunction. */
+	private double accrued;
+	/** The cumulative hazard at which the next malfunction happens. */
+	private double limit = sampleLimit();
+
+	/**
+	 * Accrues the chance of a malfunction over a pulse.
+	 *
+	 * @param chance the percent chance of a malfunction in the pulse.
+	 * @return true if a malfunction happens in the pulse.
+	 */
+	boolean accrue(double chance) {
+		accrued += chance / 100D;
+		if (accrued >= limit) {
+			accrued = 0D;
+			limit = sampleLimit();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Draws the cumulative hazard at which the next malfunction happens.
+	 *
+	 * @return hazard limit
+	 */
+	private static double sampleLimit() {
+		// 1 - U is in (0, 1], so the limit is finite
+		return -Math.log(1D - RandomUtil.getRandomDouble(1D));
+	}
+}
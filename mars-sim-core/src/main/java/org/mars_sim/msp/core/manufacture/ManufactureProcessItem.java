@@ -9,7 +9,9 @@ package org.mars_sim.msp.core.manufacture;
 
 import java.io.Serializable;
 
+import org.mars_sim.msp.core.resource.ItemResourceUtil;
 import org.mars_sim.msp.core.resource.ItemType;
+import org.mars_sim.msp.core.resource.ResourceUtil;
 
 /**
  * A manufacturing process input or output item.
@@ -23,6 +25,8 @@ public class ManufactureProcessItem implements Serializable {
 	private String name;
 	private ItemType type;
 	private double amount;
+	/** The id of the amount resource or part, resolved from its name when first needed. */
+	private transient Integer id;
 
 	public String getName() {
 		return name;
@@ -30,6 +34,24 @@ public class ManufactureProcessItem implements Serializable {
 
 	public void setName(String name) {
 		this.name = name;
+		this.id = null;
+	}
+
+	/**
+	 * Gets the id of the amount resource or part of this item.
+	 * 
+	 * @return id, or -1 if the item is neither an amount resource nor a part.
+	 */
+	public int getID() {
+		if (id == null) {
+			if (ItemType.AMOUNT_RESOURCE.equals(type))
+				id = ResourceUtil.findIDbyAmountResourceName(name);
+			else if (ItemType.PART.equals(type))
+				id = ItemResourceUtil.findIDbyItemResourceName(name);
+			else
+				return -1;
+		}
+		return id;
 	}
 
 	public ItemType getType() {
@@ -38,6 +60,7 @@ public class ManufactureProcessItem implements Serializable {
 
 	public void setType(ItemType type) {
 		this.type = type;
+		this.id = null;
 	}
 
 	public double getAmount() {
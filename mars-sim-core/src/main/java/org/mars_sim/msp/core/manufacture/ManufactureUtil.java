@@ -470,12 +470,12 @@ public final class ManufactureUtil {
 			ManufactureProcessItem item = i.next();
 			if (ItemType.AMOUNT_RESOURCE.equals(item.getType())) {
 //                AmountResource resource = ResourceUtil.findAmountResource(item.getName());
-				int id = ResourceUtil.findIDbyAmountResourceName(item.getName());
+				int id = item.getID();
 				result = (inv.getAmountResourceStored(id, false) >= item.getAmount());
 				// Add demand tracking
 				inv.addAmountDemandTotalRequest(id, item.getAmount());
 			} else if (ItemType.PART.equals(item.getType())) {
-				int id = ItemResourceUtil.findIDbyItemResourceName(item.getName());
+				int id = item.getID();
 				result = (inv.getItemResourceNum(id) >= (int) item.getAmount());
 				// Add tracking demand
 				inv.addItemDemandTotalRequest(id, (int) item.getAmount());
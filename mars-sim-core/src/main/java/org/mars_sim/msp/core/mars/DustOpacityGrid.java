@@ -0,0 +1,138 @@
+/**
+ * Mars Simulation Project
+ * DustOpacityGrid.java
+ */
+package org.mars_sim.msp.core.mars;
+
+import java.io.Serializable;
+
+import org.mars_sim.msp.core.Coordinates;
+
+/**
+ * The DustOpacityGrid class is a coarse latitude/longitude grid of the optical
+ * depth added to the atmosphere by the dust storms. The storms raise the
+ * optical depth of the cells they cover, and once per sol the dust drifts
+ * eastward, spreads to the neighbouring cells and settles out. Any location,
+ * including a rover in the field, can look up its optical depth in constant
+ * time.
+ */
+public class DustOpacityGrid implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The size of a cell [in degrees]. */
+	public static final int CELL_DEGREES = 5;
+	/** The number of rows, from the north pole to the south pole. */
+	public static final int ROWS = 180 / CELL_DEGREES;
+	/** The number of columns, eastward from longitude 0. */
+	public static final int COLUMNS = 360 / CELL_DEGREES;
+
+	/** The size of a cell [in radians]. */
+	private static final double CELL_RADIANS = Math.toRadians(CELL_DEGREES);
+	/** The proportion of the dust that settles out each sol. */
+	private static final double SETTLING = .1D;
+	/** The proportion of the dust of a cell exchanged with each neighbour each sol. */
+	private static final double DIFFUSION = .05D;
+	/** The proportion of the dust of a cell carried to the next cell east each sol. */
+	private static final double DRIFT = .2D;
+	/** The highest optical depth. */
+	private static final double MAX_OPTICAL_DEPTH = 6D;
+
+	/** The optical depth of each cell, row by row. */
+	private double[] opticalDepth = new double[ROWS * COLUMNS];
+
+	/** The work buffer of the daily update. */
+	private transient double[] buffer;
+
+	/**
+	 * Gets the optical depth added by the dust storms at a location.
+	 *
+	 * @param location the location.
+	 * @return optical depth.
+	 */
+	public double getOpticalDepth(Coordinates location) {
+		return opticalDepth[getRow(location.getPhi()) * COLUMNS + getColumn(location.getTheta())];
+	}
+
+	/**
+	 * Raises the optical depth of the cells covered by a dust storm. The cell of
+	 * the center is always covered, however small the storm is.
+	 *
+	 * @param center       the center of the storm.
+	 * @param radius       the radius of the storm [in km].
+	 * @param opticalDepth the optical depth of the storm.
+	 */
+	public void addSource(Coordinates center, double radius, double opticalDepth) {
+		double phi = center.getPhi();
+		double theta = center.getTheta();
+		double angle = radius / Mars.MARS_RADIUS_KM;
+
+		int centerRow = getRow(phi);
+		raise(centerRow * COLUMNS + getColumn(theta), opticalDepth);
+
+		int first = getRow(Math.max(0D, phi - angle));
+		int last = getRow(Math.min(Math.PI, phi + angle));
+		for (int row = first; row <= last; row++) {
+			double cellPhi = (row + .5D) * CELL_RADIANS;
+			for (int column = 0; column < COLUMNS; column++) {
+				double cellTheta = (column + .5D) * CELL_RADIANS;
+				if (getAngle(phi, theta, cellPhi, cellTheta) <= angle)
+					raise(row * COLUMNS + column, opticalDepth);
+			}
+		}
+	}
+
+	/**
+	 * Moves the dust on by one sol.
+	 */
+	public void update() {
+		if (buffer == null)
+			buffer = new double[ROWS * COLUMNS];
+
+		// Drift eastward
+		for (int row = 0; row < ROWS; row++) {
+			for (int column = 0; column < COLUMNS; column++) {
+				int west = (column + COLUMNS - 1) % COLUMNS;
+				buffer[row * COLUMNS + column] = (1D - DRIFT) * opticalDepth[row * COLUMNS + column]
+						+ DRIFT * opticalDepth[row * COLUMNS + west];
+			}
+		}
+
+		// Spread to the neighbouring cells and settle out
+		for (int row = 0; row < ROWS; row++) {
+			int north = Math.max(0, row - 1);
+			int south = Math.min(ROWS - 1, row + 1);
+			for (int column = 0; column < COLUMNS; column++) {
+				int west = (column + COLUMNS - 1) % COLUMNS;
+				int east = (column + 1) % COLUMNS;
+				double value = buffer[row * COLUMNS + column];
+				double exchange = buffer[north * COLUMNS + column] + buffer[south * COLUMNS + column]
+						+ buffer[row * COLUMNS + west] + buffer[row * COLUMNS + east] - 4D * value;
+				opticalDepth[row * COLUMNS + column] = (value + DIFFUSION * exchange) * (1D - SETTLING);
+			}
+		}
+	}
+
+	private void raise(int index, double value) {
+		opticalDepth[index] = Math.min(MAX_OPTICAL_DEPTH, Math.max(opticalDepth[index], value));
+	}
+
+	private static int getRow(double phi) {
+		return Math.min(ROWS - 1, Math.max(0, (int) (phi / CELL_RADIANS)));
+	}
+
+	private static int getColumn(double theta) {
+		int column = (int) Math.floor(theta / CELL_RADIANS) % COLUMNS;
+		return column < 0 ? column + COLUMNS : column;
+	}
+
+	/**
+	 * Gets the angle between two points, given as polar and azimuthal angles.
+	 */
+	private static double getAngle(double phi1, double theta1, double phi2, double theta2) {
+		double cos = Math.cos(phi1) * Math.cos(phi2)
+				+ Math.sin(phi1) * Math.sin(phi2) * Math.cos(theta1 - theta2);
+		return Math.acos(Math.max(-1D, Math.min(1D, cos)));
+	}
+}
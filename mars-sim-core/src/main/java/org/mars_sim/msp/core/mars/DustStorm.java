@@ -171,6 +171,26 @@ public class DustStorm implements Serializable {
 		return type;
 	}
 
+	/***
+	 * Gets the optical depth of the dust raised by the storm. Note: the values
+	 * are arbitrary, rising toward the tau of 5 to 6 seen during planet-encircling
+	 * storms.
+	 * 
+	 * @return optical depth
+	 */
+	public double getOpticalDepth() {
+		switch (type) {
+		case PLANET_ENCIRCLING:
+			return 5D;
+		case REGIONAL:
+			return 2.5D;
+		case LOCAL:
+			return 1D;
+		default:
+			return .2D;
+		}
+	}
+
 	/***
 	 * Computes the new size of a storm in spherical diameter [in km]
 	 * 
@@ -226,7 +246,7 @@ public class DustStorm implements Serializable {
 
 			// if there are already 2 planet encircling dust storm,
 			// do not create the next one and reduce it to 3900
-			if (weather.getPlanetEncirclingDustStorms().size() > 1)
+			if (weather.getNumDustStorms(DustStormType.PLANET_ENCIRCLING) > 1)
 				if (newSize > 4000)
 					newSize = 3900;
 
@@ -0,0 +1,117 @@
+/**
+ * Mars Simulation Project
+ * ExploredLocationIndex.java
+ */
+package org.mars_sim.msp.core.mars;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * The ExploredLocationIndex class is a spatial index of the explored
+ * locations on Mars. The locations are hashed into cells of equal latitude
+ * and longitude, so that a search around a point only looks at the cells the
+ * search radius can reach. The locations are also listed by the identifier of
+ * the settlement that explored them, as a settlement may be renamed.
+ */
+public class ExploredLocationIndex {
+
+	/** The angle of a cell side [in radians]. */
+	public static final double CELL_ANGLE = Math.PI / 180D;
+	/** The number of cells from the north pole to the south pole. */
+	private static final int ROWS = (int) Math.ceil(Math.PI / CELL_ANGLE);
+	/** The number of cells around the planet. */
+	private static final int COLUMNS = (int) Math.ceil(2D * Math.PI / CELL_ANGLE);
+
+	/** The explored locations in each cell. */
+	private Map<Integer, List<ExploredLocation>> cells = new HashMap<>();
+	/** The explored locations of each settlement, by settlement identifier. */
+	private Map<Integer, List<ExploredLocation>> settlementLocations = new HashMap<>();
+
+	/**
+	 * Adds an explored location.
+	 *
+	 * @param location the explored location.
+	 */
+	public synchronized void add(ExploredLocation location) {
+		Coordinates c = location.getLocation();
+		int key = getRow(c.getPhi()) * COLUMNS + getColumn(c.getTheta());
+		cells.computeIfAbsent(key, k -> new ArrayList<>()).add(location);
+		Settlement settlement = location.getSettlement();
+		if (settlement != null)
+			settlementLocations.computeIfAbsent(settlement.getIdentifier(), s -> new ArrayList<>()).add(location);
+	}
+
+	/**
+	 * Gets the explored locations within a distance of a point.
+	 *
+	 * @param center the point to search around.
+	 * @param radius the distance from the point (km).
+	 * @return list of explored locations.
+	 */
+	public synchronized List<ExploredLocation> getLocationsWithin(Coordinates center, double radius) {
+		List<ExploredLocation> result = new ArrayList<>();
+		double angle = radius / Mars.MARS_RADIUS_KM;
+		double phi = center.getPhi();
+		double theta = center.getTheta();
+
+		int firstRow = getRow(phi - angle);
+		int lastRow = getRow(phi + angle);
+
+		// The longitudes a circle reaches widen towards the poles, and take in
+		// every longitude once the circle covers a pole.
+		int firstColumn = 0;
+		int lastColumn = COLUMNS - 1;
+		if ((angle < phi) && (angle < Math.PI - phi)) {
+			double spread = Math.asin(Math.min(1D, Math.sin(angle) / Math.sin(phi)));
+			int columns = (int) Math.floor((theta + spread) / CELL_ANGLE) - (int) Math.floor((theta - spread) / CELL_ANGLE);
+			if (columns < COLUMNS - 1) {
+				firstColumn = (int) Math.floor((theta - spread) / CELL_ANGLE);
+				lastColumn = firstColumn + columns;
+			}
+		}
+
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				// Wrap around the 0 meridian
+				int key = row * COLUMNS + Math.floorMod(column, COLUMNS);
+				List<ExploredLocation> cell = cells.get(key);
+				if (cell != null) {
+					for (ExploredLocation location : cell) {
+						if (center.getDistance(location.getLocation()) <= radius)
+							result.add(location);
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Gets the locations explored by a settlement.
+	 *
+	 * @param settlement the settlement.
+	 * @return list of explored locations.
+	 */
+	public synchronized List<ExploredLocation> getLocations(Settlement settlement) {
+		List<ExploredLocation> locations = settlementLocations.get(settlement.getIdentifier());
+		if (locations == null)
+			return Collections.emptyList();
+		return new ArrayList<>(locations);
+	}
+
+	private static int getRow(double phi) {
+		return Math.max(0, Math.min(ROWS - 1, (int) Math.floor(phi / CELL_ANGLE)));
+	}
+
+	private static int getColumn(double theta) {
+		return Math.floorMod((int) Math.floor(theta / CELL_ANGLE), COLUMNS);
+	}
+}
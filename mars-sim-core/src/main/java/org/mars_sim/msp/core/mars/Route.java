@@ -0,0 +1,87 @@
+/**
+ * Mars Simulation Project
+ * Route.java
+ */
+package org.mars_sim.msp.core.mars;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.time.MarsClock;
+
+/**
+ * The Route class is a terrain-aware leg planned by the {@link RoutePlanner}
+ * between two locations on the surface.
+ */
+public class Route {
+
+	/** The locations along the route, including both ends. */
+	private List<Coordinates> waypoints;
+	/** The driving distance of the route [in km]. */
+	private double distance;
+	/** The total elevation climbed along the route [in km]. */
+	private double climb;
+
+	Route(List<Coordinates> waypoints, double distance, double climb) {
+		this.waypoints = Collections.unmodifiableList(waypoints);
+		this.distance = distance;
+		this.climb = climb;
+	}
+
+	/**
+	 * Gets the locations along the route, including both ends.
+	 *
+	 * @return list of locations
+	 */
+	public List<Coordinates> getWaypoints() {
+		return waypoints;
+	}
+
+	/**
+	 * Gets the driving distance of the route.
+	 *
+	 * @return distance [in km]
+	 */
+	public double getDistance() {
+		return distance;
+	}
+
+	/**
+	 * Gets the total elevation climbed along the route.
+	 *
+	 * @return climb [in km]
+	 */
+	public double getClimb() {
+		return climb;
+	}
+
+	/**
+	 * Estimates the fuel needed to drive the route.
+	 *
+	 * @param fuelEfficiency the fuel efficiency of the vehicle [in km/kg]
+	 * @return fuel [in kg]
+	 */
+	public double getEstimatedFuel(double fuelEfficiency) {
+		if (fuelEfficiency <= 0)
+			return 0;
+		return distance / fuelEfficiency;
+	}
+
+	/**
+	 * Estimates the time needed to drive the route.
+	 *
+	 * @param averageSpeed the average speed of the vehicle [in km/h]
+	 * @return time [in millisols]
+	 */
+	public double getEstimatedTime(double averageSpeed) {
+		if (averageSpeed <= 0)
+			return 0;
+		return distance / averageSpeed * 3600D / MarsClock.SECONDS_PER_MILLISOL;
+	}
+
+	@Override
+	public String toString() {
+		return Math.round(distance * 10.0) / 10.0 + " km, " + waypoints.size() + " waypoints";
+	}
+}
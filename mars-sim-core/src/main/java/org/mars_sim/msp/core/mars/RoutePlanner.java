@@ -0,0 +1,377 @@
+/**
+ * Mars Simulation Project
+ * RoutePlanner.java
+ */
+package org.mars_sim.msp.core.mars;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+import org.mars_sim.msp.core.Coordinates;
+
+/**
+ * The RoutePlanner class plans terrain-aware routes for ground vehicles. A
+ * coarse grid of the MOLA elevation is built once, and routes between two
+ * locations are found with an A* search over the grid, where the cost of a step
+ * grows with the slope of the terrain. The most recently used legs, such as the
+ * trade routes between settlements, are cached.
+ */
+public class RoutePlanner {
+
+	private static Logger logger = Logger.getLogger(RoutePlanner.class.getName());
+
+	/** The size of a grid cell [in degrees]. */
+	private static final int CELL_DEG = 1;
+	/** The number of rows of the grid, from the north pole to the south pole. */
+	private static final int ROWS = 180 / CELL_DEG;
+	/** The number of columns of the grid, wrapping around in longitude. */
+	private static final int COLS = 360 / CELL_DEG;
+	private static final double CELL_RAD = Math.toRadians(CELL_DEG);
+
+	/** The extra cost of a step per radian of slope. */
+	private static final double SLOPE_FACTOR = 4D;
+	/** The steepest slope a rover can drive on [in radians]. */
+	private static final double MAX_SLOPE = Math.toRadians(25D);
+	/** The maximum number of legs kept in the cache. */
+	private static final int MAX_CACHED_LEGS = 500;
+
+	private static final int[] D_ROW = { -1, -1, -1, 0, 0, 1, 1, 1 };
+	private static final int[] D_COL = { -1, 0, 1, -1, 1, -1, 0, 1 };
+
+	/** The elevation at the center of each cell [in km], set once the grid is built. */
+	private volatile double[] elevation;
+	/** The center of each cell. */
+	private Coordinates[] centers;
+
+	/** The cached legs, in access order. */
+	private Map<Long, int[]> legs = new LinkedHashMap<Long, int[]>(64, .75F, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+			return size() > MAX_CACHED_LEGS;
+		}
+	};
+
+	/** The search buffers not in use, reused between queries. */
+	private Queue<Search> searches = new ConcurrentLinkedQueue<>();
+
+	private TerrainElevation terrainElevation;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param terrainElevation the source of the MOLA elevation
+	 */
+	public RoutePlanner(TerrainElevation terrainElevation) {
+		this.terrainElevation = terrainElevation;
+	}
+
+	/**
+	 * Plans a route between two locations. Only the cache is locked, so that
+	 * routes may be searched for at the same time.
+	 *
+	 * @param start       the starting location
+	 * @param destination the destination
+	 * @return the route, or a straight leg if no terrain-aware route can be found
+	 */
+	public Route getRoute(Coordinates start, Coordinates destination) {
+		double[] elevation = getElevation();
+
+		int from = getCell(start);
+		int to = getCell(destination);
+
+		int[] path = null;
+		if (from != to) {
+			long key = ((long) from << 32) | to;
+			synchronized (legs) {
+				path = legs.get(key);
+			}
+			if (path == null) {
+				path = findPath(from, to);
+				if (path == null) {
+					logger.fine("No route found from " + start + " to " + destination + ". Using a straight leg.");
+					path = new int[0];
+				}
+				synchronized (legs) {
+					legs.put(key, path);
+				}
+			}
+		}
+
+		List<Coordinates> waypoints = new ArrayList<>();
+		waypoints.add(start);
+		// Skip the cells of both ends, whose centers may lie behind the locations
+		for (int i = 1; i < (path == null ? 0 : path.length - 1); i++) {
+			waypoints.add(centers[path[i]]);
+		}
+		waypoints.add(destination);
+
+		double distance = 0;
+		double climb = 0;
+		double lastElevation = elevation[from];
+		for (int i = 1; i < waypoints.size(); i++) {
+			distance += Coordinates.computeDistance(waypoints.get(i - 1), waypoints.get(i));
+			double e = (i == waypoints.size() - 1) ? elevation[to] : elevation[path[i]];
+			if (e > lastElevation)
+				climb += e - lastElevation;
+			lastElevation = e;
+		}
+
+		return new Route(waypoints, distance, climb);
+	}
+
+	/**
+	 * Gets the driving distance between two locations.
+	 *
+	 * @param start       the starting location
+	 * @param destination the destination
+	 * @return distance [in km]
+	 */
+	public double getDistance(Coordinates start, Coordinates destination) {
+		if (start == null || destination == null)
+			return 0;
+		return getRoute(start, destination).getDistance();
+	}
+
+	/**
+	 * Gets the elevation grid, building it the first time it is needed.
+	 *
+	 * @return the elevation of each cell
+	 */
+	private double[] getElevation() {
+		double[] result = elevation;
+		if (result == null) {
+			synchronized (this) {
+				result = elevation;
+				if (result == null) {
+					result = buildGrid();
+					elevation = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Builds the elevation grid.
+	 *
+	 * @return the elevation of each cell
+	 */
+	private double[] buildGrid() {
+		int size = ROWS * COLS;
+		double[] result = new double[size];
+		centers = new Coordinates[size];
+		for (int row = 0; row < ROWS; row++) {
+			double phi = (row + .5) * CELL_RAD;
+			for (int col = 0; col < COLS; col++) {
+				double theta = (col + .5) * CELL_RAD;
+				int cell = row * COLS + col;
+				centers[cell] = new Coordinates(phi, theta);
+				result[cell] = terrainElevation.getMOLAElevation(phi, theta);
+			}
+		}
+		return result;
+	}
+
+	private static int getCell(Coordinates location) {
+		int row = (int) (location.getPhi() / CELL_RAD);
+		if (row >= ROWS)
+			row = ROWS - 1;
+		int col = (int) (location.getTheta() / CELL_RAD) % COLS;
+		if (col < 0)
+			col += COLS;
+		return row * COLS + col;
+	}
+
+	/**
+	 * Finds the cheapest path between two cells with an A* search.
+	 *
+	 * @return the cells along the path, or null if the destination can't be reached
+	 */
+	private int[] findPath(int from, int to) {
+		Search search = searches.poll();
+		if (search == null)
+			search = new Search(ROWS * COLS);
+		try {
+			return search.findPath(from, to);
+		} finally {
+			searches.add(search);
+		}
+	}
+
+	/**
+	 * Gets the cost of driving between two adjacent cells.
+	 *
+	 * @return the distance weighted by the slope, or Double.MAX_VALUE if too steep
+	 */
+	private double getStepCost(int cell, int next) {
+		double distance = Coordinates.computeDistance(centers[cell], centers[next]);
+		if (distance <= 0)
+			return 0;
+		double slope = Math.atan(Math.abs(elevation[next] - elevation[cell]) / distance);
+		if (slope > MAX_SLOPE)
+			return Double.MAX_VALUE;
+		return distance * (1D + SLOPE_FACTOR * slope);
+	}
+
+	/**
+	 * The buffers of one search, reused between queries. A cell holds a score
+	 * only if it has been reached in the current search, so the buffers do not
+	 * have to be cleared between searches.
+	 */
+	private class Search {
+
+		/** The number of the current search. */
+		private int generation;
+		/** The search in which each cell was last reached. */
+		private int[] reached;
+		/** The search in which each cell was last closed. */
+		private int[] closed;
+		private double[] gScore;
+		private int[] cameFrom;
+		private int[] heapCells = new int[1024];
+		private double[] heapKeys = new double[1024];
+		private int heapSize;
+
+		Search(int size) {
+			reached = new int[size];
+			closed = new int[size];
+			gScore = new double[size];
+			cameFrom = new int[size];
+		}
+
+		int[] findPath(int from, int to) {
+			if (generation == Integer.MAX_VALUE) {
+				Arrays.fill(reached, 0);
+				Arrays.fill(closed, 0);
+				generation = 0;
+			}
+			generation++;
+			heapSize = 0;
+
+			Coordinates goal = centers[to];
+			reach(from, 0, -1);
+			push(from, Coordinates.computeDistance(centers[from], goal));
+
+			while (heapSize > 0) {
+				int cell = pop();
+				if (closed[cell] == generation)
+					continue;
+				if (cell == to)
+					return reconstruct(to);
+				closed[cell] = generation;
+
+				int row = cell / COLS;
+				int col = cell % COLS;
+				for (int k = 0; k < D_ROW.length; k++) {
+					int r = row + D_ROW[k];
+					if (r < 0 || r >= ROWS)
+						continue;
+					int c = (col + D_COL[k] + COLS) % COLS;
+					int next = r * COLS + c;
+					if (closed[next] == generation)
+						continue;
+
+					double step = getStepCost(cell, next);
+					if (step == Double.MAX_VALUE)
+						continue;
+
+					double g = gScore[cell] + step;
+					if (reached[next] != generation || g < gScore[next]) {
+						reach(next, g, cell);
+						push(next, g + Coordinates.computeDistance(centers[next], goal));
+					}
+				}
+			}
+
+			return null;
+		}
+
+		private void reach(int cell, double g, int previous) {
+			reached[cell] = generation;
+			gScore[cell] = g;
+			cameFrom[cell] = previous;
+		}
+
+		private int[] reconstruct(int to) {
+			int length = 0;
+			for (int cell = to; cell != -1; cell = cameFrom[cell])
+				length++;
+			int[] path = new int[length];
+			for (int cell = to; cell != -1; cell = cameFrom[cell])
+				path[--length] = cell;
+			return path;
+		}
+
+		private void push(int cell, double key) {
+			if (heapSize == heapCells.length) {
+				heapCells = Arrays.copyOf(heapCells, heapSize * 2);
+				heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+			}
+			int i = heapSize++;
+			while (i > 0) {
+				int parent = (i - 1) / 2;
+				if (heapKeys[parent] <= key)
+					break;
+				heapCells[i] = heapCells[parent];
+				heapKeys[i] = heapKeys[parent];
+				i = parent;
+			}
+			heapCells[i] = cell;
+			heapKeys[i] = key;
+		}
+
+		private int pop() {
+			int result = heapCells[0];
+			int cell = heapCells[--heapSize];
+			double key = heapKeys[heapSize];
+			int i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= heapSize)
+					break;
+				if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child])
+					child++;
+				if (key <= heapKeys[child])
+					break;
+				heapCells[i] = heapCells[child];
+				heapKeys[i] = heapKeys[child];
+				i = child;
+			}
+			heapCells[i] = cell;
+			heapKeys[i] = key;
+			return result;
+		}
+	}
+
+	/**
+	 * Gets the number of legs in the cache.
+	 *
+	 * @return number of legs
+	 */
+	public int getNumCachedLegs() {
+		synchronized (legs) {
+			return legs.size();
+		}
+	}
+
+	/**
+	 * Prepare object for garbage collection.
+	 */
+	public void destroy() {
+		synchronized (legs) {
+			legs.clear();
+		}
+		searches.clear();
+		elevation = null;
+		centers = null;
+		terrainElevation = null;
+	}
+}
@@ -0,0 +1,187 @@
+/**
+ * Mars Simulation Project
+ * SolarIrradianceField.java
+ */
+package org.mars_sim.msp.core.mars;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mars_sim.msp.core.Coordinates;
+
+/**
+ * The SolarIrradianceField class holds the solar irradiance of all the active
+ * sites on Mars. The field is computed once per pulse for all the sites in one
+ * batch, and the recent history of each site is kept in a primitive ring
+ * buffer. Each pulse publishes an immutable reading of the irradiance and its
+ * trend for every site, so reading a site is a map lookup without a lock.
+ * A site becomes active when it is first read and is dropped after it has not
+ * been read for a while.
+ */
+public class SolarIrradianceField {
+
+	/** The number of past values kept for each site. */
+	public static final int HISTORY_SIZE = 20;
+	/** The number of pulses a site may go unread before being dropped. */
+	private static final int MAX_IDLE_PULSES = 100;
+
+	/** The current pulse number. */
+	private volatile int pulse;
+
+	/** The active sites. */
+	private Map<Coordinates, Site> sites = new ConcurrentHashMap<>();
+
+	private SurfaceFeatures surface;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param surface the surface features computing the irradiance of a site
+	 */
+	public SolarIrradianceField(SurfaceFeatures surface) {
+		this.surface = surface;
+	}
+
+	/**
+	 * Gets the solar irradiance of a site, activating it if needed.
+	 *
+	 * @param location the site
+	 * @return solar irradiance [in W/m2]
+	 */
+	public double getSolarIrradiance(Coordinates location) {
+		Site site = sites.get(location);
+		if (site == null)
+			site = activate(location);
+		site.lastRead = pulse;
+		return site.reading.irradiance;
+	}
+
+	/**
+	 * Gets the trend of the solar irradiance of a site.
+	 *
+	 * @param location the site
+	 * @return the number of increases minus the number of decreases in the recent
+	 *         history; 0 if the site is not active
+	 */
+	public int getTrend(Coordinates location) {
+		Site site = sites.get(location);
+		if (site == null)
+			return 0;
+		return site.reading.trend;
+	}
+
+	/**
+	 * Recomputes the field for all the active sites and drops the idle ones.
+	 */
+	public synchronized void update() {
+		pulse++;
+		double distanceToSun = surface.getDistanceToSun();
+		Iterator<Site> i = sites.values().iterator();
+		while (i.hasNext()) {
+			Site site = i.next();
+			if (pulse - site.lastRead > MAX_IDLE_PULSES) {
+				i.remove();
+				continue;
+			}
+			site.record(surface.calculateSolarIrradiance(site.location, distanceToSun));
+		}
+	}
+
+	/**
+	 * Adds a site to the field and computes its irradiance right away.
+	 *
+	 * @param location the site
+	 * @return the site
+	 */
+	private synchronized Site activate(Coordinates location) {
+		Site site = sites.get(location);
+		if (site == null) {
+			site = new Site(location, pulse);
+			site.record(surface.calculateSolarIrradiance(location, surface.getDistanceToSun()));
+			sites.put(location, site);
+		}
+		return site;
+	}
+
+	/**
+	 * Gets the number of active sites.
+	 *
+	 * @return number of sites
+	 */
+	public int getNumSites() {
+		return sites.size();
+	}
+
+	/**
+	 * Prepare object for garbage collection.
+	 */
+	public void destroy() {
+		sites.clear();
+		surface = null;
+	}
+
+	/**
+	 * An active site. Its ring buffer is only changed by the field under its lock.
+	 */
+	private static class Site {
+
+		private final Coordinates location;
+		/** The ring buffer of the past irradiance. */
+		private final double[] history = new double[HISTORY_SIZE];
+		/** The number of values in the ring buffer. */
+		private int count;
+		/** The position of the oldest value in the ring buffer. */
+		private int head;
+		/** The last pulse at which the site has been read. */
+		private volatile int lastRead;
+		/** The latest reading of the site. */
+		private volatile Reading reading;
+
+		Site(Coordinates location, int pulse) {
+			this.location = location;
+			this.lastRead = pulse;
+		}
+
+		/**
+		 * Appends a new irradiance to the ring buffer and publishes a new reading.
+		 */
+		void record(double value) {
+			if (count < HISTORY_SIZE) {
+				history[(head + count) % HISTORY_SIZE] = value;
+				count++;
+			} else {
+				history[head] = value;
+				head = (head + 1) % HISTORY_SIZE;
+			}
+
+			int trend = 0;
+			double previous = history[head];
+			for (int k = 1; k < count; k++) {
+				double next = history[(head + k) % HISTORY_SIZE];
+				if (next > previous)
+					trend++;
+				else if (next < previous)
+					trend--;
+				previous = next;
+			}
+			reading = new Reading(value, trend);
+		}
+	}
+
+	/**
+	 * The irradiance of a site and its trend at a pulse.
+	 */
+	private static class Reading {
+
+		/** The irradiance [in W/m2]. */
+		private final double irradiance;
+		/** The number of increases minus the number of decreases in the history. */
+		private final int trend;
+
+		Reading(double irradiance, int trend) {
+			this.irradiance = irradiance;
+			this.trend = trend;
+		}
+	}
+}
@@ -7,7 +7,6 @@
 package org.mars_sim.msp.core.mars;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -17,11 +16,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.SimulationConfig;
-import org.mars_sim.msp.core.person.ai.mission.Mining;
 import org.mars_sim.msp.core.person.ai.mission.Mission;
 import org.mars_sim.msp.core.person.ai.mission.MissionManager;
 import org.mars_sim.msp.core.structure.Settlement;
-import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.time.MasterClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
@@ -61,10 +58,16 @@ public class SurfaceFeatures implements Serializable {
 	
 	// The locations that have been explored and/or mined
 	private List<ExploredLocation> exploredLocations;
+	/** The mission that has claimed each reserved mining site. */
+	private Map<ExploredLocation, Mission> miningSiteClaims;
+	/** The spatial index of the explored locations. */
+	private transient ExploredLocationIndex exploredLocationIndex;
 
 	private Map<Coordinates, Double> opticalDepthMap;
-	private Map<Coordinates, List<Double>> solarIrradianceCaches;
-	private Map<Coordinates, Double> solarIrradiance;
+	/** The solar irradiance of the active sites, computed once per pulse. */
+	private transient SolarIrradianceField solarIrradianceField;
+	/** The planner of the routes of ground vehicles. */
+	private transient RoutePlanner routePlanner;
 
 	// The sites map for ice and regolith collection mission
 //	private static Map<Coordinates, CollectionSite> sites;
@@ -75,7 +78,6 @@ public class SurfaceFeatures implements Serializable {
 	private static SimulationConfig simulationConfig = SimulationConfig.instance();
 	private static MissionManager missionManager;
 	
-	private static MarsClock solarIrradianceMapCacheTime;
 	private static MasterClock masterClock;
 	
 	private static TerrainElevation terrainElevation;
@@ -100,6 +102,7 @@ public class SurfaceFeatures implements Serializable {
 		terrainElevation = new TerrainElevation();
 		mineralMap = new RandomMineralMap();
 		exploredLocations = new CopyOnWriteArrayList<>(); // will need to make sure explored locations are serialized
+		miningSiteClaims = new ConcurrentHashMap<>();
 //		sites = new ConcurrentHashMap<>();
 		areothermalMap = new AreothermalMap();
 
@@ -111,11 +114,6 @@ public class SurfaceFeatures implements Serializable {
 //			throw new IllegalStateException("Landmarks could not be loaded: " + e.getMessage(), e);
 //		}
 
-		if (solarIrradianceCaches == null)
-			solarIrradianceCaches = new ConcurrentHashMap<>();
-
-		solarIrradiance = new ConcurrentHashMap<>();
-		
 		if (opticalDepthMap == null)
 			opticalDepthMap = new ConcurrentHashMap<>();
 		
@@ -151,6 +149,17 @@ public class SurfaceFeatures implements Serializable {
 		return terrainElevation;
 	}
 
+	/**
+	 * Returns the route planner for ground vehicles
+	 * 
+	 * @return {@link RoutePlanner}
+	 */
+	public synchronized RoutePlanner getRoutePlanner() {
+		if (routePlanner == null)
+			routePlanner = new RoutePlanner(terrainElevation);
+		return routePlanner;
+	}
+
 	/**
 	 * Returns a float value representing the current sunlight conditions at a
 	 * particular location.
@@ -204,12 +213,22 @@ public class SurfaceFeatures implements Serializable {
 		return result;
 	}
 
+	/**
+	 * Gets the optical depth at a location, including the dust of the storms.
+	 * 
+	 * @param location
+	 * @return tau
+	 */
 	public double getOpticalDepth(Coordinates location) {
+		double tau;
 		if (opticalDepthMap.containsKey(location))
-			return opticalDepthMap.get(location);
+			tau = opticalDepthMap.get(location);
 		else {
-			return computeOpticalDepth(location); // opticalDepthStartingValue
+			tau = computeOpticalDepth(location); // opticalDepthStartingValue
 		}
+		if (weather != null)
+			tau = Math.min(6, tau + weather.getDustOpticalDepth(location));
+		return tau;
 	}
 
 	/***
@@ -266,41 +285,7 @@ public class SurfaceFeatures implements Serializable {
 	 * @return a number
 	 */
 	public int getTrend(Coordinates location) {
-		int trend = 0;
-		
-		if (solarIrradianceCaches.containsKey(location)) {
-			List<Double> sequence = solarIrradianceCaches.get(location);
-//			double avg = sequence.get(0); 
-			int size = sequence.size();
-//			for (int i=0; i < size - 1; ++i) {
-//				if (i > 0) { 
-//					avg = (avg + sequence.get(0)) / 2; 
-//				}
-//				
-//				if ((sequence.get(i+1) - avg) > 0)
-//					++trend;
-//				else
-//					--trend;   
-//			}
-			
-			double diff = 0;
-			if (!sequence.isEmpty() && size > 1) {
-				for (int i=0; i < size - 1; ++i) {
-				    diff = sequence.get(i+1) - sequence.get(i);
-				    if (diff > 0) {
-				       trend++;
-				    }
-				    else if (diff < 0) {
-				       trend--;
-				    }
-				}
-			}
-			
-//			trend = (int)(trend/2D);
-			
-		}
-		
-		return trend;
+		return getSolarIrradianceField().getTrend(location);
 	}
 
 	/**
@@ -321,63 +306,35 @@ public class SurfaceFeatures implements Serializable {
 	 * @return solar irradiance (W/m2)
 	 */
 	public double getSolarIrradiance(Coordinates location) {
-		if (masterClock == null)
-			masterClock = sim.getMasterClock();
-		MarsClock currentTime = masterClock.getMarsClock();
-		if (!currentTime.equals(solarIrradianceMapCacheTime)) {
-			// Call here once per frame because getSolarIrradiance()
-			// is called many times in 
-//			double G_h = 0;
-//			if (solarIrradiance.containsKey(location))
-//					G_h = Math.round(solarIrradiance.get(location)*10.0)/10.0;
-//			System.out.println("At " + currentTime.getMillisolInt() 
-//				+ "   Light : " + G_h
-//				+ "   Trend : " + getTrend(location));
-			solarIrradiance.clear();
-			solarIrradianceMapCacheTime = (MarsClock) currentTime.clone();
-		}
-//		else {
-//			// It's mostly this case
-//		}
-		
-		List<Double> list = null;
-//		int size = 0;
-		double G_h = 0;
-		
-		if (!solarIrradiance.containsKey(location)) {
-			
-			// If location is not in cache, calculate solar irradiance.
-			if (solarIrradianceCaches.containsKey(location)) {
-				list = solarIrradianceCaches.get(location);
-				
-				G_h = calculateSolarIrradiance(location);
-				list.add(G_h);
-				
-				if (list.size() > 20)
-					list.remove(0);
-				
-//				size = solarIrradianceMapCache.get(location).size();
-				solarIrradianceCaches.put(location, list);
-			}
-			
-			else {
-				list = new ArrayList<>();
-				
-				G_h = calculateSolarIrradiance(location);
-				list.add(G_h);
-	
-//				size = 1;
-				solarIrradianceCaches.put(location, list);
+		return getSolarIrradianceField().getSolarIrradiance(location);
+	}
+
+	/**
+	 * Gets the solar irradiance field of the active sites.
+	 * 
+	 * @return {@link SolarIrradianceField}
+	 */
+	public SolarIrradianceField getSolarIrradianceField() {
+		if (solarIrradianceField == null) {
+			synchronized (this) {
+				if (solarIrradianceField == null)
+					solarIrradianceField = new SolarIrradianceField(this);
 			}
-			
-			solarIrradiance.put(location, G_h);
 		}
-		
-		else {
-			G_h = solarIrradiance.get(location);
-		}	
-		
-		return G_h;
+		return solarIrradianceField;
+	}
+
+	/**
+	 * Gets the current distance between Mars and the Sun.
+	 * 
+	 * @return distance in AU
+	 */
+	double getDistanceToSun() {
+		if (mars == null)
+			mars = sim.getMars();
+		if (orbitInfo == null)
+			orbitInfo = mars.getOrbitInfo();
+		return orbitInfo.getDistanceToSun();
 	}
 
 	/**
@@ -387,6 +344,18 @@ public class SurfaceFeatures implements Serializable {
 	 * @return
 	 */
 	public double calculateSolarIrradiance(Coordinates location) {
+		return calculateSolarIrradiance(location, getDistanceToSun());
+	}
+
+	/**
+	 * Calculates the solar irradiance for a given distance to the Sun, shared by
+	 * all the sites of a pulse.
+	 * 
+	 * @param location
+	 * @param r the distance between Mars and the Sun
+	 * @return
+	 */
+	double calculateSolarIrradiance(Coordinates location, double r) {
 		// Approach 1
 //		double s1 = 0;
 //        double L_s = mars.getOrbitInfo().getL_s();
@@ -451,9 +420,7 @@ public class SurfaceFeatures implements Serializable {
 			// perihelion (L_s = 251.2774 deg) than at aphelion (L_s = 71.2774 deg)
 			// Equation: 135% * (.5 * sin (L_s - 251.2774 + 180 - 90) + .5 )
 
-			// Part 3: get the instantaneous radius and semi major axis
-			double r = orbitInfo.getDistanceToSun();
-
+			// Part 3: use the instantaneous radius and semi major axis
 			G_0 = cos_z * factor / r / r;
 
 			// if (G_0 <= 0)
@@ -464,8 +431,11 @@ public class SurfaceFeatures implements Serializable {
 
 			double tau = computeOpticalDepth(location);
 
-			// TODO: Part 4a : reducing opacity of the Martian atmosphere due to local dust
-			// storm
+			// save the background tau onto opticalDepthMap
+			opticalDepthMap.put(location, tau);
+
+			// Part 4a : adding the opacity of the dust raised by the storms
+			tau = Math.min(6, tau + weather.getDustOpticalDepth(location));
 
 			// Note 1 : The extinction of radiation through the Martian atmosphere is caused
 			// mainly by suspended dust particles.
@@ -502,9 +472,6 @@ public class SurfaceFeatures implements Serializable {
 
 			// Note: m(z), the air mass, is estimated as ~ 1/cos_z
 
-			// save tau onto opticalDepthMap
-			opticalDepthMap.put(location, tau);
-
 			// Note: one can estimate m(z), the air mass, as ~ 1/cos_z
 
 			// PART 5 : DIFFUSE SOLAR IRRADIANCE
@@ -653,6 +620,7 @@ public class SurfaceFeatures implements Serializable {
 		
 		ExploredLocation result = new ExploredLocation(location, estimatedMineralConcentrations, settlement);
 		exploredLocations.add(result);
+		getExploredLocationIndex().add(result);
 		return result;
 	}
 
@@ -665,6 +633,47 @@ public class SurfaceFeatures implements Serializable {
 		return exploredLocations;
 	}
 
+	/**
+	 * Gets the spatial index of the explored locations.
+	 * 
+	 * @return {@link ExploredLocationIndex}
+	 */
+	public synchronized ExploredLocationIndex getExploredLocationIndex() {
+		if (exploredLocationIndex == null) {
+			exploredLocationIndex = new ExploredLocationIndex();
+			for (ExploredLocation site : exploredLocations)
+				exploredLocationIndex.add(site);
+		}
+		return exploredLocationIndex;
+	}
+
+	/**
+	 * Reserves a mining site for a mission.
+	 * 
+	 * @param site    the mining site.
+	 * @param mission the mission claiming the site.
+	 */
+	public void claimMiningSite(ExploredLocation site, Mission mission) {
+		site.setReserved(true);
+		getMiningSiteClaims().put(site, mission);
+	}
+
+	/**
+	 * Releases the reservation of a mining site.
+	 * 
+	 * @param site the mining site.
+	 */
+	public void releaseMiningSite(ExploredLocation site) {
+		site.setReserved(false);
+		getMiningSiteClaims().remove(site);
+	}
+
+	private synchronized Map<ExploredLocation, Mission> getMiningSiteClaims() {
+		if (miningSiteClaims == null)
+			miningSiteClaims = new ConcurrentHashMap<>();
+		return miningSiteClaims;
+	}
+
 	/**
 	 * Gets the areothermal heat potential for a given location.
 	 * 
@@ -683,6 +692,9 @@ public class SurfaceFeatures implements Serializable {
 	 */
 	public void timePassing(double time) {
 
+		// Compute the solar irradiance of all the active sites in one batch
+		getSolarIrradianceField().update();
+
 		// TODO: clear the total solar irradiance map and save data in DailyWeather.
 		// check for the passing of each day
 //	    int newSol = MarsClock.getSolOfYear(marsClock);
@@ -691,28 +703,13 @@ public class SurfaceFeatures implements Serializable {
 //			solCache = newSol;
 //		}
 
-		// Update any reserved explored locations.
-		Iterator<ExploredLocation> i = exploredLocations.iterator();
+		// Release the mining sites claimed by missions that have ended.
+		Iterator<Map.Entry<ExploredLocation, Mission>> i = getMiningSiteClaims().entrySet().iterator();
 		while (i.hasNext()) {
-			ExploredLocation site = i.next();
-			if (site.isReserved()) {
-				// Check if site is reserved by a current mining mission.
-				// If not, mark as unreserved.
-				boolean goodMission = false;
-				if (missionManager == null)
-					missionManager = sim.getMissionManager();
-				Iterator<Mission> j = missionManager.getMissions().iterator();
-				while (j.hasNext()) {
-					Mission mission = j.next();
-					if (mission instanceof Mining) {
-						if (site.equals(((Mining) mission).getMiningSite())) {
-							goodMission = true;
-						}
-					}
-				}
-				if (!goodMission) {
-					site.setReserved(false);
-				}
+			Map.Entry<ExploredLocation, Mission> claim = i.next();
+			if (claim.getValue().isDone()) {
+				claim.getKey().setReserved(false);
+				i.remove();
 			}
 		}
 	}
@@ -769,22 +766,30 @@ public class SurfaceFeatures implements Serializable {
 //		sites = null;
 		opticalDepthMap.clear();
 		opticalDepthMap = null;
-		solarIrradianceCaches.clear();
-		solarIrradianceCaches = null;
-		solarIrradiance.clear();
-		solarIrradiance = null;
+		if (solarIrradianceField != null) {
+			solarIrradianceField.destroy();
+			solarIrradianceField = null;
+		}
+		if (routePlanner != null) {
+			routePlanner.destroy();
+			routePlanner = null;
+		}
 			
 		mineralMap.destroy();
 		mineralMap = null;
 		exploredLocations.clear();
 		exploredLocations = null;
+		if (miningSiteClaims != null) {
+			miningSiteClaims.clear();
+			miningSiteClaims = null;
+		}
+		exploredLocationIndex = null;
 		areothermalMap.destroy();
 		areothermalMap = null;
 		
 		sim = null;
 		simulationConfig = null;
 		missionManager = null;
-		solarIrradianceMapCacheTime = null;
 		masterClock = null;
 		weather = null;
 		orbitInfo = null;
@@ -9,6 +9,7 @@ package org.mars_sim.msp.core.mars;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,6 +21,7 @@ import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.LogConsolidated;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.data.TelemetryStore;
 import org.mars_sim.msp.core.structure.CompositionOfAir;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
@@ -62,6 +64,22 @@ public class Weather implements Serializable {
 
 	private static final int RECORDING_FREQUENCY = 50; // in millisols
 
+	/** The number of latest samples kept per weather metric. */
+	private static final int WEATHER_SAMPLES = 2 * 1000 / RECORDING_FREQUENCY;
+	/** The number of sols kept per weather metric. */
+	private static final int WEATHER_SOLS = 14;
+	/** The number of months kept per weather metric. */
+	private static final int WEATHER_MONTHS = MarsClock.MONTHS_PER_ORBIT;
+	/** The number of orbits kept per weather metric. */
+	private static final int WEATHER_ORBITS = 10;
+
+	public static final String TEMPERATURE = "temperature";
+	public static final String AIR_PRESSURE = "air pressure";
+	public static final String AIR_DENSITY = "air density";
+	public static final String WIND_SPEED = "wind speed";
+	public static final String SOLAR_IRRADIANCE = "solar irradiance";
+	public static final String OPTICAL_DEPTH = "optical depth";
+
 	private int quotientCache;
 
 	private int msols;
@@ -84,10 +102,9 @@ public class Weather implements Serializable {
 
 	private int newStormID = 1;
 
-	private Map<Coordinates, Map<Integer, List<DailyWeather>>> weatherDataMap = new ConcurrentHashMap<>();
-	private Map<Integer, List<DailyWeather>> dailyRecordMap = new ConcurrentHashMap<>();
+	/** The time series of the weather at each location. */
+	private Map<Coordinates, TelemetryStore> weatherDataMap = new ConcurrentHashMap<>();
 
-	private List<DailyWeather> todayWeather = new CopyOnWriteArrayList<>();
 	private List<Coordinates> coordinateList = new CopyOnWriteArrayList<>();
 
 	private transient Map<Coordinates, Double> temperatureCacheMap;
@@ -95,10 +112,10 @@ public class Weather implements Serializable {
 	private transient Map<Coordinates, Double> windSpeedCacheMap;
 	private transient Map<Coordinates, Integer> windDirCacheMap;
 
-	private List<DustStorm> planetEncirclingDustStorms = new CopyOnWriteArrayList<>();
-	private List<DustStorm> regionalDustStorms = new CopyOnWriteArrayList<>();
-	private List<DustStorm> localDustStorms = new CopyOnWriteArrayList<>();
-	private List<DustStorm> dustDevils = new CopyOnWriteArrayList<>();
+	/** The dust storms of all types. */
+	private List<DustStorm> dustStorms = new ArrayList<>();
+	/** The optical depth added by the dust storms. */
+	private DustOpacityGrid dustOpacity = new DustOpacityGrid();
 
 	private static Simulation sim = Simulation.instance();
 	
@@ -715,10 +732,13 @@ public class Weather implements Serializable {
 		if (quotientCache != quotient) {
 
 			coordinateList.forEach(location -> {
-				DailyWeather weather = new DailyWeather(marsClock, getTemperature(location), getAirPressure(location),
-						getAirDensity(location), getWindSpeed(location), surfaceFeatures.getSolarIrradiance(location),
-						surfaceFeatures.getOpticalDepth(location));
-				todayWeather.add(weather);
+				TelemetryStore store = getWeatherData(location);
+				store.record(TEMPERATURE, marsClock, getTemperature(location));
+				store.record(AIR_PRESSURE, marsClock, getAirPressure(location));
+				store.record(AIR_DENSITY, marsClock, getAirDensity(location));
+				store.record(WIND_SPEED, marsClock, getWindSpeed(location));
+				store.record(SOLAR_IRRADIANCE, marsClock, surfaceFeatures.getSolarIrradiance(location));
+				store.record(OPTICAL_DEPTH, marsClock, surfaceFeatures.getOpticalDepth(location));
 			});
 
 			quotientCache = quotient;
@@ -760,7 +780,7 @@ public class Weather implements Serializable {
 
 			double probability = -2.475 * Math.cos(L_s_cache * Math.PI / 180D - dx) + (2.475 + .05);
 			// probability is 5% at max
-			double size = dustDevils.size();
+			int size = getNumDustStorms(DustStormType.DUST_DEVIL);
 			// Artificially limit the # of dust storm to 10
 			if (L_s_int > 240 && L_s_int < 271 && size <= 10 && checkStorm < 200) {
 				// When L_s = 250 (use 255 instead), Mars is at perihelion--when the sun is
@@ -771,33 +791,13 @@ public class Weather implements Serializable {
 				createDustDevils(probability, L_s);
 			}
 
-			else if (dustDevils.size() <= 20 && checkStorm < 200) {
+			else if (size <= 20 && checkStorm < 200) {
 
 				createDustDevils(probability, L_s);
 			}
 
-			checkOnPlanetEncirclingStorms();
-
-			checkOnRegionalStorms();
-
-			checkOnLocalStorms();
+			checkOnDustStorms();
 
-			checkOnDustDevils();
-
-			coordinateList.forEach(location -> {
-				// compute the average pressure
-				// todayWeather.forEach( d -> {
-				// sum = d.getPressure();
-				// });
-				// double ave = sum / todayWeather.size();
-				// dailyVariationAirPressure = Math.abs(dailyVariationAirPressure - ave);
-				// save the todayWeather into dailyRecordMap
-				dailyRecordMap.put(solCache, todayWeather);
-				// save the dailyRecordMap into weatherDataMap
-				weatherDataMap.put(location, dailyRecordMap);
-			});
-			// create a brand new list
-			todayWeather = new CopyOnWriteArrayList<>();
 			solCache = newSol;
 			// computeDailyVariationAirPressure();
 		}
@@ -832,7 +832,8 @@ public class Weather implements Serializable {
 					// Assuming all storms start out as a dust devil
 					DustStorm ds = new DustStorm("Dust Devil-" + newStormID, DustStormType.DUST_DEVIL, newStormID,
 							marsClock, this, list);
-					dustDevils.add(ds);
+					ds.setCoordinates(s.getCoordinates());
+					dustStorms.add(ds);
 					s.setDustStorm(ds);
 					newStormID++;
 
@@ -846,163 +847,108 @@ public class Weather implements Serializable {
 	}
 
 	/***
-	 * Checks to see if a dust devil has been subsided or upgraded
+	 * Grows or shrinks each dust storm, upgrading or downgrading its type or
+	 * removing it once it has subsided. The dust of the storms is then added to
+	 * the opacity grid.
 	 */
-	public void checkOnDustDevils() {
+	public void checkOnDustStorms() {
 
-		for (DustStorm ds : dustDevils) {
-			if (ds.computeNewSize() == 0) {
-				// remove this dust devil
-				dustDevils.remove(ds);
+		Iterator<DustStorm> i = dustStorms.iterator();
+		while (i.hasNext()) {
+			DustStorm ds = i.next();
+			int newSize = ds.computeNewSize();
+			int id = ds.getID();
+
+			if (newSize == 0) {
+				// remove this storm
+				i.remove();
 				// Set the dust storm instance in that settlement to null
 				ds.getSettlements().get(0).setDustStorm(null);
-			} 
-			
-			else if (ds.computeNewSize() > 20) {
-				int id = ds.getID();
-				// if the size of this dust devil grows to 21 km, upgrade it to local storm
-				ds.setName("Local Storm-" + id);
-				ds.setType(DustStormType.LOCAL);
-				// upgrade this to local storm
-				localDustStorms.add(ds);
-				// remove this oversized dust devil
-				dustDevils.remove(ds);
+				continue;
 			}
 
-			if (ds.getSize() != 0)
-				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
-								+ " (size " + ds.getSize() + " with windspeed "
-								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
-		}
-	}
-
-	/***
-	 * Checks to see if a local storm should be upgraded or downgraded
-	 */
-	public void checkOnLocalStorms() {
-
-		for (DustStorm ds : localDustStorms) {
-			if (ds.computeNewSize() > 2000) {
-				int id = ds.getID();
-				// if the size of this local storm grows beyond 2000km, upgrade it to regional
-				// storm
-				ds.setName("Local Storm-" + id);
-				ds.setType(DustStormType.REGIONAL);
-				// upgrade this local storm to regional storm
-				regionalDustStorms.add(ds);
-				// remove this oversized local storm
-				localDustStorms.remove(ds);
-			} 
-			
-			else if (ds.computeNewSize() == 0) {
-				// remove this local storm
-				localDustStorms.remove(ds);
-				// Set the dust storm instance in that settlement to null
-				ds.getSettlements().get(0).setDustStorm(null);
-			} 
-			
-			else if (ds.computeNewSize() <= 20) {
-				int id = ds.getID();
-				// if the size of a regional shrink below 2000km, downgrade it to dust devil
-				ds.setName("Dust Devil-" + id);
-				ds.setType(DustStormType.DUST_DEVIL);
-				// downgrade this local storm to dust devil
-				dustDevils.add(ds);
-				// remove this undersize local storm
-				localDustStorms.remove(ds);
+			switch (ds.getType()) {
+			case DUST_DEVIL:
+				if (newSize > 20) {
+					// if the size of this dust devil grows to 21 km, upgrade it to local storm
+					ds.setName("Local Storm-" + id);
+					ds.setType(DustStormType.LOCAL);
+				}
+				break;
+
+			case LOCAL:
+				if (newSize > 2000) {
+					// if the size of this local storm grows beyond 2000km, upgrade it to regional
+					// storm
+					ds.setName("Regional Storm-" + id);
+					ds.setType(DustStormType.REGIONAL);
+				} else if (newSize <= 20) {
+					// if the size of a local storm shrinks below 20km, downgrade it to dust devil
+					ds.setName("Dust Devil-" + id);
+					ds.setType(DustStormType.DUST_DEVIL);
+				}
+				break;
+
+			case REGIONAL:
+				if (newSize > 4000) {
+					// if the size of a regional grows beyond 4000km, upgrade it to planet
+					// encircling storm
+					ds.setName("Planet Encircling Storm-" + id);
+					ds.setType(DustStormType.PLANET_ENCIRCLING);
+				} else if (newSize <= 2000) {
+					// if the size of a regional shrinks below 2000km, downgrade it to local storm
+					ds.setName("Local Storm-" + id);
+					ds.setType(DustStormType.LOCAL);
+				}
+				break;
+
+			case PLANET_ENCIRCLING:
+				if (newSize <= 4000) {
+					// if the size of this storm drops below 4000km, downgrade it to become regional
+					// storm
+					ds.setName("Regional Storm-" + id);
+					ds.setType(DustStormType.REGIONAL);
+				}
+				break;
 			}
 
-			if (ds.getSize() != 0)
-				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
-								+ " (size " + ds.getSize() + " with windspeed "
-								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
+			LogConsolidated.log(Level.INFO, 1000, sourceName,
+					"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
+							+ " (size " + ds.getSize() + " with windspeed "
+							+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
 		}
-	}
-
-	/***
-	 * Checks to see if a regional storm should be upgraded or downpgraded
-	 */
-	public void checkOnRegionalStorms() {
-
-		// regionalDustStormMap.entrySet().removeIf(e-> ... );
-
-		for (DustStorm ds : regionalDustStorms) {
-			if (ds.computeNewSize() > 4000) {
-				int id = ds.getID();
-				// if the size of a regional grows beyond 2000km, upgrade it to planet
-				// encircling storm
-				ds.setName("Planet Encircling Storm-" + id);
-				ds.setType(DustStormType.PLANET_ENCIRCLING);
-				// upgrade this regional storm to planet-encircling
-				planetEncirclingDustStorms.add(ds);
-				// remove this oversize regional storm
-				regionalDustStorms.remove(ds);
-			} 
-			
-			else if (ds.computeNewSize() == 0) {
-				// remove this local storm
-				regionalDustStorms.remove(ds);
-				// Set the dust storm instance in that settlement to null
-				ds.getSettlements().get(0).setDustStorm(null);
-			} 
-			
-			else if (ds.computeNewSize() <= 2000) {
-				int id = ds.getID();
-				// if the size of a regional shrink below 2000km, downgrade it to local storm
-				ds.setName("Local Storm-" + id);
-				ds.setType(DustStormType.LOCAL);
-				// downgrade this regional storm to local
-				planetEncirclingDustStorms.add(ds);
-				// remove this undersize regional storm
-				regionalDustStorms.remove(ds);
-			}
 
-			if (ds.getSize() != 0)
-				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0).getName() + "] On Sol " + (solCache + 1) + ", " + ds.getName()
-								+ " (size " + ds.getSize() + " with windspeed "
-								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
+		// Move yesterday's dust on, then add the dust of today's storms
+		dustOpacity.update();
+		for (DustStorm ds : dustStorms) {
+			if (ds.getCoordinates() != null)
+				dustOpacity.addSource(ds.getCoordinates(), ds.getSize() / 2D, ds.getOpticalDepth());
 		}
 	}
 
-	/***
-	 * Checks to see if a planet-encircling storm should be downgraded. Note that
-	 * Mars has the highest likelihood of producing a global dust storm
+	/**
+	 * Gets the number of dust storms of a type.
+	 * 
+	 * @param type the type of dust storm.
+	 * @return number of dust storms.
 	 */
-	public void checkOnPlanetEncirclingStorms() {
-
-		for (DustStorm ds : planetEncirclingDustStorms) {
-			if (ds.computeNewSize() <= 4000) {
-				int id = ds.getID();
-				// if the size of this storm drops below 2000km, downgrade it to become regional
-				// storm
-				ds.setName("Regional Storm-" + id);
-				ds.setType(DustStormType.REGIONAL);
-				// downgrade this regional storm to regional
-				regionalDustStorms.add(ds);
-				// remove this undersized storm
-				planetEncirclingDustStorms.remove(ds);
-			} 
-			
-			else if (ds.computeNewSize() == 0) {
-				// remove this local storm
-				planetEncirclingDustStorms.remove(ds);
-				// Set the dust storm instance in that settlement to null
-				ds.getSettlements().get(0).setDustStorm(null);
-			}
-
-			if (ds.getSize() != 0)
-				LogConsolidated.log(Level.INFO, 1000, sourceName,
-						"[" + ds.getSettlements().get(0) + "] On Sol " + (solCache + 1) + ", " + ds.getName()
-								+ " (size " + ds.getSize() + " with windspeed "
-								+ Math.round(ds.getSpeed() * 10.0) / 10.0 + " m/s) was sighted.");
+	public int getNumDustStorms(DustStormType type) {
+		int result = 0;
+		for (DustStorm ds : dustStorms) {
+			if (ds.getType() == type)
+				result++;
 		}
+		return result;
 	}
 
-	public List<DustStorm> getPlanetEncirclingDustStorms() {
-		return planetEncirclingDustStorms;
+	/**
+	 * Gets the optical depth added by the dust storms at a location.
+	 * 
+	 * @param location the location.
+	 * @return optical depth.
+	 */
+	public double getDustOpticalDepth(Coordinates location) {
+		return dustOpacity.getOpticalDepth(location);
 	}
 
 	public double getDailyVariationAirPressure(Coordinates location) {
@@ -1029,13 +975,22 @@ public class Weather implements Serializable {
 //		unitManager = u;
 	}
 	
+	/**
+	 * Gets the time series of the weather at a location.
+	 * 
+	 * @param location the location
+	 * @return store
+	 */
+	public TelemetryStore getWeatherData(Coordinates location) {
+		return weatherDataMap.computeIfAbsent(location,
+				l -> new TelemetryStore(WEATHER_SAMPLES, WEATHER_SOLS, WEATHER_MONTHS, WEATHER_ORBITS));
+	}
+
 	/**
 	 * Prepare object for garbage collection.
 	 */
 	public void destroy() {
 		weatherDataMap = null;
-		dailyRecordMap = null;
-		todayWeather = null;
 		coordinateList = null;
 		
 		if (temperatureCacheMap != null) {
@@ -29,6 +29,7 @@ import org.mars_sim.msp.core.person.ai.social.RelationshipManager;
 import org.mars_sim.msp.core.person.ai.task.utils.Task;
 import org.mars_sim.msp.core.person.ai.task.utils.TaskManager;
 import org.mars_sim.msp.core.person.ai.task.utils.TaskSchedule;
+import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.tool.MathUtils;
 import org.mars_sim.msp.core.tool.RandomUtil;
@@ -483,6 +484,9 @@ public class Mind implements Serializable {
 			if (bypassingJobLock || !jobLock) {
 //				System.out.println("1 " + person + " " + person.getJobName() + " " + jobStr);
 				job = newJob;
+				Settlement settlement = person.getAssociatedSettlement();
+				if (settlement != null)
+					settlement.getJobOptimizer().jobAssigned(person, newJob);
 //				logger.info("2 " + person + " " + person.getJobName() + " " + newJobStr);
 				// Set up 4 approvedBy conditions
 				if (approvedBy.equals(JobUtil.SETTLEMENT)) { // automatically approved if pop <= 4
@@ -20,6 +20,7 @@ import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.TrainingType;
 import org.mars_sim.msp.core.robot.Robot;
 import org.mars_sim.msp.core.robot.RobotType;
+import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
 
@@ -355,8 +356,16 @@ public class SkillManager implements Serializable {
 	public void addExperience(SkillType skillType, double experiencePoints, double time) {
 
 		if (hasSkill(skillType)) {
-			skills.get(skillType).addExperience(experiencePoints);
-			skills.get(skillType).addTime(time);
+			Skill skill = skills.get(skillType);
+			int level = skill.getLevel();
+			skill.addExperience(experiencePoints);
+			skill.addTime(time);
+			if (skill.getLevel() != level && person != null) {
+				// The job prospects of the person have changed
+				Settlement settlement = person.getAssociatedSettlement();
+				if (settlement != null)
+					settlement.getJobOptimizer().invalidate();
+			}
 		}
 		else {
 			addNewSkill(new Skill(skillType));
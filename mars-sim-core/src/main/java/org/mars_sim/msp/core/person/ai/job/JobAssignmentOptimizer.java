@@ -0,0 +1,353 @@
+/**
+ * Mars Simulation Project
+ * JobAssignmentOptimizer.java
+ */
+package org.mars_sim.msp.core.person.ai.job;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.ai.Mind;
+import org.mars_sim.msp.core.structure.ChainOfCommand;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.time.MasterClock;
+
+/**
+ * The JobAssignmentOptimizer class allocates the jobs of a settlement as a
+ * weighted assignment problem. The people without a job are matched to the open
+ * positions of each job with the Hungarian algorithm, over a prospect matrix
+ * computed once per solve. The people already holding a job keep it and fill
+ * the first positions of that job. The solution is reused until someone not in
+ * it asks for a job, someone arrives, leaves, dies or gains a skill level, or a
+ * new sol begins. The number of people holding each job is kept up to date as
+ * jobs are taken and people come and go, rather than recounted.
+ */
+public class JobAssignmentOptimizer {
+
+	/** The jobs that a settlement should always have, if it has anyone to spare. */
+	private static final JobType[] REQUIRED_JOBS = { JobType.ENGINEER, JobType.TECHNICIAN };
+
+	/** The number of people holding each job, indexed by JobType. */
+	private int[] jobCounts = new int[JobType.numJobTypes];
+	/** The job id counted for each associated person, by person id. */
+	private Map<Integer, Integer> countedJobs = new HashMap<>();
+	/** The job chosen for each person without one, by person id. */
+	private Map<Integer, Job> solution = new HashMap<>();
+	/** The mission sol of the last solve. */
+	private int solvedSol = -1;
+
+	private Settlement settlement;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param settlement the settlement
+	 */
+	public JobAssignmentOptimizer(Settlement settlement) {
+		this.settlement = settlement;
+		for (Person p : settlement.getAllAssociatedPeople()) {
+			personAdded(p);
+		}
+	}
+
+	/**
+	 * Gets the number of associated people holding each job.
+	 *
+	 * @return counts indexed by the ordinal of {@link JobType}
+	 */
+	public synchronized int[] getJobCounts() {
+		return Arrays.copyOf(jobCounts, jobCounts.length);
+	}
+
+	/**
+	 * Gets the number of associated people holding a job.
+	 *
+	 * @param type the job type
+	 * @return number of people
+	 */
+	public synchronized int getJobCount(JobType type) {
+		return jobCounts[type.ordinal()];
+	}
+
+	/**
+	 * Gets the best job for a person without one.
+	 *
+	 * @param person the person
+	 * @return the job, or null if the person is not associated with the settlement
+	 */
+	public synchronized Job getJob(Person person) {
+		int sol = getMissionSol();
+		Job result = solution.get(person.getIdentifier());
+		if (result == null || sol != solvedSol) {
+			solve(person);
+			solvedSol = sol;
+			result = solution.get(person.getIdentifier());
+		}
+		return result;
+	}
+
+	/**
+	 * Records that a person has taken a job. The rest of the solution still holds
+	 * if the job is the one it chose for the person.
+	 *
+	 * @param person the person
+	 * @param job    the new job
+	 */
+	public synchronized void jobAssigned(Person person, Job job) {
+		Integer id = person.getIdentifier();
+		if (countedJobs.containsKey(id)) {
+			uncount(countedJobs.get(id));
+			countedJobs.put(id, count(job));
+		}
+
+		if (solution.get(id) == job)
+			solution.remove(id);
+		else
+			solution.clear();
+	}
+
+	/**
+	 * Records that a person has become associated with the settlement.
+	 *
+	 * @param person the person
+	 */
+	public synchronized void personAdded(Person person) {
+		Integer id = person.getIdentifier();
+		if (!countedJobs.containsKey(id)) {
+			// A new person joins before having a mind, and is counted once a job is assigned
+			Mind mind = person.getMind();
+			countedJobs.put(id, count(mind == null ? null : mind.getJob()));
+		}
+		solution.clear();
+	}
+
+	/**
+	 * Records that a person is no longer associated with the settlement, having
+	 * left or died.
+	 *
+	 * @param person the person
+	 */
+	public synchronized void personRemoved(Person person) {
+		Integer jobID = countedJobs.remove(person.getIdentifier());
+		if (jobID != null)
+			uncount(jobID);
+		solution.clear();
+	}
+
+	/**
+	 * Discards the current solution, e.g. when someone gains a skill level.
+	 */
+	public synchronized void invalidate() {
+		solution.clear();
+	}
+
+	/**
+	 * Counts a holder of a job.
+	 *
+	 * @return the job id, or -1 for no job
+	 */
+	private int count(Job job) {
+		if (job == null)
+			return -1;
+		jobCounts[job.getJobID()]++;
+		return job.getJobID();
+	}
+
+	private void uncount(int jobID) {
+		if (jobID >= 0)
+			jobCounts[jobID]--;
+	}
+
+	/**
+	 * Solves the assignment of the people without a job, including the given
+	 * person, to the open positions.
+	 */
+	private void solve(Person asker) {
+		solution.clear();
+
+		List<Person> free = new ArrayList<>();
+		for (Person p : settlement.getAllAssociatedPeople()) {
+			if (p.getMind().getJob() == null || p == asker)
+				free.add(p);
+		}
+		if (!free.contains(asker))
+			free.add(asker);
+
+		// Exclude politician job which is reserved for Mayor only
+		List<Job> jobs = JobUtil.getJobs();
+		jobs.removeIf(j -> j.getJobID() == JobType.POLITICIAN.ordinal());
+
+		int pop = settlement.getIndoorPeopleCount();
+		if (pop == 0)
+			// At the start of the game, pop = 0
+			pop = settlement.getInitialPopulation();
+		pop = Math.max(pop, settlement.getAllAssociatedPeople().size());
+
+		// Set limits on # of position available for a job, based on settlement's
+		// population e.g. rather not having 3 botanists when the settlement has only 8 people
+		int maxPos = (int) Math.ceil((double) pop / jobs.size()) + 1;
+
+		// Build the open positions : the k-th open position of a job comes after its
+		// current holders, and is worth less the more holders there are
+		List<Job> slotJobs = new ArrayList<>();
+		List<Integer> slotRanks = new ArrayList<>();
+		while (slotJobs.size() < free.size()) {
+			slotJobs.clear();
+			slotRanks.clear();
+			for (Job job : jobs) {
+				int holders = jobCounts[job.getJobID()];
+				if (asker.getMind().getJob() == job)
+					holders--;
+				for (int k = Math.max(holders, 0); k < maxPos; k++) {
+					slotJobs.add(job);
+					slotRanks.add(k);
+				}
+			}
+			maxPos++;
+		}
+
+		int n = free.size();
+		int m = slotJobs.size();
+
+		// Compute the prospect matrix once
+		double[] needs = new double[JobType.numJobTypes];
+		for (Job job : jobs)
+			needs[job.getJobID()] = JobUtil.getRemainingSettlementNeed(settlement, job);
+
+		double[][] capability = new double[n][JobType.numJobTypes];
+		for (int i = 0; i < n; i++) {
+			Person p = free.get(i);
+			for (Job job : jobs) {
+				double cap = job.getCapability(p);
+				double need = needs[job.getJobID()];
+				if (p.getMind().getJob() == job)
+					need += cap;
+				capability[i][job.getJobID()] = (cap + 1D) * need;
+			}
+		}
+
+		double[][] weight = new double[n][m];
+		double max = 0;
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < m; j++) {
+				double w = capability[i][slotJobs.get(j).getJobID()] / (slotRanks.get(j) + 1D);
+				weight[i][j] = w;
+				if (w > max)
+					max = w;
+			}
+		}
+
+		// Make sure the required jobs are filled first
+		double bonus = max * n + 1D;
+		for (int j = 0; j < m; j++) {
+			if (slotRanks.get(j) == 0 && isRequired(slotJobs.get(j))) {
+				for (int i = 0; i < n; i++)
+					weight[i][j] += bonus;
+			}
+		}
+		max += bonus;
+
+		double[][] cost = new double[n][m];
+		for (int i = 0; i < n; i++)
+			for (int j = 0; j < m; j++)
+				cost[i][j] = max - weight[i][j];
+
+		int[] assignment = solve(cost);
+		for (int i = 0; i < n; i++) {
+			solution.put(free.get(i).getIdentifier(), slotJobs.get(assignment[i]));
+		}
+	}
+
+	private boolean isRequired(Job job) {
+		for (JobType type : REQUIRED_JOBS) {
+			if (job.getJobID() == type.ordinal())
+				return true;
+		}
+		return job.getJobID() == JobType.METEOROLOGIST.ordinal()
+				&& settlement.getNumCitizens() > ChainOfCommand.POPULATION_WITH_CHIEFS;
+	}
+
+	private static int getMissionSol() {
+		MasterClock clock = Simulation.instance().getMasterClock();
+		if (clock == null || clock.getMarsClock() == null)
+			return 0;
+		return clock.getMarsClock().getMissionSol();
+	}
+
+	/**
+	 * Solves a rectangular assignment problem with the Hungarian algorithm.
+	 *
+	 * @param cost the cost of assigning each row to each column, with no more rows
+	 *             than columns
+	 * @return the column assigned to each row, minimizing the total cost
+	 */
+	static int[] solve(double[][] cost) {
+		int n = cost.length;
+		if (n == 0)
+			return new int[0];
+		int m = cost[0].length;
+		if (n > m)
+			throw new IllegalArgumentException("More rows than columns : " + n + " > " + m);
+
+		// Potentials and matching, 1-indexed with column 0 as a sentinel
+		double[] u = new double[n + 1];
+		double[] v = new double[m + 1];
+		int[] p = new int[m + 1];
+		int[] way = new int[m + 1];
+		double[] minv = new double[m + 1];
+		boolean[] used = new boolean[m + 1];
+
+		for (int i = 1; i <= n; i++) {
+			p[0] = i;
+			int j0 = 0;
+			Arrays.fill(minv, Double.MAX_VALUE);
+			Arrays.fill(used, false);
+			do {
+				used[j0] = true;
+				int i0 = p[j0];
+				double delta = Double.MAX_VALUE;
+				int j1 = 0;
+				for (int j = 1; j <= m; j++) {
+					if (!used[j]) {
+						double cur = cost[i0 - 1][j - 1] - u[i0] - v[j];
+						if (cur < minv[j]) {
+							minv[j] = cur;
+							way[j] = j0;
+						}
+						if (minv[j] < delta) {
+							delta = minv[j];
+							j1 = j;
+						}
+					}
+				}
+				for (int j = 0; j <= m; j++) {
+					if (used[j]) {
+						u[p[j]] += delta;
+						v[j] -= delta;
+					} else {
+						minv[j] -= delta;
+					}
+				}
+				j0 = j1;
+			} while (p[j0] != 0);
+
+			do {
+				int j1 = way[j0];
+				p[j0] = p[j1];
+				j0 = j1;
+			} while (j0 != 0);
+		}
+
+		int[] result = new int[n];
+		for (int j = 1; j <= m; j++) {
+			if (p[j] != 0)
+				result[p[j] - 1] = j - 1;
+		}
+		return result;
+	}
+}
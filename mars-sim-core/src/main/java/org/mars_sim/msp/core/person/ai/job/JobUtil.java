@@ -27,7 +27,6 @@ import org.mars_sim.msp.core.robot.ai.job.Medicbot;
 import org.mars_sim.msp.core.robot.ai.job.Repairbot;
 import org.mars_sim.msp.core.robot.ai.job.RobotJob;
 import org.mars_sim.msp.core.structure.Settlement;
-import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
  * The JobUtil class keeps track of the settler jobs in a simulation.
@@ -45,7 +44,6 @@ public final class JobUtil implements Serializable {
 	public static final String SETTLEMENT = "Settlement";
 	public static final String MISSION_CONTROL = "Mission Control";
 	public static final String USER = "User";
-	private static final String POLITICIAN = "Politician";
 
 	// Data members
 	/** List of the jobs in the simulation. */
@@ -229,55 +227,23 @@ public final class JobUtil implements Serializable {
 
 	
 	/**
-	 * Gets a new job for the person. Might be the person's current job.
+	 * Gets a new job for the person. Might be the person's current job. The jobs
+	 * of the settlement are allocated together by its
+	 * {@link JobAssignmentOptimizer}.
 	 * 
 	 * @param person the person to check.
 	 * @return the new job.
 	 */
 	public static Job getNewJob(Person person) {
-		// Find new job for person.
-		double selectedJobProspect = Integer.MIN_VALUE;
-		
 		Job originalJob = person.getMind().getJob();
-		Job selectedJob = originalJob;
 		// Determine person's associated settlement.
 		Settlement settlement = person.getAssociatedSettlement();
-		
-		int pop = settlement.getIndoorPeopleCount();
-		if (pop == 0)
-			// At the start of the game, pop = 0
-			pop = settlement.getInitialPopulation();
+		if (settlement == null)
+			return originalJob;
 
-		// Set limits on # of position available for a job, based on settlement's population
-		// e.g. rather not having 3 botanists when the settlement has only 8 people
-		
-		while (selectedJob == originalJob) {
-			double rand = RandomUtil.getRandomDouble(2.0);
-			double t = pop/JobType.numJobTypes + rand;
-			int maxPos = (int)(Math.ceil(t));
-			
-			if (settlement != null) {
-				Iterator<Job> i = getJobs().iterator();
-				while (i.hasNext()) {
-					Job job = i.next();
-					if (!job.equals(JobUtil.getJob(POLITICIAN))) {
-//						logger.config("job : " + job + "  ID: " + job.getJobID());
-						int numPositions = numJobs(job.getName(GenderType.MALE), settlement);
-//						logger.config(job.getName(GenderType.MALE) +  ": " + numPositions + "  ");
-						if (numPositions < maxPos) {
-						// Exclude politician job which is reserved for Mayor only
-							double jobProspect = getJobProspect(person, job, settlement, true);
-							if (jobProspect > selectedJobProspect) {
-								selectedJob = job;
-								selectedJobProspect = jobProspect;
-							}
-						}
-					}
-				}
-			} 
-		}
-//		logger.info(newJob.getName(GenderType.MALE) + " job prospects : " + newJobProspect);
-//		logger.info(newJob + " : " + newJobProspect);
+		Job selectedJob = settlement.getJobOptimizer().getJob(person);
+		if (selectedJob == null)
+			return originalJob;
 		return selectedJob;
 	}
 
@@ -352,6 +318,17 @@ public final class JobUtil implements Serializable {
 	}
 
 	
+	/**
+	 * Counts the number of people having a particular job
+	 * 
+	 * @param type the job type
+	 * @param settlement
+	 * @return number
+	 */
+	public static int numJobs(JobType type, Settlement settlement) {
+		return settlement.getJobOptimizer().getJobCount(type);
+	}
+
 	/**
 	 * Counts the number of people having a particular job
 	 * 
@@ -30,6 +30,7 @@ import org.mars_sim.msp.core.science.ScienceType;
 import org.mars_sim.msp.core.science.ScientificStudy;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -66,7 +67,7 @@ public class BiologyFieldStudy extends RoverMission implements Serializable {
 	private boolean endFieldSite;
 
 	/** The start time at the field site. */
-	private MarsClock fieldSiteStartTime;
+	private MarsInstant fieldSiteStartTime;
 	/** The field site location. */
 	private Coordinates fieldSite;
 	/** Scientific study to research. */
@@ -507,13 +508,13 @@ public class BiologyFieldStudy extends RoverMission implements Serializable {
 
 		// Check if field site research has just started.
 		if (fieldSiteStartTime == null) {
-			fieldSiteStartTime = (MarsClock) marsClock.clone();
+			fieldSiteStartTime = marsClock.getInstant();
 		}
 
 		// Check if crew has been at site for more than required length of time.
 		boolean timeExpired = false;
 //		MarsClock currentTime = (MarsClock) marsClock.clone();
-		if (MarsClock.getTimeDiff((MarsClock) marsClock.clone(), fieldSiteStartTime) >= FIELD_SITE_TIME) {
+		if (marsClock.getInstant().getTimeDiff(fieldSiteStartTime) >= FIELD_SITE_TIME) {
 			timeExpired = true;
 		}
 
@@ -628,7 +629,7 @@ public class BiologyFieldStudy extends RoverMission implements Serializable {
 
 		// Add estimated remaining field work time at field site if still there.
 		if (RESEARCH_SITE.equals(getPhase())) {
-			double timeSpentAtExplorationSite = MarsClock.getTimeDiff(marsClock, fieldSiteStartTime);
+			double timeSpentAtExplorationSite = marsClock.getInstant().getTimeDiff(fieldSiteStartTime);
 			double remainingTime = FIELD_SITE_TIME - timeSpentAtExplorationSite;
 			if (remainingTime > 0D)
 				result += remainingTime;
@@ -39,6 +39,7 @@ import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.building.BuildingConfig;
 import org.mars_sim.msp.core.structure.building.BuildingManager;
+import org.mars_sim.msp.core.structure.building.FreeSpaceIndex;
 import org.mars_sim.msp.core.structure.building.function.FunctionType;
 import org.mars_sim.msp.core.structure.construction.ConstructionManager;
 import org.mars_sim.msp.core.structure.construction.ConstructionSite;
@@ -259,9 +260,13 @@ public class BuildingConstructionMission extends Mission implements Serializable
 						// Set initial length value that may be modified later.
 						site.setLength(DEFAULT_VARIABLE_BUILDING_LENGTH);
 
-					positionNewSite(site, info, skill);
-
-					logger.log(Level.INFO, "New construction site added at " + settlement.getName());
+					if (positionNewSite(site, info, skill)) {
+						logger.log(Level.INFO, "New construction site added at " + settlement.getName());
+					} else {
+						// No open location left, so drop the site.
+						manager.removeConstructionSite(site);
+						site = null;
+					}
 				} else {
 					logger.log(Level.WARNING, "New construction stage could not be determined.");
 					addMissionStatus(MissionStatus.NEW_CONSTRUCTION_STAGE_NOT_DETERMINED);
@@ -475,16 +480,20 @@ public class BuildingConstructionMission extends Mission implements Serializable
 						// Set initial length value that may be modified later.
 						site.setLength(DEFAULT_VARIABLE_BUILDING_LENGTH);
 
-					positionNewSite(site, stageInfo, bestConstructionSkill);
+					if (!positionNewSite(site, stageInfo, bestConstructionSkill)) {
+						// No open location left, so drop the site.
+						manager.removeConstructionSite(site);
+						site = null;
+					}
 				}
 
-				else {
+				if (site == null) {
 					addMissionStatus(MissionStatus.CONSTRUCTION_SITE_NOT_FOUND_OR_CREATED);
 					endMission();
+				} else {
+					initialize(site, stageInfo);// , vehicles, members);
 				}
 
-				initialize(site, stageInfo);// , vehicles, members);
-
 				if (!isDone()) {
 					// Reserve construction vehicles.
 					// reserveConstructionVehicles();
@@ -1126,8 +1135,9 @@ public class BuildingConstructionMission extends Mission implements Serializable
 	 * @param site                the new construction site.
 	 * @param foundationStageInfo the site's foundation stage info.
 	 * @param constructionSkill   the mission starter's construction skill.
+	 * @return true if the site was positioned, false if no open location was found.
 	 */
-	public void positionNewSite(ConstructionSite site, ConstructionStageInfo foundationStageInfo,
+	public boolean positionNewSite(ConstructionSite site, ConstructionStageInfo foundationStageInfo,
 			int constructionSkill) {
 
 		boolean goodPosition = false;
@@ -1203,13 +1213,15 @@ public class BuildingConstructionMission extends Mission implements Serializable
 		}
 
 		if (!goodPosition) {
-			// Try to put building next to another building.
+			// Try to put building at the nearest open location to another building.
 			// If not successful, try again 10m from each building and continue out at 10m
-			// increments
-			// until a location is found.
+			// increments as far as the free space index reaches.
 			BuildingManager buildingManager = settlement.getBuildingManager();
 			if (buildingManager.getNumBuildings() > 0) {
-				for (int x = 10; !goodPosition; x += 10) {
+				goodPosition = positionNearestOpenLocation(site);
+
+				int maxDistance = (int) (FreeSpaceIndex.HALF_SIZE * FreeSpaceIndex.CELL_SIZE);
+				for (int x = 10; !goodPosition && x <= maxDistance; x += 10) {
 					List<Building> allBuildings = buildingManager.getACopyOfBuildings();
 					Collections.shuffle(allBuildings);
 					for (Building b : allBuildings) {
@@ -1219,14 +1231,22 @@ public class BuildingConstructionMission extends Mission implements Serializable
 						}
 					}
 				}
+
+				if (!goodPosition) {
+					logger.warning("positionNewSite() : no open location left for a new construction site at "
+							+ settlement.getName() + ". Quit site placement.");
+				}
 			} else {
 				// If no buildings at settlement, position new construction site at 0,0 with
 				// random facing.
 				site.setXLocation(0D);
 				site.setYLocation(0D);
 				site.setFacing(RandomUtil.getRandomDouble(360D));
+				goodPosition = true;
 			}
 		}
+
+		return goodPosition;
 	}
 
 	/**
@@ -1571,6 +1591,30 @@ public class BuildingConstructionMission extends Mission implements Serializable
 		return result;
 	}
 
+	/**
+	 * Positions a new construction site at the nearest open location to an
+	 * existing building.
+	 * 
+	 * @param site the new construction site.
+	 * @return true if construction site could be positioned, false if not.
+	 */
+	private boolean positionNearestOpenLocation(ConstructionSite site) {
+		BuildingManager buildingManager = settlement.getBuildingManager();
+		List<Building> allBuildings = buildingManager.getACopyOfBuildings();
+		Collections.shuffle(allBuildings);
+		for (Building b : allBuildings) {
+			Point2D location = buildingManager.getNearestOpenLocation(b, site.getWidth(), site.getLength(),
+					b.getFacing(), DEFAULT_NONINHABITABLE_BUILDING_DISTANCE, site);
+			if (location != null) {
+				site.setXLocation(location.getX());
+				site.setYLocation(location.getY());
+				site.setFacing(b.getFacing());
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Positions a new construction site near an existing building.
 	 * 
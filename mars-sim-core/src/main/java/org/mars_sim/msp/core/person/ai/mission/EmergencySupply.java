@@ -15,7 +15,6 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.Inventory;
 import org.mars_sim.msp.core.LocalAreaUtil;
 import org.mars_sim.msp.core.Msg;
@@ -613,7 +612,7 @@ public class EmergencySupply extends RoverMission implements Serializable {
 				if (!hasCurrentEmergencySupplyMission(settlement)) {
 
 					// Check if settlement is within rover range.
-					double settlementRange = Coordinates.computeDistance(settlement.getCoordinates(), startingSettlement.getCoordinates());
+					double settlementRange = surfaceFeatures.getRoutePlanner().getDistance(startingSettlement.getCoordinates(), settlement.getCoordinates());
 					if (settlementRange <= (rover.getRange(missionType) * .8D)) {
 
 						// Find what emergency supplies are needed at settlement.
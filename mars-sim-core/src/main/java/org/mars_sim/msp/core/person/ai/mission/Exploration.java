@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import org.mars_sim.msp.core.Coordinates;
@@ -25,6 +26,7 @@ import org.mars_sim.msp.core.equipment.EquipmentType;
 import org.mars_sim.msp.core.equipment.SpecimenBox;
 import org.mars_sim.msp.core.mars.ExploredLocation;
 import org.mars_sim.msp.core.mars.MineralMap;
+import org.mars_sim.msp.core.mars.RoutePlanner;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PhysicalCondition;
 import org.mars_sim.msp.core.person.ai.SkillType;
@@ -36,6 +38,7 @@ import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.robot.Robot;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -79,7 +82,7 @@ public class Exploration extends RoverMission implements Serializable {
 	/** Map of exploration sites and their completion. */
 	private Map<String, Double> explorationSiteCompletion;
 	/** The start time at the current exploration site. */
-	private MarsClock explorationSiteStartTime;
+	private MarsInstant explorationSiteStartTime;
 	/** The current exploration site. */
 	private ExploredLocation currentSite;
 	/** List of sites explored by this mission. */
@@ -91,6 +94,8 @@ public class Exploration extends RoverMission implements Serializable {
 	private static final int oxygenID = ResourceUtil.oxygenID;
 	private static final int waterID = ResourceUtil.waterID;
 	private static final int foodID = ResourceUtil.foodID;
+	/** The amount resource ids of the minerals, resolved from their names when first valued. */
+	private static final Map<String, Integer> mineralIDs = new ConcurrentHashMap<>();
 	
 	/**
 	 * Constructor.
@@ -391,13 +396,13 @@ public class Exploration extends RoverMission implements Serializable {
 		// Add new explored site if just starting exploring.
 		if (currentSite == null) {
 			createNewExploredSite();
-			explorationSiteStartTime = (MarsClock) marsClock.clone();
+			explorationSiteStartTime = marsClock.getInstant();
 		}
 
 		// Check if crew has been at site for more than one sol.
 		boolean timeExpired = false;
 //		MarsClock ms = (MarsClock) marsClock.clone();
-		double timeDiff = MarsClock.getTimeDiff((MarsClock) marsClock.clone(), explorationSiteStartTime);
+		double timeDiff = marsClock.getInstant().getTimeDiff(explorationSiteStartTime);
 		if (timeDiff >= EXPLORING_SITE_TIME) {
 			timeExpired = true;
 		}
@@ -550,7 +555,7 @@ public class Exploration extends RoverMission implements Serializable {
 		// Add estimated remaining exploration time at current site if still there.
 		if (EXPLORE_SITE.equals(getPhase())) {
 //			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtExplorationSite = MarsClock.getTimeDiff(marsClock, explorationSiteStartTime);
+			double timeSpentAtExplorationSite = marsClock.getInstant().getTimeDiff(explorationSiteStartTime);
 			double remainingTime = EXPLORING_SITE_TIME - timeSpentAtExplorationSite;
 			if (remainingTime > 0D)
 				result += remainingTime;
@@ -734,7 +739,8 @@ public class Exploration extends RoverMission implements Serializable {
 		} else
 			throw new IllegalStateException(getPhase() + " : Could not determine first exploration site.");
 
-		double siteDistance = Coordinates.computeDistance(startingLocation, newLocation);
+		RoutePlanner planner = surfaceFeatures.getRoutePlanner();
+		double siteDistance = planner.getDistance(startingLocation, newLocation);
 		Coordinates currentLocation = newLocation;
 
 		// Determine remaining exploration sites.
@@ -745,8 +751,9 @@ public class Exploration extends RoverMission implements Serializable {
 				siteDistance = RandomUtil.getRandomDouble(remainingRange);
 				newLocation = currentLocation.getNewLocation(direction, siteDistance);
 				unorderedSites.add(newLocation);
+				// Account for the detours around the terrain
+				remainingRange -= planner.getDistance(currentLocation, newLocation);
 				currentLocation = newLocation;
-				remainingRange -= siteDistance;
 			}
 		}
 
@@ -803,17 +810,18 @@ public class Exploration extends RoverMission implements Serializable {
 
 	private double getTotalDistance(Coordinates startingLoc, List<Coordinates> sites) {
 		double result = 0D;
+		RoutePlanner planner = surfaceFeatures.getRoutePlanner();
 
 		Coordinates currentLoc = startingLoc;
 		Iterator<Coordinates> i = sites.iterator();
 		while (i.hasNext()) {
 			Coordinates site = i.next();
-			result += currentLoc.getDistance(site);
+			result += planner.getDistance(currentLoc, site);
 			currentLoc = site;
 		}
 
 		// Add return trip to starting loc.
-		result += currentLoc.getDistance(startingLoc);
+		result += planner.getDistance(currentLoc, startingLoc);
 
 		return result;
 	}
@@ -901,10 +909,10 @@ public class Exploration extends RoverMission implements Serializable {
 
 		double result = 0D;		
 
-		for (String mineralType : minerals.keySet()) {
-			int mineralResource = ResourceUtil.findIDbyAmountResourceName(mineralType);
+		for (Map.Entry<String, Double> mineral : minerals.entrySet()) {
+			int mineralResource = mineralIDs.computeIfAbsent(mineral.getKey(), ResourceUtil::findIDbyAmountResourceName);
 			double mineralValue = settlement.getGoodsManager().getGoodValuePerItem(mineralResource);
-			double concentration = minerals.get(mineralType);
+			double concentration = mineral.getValue();
 			double mineralAmount = (concentration / 100D) * Mining.MINERAL_BASE_AMOUNT;
 			result += mineralValue * mineralAmount;
 		}
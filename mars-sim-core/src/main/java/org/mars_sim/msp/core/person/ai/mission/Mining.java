@@ -38,6 +38,7 @@ import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.goods.Good;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Crewable;
 import org.mars_sim.msp.core.vehicle.LightUtilityVehicle;
@@ -89,7 +90,7 @@ public class Mining extends RoverMission {
 	private boolean endMiningSite;
 	
 	private ExploredLocation miningSite;
-	private MarsClock miningSiteStartTime;
+	private MarsInstant miningSiteStartTime;
 	private LightUtilityVehicle luv;
 
 	private Person startingPerson;
@@ -136,7 +137,7 @@ public class Mining extends RoverMission {
 			try {
 				if (hasVehicle()) {
 					miningSite = determineBestMiningSite(getRover(), getStartingSettlement());
-					miningSite.setReserved(true);
+					surfaceFeatures.claimMiningSite(miningSite, this);
 					addNavpoint(new NavPoint(miningSite.getLocation(), "mining site"));
 				}
 			} catch (Exception e) {
@@ -197,7 +198,7 @@ public class Mining extends RoverMission {
 		// Initialize data members.
 		setStartingSettlement(startingSettlement);
 		this.miningSite = miningSite;
-		miningSite.setReserved(true);
+		surfaceFeatures.claimMiningSite(miningSite, this);
 		excavatedMinerals = new HashMap<AmountResource, Double>(1);
 		totalExcavatedMinerals = new HashMap<AmountResource, Double>(1);
 
@@ -474,7 +475,7 @@ public class Mining extends RoverMission {
 
 		// Set the mining site start time if necessary.
 		if (miningSiteStartTime == null) {
-			miningSiteStartTime = (MarsClock) marsClock.clone();
+			miningSiteStartTime = marsClock.getInstant();
 		}
 
 		// Detach towed light utility vehicle if necessary.
@@ -486,7 +487,7 @@ public class Mining extends RoverMission {
 		// Check if crew has been at site for more than three sols.
 		boolean timeExpired = false;
 //		MarsClock currentTime = (MarsClock) Simulation.instance().getMasterClock().getMarsClock().clone();
-		if (MarsClock.getTimeDiff(marsClock, miningSiteStartTime) >= MINING_SITE_TIME) {
+		if (marsClock.getInstant().getTimeDiff(miningSiteStartTime) >= MINING_SITE_TIME) {
 			timeExpired = true;
 		}
 
@@ -845,8 +846,11 @@ public class Mining extends RoverMission {
 				range = tripRange;
 			}
 
-			Iterator<ExploredLocation> i = surfaceFeatures.getExploredLocations()
-					.iterator();
+			// A route is never shorter than the straight distance, so only the sites
+			// within that distance can be in range.
+			Coordinates homeLocation = homeSettlement.getCoordinates();
+			Iterator<ExploredLocation> i = surfaceFeatures.getExploredLocationIndex()
+					.getLocationsWithin(homeLocation, range / 2D).iterator();
 			while (i.hasNext()) {
 				ExploredLocation site = i.next();
 
@@ -856,8 +860,7 @@ public class Mining extends RoverMission {
 					// Only mine from sites explored from home settlement.
 					if (homeSettlement.equals(site.getSettlement())) {
 						Coordinates siteLocation = site.getLocation();
-						Coordinates homeLocation = homeSettlement.getCoordinates();
-						if (Coordinates.computeDistance(homeLocation, siteLocation) <= (range / 2D)) {
+						if (surfaceFeatures.getRoutePlanner().getDistance(homeLocation, siteLocation) <= (range / 2D)) {
 							double value = getMiningSiteValue(site, homeSettlement);
 							if (value > bestValue) {
 								result = site;
@@ -1016,7 +1019,7 @@ public class Mining extends RoverMission {
 		// Use estimated remaining mining time at site if still there.
 		if (MINING_SITE.equals(getPhase())) {
 //			MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-			double timeSpentAtMiningSite = MarsClock.getTimeDiff(marsClock, miningSiteStartTime);
+			double timeSpentAtMiningSite = marsClock.getInstant().getTimeDiff(miningSiteStartTime);
 			double remainingTime = MINING_SITE_TIME - timeSpentAtMiningSite;
 			if (remainingTime > 0D) {
 				result = remainingTime;
@@ -1098,7 +1101,7 @@ public class Mining extends RoverMission {
 		super.endMission();
 
 		if (miningSite != null) {
-			miningSite.setReserved(false);
+			surfaceFeatures.releaseMiningSite(miningSite);
 		}
 		if (luv != null) {
 			luv.setReservedForMission(false);
@@ -174,6 +174,25 @@ public abstract class Mission implements Serializable {
 		return missionIdentifer++;
 	}
 
+	/**
+	 * Constructor called by MockMission for maven testing.
+	 * 
+	 * @param missionName
+	 * @param missionType
+	 * @param members the initial members
+	 */
+	protected Mission(String missionName, MissionType missionType, Collection<MissionMember> members) {
+		this.identifier = getNextIdentifier();
+		this.missionName = missionName;
+		this.missionType = missionType;
+		this.description = missionName;
+
+		missionStatus = new ArrayList<>();
+		this.members = new ConcurrentLinkedQueue<MissionMember>(members);
+		phases = new ArrayList<MissionPhase>();
+		listeners = new CopyOnWriteArrayList<>();
+	}
+
 	/**
 	 * Constructor 1
 	 * 
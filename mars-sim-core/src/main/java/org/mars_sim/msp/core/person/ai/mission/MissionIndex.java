@@ -0,0 +1,195 @@
+/**
+ * Mars Simulation Project
+ * MissionIndex.java
+ */
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.mars_sim.msp.core.Unit;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.vehicle.Vehicle;
+
+/**
+ * The MissionIndex class keeps the on-going missions indexed by identifier, by
+ * member, by vehicle and by associated settlement for the mission manager. It listens to
+ * the missions it holds and follows their members and vehicles as they change.
+ * The units and missions are keyed by their identifiers, since their hash codes
+ * change with a person's age or a unit's name.
+ */
+class MissionIndex implements MissionListener {
+
+	/** The missions by identifier. */
+	private Map<Integer, Mission> identifierMissions = new ConcurrentHashMap<>();
+	/** The mission of each member, by member identifier. */
+	private Map<Integer, Mission> memberMissions = new ConcurrentHashMap<>();
+	/** The mission of each vehicle used as the mission vehicle, by vehicle identifier. */
+	private Map<Integer, Mission> vehicleMissions = new ConcurrentHashMap<>();
+	/** The vehicle identifier of each vehicle mission, by mission identifier. */
+	private Map<Integer, Integer> missionVehicles = new ConcurrentHashMap<>();
+	/** The missions associated with each settlement, by settlement identifier. */
+	private Map<Integer, List<Mission>> settlementMissions = new ConcurrentHashMap<>();
+	/** The settlement identifier associated with each mission, by mission identifier. */
+	private Map<Integer, Integer> missionSettlements = new ConcurrentHashMap<>();
+	/** The missions that may use vehicles besides their mission vehicle. */
+	private List<Mission> auxiliaryVehicleMissions = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Starts indexing a mission.
+	 * 
+	 * @param mission the mission
+	 */
+	void add(Mission mission) {
+		mission.addMissionListener(this);
+		identifierMissions.put(mission.getIdentifier(), mission);
+
+		for (MissionMember member : mission.getMembers()) {
+			memberMissions.put(getIdentifier(member), mission);
+		}
+		indexVehicle(mission);
+		indexSettlement(mission);
+
+		if (mission instanceof Mining || mission instanceof Trade || mission instanceof BuildingConstructionMission
+				|| mission instanceof BuildingSalvageMission) {
+			auxiliaryVehicleMissions.add(mission);
+		}
+	}
+
+	/**
+	 * Stops indexing a mission.
+	 * 
+	 * @param mission the mission
+	 */
+	void remove(Mission mission) {
+		mission.removeMissionListener(this);
+		identifierMissions.remove(mission.getIdentifier(), mission);
+
+		memberMissions.values().removeIf(m -> m == mission);
+		Integer vehicleID = missionVehicles.remove(mission.getIdentifier());
+		if (vehicleID != null)
+			vehicleMissions.remove(vehicleID, mission);
+		Integer settlementID = missionSettlements.remove(mission.getIdentifier());
+		if (settlementID != null)
+			settlementMissions.get(settlementID).remove(mission);
+		auxiliaryVehicleMissions.remove(mission);
+	}
+
+	@Override
+	public void missionUpdate(MissionEvent event) {
+		Mission mission = (Mission) event.getSource();
+		switch (event.getType()) {
+		case ADD_MEMBER_EVENT:
+			memberMissions.put(getIdentifier((MissionMember) event.getTarget()), mission);
+			break;
+		case REMOVE_MEMBER_EVENT:
+			memberMissions.remove(getIdentifier((MissionMember) event.getTarget()), mission);
+			break;
+		case VEHICLE_EVENT:
+			indexVehicle(mission);
+			break;
+		case ASSOCIATED_SETTLEMENT_EVENT:
+		case STARTING_SETTLEMENT_EVENT:
+		case DESTINATION_SETTLEMENT:
+			indexSettlement(mission);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void indexVehicle(Mission mission) {
+		if (!(mission instanceof VehicleMission))
+			return;
+
+		Integer oldVehicleID = missionVehicles.remove(mission.getIdentifier());
+		if (oldVehicleID != null)
+			vehicleMissions.remove(oldVehicleID, mission);
+
+		Vehicle vehicle = ((VehicleMission) mission).getVehicle();
+		if (vehicle != null) {
+			missionVehicles.put(mission.getIdentifier(), vehicle.getIdentifier());
+			vehicleMissions.put(vehicle.getIdentifier(), mission);
+		}
+	}
+
+	private void indexSettlement(Mission mission) {
+		Integer oldSettlementID = missionSettlements.remove(mission.getIdentifier());
+		if (oldSettlementID != null)
+			settlementMissions.get(oldSettlementID).remove(mission);
+
+		Settlement settlement = mission.getAssociatedSettlement();
+		if (settlement != null) {
+			missionSettlements.put(mission.getIdentifier(), settlement.getIdentifier());
+			settlementMissions.computeIfAbsent(settlement.getIdentifier(), s -> new CopyOnWriteArrayList<>())
+					.add(mission);
+		}
+	}
+
+	private static Integer getIdentifier(MissionMember member) {
+		return ((Unit) member).getIdentifier();
+	}
+
+	/**
+	 * Gets a mission by its identifier.
+	 * 
+	 * @param identifier the identifier
+	 * @return mission or null if none
+	 */
+	Mission getMission(int identifier) {
+		return identifierMissions.get(identifier);
+	}
+
+	/**
+	 * Gets the indexed mission of a member.
+	 * 
+	 * @param member the member
+	 * @return mission or null if none
+	 */
+	Mission getMission(MissionMember member) {
+		Integer id = getIdentifier(member);
+		Mission result = memberMissions.get(id);
+		// Not every way of leaving a mission is announced
+		if (result != null && !result.hasMember(member)) {
+			memberMissions.remove(id, result);
+			result = null;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the mission using a vehicle as its mission vehicle.
+	 * 
+	 * @param vehicle the vehicle
+	 * @return mission or null if none
+	 */
+	Mission getMission(Vehicle vehicle) {
+		return vehicleMissions.get(vehicle.getIdentifier());
+	}
+
+	/**
+	 * Gets the missions that may use vehicles besides their mission vehicle.
+	 * 
+	 * @return read-only list of missions
+	 */
+	List<Mission> getAuxiliaryVehicleMissions() {
+		return Collections.unmodifiableList(auxiliaryVehicleMissions);
+	}
+
+	/**
+	 * Gets the missions associated with a settlement.
+	 * 
+	 * @param settlement the settlement
+	 * @return read-only list of missions
+	 */
+	List<Mission> getMissions(Settlement settlement) {
+		List<Mission> result = settlementMissions.get(settlement.getIdentifier());
+		if (result == null)
+			return Collections.emptyList();
+		return Collections.unmodifiableList(result);
+	}
+
+}
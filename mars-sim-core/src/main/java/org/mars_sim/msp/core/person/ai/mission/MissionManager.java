@@ -27,6 +27,7 @@ import org.mars_sim.msp.core.person.ai.mission.meta.MetaMissionUtil;
 import org.mars_sim.msp.core.person.ai.role.RoleType;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.Rover;
 import org.mars_sim.msp.core.vehicle.Vehicle;
@@ -64,9 +65,11 @@ public class MissionManager implements Serializable {
 	private Map<Integer, List<MissionPlanning>> historicalMissions;
 	
 	// Transient members
-	private transient MarsClock personTimeCache;
+	private transient MarsInstant personTimeCache;
 	private transient Map<MetaMission, Double> missionProbCache;
 	private transient Map<MetaMission, Double> robotMissionProbCache;
+	/** The on-going missions indexed by member, vehicle and settlement. */
+	private transient MissionIndex index;
 	
 	private static List<String> missionNames;
 	private static Map<String, Integer> settlementID;
@@ -249,14 +252,47 @@ public class MissionManager implements Serializable {
 	 * @return mission for that member
 	 */
 	public Mission getMission(MissionMember member) {
-		Mission result = null;
-		for (Mission tempMission : onGoingMissions) {
-			if (tempMission.hasMember(member)) {
-				result = tempMission;
+		return getIndex().getMission(member);
+	}
+
+	/**
+	 * Gets an on-going mission by its identifier.
+	 * 
+	 * @param identifier the identifier of the mission
+	 * @return mission or null if none
+	 */
+	public Mission getMissionByID(int identifier) {
+		return getIndex().getMission(identifier);
+	}
+
+	/**
+	 * Gets the index of the on-going missions, building it if needed.
+	 * 
+	 * @return index
+	 */
+	private synchronized MissionIndex getIndex() {
+		if (index == null) {
+			index = new MissionIndex();
+			for (Mission m : onGoingMissions) {
+				index.add(m);
 			}
 		}
+		return index;
+	}
 
-		return result;
+	/**
+	 * Checks if a mission is shown in the current game mode.
+	 * 
+	 * @param mission the mission
+	 * @return true if the mission is shown
+	 */
+	private boolean isVisible(Mission mission) {
+		if (GameManager.mode == GameMode.COMMAND) {
+			if (unitManager == null)
+				unitManager = Simulation.instance().getUnitManager();
+			return mission.getAssociatedSettlement().equals(unitManager.getCommanderSettlement());
+		}
+		return true;
 	}
 
 //	/*
@@ -318,6 +354,7 @@ public class MissionManager implements Serializable {
 
 		if (!onGoingMissions.contains(newMission)) {
 			onGoingMissions.add(newMission);
+			getIndex().add(newMission);
 
 			// Update listeners.
 			if (listeners == null) {
@@ -346,6 +383,7 @@ public class MissionManager implements Serializable {
 
 		if (onGoingMissions.contains(oldMission)) {
 			onGoingMissions.remove(oldMission);
+			getIndex().remove(oldMission);
 
 			oldMission.fireMissionUpdate(MissionEventType.END_MISSION_EVENT);
 					
@@ -493,15 +531,9 @@ public class MissionManager implements Serializable {
 	 */
 	public int numParticularMissions(String mName, Settlement settlement) {
 		int num = 0;
-		List<Mission> m1 = onGoingMissions;
-		if (!m1.isEmpty()) {		
-			Iterator<Mission> i = m1.iterator();
-			while (i.hasNext()) {
-				Mission m = i.next();
-				if (!m.isDone() && mName.equalsIgnoreCase(m.getName())
-						&& settlement == m.getAssociatedSettlement()) {
-					num++;
-				}
+		for (Mission m : getIndex().getMissions(settlement)) {
+			if (!m.isDone() && mName.equalsIgnoreCase(m.getName())) {
+				num++;
 			}
 		}
 		return num;
@@ -521,15 +553,9 @@ public class MissionManager implements Serializable {
 		}
 
 		List<Mission> m0 = new ArrayList<Mission>();
-		List<Mission> m1 = getMissions();
-		if (!m1.isEmpty()) {		
-			Iterator<Mission> i = m1.iterator();
-			while (i.hasNext()) {
-				Mission m = i.next();
-				if (!m.isDone() 
-						&& settlement == m.getAssociatedSettlement()) {
-					m0.add(m);
-				}
+		for (Mission m : getIndex().getMissions(settlement)) {
+			if (!m.isDone() && isVisible(m)) {
+				m0.add(m);
 			}
 		}
 
@@ -550,18 +576,12 @@ public class MissionManager implements Serializable {
 		}
 		
 		List<Mission> m0 = new ArrayList<Mission>();
-		List<Mission> m1 = onGoingMissions;
-		if (!m1.isEmpty()) {		
-			Iterator<Mission> i = m1.iterator();
-			while (i.hasNext()) {
-				Mission m = i.next();
-				if (!m.isDone() 
-						&& settlement.getName().equalsIgnoreCase(m.getAssociatedSettlement().getName())
-//						&& !m.isApproved()
-						&& m.getPlan() != null
-						&& m.getPlan().getStatus() == PlanType.PENDING) {
-					m0.add(m);
-				}
+		for (Mission m : getIndex().getMissions(settlement)) {
+			if (!m.isDone() 
+//					&& !m.isApproved()
+					&& m.getPlan() != null
+					&& m.getPlan().getStatus() == PlanType.PENDING) {
+				m0.add(m);
 			}
 		}
 
@@ -580,47 +600,39 @@ public class MissionManager implements Serializable {
 			throw new IllegalArgumentException("vehicle is null");
 		}
 
-		Mission result = null;
+		Mission result = getIndex().getMission(vehicle);
+		if (result != null && !result.isDone() && isVisible(result)) {
+			return result;
+		}
+		result = null;
 
-		Iterator<Mission> i = getMissions().iterator();
-		while (i.hasNext()) {
-			Mission mission = i.next();
-			if (!mission.isDone()) {
-				if (mission instanceof VehicleMission) {
-					if (((VehicleMission) mission).getVehicle() == vehicle) {
+		// Check the vehicles a mission uses besides its mission vehicle
+		for (Mission mission : getIndex().getAuxiliaryVehicleMissions()) {
+			if (!mission.isDone() && isVisible(mission)) {
+				if (mission instanceof Mining) {
+					if (((Mining) mission).getLightUtilityVehicle() == vehicle) {
 						result = mission;
 					}
-
-					if (mission instanceof Mining) {
-						if (((Mining) mission).getLightUtilityVehicle() == vehicle) {
+				} else if (mission instanceof Trade) {
+					Rover towingRover = (Rover) ((Trade) mission).getVehicle();
+					if (towingRover != null) {
+						if (towingRover.getTowedVehicle() == vehicle) {
 							result = mission;
 						}
 					}
-
-					if (mission instanceof Trade) {
-						Rover towingRover = (Rover) ((Trade) mission).getVehicle();
-						if (towingRover != null) {
-							if (towingRover.getTowedVehicle() == vehicle) {
-								result = mission;
-							}
-						}
-					}
 				} else if (mission instanceof BuildingConstructionMission) {
 					BuildingConstructionMission construction = (BuildingConstructionMission) mission;
 					if (construction.getConstructionVehicles() != null) {
 						if (construction.getConstructionVehicles().contains(vehicle)) {
 							result = mission;
-							// logger.info(vehicle.getName() + " has been reserved for the building
-							// construction mission.");
 						}
 					}
-					// else {
-					// result = null;
-					// }
 				} else if (mission instanceof BuildingSalvageMission) {
 					BuildingSalvageMission salvage = (BuildingSalvageMission) mission;
-					if (salvage.getConstructionVehicles().contains(vehicle)) {
-						result = mission;
+					if (salvage.getConstructionVehicles() != null) {
+						if (salvage.getConstructionVehicles().contains(vehicle)) {
+							result = mission;
+						}
 					}
 				}
 			}
@@ -714,7 +726,7 @@ public class MissionManager implements Serializable {
 		}
 
 		// Set the time cache to the current time.
-		personTimeCache = (MarsClock) marsClock.clone();
+		personTimeCache = marsClock.getInstant();
 	}
 
 //	/**
@@ -757,7 +769,7 @@ public class MissionManager implements Serializable {
 	 * @return true if cache should be used.
 	 */
 	private boolean useCache(Person person) {
-		return marsClock.equals(personTimeCache);
+		return marsClock.getInstant().equals(personTimeCache);
 	}
 
 //	/**
@@ -945,6 +957,7 @@ public class MissionManager implements Serializable {
 			onGoingMissions.clear();
 			onGoingMissions = null;
 		}
+		index = null;
 		if (listeners != null) {
 			listeners.clear();
 			listeners = null;
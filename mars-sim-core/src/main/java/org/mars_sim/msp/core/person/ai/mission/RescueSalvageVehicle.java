@@ -22,6 +22,7 @@ import org.mars_sim.msp.core.LogConsolidated;
 import org.mars_sim.msp.core.Msg;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.events.HistoricalEvent;
+import org.mars_sim.msp.core.mars.RoutePlanner;
 import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PhysicalCondition;
@@ -562,7 +563,7 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 		Map<Integer, Number> result = new HashMap<Integer, Number>(3);
 
 		// Determine estimate time for trip.
-		double distance = vehicleTarget.getCoordinates().getDistance(getStartingSettlement().getCoordinates());
+		double distance = surfaceFeatures.getRoutePlanner().getDistance(getStartingSettlement().getCoordinates(), vehicleTarget.getCoordinates());
 		double time = getEstimatedTripTime(true, distance);
 		double timeSols = time / 1000D;
 
@@ -624,7 +625,7 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 		if (vehiclesNeedingRescue.size() > 0) {
 			Vehicle vehicle = findClosestVehicle(settlement.getCoordinates(), vehiclesNeedingRescue);
 			if (vehicle != null) {
-				double vehicleRange = Coordinates.computeDistance(settlement.getCoordinates(), vehicle.getCoordinates());
+				double vehicleRange = surfaceFeatures.getRoutePlanner().getDistance(settlement.getCoordinates(), vehicle.getCoordinates());
 				if (vehicleRange <= halfRange) {
 					result = vehicle;
 				}
@@ -848,13 +849,14 @@ public class RescueSalvageVehicle extends RoverMission implements Serializable {
 	public static boolean isClosestCapableSettlement(Settlement thisSettlement, Vehicle thisVehicle) {
 		boolean result = true;
 
-		double distance = thisSettlement.getCoordinates().getDistance(thisVehicle.getCoordinates());
+		RoutePlanner planner = surfaceFeatures.getRoutePlanner();
+		double distance = planner.getDistance(thisSettlement.getCoordinates(), thisVehicle.getCoordinates());
 
 		Iterator<Settlement> iS = unitManager.getSettlements().iterator();
 		while (iS.hasNext() && result) {
 			Settlement settlement = iS.next();
 			if (settlement != thisSettlement) {
-				double settlementDistance = settlement.getCoordinates().getDistance(thisVehicle.getCoordinates());
+				double settlementDistance = planner.getDistance(settlement.getCoordinates(), thisVehicle.getCoordinates());
 				if (settlementDistance < distance) {
 					if (settlement.getIndoorPeopleCount() >= MIN_GOING_MEMBERS) {
 						Iterator<Vehicle> iV = settlement.getParkedVehicles().iterator();
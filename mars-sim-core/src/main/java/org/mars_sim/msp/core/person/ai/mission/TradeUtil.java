@@ -107,7 +107,7 @@ public final class TradeUtil {
 
 				boolean hasCurrentTradeMission = hasCurrentTradeMission(startingSettlement, tradingSettlement);
 
-				double settlementRange = Coordinates.computeDistance(tradingSettlement.getCoordinates(), startingSettlement.getCoordinates());
+				double settlementRange = getRouteDistance(startingSettlement, tradingSettlement);
 				boolean withinRange = (settlementRange <= (rover.getRange(Trade.missionType) * .8D));
 
 				if (!hasCurrentTradeMission && withinRange) {
@@ -130,6 +130,18 @@ public final class TradeUtil {
 		return bestProfit;
 	}
 
+	/**
+	 * Gets the driving distance of the trade route between two settlements.
+	 * 
+	 * @param startingSettlement the settlement to trade from.
+	 * @param tradingSettlement  the settlement to trade to.
+	 * @return distance (km)
+	 */
+	private static double getRouteDistance(Settlement startingSettlement, Settlement tradingSettlement) {
+		return sim.getMars().getSurfaceFeatures().getRoutePlanner()
+				.getDistance(startingSettlement.getCoordinates(), tradingSettlement.getCoordinates());
+	}
+
 	/**
 	 * Checks if there is currently a trade mission between two settlements.
 	 * 
@@ -177,7 +189,7 @@ public final class TradeUtil {
 		double revenue = getEstimatedTradeRevenue(startingSettlement, rover, tradingSettlement);
 
 		// Determine estimated mission cost.
-		double distance = startingSettlement.getCoordinates().getDistance(tradingSettlement.getCoordinates()) * 2D;
+		double distance = getRouteDistance(startingSettlement, tradingSettlement) * 2D;
 		double cost = getEstimatedMissionCost(startingSettlement, rover, distance);
 
 		return revenue - cost;
@@ -8,6 +8,7 @@
 package org.mars_sim.msp.core.person.ai.mission;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -16,6 +17,7 @@ import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.LogConsolidated;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 
 /**
  * A mission that involves traveling along a series of navpoints. TODO
@@ -54,9 +56,21 @@ public abstract class TravelMission extends Mission {
 	/** The last navpoint the mission stopped at. */
 	private NavPoint lastStopNavpoint;
 	/** The time the last leg of the mission started at. */
-	private MarsClock legStartingTime;
+	private MarsInstant legStartingTime;
 
 	
+	/**
+	 * Constructor called by MockVehicleMission for maven testing.
+	 * 
+	 * @param missionName
+	 * @param missionType
+	 * @param members the initial members
+	 */
+	protected TravelMission(String missionName, MissionType missionType, Collection<MissionMember> members) {
+		// Use Mission constructor.
+		super(missionName, missionType, members);
+	}
+
 	/**
 	 * Constructor 1
 	 * 
@@ -288,7 +302,7 @@ public abstract class TravelMission extends Mission {
 		setTravelStatus(TRAVEL_TO_NAVPOINT);
 		if (marsClock == null)
 			marsClock = Simulation.instance().getMasterClock().getMarsClock();
-		legStartingTime = (MarsClock) marsClock.clone();
+		legStartingTime = marsClock.getInstant();
 	}
 
 	/**
@@ -316,7 +330,7 @@ public abstract class TravelMission extends Mission {
 	 */
 	protected final MarsClock getCurrentLegStartingTime() {
 		if (legStartingTime != null) {
-			return (MarsClock) legStartingTime.clone();
+			return legStartingTime.getMarsClock();
 		} else {
 			throw new IllegalArgumentException("legStartingTime is null");
 		}
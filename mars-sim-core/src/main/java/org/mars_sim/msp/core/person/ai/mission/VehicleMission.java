@@ -105,6 +105,21 @@ public abstract class VehicleMission extends TravelMission implements UnitListen
 	
 	protected static TerrainElevation terrainElevation;
 	
+	/**
+	 * Constructor called by MockVehicleMission for maven testing.
+	 * 
+	 * @param missionName
+	 * @param missionType
+	 * @param members the initial members
+	 * @param vehicle the mission vehicle
+	 */
+	protected VehicleMission(String missionName, MissionType missionType, Collection<MissionMember> members,
+			Vehicle vehicle) {
+		// Use TravelMission constructor.
+		super(missionName, missionType, members);
+		this.vehicle = vehicle;
+	}
+
 	/**
 	 * Constructor 1
 	 * 
@@ -590,11 +590,13 @@ public class EnterAirlock extends Task implements Serializable {
 		if ((airlock != null) && person.equals(airlock.getOperator())) {
 			LogConsolidated.log(Level.SEVERE, 0, sourceName, 
 					"[" + person.getLocationTag().getLocale() + "] " + person.getName() 
-					+ " ended the EnterAirlock task prematurely, clearing as airlock operator for "
+					+ " ended the EnterAirlock task prematurely as the airlock operator for "
 					+ airlock.getEntityName());
-			airlock.clearOperator();
 		}
 
+		// Leave the queues and hand the airlock over to another operator.
+		if (airlock != null)
+			airlock.endAirlockTask(person);
 	}
 
 	@Override
@@ -879,9 +879,11 @@ public class ExitAirlock extends Task implements Serializable {
 						+ person + " ended the task of being the airlock operator for "
 								+ airlock.getEntityName());
 			}
-			
-			airlock.clearOperator();
 		}
+
+		// Leave the queues and hand the airlock over to another operator.
+		if (airlock != null)
+			airlock.endAirlockTask(person);
 	}
 
 	@Override
@@ -24,9 +24,7 @@ import org.mars_sim.msp.core.person.ai.SkillManager;
 import org.mars_sim.msp.core.person.ai.SkillType;
 import org.mars_sim.msp.core.person.ai.task.utils.Task;
 import org.mars_sim.msp.core.person.ai.task.utils.TaskPhase;
-import org.mars_sim.msp.core.resource.ItemResourceUtil;
 import org.mars_sim.msp.core.resource.ItemType;
-import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.robot.Robot;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
@@ -419,12 +417,12 @@ public class ManufactureConstructionMaterials extends Task implements Serializab
 		while (!result && i.hasNext()) {
 			ManufactureProcessItem item = i.next();
 			if (ItemType.AMOUNT_RESOURCE.equals(item.getType())) {
-				int resource = ResourceUtil.findIDbyAmountResourceName(item.getName());
+				int resource = item.getID();
 				if (constructionResources.contains(resource)) {
 					result = true;
 				}
 			} else if (ItemType.PART.equals(item.getType())) {
-				int part = ItemResourceUtil.findIDbyItemResourceName(item.getName());
+				int part = item.getID();
 				if (constructionParts.contains(part)) {
 					result = true;
 				}
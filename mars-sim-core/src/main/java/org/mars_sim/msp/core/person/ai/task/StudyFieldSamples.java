@@ -674,11 +674,11 @@ public class StudyFieldSamples extends Task implements ResearchScientificStudy,
 		Settlement settlement = person.getAssociatedSettlement();
 		if (settlement != null) {
 			List<ExploredLocation> settlementExploredLocations = new ArrayList<ExploredLocation>();
-			List<ExploredLocation> allExploredLocations = surfaceFeatures.getExploredLocations();
+			List<ExploredLocation> allExploredLocations = surfaceFeatures.getExploredLocationIndex().getLocations(settlement);
 			Iterator<ExploredLocation> i = allExploredLocations.iterator();
 			while (i.hasNext()) {
 				ExploredLocation location = i.next();
-				if (settlement.equals(location.getSettlement()) && !location.isMined() && !location.isReserved()) {
+				if (!location.isMined() && !location.isReserved()) {
 					settlementExploredLocations.add(location);
 				}
 			}
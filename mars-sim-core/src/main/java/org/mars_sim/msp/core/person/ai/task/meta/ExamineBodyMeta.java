@@ -14,8 +14,8 @@ import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PhysicalCondition;
 import org.mars_sim.msp.core.person.ai.SkillType;
-import org.mars_sim.msp.core.person.ai.job.Doctor;
 import org.mars_sim.msp.core.person.ai.job.Job;
+import org.mars_sim.msp.core.person.ai.job.JobType;
 import org.mars_sim.msp.core.person.ai.job.JobUtil;
 import org.mars_sim.msp.core.person.ai.task.ExamineBody;
 import org.mars_sim.msp.core.person.ai.task.utils.MetaTask;
@@ -81,7 +81,7 @@ public class ExamineBodyMeta implements MetaTask, Serializable {
 			// Effort-driven task modifier.
 			result *= person.getPerformanceRating();
 //			System.out.print("   result : " + result);
-			int numDoctor = JobUtil.numJobs(Doctor.class.getSimpleName(), person.getSettlement());
+			int numDoctor = JobUtil.numJobs(JobType.DOCTOR, person.getSettlement());
 //			System.out.print("   # Doctors : " + num);
 			// Job modifier.
 			if (numDoctor > 0) {
@@ -0,0 +1,225 @@
+/**
+ * Mars Simulation Project
+ * ActivityLog.java
+ */
+package org.mars_sim.msp.core.person.ai.task.utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ActivityLog class records the activities of all the people and robots of
+ * a settlement. The task names, descriptions, phases and mission names are
+ * interned once in a dictionary shared by all the actors. Each sol keeps its
+ * records in fixed-size blocks of ints, so recording an activity neither
+ * creates an object nor copies an array. The records of an actor are chained
+ * backward, so the activities of one actor are found without scanning the
+ * records of the others. Only the latest {@link #NUM_SOLS} sols are kept.
+ */
+public class ActivityLog implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of sols kept in the log (to limit the memory usage & saved file
+	 * size)
+	 */
+	public static final int NUM_SOLS = 100;
+
+	/** The number of records in a block. */
+	private static final int BLOCK_SIZE = 1024;
+
+	// The fields of a record
+	private static final int START_TIME = 0;
+	private static final int ACTOR = 1;
+	private static final int TASK = 2;
+	private static final int DESCRIPTION = 3;
+	private static final int PHASE = 4;
+	private static final int MISSION = 5;
+	private static final int PREVIOUS = 6;
+	private static final int FIELDS = 7;
+
+	/** The interned strings, by id. */
+	private List<String> strings = new ArrayList<>();
+	/** The ids of the interned strings, rebuilt when first needed. */
+	private transient Map<String, Integer> stringIDs;
+
+	/** The number of actors registered. */
+	private int numActors;
+	/** The latest sol recorded. */
+	private int latestSol;
+	/** The records of each sol. */
+	private Map<Integer, SolLog> sols = new HashMap<>();
+
+	/**
+	 * Registers an actor.
+	 *
+	 * @return the id of the actor in the log
+	 */
+	public synchronized int addActor() {
+		return numActors++;
+	}
+
+	/**
+	 * Gets the id of a string, interning it if it is new.
+	 *
+	 * @param value the string
+	 * @return id
+	 */
+	public synchronized int getStringID(String value) {
+		if (value == null)
+			value = "";
+		if (stringIDs == null) {
+			stringIDs = new HashMap<>();
+			for (int i = 0; i < strings.size(); i++)
+				stringIDs.put(strings.get(i), i);
+		}
+		Integer id = stringIDs.get(value);
+		if (id == null) {
+			id = strings.size();
+			strings.add(value);
+			stringIDs.put(value, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Gets an interned string.
+	 *
+	 * @param id the id of the string
+	 * @return string, or null if the id is unknown
+	 */
+	public synchronized String getString(int id) {
+		if (id < 0 || id >= strings.size())
+			return null;
+		return strings.get(id);
+	}
+
+	/**
+	 * Records an activity.
+	 *
+	 * @param sol         the mission sol
+	 * @param startTime   the start time of the activity (in millisols)
+	 * @param actor       the id of the actor
+	 * @param task        the id of the task name
+	 * @param description the id of the description
+	 * @param phase       the id of the task phase
+	 * @param mission     the id of the mission name
+	 */
+	public synchronized void record(int sol, int startTime, int actor, int task, int description, int phase,
+			int mission) {
+		if (sol > latestSol) {
+			latestSol = sol;
+			sols.keySet().removeIf(s -> s <= sol - NUM_SOLS);
+		}
+		SolLog log = sols.get(sol);
+		if (log == null) {
+			log = new SolLog();
+			sols.put(sol, log);
+		}
+		log.add(startTime, actor, task, description, phase, mission);
+	}
+
+	/**
+	 * Gets the records of an actor on a sol, in the order they were made. Each
+	 * record holds the start time and the ids of the task name, description,
+	 * phase and mission name.
+	 *
+	 * @param sol   the mission sol
+	 * @param actor the id of the actor
+	 * @return records, empty if none
+	 */
+	public synchronized List<int[]> getRecords(int sol, int actor) {
+		List<int[]> result = new ArrayList<>();
+		SolLog log = sols.get(sol);
+		if (log != null) {
+			for (int i = log.getLast(actor); i >= 0; i = log.get(i, PREVIOUS)) {
+				result.add(new int[] { log.get(i, START_TIME), log.get(i, TASK), log.get(i, DESCRIPTION),
+						log.get(i, PHASE), log.get(i, MISSION) });
+			}
+		}
+		Collections.reverse(result);
+		return result;
+	}
+
+	/**
+	 * Gets the last record of an actor on a sol.
+	 *
+	 * @param sol   the mission sol
+	 * @param actor the id of the actor
+	 * @return record as in {@link #getRecords(int, int)}, or null if none
+	 */
+	public synchronized int[] getLastRecord(int sol, int actor) {
+		SolLog log = sols.get(sol);
+		if (log == null)
+			return null;
+		int i = log.getLast(actor);
+		if (i < 0)
+			return null;
+		return new int[] { log.get(i, START_TIME), log.get(i, TASK), log.get(i, DESCRIPTION), log.get(i, PHASE),
+				log.get(i, MISSION) };
+	}
+
+	/**
+	 * Gets the sols kept in the log.
+	 *
+	 * @return sols in ascending order
+	 */
+	public synchronized int[] getSols() {
+		int[] result = new int[sols.size()];
+		int i = 0;
+		for (int sol : sols.keySet())
+			result[i++] = sol;
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * The records of one sol.
+	 */
+	private static class SolLog implements Serializable {
+
+		/** default serial id. */
+		private static final long serialVersionUID = 1L;
+
+		private List<int[]> blocks = new ArrayList<>();
+		private int size;
+		/** The index of the last record of each actor, or -1. */
+		private int[] lastByActor = new int[0];
+
+		void add(int startTime, int actor, int task, int description, int phase, int mission) {
+			if (size == blocks.size() * BLOCK_SIZE)
+				blocks.add(new int[BLOCK_SIZE * FIELDS]);
+			int[] block = blocks.get(size / BLOCK_SIZE);
+			int offset = (size % BLOCK_SIZE) * FIELDS;
+			block[offset + START_TIME] = startTime;
+			block[offset + ACTOR] = actor;
+			block[offset + TASK] = task;
+			block[offset + DESCRIPTION] = description;
+			block[offset + PHASE] = phase;
+			block[offset + MISSION] = mission;
+			block[offset + PREVIOUS] = getLast(actor);
+			if (actor >= lastByActor.length) {
+				int length = lastByActor.length;
+				lastByActor = Arrays.copyOf(lastByActor, Math.max(actor + 1, 2 * length));
+				Arrays.fill(lastByActor, length, lastByActor.length, -1);
+			}
+			lastByActor[actor] = size;
+			size++;
+		}
+
+		int get(int index, int field) {
+			return blocks.get(index / BLOCK_SIZE)[(index % BLOCK_SIZE) * FIELDS + field];
+		}
+
+		int getLast(int actor) {
+			return actor < lastByActor.length ? lastByActor[actor] : -1;
+		}
+	}
+}
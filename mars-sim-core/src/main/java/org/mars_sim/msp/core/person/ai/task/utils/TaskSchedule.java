@@ -7,14 +7,13 @@
 package org.mars_sim.msp.core.person.ai.task.utils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
-import org.apache.commons.collections.bidimap.TreeBidiMap;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.ShiftType;
@@ -23,9 +22,6 @@ import org.mars_sim.msp.core.structure.Settlement;
 //import org.mars_sim.msp.core.structure.building.function.FunctionType;
 import org.mars_sim.msp.core.time.MarsClock;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-
 /**
  * This class represents the task schedule of a person.
  */
@@ -40,7 +36,7 @@ public class TaskSchedule implements Serializable {
 	 * Set the number of Sols to be logged (to limit the memory usage & saved file
 	 * size)
 	 */
-	public static final int NUM_SOLS = 100;
+	public static final int NUM_SOLS = ActivityLog.NUM_SOLS;
 	public static final int ON_CALL_START = 0;
 	public static final int ON_CALL_END = 999;
 	public static final int A_START = 0;
@@ -59,10 +55,12 @@ public class TaskSchedule implements Serializable {
 	// Data members
 	private int solCache;
 	private int startTime;
-	private int id0Cache;
-	private int id1Cache;
-	private int id2Cache;
-	private int id3Cache;
+	private int id0Cache = -1;
+	private int id1Cache = -1;
+	private int id2Cache = -1;
+	private int id3Cache = -1;
+	/** The id of the actor in the activity log. */
+	private int actorID;
 	
 	private String actorName;
 	private String taskName;
@@ -78,21 +76,8 @@ public class TaskSchedule implements Serializable {
 	/* The degree of willingness (0 to 100) to take the work shift. */
 	private Map<ShiftType, Integer> shiftChoice;
 
-	// private Map <Integer, List<OneTask>> schedules;
-	// private List<OneTask> todaySchedule;
-	private transient Map<Integer, List<OneActivity>> allActivities;
-//	private Map<String, Integer> taskDescriptions;
-//	private Map<String, Integer> taskNames;
-//	private Map<String, Integer> missionNames;
-//	private Map<String, Integer> taskPhases;
-//	private Map<String, Integer> functions;
-
-	private BiMap<Integer, String> taskDescriptions = HashBiMap.create();
-	private BiMap<Integer, String> taskNames = HashBiMap.create();
-	private BiMap<Integer, String> missionNames = HashBiMap.create();
-	private BiMap<Integer, String> taskPhases = HashBiMap.create();
-	
-	private List<OneActivity> todayActivities;
+	/** The activity log shared with the settlement. */
+	private ActivityLog activityLog;
 
 	private static MarsClock marsClock = Simulation.instance().getMasterClock().getMarsClock();
 
@@ -105,8 +90,6 @@ public class TaskSchedule implements Serializable {
 		this.person = person;
 		actorName = person.getName();
 		this.solCache = 1;
-		allActivities = new ConcurrentHashMap<>();
-		todayActivities = new CopyOnWriteArrayList<OneActivity>();
 		// this.schedules = new ConcurrentHashMap <>();
 		// this.todaySchedule = new CopyOnWriteArrayList<OneTask>();
 		
@@ -138,8 +121,6 @@ public class TaskSchedule implements Serializable {
 		this.robot = robot;
 		actorName = robot.getName();
 		this.solCache = 1;
-		allActivities = new ConcurrentHashMap<>();
-		todayActivities = new CopyOnWriteArrayList<OneActivity>();
 		// this.schedules = new ConcurrentHashMap <>();
 		// this.todaySchedule = new CopyOnWriteArrayList<OneTask>();
 //		taskDescriptions = new ConcurrentHashMap<String, Integer>();
@@ -162,47 +143,30 @@ public class TaskSchedule implements Serializable {
 		startTime = marsClock.getMillisolInt();
 		int solElapsed = marsClock.getMissionSol();
 		
+		ActivityLog log = getActivityLog();
+
 		// For a new day
 		if (solCache != solElapsed) {
-
-			if (allActivities == null)
-				allActivities = new ConcurrentHashMap<>();
-			
-			// Removed the sol log from LAST_SOL ago
-			if (solElapsed > NUM_SOLS) {
-				int diff = solElapsed - NUM_SOLS;
-				allActivities.remove(diff);
-				if (allActivities.containsKey(diff - 1))
-					allActivities.remove(diff - 1);
-			}
-
-			// Save yesterday's schedule (except on the very first day when there's nothing
-			// to save from the prior day
-			allActivities.put(solCache, todayActivities);
 			// Update solCache
 			solCache = solElapsed;
-			// Create a new schedule for this brand new day
-			todayActivities = new CopyOnWriteArrayList<OneActivity>();
-			
+
 			if (solElapsed > 1)
 				// Add recordYestersolTask()
 				recordYestersolLastTask();
-
 		}
 
-		// Add maps
-		int id0 = getID(taskNames, task);
-		int id1 = getID(taskDescriptions, description);
-		int id2 = getID(taskPhases, phase);
-		int id3 = getID(missionNames, mission);
-		// int id3 = getID(functions, functionType.toString());
+		// Look up the ids in the dictionary of the settlement
+		int id0 = log.getStringID(task);
+		int id1 = log.getStringID(description);
+		int id2 = log.getStringID(phase);
+		int id3 = log.getStringID(mission);
 
 		if (id0Cache != id0
 				|| id1Cache != id1
 				|| id2Cache != id2
 				|| id3Cache != id3) {
 			
-			todayActivities.add(new OneActivity(startTime, id0, id1, id2, id3));
+			log.record(solElapsed, startTime, actorID, id0, id1, id2, id3);
 			id0Cache = id0;
 			id1Cache = id1;
 			id2Cache = id2;
@@ -211,47 +175,42 @@ public class TaskSchedule implements Serializable {
 	}
 
 	/**
-	 * Gets the ID of a BiMap
+	 * Gets the activity log this schedule records into. A person or robot shares
+	 * the log of its associated settlement.
 	 * 
-	 * @param map
-	 * @param value
-	 * @return
+	 * @return {@link ActivityLog}
 	 */
-	public int getID(BiMap<Integer, String> map, String value) {
-		if (map.containsValue(value)) {
-			return map.inverse().get(value);
-		} else {
-			int size = map.size();
-			map.put(size + 1, value);
-			return size + 1;
+	private ActivityLog getActivityLog() {
+		if (activityLog == null) {
+			Settlement s = null;
+			if (person != null)
+				s = person.getAssociatedSettlement();
+			else if (robot != null)
+				s = robot.getAssociatedSettlement();
+
+			if (s != null)
+				activityLog = s.getActivityLog();
+			else
+				activityLog = new ActivityLog();
+			actorID = activityLog.addActor();
 		}
-	}
-
-	/**
-	 * Gets the string of a map
-	 * 
-	 * @param map
-	 * @param id
-	 * @return
-	 */
-	public String getString(Map<Integer, String> map, Integer id) {
-		return map.get(id);
+		return activityLog;
 	}
 
 	public String convertTaskName(Integer id) {
-		return getString(taskNames, id);
+		return getActivityLog().getString(id);
 	}
 
 	public String convertMissionName(Integer id) {
-		return getString(missionNames, id);
+		return getActivityLog().getString(id);
 	}
 
 	public String convertTaskDescription(Integer id) {
-		return getString(taskDescriptions, id);
+		return getActivityLog().getString(id);
 	}
 
 	public String convertTaskPhase(Integer id) {
-		return getString(taskPhases, id);
+		return getActivityLog().getString(id);
 	}
 
 	public Map<ShiftType, Integer> getShiftChoice() {
@@ -360,47 +319,59 @@ public class TaskSchedule implements Serializable {
 	 */
 	public void recordYestersolLastTask() {
 		if (solCache > 1) {
-			if (allActivities == null)
-				allActivities = new ConcurrentHashMap<>();
+			ActivityLog log = getActivityLog();
 			// Load the last task from yestersol's schedule
-			List<OneActivity> yesterSolschedule = allActivities.get(solCache - 1);
-
-			if (yesterSolschedule != null) {
-				int size = yesterSolschedule.size();
-				if (size != 0) {
-					OneActivity lastTask = yesterSolschedule.get(yesterSolschedule.size() - 1);
-					// Carry over and save the last yestersol task as the first task on today's
-					// schedule
-					// Set the last task from yesterday to 000 millisol
-					todayActivities.add(new OneActivity(0, lastTask.getTaskName(), lastTask.getDescription(),
-							lastTask.getPhase(), lastTask.getMission()));// , lastTask.getFunction()));
-				}
+			int[] lastTask = log.getLastRecord(solCache - 1, actorID);
+
+			if (lastTask != null) {
+				// Carry over and save the last yestersol task as the first task on today's
+				// schedule
+				// Set the last task from yesterday to 000 millisol
+				log.record(solCache, 0, actorID, lastTask[1], lastTask[2], lastTask[3], lastTask[4]);
 			}
 		}
 	}
 
+	/**
+	 * Gets the activities of a sol from the activity log.
+	 * 
+	 * @param sol
+	 * @return a list of activities, empty if none
+	 */
+	public List<OneActivity> getActivities(int sol) {
+		List<OneActivity> result = new ArrayList<>();
+		for (int[] r : getActivityLog().getRecords(sol, actorID)) {
+			result.add(new OneActivity(r[0], r[1], r[2], r[3], r[4]));
+		}
+		return result;
+	}
+
 	/**
 	 * Gets all activities of all days a person.
 	 * 
 	 * @return all activity schedules
 	 */
 	public Map<Integer, List<OneActivity>> getAllActivities() {
-		if (allActivities == null)
-			allActivities = new ConcurrentHashMap<>();
-		return allActivities;
+		Map<Integer, List<OneActivity>> result = new TreeMap<>();
+		for (int sol : getActivityLog().getSols()) {
+			if (sol < solCache) {
+				List<OneActivity> list = getActivities(sol);
+				if (!list.isEmpty())
+					result.put(sol, list);
+			}
+		}
+		return result;
 	}
 	
 	public double getTaskTime(int sol, String name) {
 		double time = 0;
-		if (allActivities == null)
-			allActivities = new ConcurrentHashMap<>();
-		if (allActivities.containsKey(sol)) {
-			List<OneActivity> list = allActivities.get(sol);
+		List<OneActivity> list = getActivities(sol);
+		if (!list.isEmpty()) {
 			int size = list.size();
 			for (int i=0; i < size; i++) {
 				OneActivity o0 = list.get(i);
-				String tName = convertMissionName(o0.getTaskName());
-				if (tName.equals(name)) {
+				String tName = convertTaskName(o0.getTaskName());
+				if (name.equals(tName)) {
 //					System.out.println("tName : " + tName);
 					int endTime = 1000;
 					if (i+1 < size) {
@@ -445,10 +416,8 @@ public class TaskSchedule implements Serializable {
 	 */
 	public double getEVATasksTime(int sol) {
 		double time = 0;
-		if (allActivities == null)
-			allActivities = new ConcurrentHashMap<>();
-		if (allActivities.containsKey(sol)) {
-			List<OneActivity> list = allActivities.get(sol);
+		List<OneActivity> list = getActivities(sol);
+		if (!list.isEmpty()) {
 			int size = list.size();
 			for (int i=0; i < size; i++) {
 				OneActivity o0 = list.get(i);
@@ -487,10 +456,8 @@ public class TaskSchedule implements Serializable {
 	 */
 	public double getAirlockTasksTime(int sol) {
 		double time = 0;
-		if (allActivities == null)
-			allActivities = new ConcurrentHashMap<>();
-		if (allActivities.containsKey(sol)) {
-			List<OneActivity> list = allActivities.get(sol);
+		List<OneActivity> list = getActivities(sol);
+		if (!list.isEmpty()) {
 			int size = list.size();
 			for (int i=0; i < size; i++) {
 				OneActivity o0 = list.get(i);
@@ -519,7 +486,7 @@ public class TaskSchedule implements Serializable {
 	 * @return a list of today's activities
 	 */
 	public List<OneActivity> getTodayActivities() {
-		return todayActivities;
+		return getActivities(solCache);
 	}
 
 	/**
@@ -912,8 +879,7 @@ public class TaskSchedule implements Serializable {
 		robot = null;
 		// todaySchedule = null;
 		// schedules = null;
-		allActivities = null;
-		todayActivities = null;
+		activityLog = null;
 		currentShiftType = null;
 		shiftTypeCache = null;
 	}
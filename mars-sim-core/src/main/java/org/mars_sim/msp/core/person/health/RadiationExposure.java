@@ -25,6 +25,7 @@ import org.mars_sim.msp.core.person.BodyRegionType;
 import org.mars_sim.msp.core.person.EventType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.person.PhysicalCondition;
+import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
 import org.mars_sim.msp.core.time.MasterClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
@@ -113,6 +114,10 @@ public class RadiationExposure implements Serializable {
 
 	/** The time interval that a person checks for radiation exposure. */
 	public static final int RADIATION_CHECK_FREQ = 50; // in millisols
+	/** The time interval that a person checks the dose against the limits. */
+	public static final int LIMIT_CHECK_FREQ = 17; // in millisols
+	/** The proportion of the dose that passes an EVA suit. It gives little protection against GCR and SEP. */
+	public static final double EVA_SUIT_SHIELDING = 1D;
 	/** The chance modifier for SEP. Can be twice as much probability of occurrence (an arbitrary value for now). */
 	public static final double SEP_CHANCE_SWING = 2D;
 	/** The chance modifier for GCR. Can be 3x as much probability of occurrence (an arbitrary value for now). */
@@ -205,9 +210,12 @@ public class RadiationExposure implements Serializable {
 
 	private int solCache = 1, counter30 = 1, counter360 = 1;
 
-	private int msolsCache;
-
-	private boolean repeated;
+	/** The time since the dose was last checked against the limits [in millisols]. */
+	private double timeSinceLimitCheck;
+	/** The time outside since the last radiation check [in millisols]. */
+	private double timeOutside;
+	/** The dose received since the last radiation check [in mSv]. */
+	private double pendingDose;
 
 	private boolean isSick;
 
@@ -350,18 +358,25 @@ public class RadiationExposure implements Serializable {
 			// isExposureChecked = false;
 		}
 
-		// if (!isExposureChecked && marsClock.getMillisol() > 100 &&
-		// marsClock.getMillisol() < 110) {
-		// check on the effect of the exposure once a day at between 100 & 110 millisols
-		// Note: at fastest simulation speed, it can skip as much as ~5 millisols
-
-		int msol = marsClock.getMillisolInt();// (int)(marsClock.getMillisol() * masterClock.getTimeRatio());
-		if (msol % 17 == 0) {
+		// Check on the effect of the exposure on a fixed interval. Note: the time is
+		// accumulated, so no check is skipped at a high time ratio
+		timeSinceLimitCheck += time;
+		if (timeSinceLimitCheck >= LIMIT_CHECK_FREQ) {
+			timeSinceLimitCheck = timeSinceLimitCheck % LIMIT_CHECK_FREQ;
 			checkExposureLimit();
-			// reset the boolean
-			// isExposureChecked = true;
 		}
 
+		// Once back indoors, record the rest of the EVA's dose so that it is not
+		// carried into the next EVA
+		if (timeOutside > 0 && !person.isOutside()) {
+			Settlement settlement = person.getAssociatedSettlement();
+			if (settlement != null) {
+				recordPendingDose(settlement);
+			} else {
+				timeOutside = 0;
+				pendingDose = 0;
+			}
+		}
 	}
 
 	public boolean isSick() {
@@ -467,139 +482,82 @@ public class RadiationExposure implements Serializable {
 	}
 
 	/**
-	 * Check for radiation exposure of the person performing this EVA.
+	 * Check for radiation exposure of the person performing this EVA. The dose is
+	 * integrated over the time spent outside from the dose rate of the
+	 * settlement's radiation environment, and recorded every
+	 * RADIATION_CHECK_FREQ millisols.
 	 * 
 	 * @param time the amount of time on EVA (in millisols)
 	 * @return true if radiation is detected
 	 */
 	public boolean isRadiationDetected(double time) {
 
-		int msols = marsClock.getMillisolInt();
-
-		if (msolsCache == msols)
-			repeated = true;
-
-		msolsCache = msols;
-
-		// Check every RADIATION_CHECK_FREQ (in millisols)
-		if (!repeated && msols % RadiationExposure.RADIATION_CHECK_FREQ == 0) {
-			// Use repeated to avoid calculating the exposure over and over when the time
-			// ratio is low
-			// and millisols iterates very slowly and gives the same value.
-			repeated = true;
+		// TODO: account for the effect of atmosphere pressure on radiation dosage as
+		// shown by RAD data
+		Settlement settlement = person.getAssociatedSettlement();
+		if (!person.isOutside() || settlement == null)
+			return false;
 
-			double totalExposure = 0;
-			double exposure = 0;
-			double shield_factor = 0;
+		pendingDose += settlement.getRadiationModel().getDose(time, EVA_SUIT_SHIELDING);
+		timeOutside += time;
+		if (timeOutside < RADIATION_CHECK_FREQ)
+			return false;
 
-			double baseline = 0;
-			double sep = 0;
-			double gcr = 0;
-
-			// TODO: account for the effect of atmosphere pressure on radiation dosage as
-			// shown by RAD data
-
-			// TODO: compute radiation if a person steps outside of a rover on a mission
-			// somewhere on Mars
-			boolean[] exposed = null;
-
-			if (person.isOutside())
-				// if a person is outside
-				// TODO: how to make radiation more consistent/less random by coordinates/locale
-				// ?
-				exposed = person.getAssociatedSettlement().getExposed();
+		return recordPendingDose(settlement);
+	}
 
-			if (exposed[1])
-				shield_factor = RandomUtil.getRandomDouble(1); // arbitrary
-			// NOTE: SPE may shield off GCR as shown in Curiosity's RAD data
-			// since GCR flux is modulated by solar activity. It DECREASES during solar
-			// activity maximum
-			// and INCREASES during solar activity minimum
+	/**
+	 * Records the dose received since the last radiation check and starts the
+	 * next check afresh.
+	 * 
+	 * @param settlement the associated settlement
+	 * @return true if any dose was recorded
+	 */
+	private boolean recordPendingDose(Settlement settlement) {
+		double exposure = pendingDose;
+		timeOutside = 0;
+		pendingDose = 0;
+		if (exposure <= 0)
+			return false;
+
+		// Each body region receives the dose
+		List<RadiationEvent> eventMap = new ArrayList<>();
+		for (int j = 0; j < 3; j++) {
+			eventMap.add(addDose(j, exposure));
+		}
+		double totalExposure = exposure * 3;
+
+		String coord = person.getCoordinates().getFormattedString();
+		String str = person.getName() + WAS + EXPOSED_TO + Math.round(totalExposure * 10000.0) / 10000.0;
+
+		if (person.getVehicle() == null)
+			// if a person steps outside of the vehicle
+			LogConsolidated.log(logger, Level.INFO, 0, sourceName,
+					"[" + coord + "] " + str + DOSE + EVA_OPERATION + coord, null);
+		else {
+			String activity = "";
+			if (person.getMind().getMission() != null)
+				activity = person.getMind().getMission().getName();
 			else
-				shield_factor = 1; // arbitrary
-
-			List<RadiationEvent> eventMap = new ArrayList<>();
-			// Compute whether a baseline, GCR, or SEP event has occurred
-			for (int i = 0; i < 3; i++) {
-				if (exposed[i]) {
-					// each body region receive a random max dosage
-					for (int j = 0; j < 3; j++) {
-						double baselevel = 0;
-						if (exposed[2]) {
-							baselevel = 0.0; // somewhat arbitrary
-							sep += (baselevel + RandomUtil.getRandomInt(-1, 1)
-									* RandomUtil.getRandomDouble(SEP_RAD_PER_SOL * time / RADIATION_CHECK_FREQ)) // highly
-																													// unpredictable,
-																													// somewhat
-																													// arbitrary
-									* RandomUtil.getRandomDouble(SEP_SWING_FACTOR);
-						}
-						// for now, if SEP happens, ignore GCR and Baseline
-						else if (exposed[1]) {
-							baselevel = GCR_RAD_PER_SOL * time / 100D;
-							gcr += baselevel + RandomUtil.getRandomInt(-1, 1) * RandomUtil
-									.getRandomDouble(shield_factor * GCR_RAD_SWING * time / RADIATION_CHECK_FREQ); // according
-																													// to
-																													// Curiosity
-																													// RAD's
-																													// data
-
-						}
-						// for now, if GCR happens, ignore Baseline
-						else if (exposed[0]) {
-							baselevel = BASELINE_RAD_PER_SOL * time / RADIATION_CHECK_FREQ;
-							baseline += baselevel
-									+ RandomUtil.getRandomInt(-1, 1) * RandomUtil.getRandomDouble(baselevel / 3D); // arbitrary
-						}
-
-						exposure = sep + gcr + baseline;
-						RadiationEvent event = addDose(j, exposure);
-						eventMap.add(event);
-
-						totalExposure += exposure;
-					}
-				}
-			}
-
-			if (totalExposure > 0) {
-				// String loc = "Outside";
-				String coord = person.getCoordinates().getFormattedString();
-				String str = person.getName() + WAS + EXPOSED_TO + Math.round(totalExposure * 10000.0) / 10000.0;
-
-				if (person.getVehicle() == null)
-					// if a person steps outside of the vehicle
-					LogConsolidated.log(logger, Level.INFO, 0, sourceName,
-							"[" + coord + "] " + str + DOSE + EVA_OPERATION + coord, null);
-				else {
-					String activity = "";
-					if (person.getMind().getMission() != null)
-						activity = person.getMind().getMission().getName();
-					else
-						activity = person.getTaskDescription();
-					LogConsolidated.log(logger, Level.INFO, 0, sourceName,
-							"[" + coord + "] " + str + DOSE + " while " + activity, null);
-				}
-
-				HistoricalEvent hEvent = new HazardEvent(EventType.HAZARD_RADIATION_EXPOSURE, 
-						eventMap,
-						"Dose of " + Math.round(totalExposure * 10000.0) / 10000.0 + " mSv",
-						person.getTaskDescription(), 
-						person.getName(), person.getLocationTag().getImmediateLocation(),
-						person.getLocationTag().getLocale(),
-						person.getAssociatedSettlement().getName()
-						);
-				Simulation.instance().getEventManager().registerNewEvent(hEvent);
-
-				person.fireUnitUpdate(UnitEventType.RADIATION_EVENT);
+				activity = person.getTaskDescription();
+			LogConsolidated.log(logger, Level.INFO, 0, sourceName,
+					"[" + coord + "] " + str + DOSE + " while " + activity, null);
+		}
 
-				return true;
+		HistoricalEvent hEvent = new HazardEvent(EventType.HAZARD_RADIATION_EXPOSURE, 
+				eventMap,
+				"Dose of " + Math.round(totalExposure * 10000.0) / 10000.0 + " mSv",
+				person.getTaskDescription(), 
+				person.getName(), person.getLocationTag().getImmediateLocation(),
+				person.getLocationTag().getLocale(),
+				settlement.getName()
+				);
+		Simulation.instance().getEventManager().registerNewEvent(hEvent);
 
-			}
-		}
+		person.fireUnitUpdate(UnitEventType.RADIATION_EVENT);
 
-		return false;
+		return true;
 	}
-	
 
 	/**
 	 * Reloads instances after loading from a saved sim
@@ -6,5 +6,91 @@
  */
 package org.mars_sim.msp.core.person.health;
 
-public class RadiationModel {
-}
\ No newline at end of file
+import java.io.Serializable;
+
+import org.mars_sim.msp.core.tool.RandomUtil;
+
+/**
+ * The RadiationModel class is the radiation environment around a settlement.
+ * Whether a baseline, GCR or SEP event is going on, and the dose rate it gives,
+ * are drawn once per check interval for the whole settlement. The people
+ * outside then accumulate their dose from the rate and the time they spend
+ * outside, however long the pulses are.
+ */
+public class RadiationModel implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The index of the baseline radiation in the exposed flags. */
+	public static final int BASELINE = 0;
+	/** The index of the galactic cosmic rays in the exposed flags. */
+	public static final int GCR = 1;
+	/** The index of the solar energetic particles in the exposed flags. */
+	public static final int SEP = 2;
+
+	/** The flags showing the radiation events going on. */
+	private boolean[] exposed = { false, false, false };
+
+	/** The dose rate of the current events [in mSv per millisol]. */
+	private double doseRate;
+
+	/**
+	 * Sets the radiation events going on and draws their dose rate.
+	 *
+	 * @param baseline true if baseline radiation is detected.
+	 * @param gcr      true if a GCR event is going on.
+	 * @param sep      true if a SEP event is going on.
+	 */
+	public void setExposed(boolean baseline, boolean gcr, boolean sep) {
+		exposed[BASELINE] = baseline;
+		exposed[GCR] = gcr;
+		exposed[SEP] = sep;
+
+		// For now, if SEP happens, ignore GCR and baseline, and if GCR happens,
+		// ignore baseline
+		if (sep)
+			// Highly unpredictable, spanning several orders of magnitude
+			doseRate = RadiationExposure.SEP_RAD_PER_SOL / 1000D
+					* RandomUtil.getRandomDouble(RadiationExposure.SEP_SWING_FACTOR);
+		else if (gcr)
+			// According to Curiosity RAD's data
+			doseRate = (RadiationExposure.GCR_RAD_PER_SOL + RandomUtil.getRandomInt(-1, 1)
+					* RandomUtil.getRandomDouble(RadiationExposure.GCR_RAD_SWING)) / 1000D;
+		else if (baseline)
+			doseRate = RadiationExposure.BASELINE_RAD_PER_SOL / 1000D
+					* (1D + RandomUtil.getRandomInt(-1, 1) * RandomUtil.getRandomDouble(1D / 3D));
+		else
+			doseRate = 0D;
+	}
+
+	/**
+	 * Gets the flags showing the radiation events going on.
+	 *
+	 * @return baseline, GCR and SEP flags.
+	 */
+	public boolean[] getExposed() {
+		return exposed;
+	}
+
+	/**
+	 * Gets the dose rate of the current radiation events.
+	 *
+	 * @return dose rate [in mSv per millisol].
+	 */
+	public double getDoseRate() {
+		return doseRate;
+	}
+
+	/**
+	 * Gets the dose received over a period of time.
+	 *
+	 * @param time      the time spent outside (in millisols).
+	 * @param shielding the proportion of the dose that passes the shielding (0D -
+	 *                  1D).
+	 * @return dose [in mSv].
+	 */
+	public double getDose(double time, double shielding) {
+		return doseRate * time * shielding;
+	}
+}
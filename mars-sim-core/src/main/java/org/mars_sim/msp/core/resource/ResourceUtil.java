@@ -112,6 +112,7 @@ public class ResourceUtil implements Serializable {
 	private static Map<String, AmountResource> amountResourceMap;
 	private static Map<Integer, AmountResource> amountResourceIDMap;
 	private static Map<Integer, String> arIDNameMap;
+	private static Map<String, Integer> arNameIDMap;
 
 	private static Set<AmountResource> resources;
 
@@ -369,8 +370,10 @@ public class ResourceUtil implements Serializable {
 		}
 
 		arIDNameMap = new HashMap<Integer, String>();
+		arNameIDMap = new HashMap<String, Integer>();
 		for (AmountResource resource : sortedResources) {
 			arIDNameMap.put(resource.getID(), resource.getName());
+			arNameIDMap.put(resource.getName(), resource.getID());
 		}
 	}
 
@@ -383,6 +386,7 @@ public class ResourceUtil implements Serializable {
 		amountResourceMap.put(ar.getName(), ar);
 		amountResourceIDMap.put(ar.getID(), ar);
 		arIDNameMap.put(ar.getID(), ar.getName());
+		arNameIDMap.put(ar.getName(), ar.getID());
 	}
 
 	public static void mapInstances() {
@@ -539,7 +543,8 @@ public class ResourceUtil implements Serializable {
 	}
 
 	/**
-	 * Finds an amount resource by name.
+	 * Finds an amount resource by name. Note: the names are stored in lower case,
+	 * so a lower case name is found without converting it.
 	 * 
 	 * @param name the name of the resource.
 	 * @return resource
@@ -548,19 +553,27 @@ public class ResourceUtil implements Serializable {
 	public static AmountResource findAmountResource(String name) {
 		if (amountResourceMap == null)
 			createMaps();
-		return amountResourceMap.get(name.toLowerCase());
-
+		AmountResource result = amountResourceMap.get(name);
+		if (result == null)
+			result = amountResourceMap.get(name.toLowerCase());
+		return result;
 	}
 
 	/**
-	 * Finds an amount resource by name.
+	 * Finds an amount resource id by name. Note: the names are stored in lower
+	 * case, so a lower case name is found without converting it.
 	 * 
 	 * @param name the name of the resource.
-	 * @return resource
-	 * @throws ResourceException if resource could not be found.
+	 * @return resource id
+	 * @throws NullPointerException if resource could not be found.
 	 */
 	public static int findIDbyAmountResourceName(String name) {
-		return getKeyByValue(arIDNameMap, name.toLowerCase());
+		if (arNameIDMap == null)
+			createMaps();
+		Integer result = arNameIDMap.get(name);
+		if (result == null)
+			result = arNameIDMap.get(name.toLowerCase());
+		return result;
 	}
 
 	/**
@@ -712,6 +725,7 @@ public class ResourceUtil implements Serializable {
 		amountResourceMap = null;
 		amountResourceIDMap = null;
 		arIDNameMap = null;
+		arNameIDMap = null;
 	}
 
 }
@@ -453,13 +453,47 @@ implements Serializable {
 	}
 
 	/**
-	 * Gets a new task for the person based on tasks available.
+	 * Gets a new task for the robot based on tasks available. A robot in a
+	 * settlement claims its work from the work board of the settlement, and
+	 * weighs all the robot meta tasks by itself otherwise.
 	 * @return new task
 	 */
 	public Task getNewTask() {
 		Task result = null;
 		MetaTask selectedMetaTask = null;
 
+		if (robot.isInSettlement()) {
+			selectedMetaTask = robot.getSettlement().getRobotWorkBoard().claim(robot,
+					marsClock.getMillisolOneDecimal());
+			// The board has weighed all the robot meta tasks already
+			if (selectedMetaTask == null)
+				selectedMetaTask = selectIdleMetaTask();
+		}
+		else {
+			selectedMetaTask = selectMetaTask();
+		}
+		
+		if (selectedMetaTask == null) {
+			LogConsolidated.log(Level.SEVERE, 5_000, sourceName, robot.getName() + " could not determine a new task.");
+		} else {
+			// Call constructInstance of the selected Meta Task to commence the ai task
+			result = selectedMetaTask.constructInstance(botMind.getRobot());
+//			LogConsolidated.log(Level.FINE, 5_000, sourceName, robot + " is going to " + selectedMetaTask.getName());
+		}
+
+		// Clear time cache.
+		msolCache = -1;
+
+		return result;
+	}
+
+	/**
+	 * Selects a meta task by weighing all the robot meta tasks for this robot.
+	 * @return meta task
+	 */
+	private MetaTask selectMetaTask() {
+		MetaTask selectedMetaTask = null;
+
 		// If cache is not current, calculate the probabilities.
 		if (!useCache()) {
 			calculateProbability();
@@ -471,10 +505,7 @@ implements Serializable {
 //			LogConsolidated.log(Level.SEVERE, 5_000, sourceName,
 //			person.getName() + " has zero total task probability weight.");
 
-			// Switch to loading non-work hour meta tasks since
-			// leisure tasks are NOT based on needs
-			List<MetaTask> list = MetaTaskUtil.getNonWorkHourMetaTasks();
-			selectedMetaTask = list.get(RandomUtil.getRandomInt(list.size() - 1));
+			selectedMetaTask = selectIdleMetaTask();
 			
 		} else {
 
@@ -491,19 +522,19 @@ implements Serializable {
 				}
 			}
 		}
-		
-		if (selectedMetaTask == null) {
-			LogConsolidated.log(Level.SEVERE, 5_000, sourceName, robot.getName() + " could not determine a new task.");
-		} else {
-			// Call constructInstance of the selected Meta Task to commence the ai task
-			result = selectedMetaTask.constructInstance(botMind.getRobot());
-//			LogConsolidated.log(Level.FINE, 5_000, sourceName, robot + " is going to " + selectedMetaTask.getName());
-		}
 
-		// Clear time cache.
-		msolCache = -1;
+		return selectedMetaTask;
+	}
 
-		return result;
+	/**
+	 * Selects a meta task at random when there is no work for the robot.
+	 * @return meta task
+	 */
+	private MetaTask selectIdleMetaTask() {
+		// Switch to loading non-work hour meta tasks since
+		// leisure tasks are NOT based on needs
+		List<MetaTask> list = MetaTaskUtil.getNonWorkHourMetaTasks();
+		return list.get(RandomUtil.getRandomInt(list.size() - 1));
 	}
 
 	/**
@@ -0,0 +1,169 @@
+/**
+ * Mars Simulation Project
+ * RobotWorkBoard.java
+ */
+package org.mars_sim.msp.core.robot.ai.task;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import org.mars_sim.msp.core.person.ai.task.utils.MetaTask;
+import org.mars_sim.msp.core.person.ai.task.utils.MetaTaskUtil;
+import org.mars_sim.msp.core.robot.Robot;
+import org.mars_sim.msp.core.robot.RobotType;
+import org.mars_sim.msp.core.tool.RandomUtil;
+
+/**
+ * The RobotWorkBoard class holds the work a settlement has for its robots.
+ * Rather than every idle robot weighing all the robot meta tasks, the work of
+ * a robot type is posted once per millisol as a set of work orders, weighted
+ * by the demand of the settlement. The robots of that type then claim orders
+ * from the board. Each claim lowers the weight of an order, so that several
+ * robots of a type idle at the same time spread out over the work on hand.
+ * The weights are those of the robot that posted the orders, so they do not
+ * follow the performance or the surroundings of each robot. A robot only claims
+ * an order for work it can do itself, as a chefbot may find no kitchen free
+ * where another one did.
+ * There is one instance of RobotWorkBoard per settlement.
+ */
+public class RobotWorkBoard {
+
+	/** default logger. */
+	private static Logger logger = Logger.getLogger(RobotWorkBoard.class.getName());
+
+	/** The work orders posted for each robot type. */
+	private Map<RobotType, WorkOrders> orders = new EnumMap<>(RobotType.class);
+
+	/**
+	 * Claims a work order for a robot in the settlement. The work orders of its
+	 * robot type are posted first if they are older than the current time.
+	 *
+	 * @param robot the robot looking for work.
+	 * @param msol  the current time (in millisols).
+	 * @return the meta task of the work order, or null if there is no work the
+	 *         robot can do.
+	 */
+	public synchronized MetaTask claim(Robot robot, double msol) {
+		RobotType type = robot.getRobotType();
+		WorkOrders typeOrders = orders.get(type);
+		if (typeOrders == null || Double.compare(typeOrders.msol, msol) != 0) {
+			typeOrders = post(robot, msol);
+			orders.put(type, typeOrders);
+		}
+		return typeOrders.claim(mt -> mt.getProbability(robot) > 0D);
+	}
+
+	/**
+	 * Posts the work orders of the robot type of a robot.
+	 *
+	 * @param robot the robot looking for work.
+	 * @param msol  the current time (in millisols).
+	 * @return work orders
+	 */
+	private WorkOrders post(Robot robot, double msol) {
+		WorkOrders result = new WorkOrders(msol);
+		for (MetaTask mt : MetaTaskUtil.getRobotMetaTasks()) {
+			double probability = mt.getProbability(robot);
+
+			if ((probability >= 0D) && (!Double.isNaN(probability)) && (!Double.isInfinite(probability))) {
+				if (probability > 0D)
+					result.add(mt, probability);
+			}
+			else {
+				logger.severe(robot.getName() + " bad task probability: " + mt.getName() + " probability: "
+						+ probability);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes the posted work orders.
+	 */
+	public synchronized void clear() {
+		orders.clear();
+	}
+
+	/**
+	 * The work orders of a robot type.
+	 */
+	static class WorkOrders {
+
+		/** The time the orders were posted (in millisols). */
+		private double msol;
+		/** The meta task of each order. */
+		private List<MetaTask> metaTasks = new ArrayList<>();
+		/** The weight of each order. */
+		private List<Double> weights = new ArrayList<>();
+		/** The number of times each order has been claimed. */
+		private List<Integer> claims = new ArrayList<>();
+
+		WorkOrders(double msol) {
+			this.msol = msol;
+		}
+
+		void add(MetaTask metaTask, double weight) {
+			metaTasks.add(metaTask);
+			weights.add(weight);
+			claims.add(0);
+		}
+
+		/**
+		 * Picks an order at random by its weight, divided by one more than the
+		 * number of claims on it. An order the claimant cannot take is left out
+		 * and another one is picked.
+		 *
+		 * @param claimable checks if the claimant can take the order of a meta task
+		 * @return the meta task of the order, or null if there are no orders the
+		 *         claimant can take
+		 */
+		MetaTask claim(Predicate<MetaTask> claimable) {
+			int size = metaTasks.size();
+			boolean[] excluded = new boolean[size];
+			for (int tries = 0; tries < size; tries++) {
+				double total = 0D;
+				for (int i = 0; i < size; i++) {
+					if (!excluded[i])
+						total += getWeight(i);
+				}
+				if (total <= 0D)
+					return null;
+
+				double r = RandomUtil.getRandomDouble(total);
+				int selected = -1;
+				for (int i = 0; i < size; i++) {
+					if (excluded[i])
+						continue;
+					double weight = getWeight(i);
+					selected = i;
+					if (r <= weight)
+						break;
+					r -= weight;
+				}
+
+				MetaTask metaTask = metaTasks.get(selected);
+				if (claimable.test(metaTask)) {
+					claims.set(selected, claims.get(selected) + 1);
+					return metaTask;
+				}
+				excluded[selected] = true;
+			}
+			return null;
+		}
+
+		/**
+		 * Gets the weight of an order, divided by one more than the number of
+		 * claims on it.
+		 *
+		 * @param i the index of the order
+		 * @return weight
+		 */
+		double getWeight(int i) {
+			return weights.get(i) / (1 + claims.get(i));
+		}
+	}
+}
@@ -19,6 +19,7 @@ import org.mars_sim.msp.core.UnitManager;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
@@ -94,10 +95,10 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 	
 	private ScienceType science;
 
-	private MarsClock peerReviewStartTime;
-	private MarsClock lastPrimaryResearchWorkTime;
+	private MarsInstant peerReviewStartTime;
+	private MarsInstant lastPrimaryResearchWorkTime;
 	
-	private Map<Integer, MarsClock> lastCollaborativeResearchWorkTime;
+	private Map<Integer, MarsInstant> lastCollaborativeResearchWorkTime;
 	private Map<Integer, Double> collaborativeAchievementEarned;
 	private Map<Integer, Double> collaborativePaperWorkTime;
 	private Map<Integer, Double> collaborativeResearchWorkTime;
@@ -170,7 +171,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 		completionState = null;
 		primarySettlement = primaryResearcher.getAssociatedSettlement().getIdentifier();
 		lastPrimaryResearchWorkTime = null;
-		lastCollaborativeResearchWorkTime = new HashMap<Integer, MarsClock>(maxCollaborators);
+		lastCollaborativeResearchWorkTime = new HashMap<Integer, MarsInstant>(maxCollaborators);
 		primaryResearcherAchievementEarned = 0D;
 		collaborativeAchievementEarned = new HashMap<Integer, Double>(maxCollaborators);
 		listeners = Collections.synchronizedList(new ArrayList<ScientificStudyListener>());
@@ -509,7 +510,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 			primarySettlement = settlement;
 		
 		// Update last primary work time.
-		lastPrimaryResearchWorkTime = (MarsClock) marsClock.clone();
+		lastPrimaryResearchWorkTime = marsClock.getInstant();
 
 		// Fire scientific study update event.
 		fireScientificStudyUpdate(ScientificStudyEvent.PRIMARY_RESEARCH_WORK_EVENT, getPrimaryResearcher());
@@ -566,7 +567,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 			collaborativeResearchWorkTime.put(id, currentWorkTime);
 
 			// Update last collaborative work time.
-			lastCollaborativeResearchWorkTime.put(id, (MarsClock) marsClock.clone());
+			lastCollaborativeResearchWorkTime.put(id, marsClock.getInstant());
 
 			// Fire scientific study update event.
 			fireScientificStudyUpdate(ScientificStudyEvent.COLLABORATION_RESEARCH_WORK_EVENT, researcher);
@@ -758,7 +759,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 	 * Start the peer review phase of the study.
 	 */
 	void startingPeerReview() {
-		peerReviewStartTime = (MarsClock) marsClock.clone();
+		peerReviewStartTime = marsClock.getInstant();
 	}
 
 	/**
@@ -769,7 +770,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 	public boolean isPeerReviewTimeFinished() {
 		boolean result = false;
 		if (peerReviewStartTime != null) {
-			double peerReviewTime = MarsClock.getTimeDiff(marsClock, peerReviewStartTime);
+			double peerReviewTime = marsClock.getInstant().getTimeDiff(peerReviewStartTime);
 			if (peerReviewTime >= peerReviewTime)
 				result = true;
 		}
@@ -784,7 +785,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 	public double getPeerReviewTimeCompleted() {
 		double result = 0D;
 		if (peerReviewStartTime != null) {
-			result = MarsClock.getTimeDiff(marsClock, peerReviewStartTime);
+			result = marsClock.getInstant().getTimeDiff(peerReviewStartTime);
 		}
 		return result;
 	}
@@ -846,7 +847,7 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 	 * 
 	 * @return last time or null if none.
 	 */
-	public MarsClock getLastPrimaryResearchWorkTime() {
+	public MarsInstant getLastPrimaryResearchWorkTime() {
 		return lastPrimaryResearchWorkTime;
 	}
 
@@ -856,8 +857,8 @@ public class ScientificStudy implements Serializable, Comparable<ScientificStudy
 	 * @param researcher the collaborative researcher.
 	 * @return last time or null if none.
 	 */
-	public MarsClock getLastCollaborativeResearchWorkTime(Person researcher) {
-		MarsClock result = null;
+	public MarsInstant getLastCollaborativeResearchWorkTime(Person researcher) {
+		MarsInstant result = null;
 		if (lastCollaborativeResearchWorkTime.containsKey(researcher.getIdentifier()))
 			result = lastCollaborativeResearchWorkTime.get((Integer)researcher.getIdentifier());
 		return result;
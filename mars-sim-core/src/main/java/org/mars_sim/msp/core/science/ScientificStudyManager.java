@@ -22,6 +22,7 @@ import org.mars_sim.msp.core.person.GenderType;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.Conversion;
 
 /**
@@ -606,9 +607,9 @@ public class ScientificStudyManager // extends Thread
 
 						// Check primary researcher downtime.
 						if (!study.isPrimaryResearchCompleted()) {
-							MarsClock lastPrimaryWork = study.getLastPrimaryResearchWorkTime();
-							if ((lastPrimaryWork != null) && MarsClock.getTimeDiff(marsClock,
-									lastPrimaryWork) >study.getPrimaryWorkDownTimeAllowed()) {
+							MarsInstant lastPrimaryWork = study.getLastPrimaryResearchWorkTime();
+							if ((lastPrimaryWork != null) && marsClock.getInstant()
+									.getTimeDiff(lastPrimaryWork) >study.getPrimaryWorkDownTimeAllowed()) {
 								study.setCompleted(ScientificStudy.CANCELED);
 								LogConsolidated.log(Level.INFO, 0, sourceName,
 										"[" + person.getLocationTag().getLocale() + "] " 
@@ -624,10 +625,10 @@ public class ScientificStudyManager // extends Thread
 						while (l.hasNext()) {
 							Person researcher = lookupPerson.get(l.next());
 							if (!study.isCollaborativeResearchCompleted(researcher)) {
-								MarsClock lastCollaborativeWork = study
+								MarsInstant lastCollaborativeWork = study
 										.getLastCollaborativeResearchWorkTime(researcher);
-								if ((lastCollaborativeWork != null) && MarsClock.getTimeDiff(marsClock,
-										lastCollaborativeWork) > study.getCollaborativeWorkDownTimeAllowed()) {
+								if ((lastCollaborativeWork != null) && marsClock.getInstant()
+										.getTimeDiff(lastCollaborativeWork) > study.getCollaborativeWorkDownTimeAllowed()) {
 									study.removeCollaborativeResearcher(researcher);
 									LogConsolidated.log(Level.INFO, 0, sourceName,
 											"[" + researcher.getLocationTag().getLocale() + "] " 
@@ -9,13 +9,9 @@ package org.mars_sim.msp.core.structure;
 
 import java.awt.geom.Point2D;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -42,7 +38,11 @@ import org.mars_sim.msp.core.person.ai.task.utils.Task;
 // see https://en.wikipedia.org/wiki/Decompression_sickness
 
 /**
- * The Airlock class represents an airlock to a vehicle or structure.
+ * The Airlock class represents an airlock to a vehicle or structure. The
+ * waiting queues are drained when the airlock is activated, and an airlock
+ * task hands the operation over when it ends. An activated airlock still
+ * checks on each pulse that its operator is alive and busy with an airlock
+ * task, since a task may be dropped without being ended.
  */
 public abstract class Airlock implements Serializable {
 
@@ -91,15 +91,13 @@ public abstract class Airlock implements Serializable {
     private volatile Integer operatorID;
 //	private Person operator;
     
-	/** People waiting for the airlock by the inner door. */
-    private volatile List<Integer> awaitingInnerDoor;
+	/** People waiting for the airlock by the inner door, in order of arrival. */
+    private volatile Queue<Integer> awaitingInnerDoor;
 //	private List<Person> awaitingInnerDoor;
 
-	/** People waiting for the airlock by the outer door. */
-    private volatile List<Integer> awaitingOuterDoor;
+	/** People waiting for the airlock by the outer door, in order of arrival. */
+    private volatile Queue<Integer> awaitingOuterDoor;
 //	private List<Person> awaitingOuterDoor;
-
-	private volatile Map<Integer, Person> lookupPerson;
 	
     protected static UnitManager unitManager; //= Simulation.instance().getUnitManager();
     protected static MarsSurface marsSurface;// = unitManager.getMarsSurface(); //getMars().getMarsSurface();
@@ -126,10 +124,9 @@ public abstract class Airlock implements Serializable {
 		
 		operatorID = Integer.valueOf(-1);
 		
-		lookupPerson = new ConcurrentHashMap<>();
 		occupantIDs = new ConcurrentLinkedQueue<>();
-		awaitingInnerDoor = new ArrayList<>();
-		awaitingOuterDoor = new ArrayList<>();
+		awaitingInnerDoor = new ConcurrentLinkedQueue<>();
+		awaitingOuterDoor = new ConcurrentLinkedQueue<>();
 		
 //		if (getEntity() instanceof Building) {
 //			locale = ((Building)getEntity()).getLocationTag().getLocale();//.getBuildingManager().getSettlement().getName();
@@ -164,30 +161,16 @@ public abstract class Airlock implements Serializable {
 		// List can't tell if the method remove(Object o) should be used.
 		Integer id = person.getIdentifier();
 		
-		addPersonID(person);
-		
 		if (!occupantIDs.contains(id) && (occupantIDs.size() < capacity)) {
 
 			if (inside && !innerDoorLocked) {
-				if (awaitingInnerDoor.contains(id)) {
-					awaitingInnerDoor.remove((Integer)id);
-					
-					if (awaitingInnerDoor.contains(id)) {
-						throw new IllegalStateException(person + " was still waiting inner door.");
-					}
-				}
+				awaitingInnerDoor.remove(id);
 				LogConsolidated.log(Level.FINER, 0, sourceName,
 						"[" + person.getLocationTag().getLocale() + "] " 
 							+ person.getName() + " entered through the inner door of the airlock at " + getEntityName());
 				result = true;
 			} else if (!inside && !outerDoorLocked) {
-				if (awaitingOuterDoor.contains(id)) {
-					awaitingOuterDoor.remove((Integer)id);
-					
-					if (awaitingOuterDoor.contains(id)) {
-						throw new IllegalStateException(person + " was still awaiting outer door!");
-					}
-				}
+				awaitingOuterDoor.remove(id);
 				LogConsolidated.log(Level.FINER, 0, sourceName,
 						"[" + person.getLocationTag().getLocale() + "] " 
 							+ person.getName() + " entered through the outer door of the airlock at " + getEntityName());
@@ -213,8 +196,6 @@ public abstract class Airlock implements Serializable {
 		
 		operatorID = (Integer) operator.getIdentifier();
 		
-		addPersonID(operator);
-		
 		LogConsolidated.log(Level.FINER, 0, sourceName,
 				"[" + operator.getLocationTag().getLocale() + "] " 
 					+ operator.getName() + " as the operator was getting ready to activate the airlock at "
@@ -224,21 +205,13 @@ public abstract class Airlock implements Serializable {
 
 		if (!activated) {
 			if (!innerDoorLocked) {
-				while ((occupantIDs.size() < capacity) && (awaitingInnerDoor.size() > 0)) {
-
-					Integer id = awaitingInnerDoor.get(0);
+				while ((occupantIDs.size() < capacity) && !awaitingInnerDoor.isEmpty()) {
+					// Let in the people waiting the longest first
+					Integer id = awaitingInnerDoor.poll();
 					Person person = getPersonByID(id);
-				
-			    	if (person == null) {
-			    		person = unitManager.getPersonByID(id);
-			    		lookupPerson.put(id, person);
-			    	}
-					
-					awaitingInnerDoor.remove((Integer)id);
-
-					if (awaitingInnerDoor.contains(id)) {
-						throw new IllegalStateException(person + " was still awaiting inner door!");
-					}
+					// Drop anyone who died while waiting
+					if (person == null || person.getPhysicalCondition().isDead())
+						continue;
 
 					if (!occupantIDs.contains(id)) {
 						LogConsolidated.log(Level.FINER, 0, sourceName,
@@ -251,21 +224,13 @@ public abstract class Airlock implements Serializable {
 				}
 				innerDoorLocked = true;
 			} else if (!outerDoorLocked) {
-				while ((occupantIDs.size() < capacity) && (awaitingOuterDoor.size() > 0)) {
-
-					Integer id = awaitingOuterDoor.get(0);
+				while ((occupantIDs.size() < capacity) && !awaitingOuterDoor.isEmpty()) {
+					// Let in the people waiting the longest first
+					Integer id = awaitingOuterDoor.poll();
 					Person person = getPersonByID(id);
-					
-			    	if (person == null) {
-			    		person = unitManager.getPersonByID(id);
-			    		lookupPerson.put(id, person);
-			    	}
-					
-					awaitingOuterDoor.remove((Integer)id);
-
-					if (awaitingOuterDoor.contains(id)) {
-						throw new IllegalStateException(person + " still awaiting outer door!");
-					}
+					// Drop anyone who died while waiting
+					if (person == null || person.getPhysicalCondition().isDead())
+						continue;
 
 					if (!occupantIDs.contains(id)) {
 						LogConsolidated.log(Level.FINER, 0, sourceName,
@@ -327,57 +292,39 @@ public abstract class Airlock implements Serializable {
 	}
 
 	/**
-	 * Elects an operator with the best EVA skill level/experiences
+	 * Elects an operator with the best EVA skill level/experiences among the
+	 * living occupants, leaving out the one stepping down.
+	 * 
+	 * @param excludedID the id of the person stepping down, or -1.
 	 */
-	private void electAnOperator() {
+	private void electAnOperator(Integer excludedID) {
 		Person selected = null;
-		Integer selectedID = Integer.valueOf(-1);
-		int size = occupantIDs.size();
-	
-//		int rand = -1;
-//		
-//		if (size > 0) {
-//			rand = RandomUtil.getRandomInt(size-1);
-//			List<Person> list = new ArrayList<>(occupants);
-//			return list.get(rand);
-//		}
-		
-//		if (size == 0) {
-//			// No operator, deactivate the air lock
-//			deactivateAirlock();
-//		}
-//		
-//		else 
-		if (size >= 1) {
-			int evaExp = -1;
-			int evaLevel = -1;
-			for (Integer id : occupantIDs) {
-				Person p = 	getPersonByID(id);
-		    	if (p == null) {
-		    		p = unitManager.getPersonByID(id);
-		    		lookupPerson.put(id, p);
-		    	}
-				int level = p.getSkillManager().getSkillLevel(SkillType.EVA_OPERATIONS);
-				if (level > evaLevel) {
-					selected = p;
-					selectedID = id;
-				}
-	
-				else if (level == evaExp) {
-					int exp = p.getSkillManager().getSkillExp(SkillType.EVA_OPERATIONS);
-					if (exp > evaExp) {
-						selected = p;
-						selectedID = id;
-					}
-				}
+		int evaLevel = -1;
+		int evaExp = -1;
+		for (Integer id : occupantIDs) {
+			Person p = getPersonByID(id);
+			if (p == null || id.equals(excludedID) || p.getPhysicalCondition().isDead())
+				continue;
+			int level = p.getSkillManager().getSkillLevel(SkillType.EVA_OPERATIONS);
+			int exp = p.getSkillManager().getSkillExp(SkillType.EVA_OPERATIONS);
+			if ((level > evaLevel) || (level == evaLevel && exp > evaExp)) {
+				selected = p;
+				evaLevel = level;
+				evaExp = exp;
 			}
-			
-			operatorID = selectedID;
+		}
+
+		if (selected != null) {
+			operatorID = (Integer) selected.getIdentifier();
 
 			LogConsolidated.log(Level.FINER, 0, sourceName, "[" + selected.getLocationTag().getLocale() + "] "
 						+ selected + " stepped up and became the operator of the airlock in "
 						+ getEntityName());
 		}
+		else {
+			// The next person to activate the airlock takes over.
+			operatorID = Integer.valueOf(-1);
+		}
 	}
 	
 	/**
@@ -427,10 +374,6 @@ public abstract class Airlock implements Serializable {
 		while (i.hasNext()) {
 			Integer id = i.next();
 			Person p = getPersonByID(id);
-	    	if (p == null) {
-	    		p = unitManager.getPersonByID(id);
-	    		lookupPerson.put(id, p);
-	    	}
 			LogConsolidated.log(Level.FINER, 0, sourceName,
 					"[" + p.getLocationTag().getLocale() + "] " + p.getName()
 					+ " reported that the airlock in " + getEntity() + " had been " 
@@ -506,6 +449,28 @@ public abstract class Airlock implements Serializable {
 		operatorID = Integer.valueOf(-1);
 	}
 
+	/**
+	 * Removes a person whose airlock task has ended from the queues at the doors.
+	 * If the person was operating the airlock, the operation is handed over to
+	 * another occupant.
+	 * 
+	 * @param p the person.
+	 */
+	public void endAirlockTask(Person p) {
+		Integer id = (Integer) p.getIdentifier();
+		awaitingInnerDoor.remove(id);
+		awaitingOuterDoor.remove(id);
+
+		if (id.equals(operatorID)) {
+			LogConsolidated.log(Level.FINE, 10_000, sourceName, "[" + p.getLocationTag().getLocale() + "] "
+					+ p.getName() + " was no longer being the Airlock operator operating the airlock at " 
+					+ getEntityName());
+			
+			// Elect a new operator
+			electAnOperator(id);
+		}
+	}
+
 	/**
 	 * Gets the remaining airlock cycle time.
 	 * 
@@ -521,11 +486,11 @@ public abstract class Airlock implements Serializable {
 	 * @param person the person to add to the awaiting queue.
 	 */
 	public void addAwaitingAirlockInnerDoor(Person p) {
-		addPersonID(p);
-		if (!awaitingInnerDoor.contains(p.getIdentifier())) {
+		Integer id = (Integer) p.getIdentifier();
+		if (!awaitingInnerDoor.contains(id)) {
 			LogConsolidated.log(Level.FINER, 0, sourceName, "[" + p.getLocationTag().getLocale() + "] "
 					+ p.getName() + " was awaiting the inner door of the airlock in " + getEntityName() + " to open.");
-			awaitingInnerDoor.add(p.getIdentifier());
+			awaitingInnerDoor.add(id);
 		}
 	}
 
@@ -535,79 +500,61 @@ public abstract class Airlock implements Serializable {
 	 * @param person the person to add to the awaiting queue.
 	 */
 	public void addAwaitingAirlockOuterDoor(Person p) {
-		addPersonID(p);
-		if (!awaitingOuterDoor.contains(p.getIdentifier())) {
+		Integer id = (Integer) p.getIdentifier();
+		if (!awaitingOuterDoor.contains(id)) {
 			LogConsolidated.log(Level.FINER, 0, sourceName, "[" + p.getLocationTag().getLocale() + "] "
 					+ p.getName() + " was in " + p.getLocationTag().getImmediateLocation() 
 					+ " and waiting the outer door of the airlock in " + getEntityName() + " to open.");
-			awaitingOuterDoor.add(p.getIdentifier());
+			awaitingOuterDoor.add(id);
 		}
 	}
 
 	/**
-	 * Time passing for airlock. Check for unusual situations and deal with them.
+	 * Time passing for airlock. An idle airlock has nothing to do. An activated
+	 * airlock checks that its operator is still alive and still has an airlock
+	 * task, as the task manager may replace or destroy a task without ending it.
 	 * Called from the unit owning the airlock.
 	 * 
 	 * @param time amount of time (in millisols)
 	 */
 	public void timePassing(double time) {
 		
-		if (activated) {
-			
-			if (operatorID > 0) {//!= Integer.valueOf(-1)) {
-//				logger.config("unitManager is " + unitManager);
-				Person p = getPersonByID(operatorID);
-//				logger.config("operatorID is " + operatorID);
-//				logger.config("person is " + p);
-//				logger.config("p.getPhysicalCondition() is " + p.getPhysicalCondition());
-				boolean isDead = p.getPhysicalCondition().isDead();
-				// Check if operator is dead.
-				if (isDead) {
-					// If operator is dead, deactivate airlock.
-					String operatorName = p.getName();
-					LogConsolidated.log(Level.WARNING, 10_000, sourceName, "[" + p.getLocationTag().getLocale() + "] "
-							+ "Airlock operator " + operatorName + " was dead."
-							+ getEntityName());
-					
-					// Elect a new operator
-					electAnOperator();
-				}
-				
-				else {
-					// Check if airlock operator still has a task involving the airlock.
-					boolean hasAirlockTask = false;
-
-					Task task = p.getMind().getTaskManager().getTask();
-
-					if (task != null) {
-						if ((task instanceof ExitAirlock) || (task instanceof EnterAirlock)) {
-							hasAirlockTask = true;
-						}
-						task = task.getSubTask();
-					}
+		if (!activated || operatorID < 0)
+			return;
 
-					if (!hasAirlockTask) {
-						String operatorName = p.getName();
-						LogConsolidated.log(Level.FINE, 10_000, sourceName, "[" + p.getLocationTag().getLocale() + "] "
-								+ operatorName 
-								+ " was no longer being the Airlock operator operating the airlock at " + getEntityName());
-						
-						// Elect a new operator
-						electAnOperator();
-					}
-				}
+		Person p = getPersonByID(operatorID);
+		// Check if operator is dead.
+		if (p == null || p.getPhysicalCondition().isDead()) {
+			if (p != null) {
+				LogConsolidated.log(Level.WARNING, 10_000, sourceName, "[" + p.getLocationTag().getLocale() + "] "
+						+ "Airlock operator " + p.getName() + " was dead."
+						+ getEntityName());
 			}
 			
-//			else {
-//				// If no operator, deactivate airlock.
-//				LogConsolidated.log(Level.SEVERE, 0, sourceName, //"[" + locale + "] "
-//						"Without an operator, the airlock in " 
-//						+ getEntityName() + " may get deactivated.");
-//				
-//				// Elect a new operator
-//				electAnOperator();
-//			}
+			// Elect a new operator
+			electAnOperator(operatorID);
 		}
+
+		else if (!hasAirlockTask(p)) {
+			// The airlock task was dropped without being ended
+			endAirlockTask(p);
+		}
+	}
+
+	/**
+	 * Checks if a person's task or one of its subtasks involves the airlock.
+	 * 
+	 * @param p the person.
+	 * @return true if the person is entering or exiting through an airlock.
+	 */
+	private static boolean hasAirlockTask(Person p) {
+		Task task = p.getMind().getTaskManager().getTask();
+		while (task != null) {
+			if ((task instanceof ExitAirlock) || (task instanceof EnterAirlock))
+				return true;
+			task = task.getSubTask();
+		}
+		return false;
 	}
 
 	/**
@@ -692,30 +639,9 @@ public abstract class Airlock implements Serializable {
 	}
 
 	public Person getPersonByID(Integer id) {
-//		System.out.print("id is " + id);
-//		System.out.print("    lookupPerson is " + lookupPerson);
-//		System.out.println("    lookupPerson.get(id) is " + lookupPerson.get(id));
-//		logger.config("lookupPerson's size is " + lookupPerson.size());
-		if (lookupPerson.get(id) != null)
-			return lookupPerson.get(id);
-		else {
-			Person p = unitManager.getPersonByID(id);
-			if (p != null) {
-				addPersonID(p);
-				return p;
-			}
-		}
-		return null;
+		return unitManager.getPersonByID(id);
 	}
 
-	public void addPersonID(Person p) {
-		if (lookupPerson == null)
-			lookupPerson = new HashMap<>();
-		if (p != null && !lookupPerson.containsKey(p.getIdentifier()))
-			lookupPerson.put(p.getIdentifier(), p);
-	}
-	
-
 	/**
 	 * Initializes instances
 	 * 
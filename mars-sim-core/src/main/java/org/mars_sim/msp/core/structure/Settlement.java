@@ -12,6 +12,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -24,7 +25,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import org.mars_sim.msp.core.CollectionUtils;
 import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.Inventory;
 import org.mars_sim.msp.core.LifeSupportInterface;
@@ -34,6 +34,9 @@ import org.mars_sim.msp.core.SimulationConfig;
 import org.mars_sim.msp.core.Unit;
 import org.mars_sim.msp.core.UnitEventType;
 import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.data.MetricSeries;
+import org.mars_sim.msp.core.data.RollupPeriod;
+import org.mars_sim.msp.core.data.TelemetryStore;
 import org.mars_sim.msp.core.equipment.Equipment;
 import org.mars_sim.msp.core.location.LocationStateType;
 import org.mars_sim.msp.core.mars.DustStorm;
@@ -44,7 +47,9 @@ import org.mars_sim.msp.core.person.ShiftType;
 import org.mars_sim.msp.core.person.ai.job.Astronomer;
 import org.mars_sim.msp.core.person.ai.job.Engineer;
 import org.mars_sim.msp.core.person.ai.job.Job;
+import org.mars_sim.msp.core.person.ai.job.JobAssignmentOptimizer;
 import org.mars_sim.msp.core.person.ai.job.JobAssignmentType;
+import org.mars_sim.msp.core.person.ai.job.JobType;
 import org.mars_sim.msp.core.person.ai.job.JobUtil;
 import org.mars_sim.msp.core.person.ai.job.Meteorologist;
 import org.mars_sim.msp.core.person.ai.job.Technician;
@@ -78,9 +83,11 @@ import org.mars_sim.msp.core.person.ai.task.meta.MaintenanceEVAMeta;
 import org.mars_sim.msp.core.person.ai.task.meta.MaintenanceMeta;
 import org.mars_sim.msp.core.person.ai.task.meta.RepairEVAMalfunctionMeta;
 import org.mars_sim.msp.core.person.ai.task.meta.RepairMalfunctionMeta;
+import org.mars_sim.msp.core.person.ai.task.utils.ActivityLog;
 import org.mars_sim.msp.core.person.ai.task.utils.Task;
 import org.mars_sim.msp.core.person.ai.task.utils.TaskSchedule;
 import org.mars_sim.msp.core.person.health.RadiationExposure;
+import org.mars_sim.msp.core.person.health.RadiationModel;
 import org.mars_sim.msp.core.reportingAuthority.CNSAMissionControl;
 import org.mars_sim.msp.core.reportingAuthority.CSAMissionControl;
 import org.mars_sim.msp.core.reportingAuthority.ESAMissionControl;
@@ -95,6 +102,7 @@ import org.mars_sim.msp.core.reportingAuthority.SpaceXMissionControl;
 import org.mars_sim.msp.core.resource.AmountResource;
 import org.mars_sim.msp.core.resource.ResourceUtil;
 import org.mars_sim.msp.core.robot.Robot;
+import org.mars_sim.msp.core.robot.ai.task.RobotWorkBoard;
 import org.mars_sim.msp.core.science.ScienceType;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.building.BuildingManager;
@@ -154,8 +162,25 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 
 	private static final int RESOURCE_STAT_SOLS = 12;
 
+	/** The number of latest samples kept per time series. */
+	private static final int TELEMETRY_SAMPLES = 500;
+	/** The number of sols kept per time series. */
+	private static final int TELEMETRY_SOLS = Math.max(RESOURCE_STAT_SOLS, MAX_SOLS_DAILY_OUTPUT);
+	/** The number of months kept per time series. */
+	private static final int TELEMETRY_MONTHS = MarsClock.MONTHS_PER_ORBIT;
+	/** The number of orbits kept per time series. */
+	private static final int TELEMETRY_ORBITS = 10;
+
+	private static final String RESOURCE_METRIC = "resource.";
+	private static final String WATER_METRIC = "water.";
+	private static final String OUTPUT_METRIC = "output.";
+	private static final String LABOR_METRIC = "labor.";
+
 	private static final int SOL_SLEEP_PATTERN_REFRESH = 3;
 
+	/** The shift of the phases of the periodic jobs between two settlements (in millisols). */
+	private static final int PHASE_SPREAD = 7;
+
 	public static final int MIN_REGOLITH_RESERVE = 20; // per person
 
 	public static final int MIN_SAND_RESERVE = 5; // per person
@@ -197,8 +222,10 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	/* Override flag for construction/salvage mission creation at settlement. */
 	private transient boolean constructionOverride = false;
 	
-	/** The Flag showing if the settlement has been exposed to the last radiation event. */
-	private boolean[] exposed = { false, false, false };
+	/** The radiation environment of the settlement. */
+	private RadiationModel radiationModel;
+	/** The activity log shared by the people and robots of the settlement. */
+	private ActivityLog activityLog;
 	/** The cache for the number of building connectors. */
 	private transient int numConnectorsCache = 0;
 
@@ -225,18 +252,22 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 				ObjectiveType.TOURISM };
 	}
 	
-	/** The settlement's resource statistics. */
-	private transient Map<Integer, Map<Integer, List<Double>>> resourceStat = new HashMap<>();
 	/** The settlement's map of adjacent buildings. */
 	private transient Map<Building, List<Building>> adjacentBuildingMap = new HashMap<>();
+	/** The scheduler of the periodic jobs of this settlement. */
+	private transient SettlementScheduler scheduler;
+	/** The optimizer of the job assignment of this settlement. */
+	private transient JobAssignmentOptimizer jobOptimizer;
+	/** The board of the work posted for the robots of this settlement. */
+	private transient RobotWorkBoard robotWorkBoard;
 	/** The settlement's list of citizens. */
 	private Collection<Person> citizens = new ConcurrentLinkedQueue<Person>();
 	/** The settlement's list of owned robots. */
 	private Collection<Robot> ownedRobots = new ConcurrentLinkedQueue<Robot>();
 	/** The settlement's list of owned vehicles. */
 	private Collection<Vehicle> ownedVehicles = new ConcurrentLinkedQueue<Vehicle>();
-	/** The list of people currently within the settlement. */
-	private Collection<Person> peopleWithin = new ConcurrentLinkedQueue<Person>();
+	/** The people currently within the settlement, by identifier. */
+	private Map<Integer, Person> peopleWithin = new ConcurrentHashMap<>();
 	/** The list of equipment currently within the settlement. */
 	private Collection<Equipment> ownedEquipment = new ConcurrentLinkedQueue<Equipment>();
 	
@@ -394,12 +425,12 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	private List<Double> missionScores;
 	/** The settlement's achievement in scientific fields. */
 	private Map<ScienceType, Double> scientificAchievement;
-	/** The settlement's water consumption in kitchen when preparing/cleaning meal and dessert. */
-	private Map<Integer, Map<Integer, Double>> waterConsumption;
-	/** The settlement's daily output (resources produced). */
-	private Map<Integer, Map<Integer, Double>> dailyResourceOutput;
-	/** The settlement's daily labor hours output. */
-	private Map<Integer, Map<Integer, Double>> dailyLaborTime;
+	/**
+	 * The settlement's time series : the resource levels, the water consumption in
+	 * kitchen when preparing/cleaning meal and dessert, and the daily output and
+	 * labor time of the resources produced.
+	 */
+	private TelemetryStore telemetry;
 
 	private Map<Integer, Boolean> allowTradeMissionSettlements;
 	
@@ -699,12 +730,8 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 		missionScores = new ArrayList<>();
 		missionScores.add(200D);
 
-		// Create the water consumption map
-		waterConsumption = new ConcurrentHashMap<>();
-		// Create the daily output map
-		dailyResourceOutput = new ConcurrentHashMap<>();
-		// Create the daily labor hours map
-		dailyLaborTime = new ConcurrentHashMap<>();
+		// Create the time series store
+		telemetry = createTelemetryStore();
 //		logger.config("Done initialize()");
 	}
 
@@ -1044,11 +1071,8 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @return the number of robots
 	 */
 	public int getIndoorRobotsCount() {
-		return Math.toIntExact(getInventory().getAllContainedUnitIDs()
-				.stream().filter(id -> unitManager.getRobotByID(id) instanceof Robot)
-				.collect(Collectors.counting()));
-		
-		
+		return getInventory().getNumContainedRobots();
+
 //		int n = 0;
 //		Iterator<Unit> i = getInventory().getAllContainedUnits().iterator();
 //		while (i.hasNext()) {
@@ -1063,7 +1087,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @return Collection of robots
 	 */
 	public Collection<Robot> getRobots() {
-		return CollectionUtils.getRobot(getInventory().getContainedUnits());
+		return getInventory().getContainedRobots();
 	}
 
 	/**
@@ -1414,7 +1438,6 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 
 		performEndOfDayTasks();
 
-		// Sample a data point every SAMPLE_FREQ (in millisols)
 		int millisols = marsClock.getMillisolInt();
 
 		// Avoid checking at < 10 or 1000 millisols
@@ -1427,57 +1450,9 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 			// Updates the goods manager 
 			updateGoodsManager(time);
 
-			int remainder = millisols % CHECK_GOODS;
-			if (remainder == 1) {
-				// Update the goods value gradually with the use of buffers
-				if (goodsManager.isInitialized()) 
-					goodsManager.updateGoodsValueBuffers(time);
-			}
-			
-			remainder = millisols % CHECK_MISSION;
-			if (remainder == 1) {
-				// Reset the mission probability back to 1
-				missionProbability = -1;
-				mineralValue = -1;
-			}
-
-			remainder = millisols % SAMPLING_FREQ;
-			if (remainder == 1) {
-				// will NOT check for radiation at the exact 1000 millisols in order to balance
-				// the simulation load
-				// take a sample for each critical resource
-				sampleAllResources();
-			}
-
-			remainder = millisols % CHECK_WATER_RATION;
-			if (remainder == 1) {
-				// Recompute the water ration level
-				computeWaterRation();
-			}
-
-			// Check every RADIATION_CHECK_FREQ (in millisols)
-			// Compute whether a baseline, GCR, or SEP event has occurred
-			remainder = millisols % RadiationExposure.RADIATION_CHECK_FREQ;
-			if (remainder == 5) {
-				checkRadiationProbability(time);
-			}
-
-			remainder = millisols % RESOURCE_UPDATE_FREQ;
-			if (remainder == 5) {
-				iceProbabilityValue = computeIceProbability();
-			}
-
-			if (remainder == 10) {
-				regolithProbabilityValue = computeRegolithProbability();
-			}
-
-			// if (remainder == 15) {
-			// oxygenProbabilityValue = computeOxygenProbability();
-			// }
-
-			// if (remainder == 20) {
-			// methaneProbabilityValue = computeMethaneProbability();
-			// }
+			// Fire the periodic jobs that have become due. The jobs due during the
+			// change of day are caught up with at the 10th millisol.
+			getScheduler().timePassing(marsClock, time);
 		}
 
 		// updateRegistry();
@@ -1503,6 +1478,61 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 
 	}
 
+	/**
+	 * Gets the scheduler of the periodic jobs of this settlement. The jobs of the
+	 * settlement itself are registered when the scheduler is created.
+	 *
+	 * @return scheduler
+	 */
+	public SettlementScheduler getScheduler() {
+		if (scheduler == null) {
+			scheduler = new SettlementScheduler(identifier * PHASE_SPREAD);
+
+			// Update the goods value gradually with the use of buffers
+			scheduler.register("goods", CHECK_GOODS, 1, t -> {
+				if (goodsManager.isInitialized())
+					goodsManager.updateGoodsValueBuffers(t);
+			});
+			// Reset the mission probability back to 1
+			scheduler.register("mission", CHECK_MISSION, 1, t -> {
+				missionProbability = -1;
+				mineralValue = -1;
+			});
+			// Take a sample for each critical resource
+			scheduler.register("sampling", SAMPLING_FREQ, 1, t -> sampleAllResources());
+			// Recompute the water ration level
+			scheduler.register("water ration", CHECK_WATER_RATION, 1, t -> computeWaterRation());
+			// Compute whether a baseline, GCR, or SEP event has occurred
+			scheduler.register("radiation", RadiationExposure.RADIATION_CHECK_FREQ, 5, t -> checkRadiationProbability(t));
+			scheduler.register("ice", RESOURCE_UPDATE_FREQ, 5, t -> iceProbabilityValue = computeIceProbability());
+			scheduler.register("regolith", RESOURCE_UPDATE_FREQ, 10,
+					t -> regolithProbabilityValue = computeRegolithProbability());
+		}
+		return scheduler;
+	}
+
+	/**
+	 * Gets the optimizer of the job assignment of this settlement.
+	 *
+	 * @return optimizer
+	 */
+	public JobAssignmentOptimizer getJobOptimizer() {
+		if (jobOptimizer == null)
+			jobOptimizer = new JobAssignmentOptimizer(this);
+		return jobOptimizer;
+	}
+
+	/**
+	 * Gets the board of the work posted for the robots of this settlement.
+	 *
+	 * @return work board
+	 */
+	public synchronized RobotWorkBoard getRobotWorkBoard() {
+		if (robotWorkBoard == null)
+			robotWorkBoard = new RobotWorkBoard();
+		return robotWorkBoard;
+	}
+
 	public void sampleAllResources() {
 
 		for (int i = 0; i < NUM_CRITICAL_RESOURCES; i++) {
@@ -1533,35 +1563,8 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 			resource = ResourceUtil.iceID;// "ice";
 		}
 
-		if (resourceStat == null)
-			resourceStat = new HashMap<>();
-		if (resourceStat.containsKey(solCache)) {
-			Map<Integer, List<Double>> todayMap = resourceStat.get(solCache);
-
-			if (todayMap.containsKey(resourceType)) {
-				List<Double> list = todayMap.get(resourceType);
-				double newAmount = getInventory().getAmountResourceStored(resource, false);
-				list.add(newAmount);
-
-			}
-
-			else {
-				List<Double> list = new ArrayList<>();
-				double newAmount = getInventory().getAmountResourceStored(resource, false);
-				list.add(newAmount);
-				todayMap.put(resourceType, list);
-			}
-
-		}
-
-		else {
-			List<Double> list = new ArrayList<>();
-			Map<Integer, List<Double>> todayMap = new HashMap<>();
-			double newAmount = getInventory().getAmountResourceStored(resource, false);
-			list.add(newAmount);
-			todayMap.put(resourceType, list);
-			resourceStat.put(solCache, todayMap);
-		}
+		double newAmount = getInventory().getAmountResourceStored(resource, false);
+		getTelemetry().record(RESOURCE_METRIC + resourceType, marsClock, newAmount);
 	}
 
 	/*
@@ -1579,32 +1582,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 		else if (solType == -10) // average from 10 sols ago
 			sol = solCache - 10;
 
-		int size = 0;
-		double average = 0;
-
-		if (resourceStat.containsKey(sol)) {
-			Map<Integer, List<Double>> map = resourceStat.get(sol);
-			// map.containsKey(resourceType));
-			if (map.containsKey(resourceType)) {
-				List<Double> list = map.get(resourceType);
-				size = list.size();
-				for (int i = 0; i < size; i++) {
-					average += list.get(i);
-				}
-
-				average = average / size;
-
-			} else {
-				average = 0; // how long will it be filled ? ?
-			}
-
-		} else
-			average = 0;
-
-		// if (size != 0)
-		// average = average/size;
-
-		return average;
+		return getTelemetry().getAverage(RESOURCE_METRIC + resourceType, RollupPeriod.SOL, sol);
 	}
 
 //	 public void updateRegistry() {
@@ -1651,14 +1629,6 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 		int solElapsed = marsClock.getMissionSol();
 		if (solCache != solElapsed) {
 
-			// Limit the size of the dailyWaterUsage to x key value pairs
-			if (waterConsumption.size() > MAX_NUM_SOLS)
-				waterConsumption.remove(solElapsed - MAX_NUM_SOLS);
-
-			// Limit the size of the dailyWaterUsage to x key value pairs
-			if (dailyResourceOutput.size() > MAX_SOLS_DAILY_OUTPUT)
-				dailyResourceOutput.remove(solElapsed - MAX_SOLS_DAILY_OUTPUT);
-
 //			printTaskProbability();
 //			printMissionProbability();
 
@@ -1667,8 +1637,6 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 
 			tuneJobDeficit();
 
-			refreshResourceStat();
-
 			refreshSleepMap(solElapsed);
 
 //			getSupplyDemandSampleReport(solElapsed);
@@ -1679,22 +1647,6 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 		}
 	}
 
-	public void refreshResourceStat() {
-		if (resourceStat == null)
-			resourceStat = new HashMap<>();
-		// Remove the resourceStat map data from 12 days ago
-		if (resourceStat.size() > RESOURCE_STAT_SOLS)
-			resourceStat.remove(0);
-		// if (counter30 == 31) {
-		// resourceStat.remove(0);
-		// resourceStat.clear();
-		// resourceStat = new HashMap<>();
-		// counter30--;
-		// }
-		// else
-		// counter30++;
-	}
-
 	/***
 	 * Refreshes the sleep map for each person in the settlement
 	 * 
@@ -2433,7 +2385,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @return collection of people within.
 	 */
 	public Collection<Person> getPeopleWithin() {
-		return peopleWithin;
+		return Collections.unmodifiableCollection(peopleWithin.values());
 	}
 		
 	/**
@@ -2442,9 +2394,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @param p the person
 	 */
 	public void addPeopleWithin(Person p) {
-		if (!peopleWithin.contains(p)) {
-			peopleWithin.add(p);
-		}
+		peopleWithin.putIfAbsent(p.getIdentifier(), p);
 	}
 	
 	/**
@@ -2453,9 +2403,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @param p the person
 	 */
 	public void removePeopleWithin(Person p) {
-		if (peopleWithin.contains(p)) {
-			peopleWithin.remove(p);
-		}
+		peopleWithin.remove(p.getIdentifier());
 	}
 	
 	/**
@@ -2468,6 +2416,8 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 			citizens.add(p);
 			// Update the numCtizens
 			numCitizens = citizens.size();
+			if (jobOptimizer != null)
+				jobOptimizer.personAdded(p);
 			fireUnitUpdate(UnitEventType.ADD_ASSOCIATED_PERSON_EVENT, this);
 		}
 	}
@@ -2480,6 +2430,8 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	public void removeACitizen(Person p) {
 		if (citizens.contains(p)) {
 			citizens.remove(p);
+			if (jobOptimizer != null)
+				jobOptimizer.personRemoved(p);
 			fireUnitUpdate(UnitEventType.REMOVE_ASSOCIATED_PERSON_EVENT, this);
 			// Update the numCtizens
 			numCitizens = citizens.size();
@@ -3682,8 +3634,19 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 		}
 	}
 
-	public Map<Integer, Map<Integer, List<Double>>> getResourceStat() {
-		return resourceStat;
+	/**
+	 * Gets the time series store of this settlement.
+	 * 
+	 * @return store
+	 */
+	public TelemetryStore getTelemetry() {
+		if (telemetry == null)
+			telemetry = createTelemetryStore();
+		return telemetry;
+	}
+
+	private static TelemetryStore createTelemetryStore() {
+		return new TelemetryStore(TELEMETRY_SAMPLES, TELEMETRY_SOLS, TELEMETRY_MONTHS, TELEMETRY_ORBITS);
 	}
 
 	public int getSolCache() {
@@ -3691,7 +3654,29 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	}
 
 	public boolean[] getExposed() {
-		return exposed;
+		return getRadiationModel().getExposed();
+	}
+
+	/**
+	 * Gets the radiation environment of the settlement.
+	 * 
+	 * @return {@link RadiationModel}
+	 */
+	public RadiationModel getRadiationModel() {
+		if (radiationModel == null)
+			radiationModel = new RadiationModel();
+		return radiationModel;
+	}
+
+	/**
+	 * Gets the activity log shared by the people and robots of the settlement.
+	 * 
+	 * @return {@link ActivityLog}
+	 */
+	public synchronized ActivityLog getActivityLog() {
+		if (activityLog == null)
+			activityLog = new ActivityLog();
+		return activityLog;
 	}
 
 	/*
@@ -3735,24 +3720,24 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 //	    	exposed[0] = false;
 
 		// Galactic cosmic rays (GCRs) event
-		// double rand2 = Math.round(RandomUtil.getRandomDouble(100) * 100.0)/100.0;
-		if (RandomUtil.lessThanRandPercent(chance1)) {
-			exposed[1] = true;
+		boolean gcr = RandomUtil.lessThanRandPercent(chance1);
+		if (gcr) {
 			LogConsolidated.log(Level.INFO, 1_000, sourceName,
 					"[" + name + DETECTOR_GRID + UnitEventType.GCR_EVENT.toString() + " is imminent.");
 			this.fireUnitUpdate(UnitEventType.GCR_EVENT);
-		} else
-			exposed[1] = false;
+		}
 
 		// ~ 300 milli Sieverts for a 500-day mission
 		// Solar energetic particles (SEPs) event
-		if (RandomUtil.lessThanRandPercent(chance2)) {
-			exposed[2] = true;
+		boolean sep = RandomUtil.lessThanRandPercent(chance2);
+		if (sep) {
 			LogConsolidated.log(Level.INFO, 1_000, sourceName,
 					"[" + name + DETECTOR_GRID + UnitEventType.SEP_EVENT.toString() + " is imminent.");
 			this.fireUnitUpdate(UnitEventType.SEP_EVENT);
-		} else
-			exposed[2] = false;
+		}
+
+		// Draw the dose rate once for all the people outside
+		getRadiationModel().setExposed(false, gcr, sep);
 	}
 
 	public CompositionOfAir getCompositionOfAir() {
@@ -4283,43 +4268,10 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @param millisols the labor time
 	 */
 	public void addOutput(Integer id, double amount, double millisols) {
-
 		// Record the amount of resource produced
-		Map<Integer, Double> amountMap = null;
-
-		if (dailyResourceOutput.containsKey(solCache)) {
-			amountMap = dailyResourceOutput.get(solCache);
-			if (amountMap.containsKey(id)) {
-				double oldAmt = amountMap.get(id);
-				amountMap.put(id, amount + oldAmt);
-			} else {
-				amountMap.put(id, amount);
-			}
-		} else {
-			amountMap = new ConcurrentHashMap<>();
-			amountMap.put(id, amount);
-		}
-
-		dailyResourceOutput.put(solCache, amountMap);
-
+		getTelemetry().record(OUTPUT_METRIC + id, marsClock, amount);
 		// Record the labor hours
-		Map<Integer, Double> laborHrMap = null;
-
-		if (dailyLaborTime.containsKey(solCache)) {
-			laborHrMap = dailyLaborTime.get(solCache);
-			if (laborHrMap.containsKey(id)) {
-				double oldAmt = laborHrMap.get(id);
-				laborHrMap.put(id, millisols + oldAmt);
-			} else {
-				laborHrMap.put(id, millisols);
-			}
-		} else {
-			laborHrMap = new ConcurrentHashMap<>();
-			laborHrMap.put(id, millisols);
-		}
-
-		dailyLaborTime.put(solCache, amountMap);
-
+		getTelemetry().record(LABOR_METRIC + id, marsClock, millisols);
 	}
 
 	/**
@@ -4329,9 +4281,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @return
 	 */
 	public double getDailyesourceOutput(Integer id) {
-		if (solCache - 1 > 0)
-			return dailyResourceOutput.get(solCache-1).get(id);
-		return 0;
+		return getTelemetry().getSum(OUTPUT_METRIC + id, RollupPeriod.SOL, solCache - 1);
 	}
 	
 	/**
@@ -4341,9 +4291,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * @return
 	 */
 	public double getDailyLaborTime(Integer id) {
-		if (solCache - 1 > 0)
-			return dailyLaborTime.get(solCache-1).get(id);
-		return 0;
+		return getTelemetry().getSum(LABOR_METRIC + id, RollupPeriod.SOL, solCache - 1);
 	}
 	
 	/**
@@ -4357,22 +4305,7 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 		// type = 1 : preparing dessert
 		// type = 2 : cleaning kitchen for meal
 		// type = 3 : cleaning kitchen for dessert
-		Map<Integer, Double> map = null;
-
-		if (waterConsumption.containsKey(solCache)) {
-			map = waterConsumption.get(solCache);
-			if (map.containsKey(type)) {
-				double oldAmt = map.get(type);
-				map.put(type, amount + oldAmt);
-			} else {
-				map.put(type, amount);
-			}
-		} else {
-			map = new ConcurrentHashMap<>();
-			map.put(type, amount);
-		}
-
-		waterConsumption.put(solCache, map);
+		getTelemetry().record(WATER_METRIC + type, marsClock, amount);
 	}
 
 	/**
@@ -4384,11 +4317,13 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	public Map<Integer, Double> getTotalConsumptionBySol(int type) {
 		Map<Integer, Double> map = new ConcurrentHashMap<>();
 
-		for (Integer sol : waterConsumption.keySet()) {
-			for (Integer t : waterConsumption.get(sol).keySet()) {
-				if (t == type) {
-					map.put(sol, waterConsumption.get(sol).get(t));
-				}
+		String metric = WATER_METRIC + type;
+		if (getTelemetry().hasSeries(metric)) {
+			MetricSeries series = getTelemetry().getSeries(metric);
+			int[] sols = series.getKeys(RollupPeriod.SOL);
+			// Only the last x sols are used
+			for (int i = Math.max(0, sols.length - MAX_NUM_SOLS - 1); i < sols.length; i++) {
+				map.put(sols[i], series.getSum(RollupPeriod.SOL, sols[i]));
 			}
 		}
 
@@ -4462,18 +4397,18 @@ public class Settlement extends Structure implements Serializable, LifeSupportIn
 	 * Tune up the settlement with unique job position
 	 */
 	public void tuneJobDeficit() {
-		int numEngs = JobUtil.numJobs(Engineer.class.getSimpleName(), this);
+		int numEngs = JobUtil.numJobs(JobType.ENGINEER, this);
 		if (numEngs == 0) {
 			assignBestCandidate(this, Engineer.class);
 		}
 
-		int numTechs = JobUtil.numJobs(Technician.class.getSimpleName(), this);
+		int numTechs = JobUtil.numJobs(JobType.TECHNICIAN, this);
 		if (numTechs == 0) {
 			assignBestCandidate(this, Technician.class);
 		}
 
 		if (this.getNumCitizens() > ChainOfCommand.POPULATION_WITH_CHIEFS) {
-			int numWeatherman = JobUtil.numJobs(Meteorologist.class.getSimpleName(), this);
+			int numWeatherman = JobUtil.numJobs(JobType.METEOROLOGIST, this);
 			if (numWeatherman == 0) {
 				assignBestCandidate(this, Meteorologist.class);
 			}
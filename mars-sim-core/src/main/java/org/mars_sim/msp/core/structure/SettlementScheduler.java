@@ -0,0 +1,185 @@
+/**
+ * Mars Simulation Project
+ * SettlementScheduler.java
+ */
+package org.mars_sim.msp.core.structure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mars_sim.msp.core.time.MarsClock;
+
+/**
+ * The SettlementScheduler class is a timer wheel for the periodic jobs of a
+ * settlement. Each slot of the wheel covers one millisol. A job registered with
+ * a period and a phase offset is due at every millisol where
+ * (millisol - offset) is a multiple of the period. When a pulse covers several
+ * millisols, every job that has become due is fired exactly once.
+ */
+public class SettlementScheduler {
+
+	/** The number of slots in the wheel, one per millisol. */
+	private static final int WHEEL_SIZE = 64;
+
+	/**
+	 * A periodic job of a settlement.
+	 */
+	public interface Job {
+
+		/**
+		 * Runs the job.
+		 *
+		 * @param time the amount of time passing in the current pulse (in millisols)
+		 */
+		void run(double time);
+	}
+
+	/**
+	 * A registered job and its next due tick.
+	 */
+	private static class Entry {
+
+		private String name;
+		private int period;
+		private int offset;
+		private long due = -1;
+		private Job job;
+
+		private Entry(String name, int period, int offset, Job job) {
+			this.name = name;
+			this.period = period;
+			this.offset = offset;
+			this.job = job;
+		}
+
+		/**
+		 * Gets the first tick not earlier than a given tick at which this job is due.
+		 */
+		private long nextDue(long from) {
+			return from + Math.floorMod(offset - from, period);
+		}
+	}
+
+	/** The shift applied to the phase of every job of this settlement. */
+	private int spread;
+	/** The last tick that has been processed. */
+	private long lastTick = -1;
+
+	/** The slots of the wheel. */
+	private List<List<Entry>> wheel = new ArrayList<>(WHEEL_SIZE);
+	/** The jobs registered since the last pulse. */
+	private List<Entry> pending = new ArrayList<>();
+	/** The jobs fired in the current pulse. */
+	private List<Entry> fired = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param spread the shift applied to the phases so that the jobs of different
+	 *               settlements are not due at the same millisol
+	 */
+	public SettlementScheduler(int spread) {
+		this.spread = spread;
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<>());
+		}
+	}
+
+	/**
+	 * Registers a periodic job.
+	 *
+	 * @param name   the name of the job
+	 * @param period the period (in millisols)
+	 * @param phase  the phase offset within the period (in millisols)
+	 * @param job    the job
+	 */
+	public void register(String name, int period, int phase, Job job) {
+		if (period <= 0)
+			throw new IllegalArgumentException("The period of " + name + " must be positive : " + period);
+		pending.add(new Entry(name, period, Math.floorMod(phase + spread, period), job));
+	}
+
+	/**
+	 * Fires the jobs that have become due since the last pulse.
+	 *
+	 * @param clock the mars clock
+	 * @param time  the amount of time passing (in millisols)
+	 */
+	public void timePassing(MarsClock clock, double time) {
+		advance(clock.getMissionSol() * 1000L + (long) clock.getMillisol(), time);
+	}
+
+	/**
+	 * Fires the jobs that have become due up to and including a tick.
+	 *
+	 * @param tick the current tick (in millisols since the start of the mission)
+	 * @param time the amount of time passing (in millisols)
+	 */
+	void advance(long tick, double time) {
+		if (lastTick < 0 || tick < lastTick) {
+			// First pulse, or the clock has been reset
+			lastTick = tick - 1;
+			reschedule();
+		}
+
+		long from = lastTick + 1;
+		for (Entry e : pending) {
+			e.due = e.nextDue(from);
+			wheel.get(slot(e.due)).add(e);
+		}
+		pending.clear();
+
+		if (tick <= lastTick)
+			return;
+
+		// Collect the due jobs by visiting each slot covered by the pulse once
+		long span = Math.min(tick - lastTick, WHEEL_SIZE);
+		for (long t = tick - span + 1; t <= tick; t++) {
+			List<Entry> bucket = wheel.get(slot(t));
+			for (int i = bucket.size() - 1; i >= 0; i--) {
+				Entry e = bucket.get(i);
+				if (e.due <= tick) {
+					bucket.remove(i);
+					fired.add(e);
+				}
+			}
+		}
+		lastTick = tick;
+
+		for (Entry e : fired) {
+			e.job.run(time);
+			e.due = e.nextDue(tick + 1);
+			wheel.get(slot(e.due)).add(e);
+		}
+		fired.clear();
+	}
+
+	/**
+	 * Moves all the jobs back to the pending list.
+	 */
+	private void reschedule() {
+		for (List<Entry> bucket : wheel) {
+			pending.addAll(bucket);
+			bucket.clear();
+		}
+	}
+
+	private static int slot(long tick) {
+		return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+	}
+
+	/**
+	 * Gets the names of the registered jobs.
+	 *
+	 * @return list of names
+	 */
+	public List<String> getJobNames() {
+		List<String> result = new ArrayList<>();
+		for (Entry e : pending)
+			result.add(e.name);
+		for (List<Entry> bucket : wheel)
+			for (Entry e : bucket)
+				result.add(e.name);
+		return result;
+	}
+}
@@ -61,6 +61,7 @@ import org.mars_sim.msp.core.structure.building.function.PowerGeneration;
 import org.mars_sim.msp.core.structure.building.function.PowerStorage;
 import org.mars_sim.msp.core.structure.building.function.Recreation;
 import org.mars_sim.msp.core.structure.building.function.Research;
+import org.mars_sim.msp.core.structure.building.function.ResourceProcessScheduler;
 import org.mars_sim.msp.core.structure.building.function.ResourceProcessing;
 import org.mars_sim.msp.core.structure.building.function.RoboticStation;
 import org.mars_sim.msp.core.structure.building.function.Storage;
@@ -75,6 +76,7 @@ import org.mars_sim.msp.core.structure.construction.ConstructionSite;
 import org.mars_sim.msp.core.structure.construction.ConstructionStageInfo;
 import org.mars_sim.msp.core.structure.construction.ConstructionUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.time.MasterClock;
 import org.mars_sim.msp.core.tool.RandomUtil;
 import org.mars_sim.msp.core.vehicle.GroundVehicle;
@@ -97,7 +99,7 @@ public class BuildingManager implements Serializable {
 	private static final String sourceName = logger.getName().substring(logger.getName().lastIndexOf(".") + 1,
 			logger.getName().length());
 
-	private transient MarsClock lastVPUpdateTime;
+	private transient MarsInstant lastVPUpdateTime;
 
 	private transient List<Building> farmsNeedingWorkCache = new ArrayList<>();
 
@@ -105,6 +107,8 @@ public class BuildingManager implements Serializable {
 	private transient Map<String, Double> VPOldCache = new HashMap<String, Double>();
 	private transient Map<FunctionType, List<Building>> buildingFunctionsMap  = new ConcurrentHashMap<FunctionType, List<Building>>();
 	private transient Map<String, Integer> buildingTypeIDMap  = new HashMap<>();
+	private transient ResourceProcessScheduler processScheduler;
+	private transient FreeSpaceIndex freeSpaceIndex;
 
 	// Data members
 //	private int numBuildings;
@@ -242,6 +246,8 @@ public class BuildingManager implements Serializable {
 			oldBuilding.removeFunctionsFromSettlement();
 
 			buildings.remove(oldBuilding);
+			if (freeSpaceIndex != null)
+				freeSpaceIndex.remove(oldBuilding);
 
 			// Call to remove all references of this building in all functions
 			removeAllFunctionsfromBFMap(oldBuilding);
@@ -327,6 +333,8 @@ public class BuildingManager implements Serializable {
 			Settlement settlement = unitManager.getSettlementByID(settlementID);
 			
 			buildings.add(newBuilding);
+			if (freeSpaceIndex != null)
+				freeSpaceIndex.add(newBuilding);
 			
 			int id = newBuilding.getInhabitableID();
 			
@@ -352,6 +360,8 @@ public class BuildingManager implements Serializable {
 	public void addMockBuilding(Building newBuilding) {
 		if (!buildings.contains(newBuilding)) {
 			buildings.add(newBuilding);
+			if (freeSpaceIndex != null)
+				freeSpaceIndex.add(newBuilding);
 			addAllFunctionstoBFMap(newBuilding);
 		}
 	}
@@ -362,6 +372,7 @@ public class BuildingManager implements Serializable {
 	public void removeAllMockBuildings() {
 		buildings.clear();
 		buildingFunctionsMap.clear();
+		freeSpaceIndex = null;
 	}
 	
 	/**
@@ -700,6 +711,15 @@ public class BuildingManager implements Serializable {
 		for (Building b : buildings) {
 			b.timePassing(time);
 		}
+
+		// Run the resource processes of all the buildings together
+		if (processScheduler == null) {
+			Settlement settlement = (unitManager != null ? unitManager.getSettlementByID(settlementID) : null);
+			if (settlement == null)
+				return;
+			processScheduler = new ResourceProcessScheduler(settlement);
+		}
+		processScheduler.timePassing(time, getBuildings(FunctionType.RESOURCE_PROCESSING));
 	}
 
 	/**
@@ -1579,10 +1599,10 @@ public class BuildingManager implements Serializable {
 		// MarsClock currentTime =
 		// Simulation.instance().getMasterClock().getMarsClock(); ?
 		if ((lastVPUpdateTime == null)
-				|| (MarsClock.getTimeDiff(marsClock, lastVPUpdateTime) > 1000D)) {
+				|| (marsClock.getInstant().getTimeDiff(lastVPUpdateTime) > 1000D)) {
 			VPNewCache.clear();
 			VPOldCache.clear();
-			lastVPUpdateTime = (MarsClock) marsClock.clone();
+			lastVPUpdateTime = marsClock.getInstant();
 		}
 		
 		if (newBuilding && VPNewCache.containsKey(buildingType)) {
@@ -1750,6 +1770,40 @@ public class BuildingManager implements Serializable {
 		return goodLocation;
 	}
 
+	/**
+	 * Gets the free space index of the settlement, building it from the existing
+	 * buildings if needed.
+	 * 
+	 * @return free space index
+	 */
+	public FreeSpaceIndex getFreeSpaceIndex() {
+		if (freeSpaceIndex == null) {
+			freeSpaceIndex = new FreeSpaceIndex();
+			for (Building building : buildings) {
+				freeSpaceIndex.add(building);
+			}
+		}
+		return freeSpaceIndex;
+	}
+
+	/**
+	 * Finds the nearest open location to an existing building for a new building
+	 * or construction site.
+	 * 
+	 * @param building  the existing building.
+	 * @param width     the new building's width (meters).
+	 * @param length    the new building's length (meters).
+	 * @param facing    the new building's facing (degrees clockwise from North).
+	 * @param clearance the clearance from the other buildings (meters).
+	 * @param site      the new construction site or null if none.
+	 * @return the location, or null if none is found.
+	 */
+	public Point2D getNearestOpenLocation(Building building, double width, double length, double facing,
+			double clearance, ConstructionSite site) {
+		return getFreeSpaceIndex().findNearestOpenLocation(building.getXLocation(), building.getYLocation(), width,
+				length, clearance, p -> isBuildingLocationOpen(p.getX(), p.getY(), width, length, facing, site));
+	}
+
 	/**
 	 * Checks if a building frame exists at the settlement. Either with an existing
 	 * building or at a construction site.
@@ -0,0 +1,227 @@
+/**
+ * Mars Simulation Project
+ * FreeSpaceIndex.java
+ */
+package org.mars_sim.msp.core.structure.building;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.mars_sim.msp.core.LocalBoundedObject;
+
+/**
+ * The FreeSpaceIndex class is an occupancy grid of the building footprints of
+ * a settlement, with the distance from each free cell to the nearest occupied
+ * cell. It answers where the nearest open location for a new footprint is
+ * without testing the footprint against every building at every candidate
+ * position. Footprints are added and removed as buildings come and go, and the
+ * distances are worked out again only when the next query needs them.
+ */
+public class FreeSpaceIndex {
+
+	/** The size of a cell [in meters]. */
+	public static final double CELL_SIZE = 1D;
+	/** The number of cells from the settlement center to the edge of the grid. */
+	public static final int HALF_SIZE = 256;
+	/** The number of cells across the grid. */
+	private static final int SIZE = 2 * HALF_SIZE;
+
+	/** The most candidate locations checked by a query. */
+	private static final int MAX_CANDIDATES = 100;
+	/** The distance of a free cell with no occupied cell in the grid. */
+	private static final float FAR = Float.MAX_VALUE;
+
+	/** The number of footprints covering each cell. */
+	private short[] counts = new short[SIZE * SIZE];
+	/** The distance from each cell to the nearest occupied cell [in meters]. */
+	private float[] distances = new float[SIZE * SIZE];
+	/** True if the distances are stale. */
+	private boolean dirty = true;
+
+	/**
+	 * Adds the footprint of a building or other structure.
+	 *
+	 * @param object the structure.
+	 */
+	public void add(LocalBoundedObject object) {
+		mark(object, 1);
+	}
+
+	/**
+	 * Removes the footprint of a building or other structure.
+	 *
+	 * @param object the structure.
+	 */
+	public void remove(LocalBoundedObject object) {
+		mark(object, -1);
+	}
+
+	/**
+	 * Checks if the cell of a location is covered by a footprint.
+	 *
+	 * @param x the X location.
+	 * @param y the Y location.
+	 * @return true if occupied.
+	 */
+	public boolean isOccupied(double x, double y) {
+		int column = getCell(x);
+		int row = getCell(y);
+		return isInGrid(column, row) && counts[row * SIZE + column] > 0;
+	}
+
+	/**
+	 * Finds the nearest location to a point where a footprint of any facing keeps
+	 * a clearance from all the footprints in the grid. Each candidate, nearest
+	 * first, is then confirmed by an exact check.
+	 *
+	 * @param x         the X location to search from.
+	 * @param y         the Y location to search from.
+	 * @param width     the width of the new footprint (meters).
+	 * @param length    the length of the new footprint (meters).
+	 * @param clearance the clearance from the other footprints (meters).
+	 * @param check     the exact check of a candidate location.
+	 * @return the location, or null if none is found.
+	 */
+	public Point2D findNearestOpenLocation(double x, double y, double width, double length, double clearance,
+			Predicate<Point2D> check) {
+		updateDistances();
+
+		// Allow for the cells the footprints were rounded out to
+		double radius = Math.hypot(width, length) / 2D + clearance + CELL_SIZE;
+		int startColumn = getCell(x);
+		int startRow = getCell(y);
+
+		Point2D origin = new Point2D.Double(x, y);
+		int checked = 0;
+		List<Point2D> ring = new ArrayList<>();
+		for (int r = 0; r < SIZE; r++) {
+			ring.clear();
+			for (int row = startRow - r; row <= startRow + r; row++) {
+				// Only the first and last columns of the rows in between are on the ring
+				boolean edgeRow = row == startRow - r || row == startRow + r;
+				int step = edgeRow ? 1 : 2 * r;
+				for (int column = startColumn - r; column <= startColumn + r; column += step) {
+					if (isInGrid(column, row) && distances[row * SIZE + column] >= radius)
+						ring.add(new Point2D.Double(getLocation(column), getLocation(row)));
+				}
+			}
+
+			Collections.sort(ring, Comparator.comparingDouble(p -> p.distanceSq(origin)));
+			for (Point2D p : ring) {
+				if (check.test(p))
+					return p;
+				if (++checked >= MAX_CANDIDATES)
+					return null;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Raises or lowers the count of the cells covered by a footprint. A cell is
+	 * covered if any part of it may lie inside the footprint.
+	 */
+	private void mark(LocalBoundedObject object, int delta) {
+		double w = object.getWidth() / 2D + CELL_SIZE * Math.sqrt(.5D);
+		double l = object.getLength() / 2D + CELL_SIZE * Math.sqrt(.5D);
+		double facing = Math.toRadians(object.getFacing());
+		double cos = Math.cos(facing);
+		double sin = Math.sin(facing);
+		double x0 = object.getXLocation();
+		double y0 = object.getYLocation();
+		double reach = Math.hypot(w, l);
+
+		for (int row = getCell(y0 - reach); row <= getCell(y0 + reach); row++) {
+			for (int column = getCell(x0 - reach); column <= getCell(x0 + reach); column++) {
+				if (!isInGrid(column, row))
+					continue;
+				double dx = getLocation(column) - x0;
+				double dy = getLocation(row) - y0;
+				// The width runs along (cos, sin) and the length along (-sin, cos)
+				double u = dx * cos + dy * sin;
+				double v = -dx * sin + dy * cos;
+				if (Math.abs(u) <= w && Math.abs(v) <= l) {
+					int index = row * SIZE + column;
+					counts[index] = (short) Math.max(0, counts[index] + delta);
+				}
+			}
+		}
+
+		dirty = true;
+	}
+
+	/**
+	 * Works out the distance from each cell to the nearest occupied cell, with a
+	 * two-pass chamfer transform. The distances are within a few percent of the
+	 * straight-line distances, which the exact check of a candidate makes up for.
+	 */
+	private void updateDistances() {
+		if (!dirty)
+			return;
+
+		final float straight = (float) CELL_SIZE;
+		final float diagonal = (float) (CELL_SIZE * Math.sqrt(2D));
+
+		for (int i = 0; i < distances.length; i++)
+			distances[i] = counts[i] > 0 ? 0F : FAR;
+
+		// Forward pass
+		for (int row = 0; row < SIZE; row++) {
+			for (int column = 0; column < SIZE; column++) {
+				int i = row * SIZE + column;
+				float d = distances[i];
+				if (column > 0)
+					d = Math.min(d, add(distances[i - 1], straight));
+				if (row > 0) {
+					d = Math.min(d, add(distances[i - SIZE], straight));
+					if (column > 0)
+						d = Math.min(d, add(distances[i - SIZE - 1], diagonal));
+					if (column < SIZE - 1)
+						d = Math.min(d, add(distances[i - SIZE + 1], diagonal));
+				}
+				distances[i] = d;
+			}
+		}
+
+		// Backward pass
+		for (int row = SIZE - 1; row >= 0; row--) {
+			for (int column = SIZE - 1; column >= 0; column--) {
+				int i = row * SIZE + column;
+				float d = distances[i];
+				if (column < SIZE - 1)
+					d = Math.min(d, add(distances[i + 1], straight));
+				if (row < SIZE - 1) {
+					d = Math.min(d, add(distances[i + SIZE], straight));
+					if (column < SIZE - 1)
+						d = Math.min(d, add(distances[i + SIZE + 1], diagonal));
+					if (column > 0)
+						d = Math.min(d, add(distances[i + SIZE - 1], diagonal));
+				}
+				distances[i] = d;
+			}
+		}
+
+		dirty = false;
+	}
+
+	private static float add(float distance, float step) {
+		return distance == FAR ? FAR : distance + step;
+	}
+
+	private static int getCell(double location) {
+		return (int) Math.floor(location / CELL_SIZE) + HALF_SIZE;
+	}
+
+	private static double getLocation(int cell) {
+		return (cell - HALF_SIZE + .5D) * CELL_SIZE;
+	}
+
+	private static boolean isInGrid(int column, int row) {
+		return column >= 0 && column < SIZE && row >= 0 && row < SIZE;
+	}
+}
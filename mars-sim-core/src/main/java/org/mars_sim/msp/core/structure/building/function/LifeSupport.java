@@ -17,8 +17,10 @@ import org.mars_sim.msp.core.time.MarsClock;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -48,7 +50,8 @@ public class LifeSupport extends Function implements Serializable {
 
 	private Building building;
 
-	private Collection<Person> occupants;
+	/** The occupants by identifier, as the hash code of a person changes with age. */
+	private Map<Integer, Person> occupants;
 
 	/**
 	 * Constructor.
@@ -61,7 +64,7 @@ public class LifeSupport extends Function implements Serializable {
 		// Each building has its own instance of LifeSupport
 		this.building = building;
 
-		occupants = new ConcurrentLinkedQueue<Person>();
+		occupants = new ConcurrentHashMap<>();
 
 		// Set occupant capacity.
 		occupantCapacity = buildingConfig.getLifeSupportCapacity(building.getBuildingType());
@@ -86,7 +89,7 @@ public class LifeSupport extends Function implements Serializable {
 		// Use Function constructor
 		super(THE_FUNCTION, building);
 
-		occupants = new ConcurrentLinkedQueue<Person>();
+		occupants = new ConcurrentHashMap<>();
 
 		this.occupantCapacity = occupantCapacity;
 		this.powerRequired = powerRequired;
@@ -182,16 +185,16 @@ public class LifeSupport extends Function implements Serializable {
 	 * @return true if unit is in building.
 	 */
 	public boolean containsOccupant(Person person) {
-		return occupants.contains(person);
+		return occupants.containsKey(person.getIdentifier());
 	}
 
 	/**
-	 * Gets a collection of occupants in the building.
+	 * Gets a read-only view of the occupants in the building.
 	 * 
 	 * @return collection of occupants
 	 */
 	public Collection<Person> getOccupants() {
-		return new ConcurrentLinkedQueue<Person>(occupants);
+		return Collections.unmodifiableCollection(occupants.values());
 	}
 
 	/**
@@ -202,7 +205,7 @@ public class LifeSupport extends Function implements Serializable {
 	 * @param person new person to add to building.
 	 */
 	public void addPerson(Person person) {
-		if (!occupants.contains(person)) {
+		if (!occupants.containsKey(person.getIdentifier())) {
 			// Remove person from any other inhabitable building in the settlement.
 			Iterator<Building> i = building.getBuildingManager().getBuildings().iterator(); // getACopyOfBuildings().iterator();
 			while (i.hasNext()) {
@@ -214,7 +217,7 @@ public class LifeSupport extends Function implements Serializable {
 			}
 
 			// Add person to this building.
-			occupants.add(person);
+			occupants.put(person.getIdentifier(), person);
 			logger.finest("Adding " + person + " to " + building + " life support.");
 		} else {
 			throw new IllegalStateException("Person already occupying building.");
@@ -227,8 +230,7 @@ public class LifeSupport extends Function implements Serializable {
 	 * @param occupant the person to remove from building.
 	 */
 	public void removePerson(Person occupant) {
-		if (occupants.contains(occupant)) {
-			occupants.remove(occupant);
+		if (occupants.remove(occupant.getIdentifier()) != null) {
 			logger.finest("Removing " + occupant + " from " + building + " life support.");
 		} else {
 			throw new IllegalStateException("Person does not occupy building.");
@@ -248,7 +250,7 @@ public class LifeSupport extends Function implements Serializable {
 		if (occupants != null && occupants.size() > 0) {
 			// Make sure all occupants are actually in settlement inventory.
 			// If not, remove them as occupants.
-			Iterator<Person> i = occupants.iterator();
+			Iterator<Person> i = occupants.values().iterator();
 			while (i.hasNext()) {
 				if (!building.getInventory().containsUnit(i.next()))
 					i.remove();
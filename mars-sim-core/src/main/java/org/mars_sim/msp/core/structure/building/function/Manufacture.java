@@ -263,13 +263,13 @@ public class Manufacture extends Function implements Serializable {
 		for (ManufactureProcessItem item : process.getInfo().getInputList()) {
 			if (ItemType.AMOUNT_RESOURCE.equals(item.getType())) {
 //				AmountResource resource = ResourceUtil.findAmountResource(item.getName());
-				int id = ResourceUtil.findIDbyAmountResourceName(item.getName());
+				int id = item.getID();
 				inv.retrieveAmountResource(id, item.getAmount());
 				// Add tracking demand
 				inv.addAmountDemand(id, item.getAmount());
 			} else if (ItemType.PART.equals(item.getType())) {
 //				Part part = (Part) ItemResourceUtil.findItemResource(item.getName());
-				int id = ItemResourceUtil.findIDbyItemResourceName(item.getName());
+				int id = item.getID();
 				inv.retrieveItemResources(id, (int) item.getAmount());
 				// Add tracking demand
 				inv.addItemDemand(id, (int) item.getAmount());
@@ -484,7 +484,7 @@ public class Manufacture extends Function implements Serializable {
 					if (ItemType.AMOUNT_RESOURCE.equals(item.getType())) {
 						// Produce amount resources.
 //						AmountResource resource = ResourceUtil.findAmountResource(item.getName());
-						int id = ResourceUtil.findIDbyAmountResourceName(item.getName());						
+						int id = item.getID();						
 						double amount = item.getAmount();
 						double capacity = inv.getAmountResourceRemainingCapacity(id, true, false);
 						if (item.getAmount() > capacity) {
@@ -10,12 +10,10 @@ package org.mars_sim.msp.core.structure.building.function;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
-import org.mars_sim.msp.core.Inventory;
 import org.mars_sim.msp.core.Simulation;
 import org.mars_sim.msp.core.time.MarsClock;
 
@@ -120,6 +118,15 @@ public class ResourceProcess implements Serializable {
 		return currentProductionLevel;
 	}
 
+	/**
+	 * Sets the current production level of the process.
+	 * 
+	 * @param level proportion of full production (0D - 1D)
+	 */
+	void setCurrentProductionLevel(double level) {
+		currentProductionLevel = level;
+	}
+
 	/**
 	 * Checks if the process is running or not.
 	 * 
@@ -228,114 +235,6 @@ public class ResourceProcess implements Serializable {
 		return maxWasteOutputResourceRates.containsKey(resource);
 	}
 
-	/**
-	 * Processes resources for a given amount of time.
-	 * 
-	 * @param time            (millisols)
-	 * @param productionLevel proportion of max process rate (0.0D - 1.0D)
-	 * @param inventory       the inventory pool to use for processes.
-	 * @throws Exception if error processing resources.
-	 */
-	public void processResources(double time, double productionLevel, Inventory inventory) {
-
-		double level = productionLevel;
-		
-		if ((level < 0D) || (level > 1D) || (time < 0D))
-			throw new IllegalArgumentException();
-
-		// logger.info(name + " process");
-
-		if (runningProcess) {
-			// Convert time from millisols to seconds.
-			// double timeSec = MarsClock.convertMillisolsToSeconds(time);
-
-			// Get resource bottleneck
-			double bottleneck = getInputBottleneck(time, inventory);
-			if (level > bottleneck)
-				level = bottleneck;
-
-			// logger.info(name + " production level: " + productionLevel);
-
-			// Input resources from inventory.
-			 Iterator<Integer> inputI = maxInputResourceRates.keySet().iterator();
-			 while (inputI.hasNext()) {
-				 Integer resource = inputI.next();
-				double maxRate = maxInputResourceRates.get(resource);
-				double resourceRate = maxRate * level;
-				double resourceAmount = resourceRate * time;
-				double remainingAmount = inventory.getAmountResourceStored(resource, false);
-
-				if (resourceAmount > remainingAmount)
-					resourceAmount = remainingAmount;
-
-				try {
-					inventory.retrieveAmountResource(resource, resourceAmount);
-
-				} catch (Exception e) {
-				}
-				// logger.info(resourceName + " input: " + resourceAmount + "kg.");
-			}
-
-			// Output resources to inventory.
-			 Iterator<Integer> outputI = maxOutputResourceRates.keySet().iterator();
-			 while (outputI.hasNext()) {
-				Integer resource = outputI.next();
-				double maxRate = maxOutputResourceRates.get(resource);
-				double resourceRate = maxRate * level;
-				double resourceAmount = resourceRate * time;
-				double remainingCapacity = inventory.getAmountResourceRemainingCapacity(resource, false, false);
-				if (resourceAmount > remainingCapacity)
-					resourceAmount = remainingCapacity;
-				try {
-					inventory.storeAmountResource(resource, resourceAmount, false);
-					inventory.addAmountSupply(resource, resourceAmount);
-				} catch (Exception e) {
-				}
-				// logger.info(resourceName + " output: " + resourceAmount + "kg.");
-			}
-		} else
-			level = 0D;
-
-		// Set the current production level.
-		currentProductionLevel = level;
-	}
-
-	/**
-	 * Finds the bottleneck of input resources from inventory pool.
-	 * 
-	 * @param time      (millisols)
-	 * @param inventory the inventory pool the process uses.
-	 * @return bottleneck (0.0D - 1.0D)
-	 * @throws Exception if error getting input bottleneck.
-	 */
-	private double getInputBottleneck(double time, Inventory inventory) {
-
-		// Check for illegal argument.
-		if (time < 0D)
-			throw new IllegalArgumentException("time must be > 0D");
-
-		double bottleneck = 1D;
-
-		// Convert time from millisols to seconds.
-		// double timeSec = MarsClock.convertMillisolsToSeconds(time);
-
-		Iterator<Integer> inputI = maxInputResourceRates.keySet().iterator();
-		while (inputI.hasNext()) {
-			Integer resource = inputI.next();
-//			logger.info(resource.getName());
-			double maxRate = maxInputResourceRates.get(resource);
-			double desiredResourceAmount = maxRate * time;
-			double inventoryResourceAmount = inventory.getAmountResourceStored(resource, false);
-			double proportionAvailable = 1D;
-			if (desiredResourceAmount > 0D)
-				proportionAvailable = inventoryResourceAmount / desiredResourceAmount;
-			if (bottleneck > proportionAvailable)
-				bottleneck = proportionAvailable;
-		}
-
-		return bottleneck;
-	}
-
 	/**
 	 * Gets the string value for this object.
 	 * 
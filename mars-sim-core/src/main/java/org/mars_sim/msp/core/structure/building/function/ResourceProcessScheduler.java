@@ -0,0 +1,222 @@
+/**
+ * Mars Simulation Project
+ * ResourceProcessScheduler.java
+ */
+package org.mars_sim.msp.core.structure.building.function;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+
+import org.mars_sim.msp.core.Inventory;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+
+/**
+ * The ResourceProcessScheduler class runs all the resource processes of a
+ * settlement together. Rather than letting the processes of each building
+ * draw on the settlement inventory one after another, it works out the
+ * production level of every running process from the stock and the storage
+ * capacity at the start of the pulse. The processes with the most valuable
+ * net output are served first when an input runs short. The net amount of
+ * each resource is then retrieved from or stored in the inventory once.
+ */
+public class ResourceProcessScheduler {
+
+	private Settlement settlement;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param settlement the settlement whose processes are scheduled.
+	 */
+	public ResourceProcessScheduler(Settlement settlement) {
+		this.settlement = settlement;
+	}
+
+	/**
+	 * Runs the resource processes of the settlement for a given amount of time.
+	 *
+	 * @param time      amount of time passing (in millisols)
+	 * @param buildings the buildings with a resource processing function.
+	 */
+	public void timePassing(double time, List<Building> buildings) {
+		if (time <= 0D)
+			return;
+
+		List<ResourceProcess> processes = new ArrayList<>();
+		List<Double> levels = new ArrayList<>();
+		for (Building building : buildings) {
+			ResourceProcessing processing = building.getResourceProcessing();
+			double level = processing.getProductionLevel();
+			for (ResourceProcess process : processing.getProcesses()) {
+				if (process.isProcessRunning()) {
+					processes.add(process);
+					levels.add(level);
+				}
+				else
+					process.setCurrentProductionLevel(0D);
+			}
+		}
+		if (processes.isEmpty())
+			return;
+
+		Inventory inv = settlement.getInventory();
+		Map<Integer, Double> stock = new HashMap<>();
+		Map<Integer, Double> capacity = new HashMap<>();
+		for (ResourceProcess process : processes) {
+			for (int resource : process.getInputResources()) {
+				if (!process.isAmbientInputResource(resource) && !stock.containsKey(resource))
+					stock.put(resource, inv.getAmountResourceStored(resource, false));
+			}
+			for (int resource : process.getOutputResources()) {
+				if (!process.isWasteOutputResource(resource) && !capacity.containsKey(resource))
+					capacity.put(resource, inv.getAmountResourceRemainingCapacity(resource, false, false));
+			}
+		}
+
+		double[] maxLevels = new double[processes.size()];
+		for (int i = 0; i < maxLevels.length; i++)
+			maxLevels[i] = levels.get(i);
+
+		double[] result = solve(time, processes, maxLevels, stock, capacity,
+				settlement.getGoodsManager()::getGoodValuePerItem);
+
+		Map<Integer, Double> consumed = new HashMap<>();
+		Map<Integer, Double> produced = new HashMap<>();
+		for (int i = 0; i < result.length; i++) {
+			ResourceProcess process = processes.get(i);
+			process.setCurrentProductionLevel(result[i]);
+			addFlows(time, process, result[i], consumed, produced);
+		}
+
+		// Apply the net amount of each resource in one go
+		for (Map.Entry<Integer, Double> entry : consumed.entrySet()) {
+			double amount = entry.getValue() - produced.getOrDefault(entry.getKey(), 0D);
+			amount = Math.min(amount, inv.getAmountResourceStored(entry.getKey(), false));
+			if (amount > 0D)
+				inv.retrieveAmountResource(entry.getKey(), amount);
+		}
+		for (Map.Entry<Integer, Double> entry : produced.entrySet()) {
+			double amount = entry.getValue() - consumed.getOrDefault(entry.getKey(), 0D);
+			amount = Math.min(amount, inv.getAmountResourceRemainingCapacity(entry.getKey(), false, false));
+			if (amount > 0D)
+				inv.storeAmountResource(entry.getKey(), amount, false);
+			inv.addAmountSupply(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Works out the production levels of a set of processes. The processes are
+	 * served in order of the value of their net output. A process is limited by
+	 * the stock of each of its inputs left by the processes before it, and stops
+	 * once none of its outputs can be stored any more. The stock and capacity
+	 * maps are used up by the call.
+	 *
+	 * @param time      amount of time passing (in millisols)
+	 * @param processes the running processes.
+	 * @param maxLevels the highest production level of each process.
+	 * @param stock     the amount of each input resource stored (kg).
+	 * @param capacity  the remaining capacity of each output resource (kg).
+	 * @param values    the value of a kg of a resource.
+	 * @return the production level of each process (0D - 1D)
+	 */
+	static double[] solve(double time, List<ResourceProcess> processes, double[] maxLevels,
+			Map<Integer, Double> stock, Map<Integer, Double> capacity, IntToDoubleFunction values) {
+		int n = processes.size();
+
+		List<Integer> order = new ArrayList<>(n);
+		double[] weights = new double[n];
+		for (int i = 0; i < n; i++) {
+			order.add(i);
+			weights[i] = getNetValue(processes.get(i), values);
+		}
+		// Stable sort, so equally valued processes keep their building order
+		Collections.sort(order, (a, b) -> Double.compare(weights[b], weights[a]));
+
+		double[] levels = new double[n];
+		for (int i : order) {
+			ResourceProcess process = processes.get(i);
+			double level = maxLevels[i];
+
+			for (int resource : process.getInputResources()) {
+				if (process.isAmbientInputResource(resource))
+					continue;
+				double demand = process.getMaxInputResourceRate(resource) * time;
+				if (demand > 0D)
+					level = Math.min(level, stock.getOrDefault(resource, 0D) / demand);
+			}
+
+			// Keep running while any output can still be stored
+			double outputLimit = 0D;
+			boolean hasOutput = false;
+			for (int resource : process.getOutputResources()) {
+				if (process.isWasteOutputResource(resource))
+					continue;
+				double supply = process.getMaxOutputResourceRate(resource) * time;
+				if (supply > 0D) {
+					hasOutput = true;
+					outputLimit = Math.max(outputLimit, capacity.getOrDefault(resource, 0D) / supply);
+				}
+			}
+			if (hasOutput)
+				level = Math.min(level, outputLimit);
+
+			level = Math.max(0D, Math.min(1D, level));
+			levels[i] = level;
+
+			for (int resource : process.getInputResources()) {
+				if (!process.isAmbientInputResource(resource))
+					stock.merge(resource, -process.getMaxInputResourceRate(resource) * level * time, Double::sum);
+			}
+			for (int resource : process.getOutputResources()) {
+				if (!process.isWasteOutputResource(resource)) {
+					double amount = process.getMaxOutputResourceRate(resource) * level * time;
+					capacity.merge(resource, -amount, (a, b) -> Math.max(0D, a + b));
+				}
+			}
+		}
+
+		return levels;
+	}
+
+	/**
+	 * Gets the value of the net output of a process at full production.
+	 *
+	 * @param process the process.
+	 * @param values  the value of a kg of a resource.
+	 * @return value per millisol.
+	 */
+	private static double getNetValue(ResourceProcess process, IntToDoubleFunction values) {
+		double result = 0D;
+		for (int resource : process.getOutputResources()) {
+			if (!process.isWasteOutputResource(resource))
+				result += values.applyAsDouble(resource) * process.getMaxOutputResourceRate(resource);
+		}
+		for (int resource : process.getInputResources()) {
+			if (!process.isAmbientInputResource(resource))
+				result -= values.applyAsDouble(resource) * process.getMaxInputResourceRate(resource);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the amounts a process consumes and produces at a production level.
+	 */
+	private static void addFlows(double time, ResourceProcess process, double level, Map<Integer, Double> consumed,
+			Map<Integer, Double> produced) {
+		if (level <= 0D)
+			return;
+		for (int resource : process.getInputResources()) {
+			if (!process.isAmbientInputResource(resource))
+				consumed.merge(resource, process.getMaxInputResourceRate(resource) * level * time, Double::sum);
+		}
+		for (int resource : process.getOutputResources()) {
+			if (!process.isWasteOutputResource(resource))
+				produced.merge(resource, process.getMaxOutputResourceRate(resource) * level * time, Double::sum);
+		}
+	}
+}
@@ -139,24 +139,27 @@ public class ResourceProcessing extends Function implements Serializable {
 	}
 	
 	/**
-	 * Time passing for the building.
+	 * Gets the production level of the processes in the current power mode.
 	 * 
-	 * @param time amount of time passing (in millisols)
-	 * @throws BuildingException if error occurs.
+	 * @return proportion of max processing rate (0D - 1D)
 	 */
-	public void timePassing(double time) {
-
-		double productionLevel = 0D;
+	public double getProductionLevel() {
 		if (getBuilding().getPowerMode() == PowerMode.FULL_POWER)
-			productionLevel = 1D;
+			return 1D;
 		else if (getBuilding().getPowerMode() == PowerMode.POWER_DOWN)
-			productionLevel = powerDownProcessingLevel;
+			return powerDownProcessingLevel;
+		return 0D;
+	}
 
-		// Run each resource process.
-		Iterator<ResourceProcess> i = resourceProcesses.iterator();
-		while (i.hasNext()) {
-			i.next().processResources(time, productionLevel, getBuilding().getSettlementInventory());
-		}
+	/**
+	 * Time passing for the building. Note: the processes are run for the whole
+	 * settlement by the {@link ResourceProcessScheduler}.
+	 * 
+	 * @param time amount of time passing (in millisols)
+	 * @throws BuildingException if error occurs.
+	 */
+	public void timePassing(double time) {
+		// Nothing to do
 	}
 
 	/**
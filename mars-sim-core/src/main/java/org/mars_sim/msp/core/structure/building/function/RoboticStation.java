@@ -13,8 +13,10 @@ import org.mars_sim.msp.core.structure.building.BuildingManager;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -42,7 +44,8 @@ public class RoboticStation extends Function implements Serializable {
 
 	private Building building;
 //	private Inventory inv;
-	private Collection<Robot> robotOccupants;
+	/** The robot occupants by identifier, as the hash code of a robot changes with its name. */
+	private Map<Integer, Robot> robotOccupants;
 
 	/**
 	 * Constructor
@@ -56,7 +59,7 @@ public class RoboticStation extends Function implements Serializable {
 		// Each building has its own instance of LifeSupport
 		this.building = building;
 
-		robotOccupants = new ConcurrentLinkedQueue<Robot>();
+		robotOccupants = new ConcurrentHashMap<>();
 		// Set occupant capacity.
 		occupantCapacity = buildingConfig.getLifeSupportCapacity(building.getBuildingType());
 		powerRequired = buildingConfig.getLifeSupportPowerRequirement(building.getBuildingType());
@@ -192,7 +195,7 @@ public class RoboticStation extends Function implements Serializable {
 		// If not, remove them as occupants.
 		if (robotOccupants != null)
 			if (robotOccupants.size() > 0) {
-				Iterator<Robot> ii = robotOccupants.iterator();
+				Iterator<Robot> ii = robotOccupants.values().iterator();
 				while (ii.hasNext()) {
 					if (!building.getInventory().containsUnit(ii.next()))
 						ii.remove();
@@ -247,12 +250,12 @@ public class RoboticStation extends Function implements Serializable {
 	}
 
 	/**
-	 * Gets a collection of robotOccupants in the building.
+	 * Gets a read-only view of the robotOccupants in the building.
 	 * 
 	 * @return collection of robotOccupants
 	 */
 	public Collection<Robot> getRobotOccupants() {
-		return new ConcurrentLinkedQueue<Robot>(robotOccupants);
+		return Collections.unmodifiableCollection(robotOccupants.values());
 	}
 
 	public int getRobotOccupantNumber() {
@@ -278,7 +281,7 @@ public class RoboticStation extends Function implements Serializable {
 	 * @return true if unit is in building.
 	 */
 	public boolean containsRobotOccupant(Robot robot) {
-		return robotOccupants.contains(robot);
+		return robotOccupants.containsKey(robot.getIdentifier());
 
 	}
 
@@ -289,7 +292,7 @@ public class RoboticStation extends Function implements Serializable {
 	 * @throws BuildingException if robot is already building occupant.
 	 */
 	public void addRobot(Robot robot) {
-		if (!robotOccupants.contains(robot)) {
+		if (!robotOccupants.containsKey(robot.getIdentifier())) {
 			// Remove robot from any other inhabitable building in the settlement.
 			Iterator<Building> i = getBuilding().getBuildingManager().getACopyOfBuildings().iterator();
 			while (i.hasNext()) {
@@ -301,7 +304,7 @@ public class RoboticStation extends Function implements Serializable {
 
 			// Add robot to this building.
 			logger.finest("Adding " + robot + " to " + getBuilding() + " robotic station.");
-			robotOccupants.add(robot);
+			robotOccupants.put(robot.getIdentifier(), robot);
 		} else {
 			throw new IllegalStateException("This robot is already in this building.");
 		}
@@ -314,8 +317,7 @@ public class RoboticStation extends Function implements Serializable {
 	 * @throws BuildingException if robot is not building occupant.
 	 */
 	public void removeRobot(Robot robot) {
-		if (robotOccupants.contains(robot)) {
-			robotOccupants.remove(robot);
+		if (robotOccupants.remove(robot.getIdentifier()) != null) {
 			logger.finest("Removing " + robot + " from " + getBuilding() + " robotic station.");
 		} else {
 			throw new IllegalStateException("The robot is not in this building.");
@@ -402,15 +402,7 @@ public class Storage extends Function implements Serializable {
 
 				if (amountStored < 0.00001) {
 					result = false;
-					if (id == ResourceUtil.greyWaterID && inv.getOwner() instanceof Settlement) {
-						Settlement s = (Settlement)(inv.getOwner());
-						// Adjust the grey water filtering rate
-						s.decreaseGreyWaterFilteringRate();
-						double r = s.getGreyWaterFilteringRate();
-						LogConsolidated.log(Level.WARNING, 1_000, sourceName, 
-								"[" + s
-					    		+ "] Updated the new grey water filtering rate to " + Math.round(r*100.0)/100.0 + ".");
-					}
+					reportShortage(id, inv, amountStored);
 				
 				} else if (amountStored < amount) {
 					amount = amountStored;
@@ -418,11 +410,7 @@ public class Storage extends Function implements Serializable {
 						inv.retrieveAmountResource(id, amount);
 //						inv.addAmountDemand(id, amount);
 					}
-					LogConsolidated.log(Level.WARNING, 30_000, sourceName,
-							"[" + inv.getOwner()
-				    		+ "] ran out of "
-							+ ResourceUtil.findAmountResourceName(id) + "."
-							);
+					reportShortage(id, inv, amountStored);
 					result = false;
 				
 				} else {
@@ -448,6 +436,35 @@ public class Storage extends Function implements Serializable {
 		return result;
 	}
 
+	/**
+	 * Acts on a shortage of a resource. Lowers the grey water filtering rate of a
+	 * settlement that has run out of grey water, or else logs the shortage.
+	 * 
+	 * @param id           the resource id
+	 * @param inv          the inventory
+	 * @param amountStored the amount left [in kg]
+	 */
+	public static void reportShortage(int id, Inventory inv, double amountStored) {
+		if (amountStored < 0.00001) {
+			if (id == ResourceUtil.greyWaterID && inv.getOwner() instanceof Settlement) {
+				Settlement s = (Settlement)(inv.getOwner());
+				// Adjust the grey water filtering rate
+				s.decreaseGreyWaterFilteringRate();
+				double r = s.getGreyWaterFilteringRate();
+				LogConsolidated.log(Level.WARNING, 1_000, sourceName, 
+						"[" + s
+			    		+ "] Updated the new grey water filtering rate to " + Math.round(r*100.0)/100.0 + ".");
+			}
+		}
+		else {
+			LogConsolidated.log(Level.WARNING, 30_000, sourceName,
+					"[" + inv.getOwner()
+		    		+ "] ran out of "
+					+ ResourceUtil.findAmountResourceName(id) + "."
+					);
+		}
+	}
+
 	@Override
 	public void destroy() {
 		super.destroy();
@@ -6,7 +6,7 @@
  */
 package org.mars_sim.msp.core.structure.building.function.cooking;
 
-import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 
 import java.io.Serializable;
 
@@ -30,7 +30,7 @@ public class CookedMeal implements Serializable, Cloneable {
 	private String consumerName;
 
 	private Cooking kitchen;
-	private MarsClock expirationTime;
+	private MarsInstant expirationTime;
 
 	/**
 	 * Constructor.
@@ -38,13 +38,12 @@ public class CookedMeal implements Serializable, Cloneable {
 	 * @param quality      the quality of the food
 	 * @param creationTime the time the food was cooked.
 	 */
-	public CookedMeal(String mealName, double quality, double dryMass, MarsClock creationTime, String producerName,
+	public CookedMeal(String mealName, double quality, double dryMass, MarsInstant creationTime, String producerName,
 			Cooking kitchen) {
 		this.quality = quality;
 		this.mealName = mealName;
 		this.dryMass = dryMass;
-		expirationTime = (MarsClock) creationTime.clone();
-		expirationTime.addTime(SHELF_LIFE);
+		expirationTime = creationTime.plus(SHELF_LIFE);
 		this.producerName = producerName;
 		this.kitchen = kitchen;
 	}
@@ -91,7 +90,7 @@ public class CookedMeal implements Serializable, Cloneable {
 	 * 
 	 * @return expiration time
 	 */
-	public MarsClock getExpirationTime() {
+	public MarsInstant getExpirationTime() {
 		return expirationTime;
 	}
 
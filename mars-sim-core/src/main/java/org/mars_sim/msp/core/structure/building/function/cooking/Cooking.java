@@ -38,6 +38,7 @@ import org.mars_sim.msp.core.structure.building.function.RoboticStation;
 import org.mars_sim.msp.core.structure.building.function.Storage;
 import org.mars_sim.msp.core.structure.building.function.farming.CropConfig;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
 import com.google.common.collect.ArrayListMultimap;
@@ -111,7 +112,7 @@ public class Cooking extends Function implements Serializable {
 	/** The quality history of each meal.  */	
 	private Multimap<String, Double> qualityMap;
 	/** The creation time of each meal.  */
-	private Multimap<String, MarsClock> timeMap;
+	private Multimap<String, MarsInstant> timeMap;
 
 //	private Inventory inv;
 	private HotMeal aMeal;
@@ -269,8 +270,8 @@ public class Cooking extends Function implements Serializable {
 		return qualityMapCache;
 	};
 
-	public Multimap<String, MarsClock> getTimeMap() {
-		Multimap<String, MarsClock> timeMapCache = ArrayListMultimap.create(timeMap);
+	public Multimap<String, MarsInstant> getTimeMap() {
+		Multimap<String, MarsInstant> timeMapCache = ArrayListMultimap.create(timeMap);
 		// Empty out the map so that the next read by TabPanelCooking.java will be brand
 		// new cookedMeal
 		if (!timeMap.isEmpty()) {
@@ -798,7 +799,7 @@ public class Cooking extends Function implements Serializable {
 
 		String nameOfMeal = hotMeal.getMealName();
 
-		MarsClock currentTime = (MarsClock) marsClock.clone();
+		MarsInstant currentTime = marsClock.getInstant();
 
 		if (person != null)
 			producerName = person.getName();
@@ -961,7 +962,7 @@ public class Cooking extends Function implements Serializable {
 			// Handle expired cooked meals.
 			for (CookedMeal meal : cookedMeals) {
 				// MarsClock currentTime = marsClock;
-				if (MarsClock.getTimeDiff(meal.getExpirationTime(), marsClock) < 0D) {
+				if (meal.getExpirationTime().isBefore(marsClock.getInstant())) {
 
 					try {
 						// TODO: turn this into a task
@@ -8,7 +8,7 @@ package org.mars_sim.msp.core.structure.building.function.cooking;
 
 import java.io.Serializable;
 
-import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 
 /**
  * This class represents servings of prepared dessert from a kitchen.
@@ -38,7 +38,7 @@ public class PreparedDessert implements Serializable {
 	
 	private PreparingDessert kitchen;
 
-	private MarsClock expirationTime;
+	private MarsInstant expirationTime;
 
 	/**
 	 * Constructor.
@@ -46,13 +46,12 @@ public class PreparedDessert implements Serializable {
 	 * @param quality      the quality of the dessert
 	 * @param creationTime the time the dessert was cooked.
 	 */
-	public PreparedDessert(String name, double quality, double dryMass, MarsClock creationTime, String producerName,
+	public PreparedDessert(String name, double quality, double dryMass, MarsInstant creationTime, String producerName,
 			PreparingDessert kitchen) {
 		this.quality = quality;
 		this.name = name;
 		this.dryMass = dryMass;
-		expirationTime = (MarsClock) creationTime.clone();
-		expirationTime.addTime(SHELF_LIFE);
+		expirationTime = creationTime.plus(SHELF_LIFE);
 		this.producerName = producerName;
 		this.kitchen = kitchen;
 	}
@@ -96,7 +95,7 @@ public class PreparedDessert implements Serializable {
 	 * 
 	 * @return expiration time
 	 */
-	public MarsClock getExpirationTime() {
+	public MarsInstant getExpirationTime() {
 		return expirationTime;
 	}
 
@@ -630,7 +630,7 @@ public class PreparingDessert extends Function implements Serializable {
 
 			// Create a serving of dessert and add it into the list
 			servingsOfDessert.add(new PreparedDessert(selectedDessert, dessertQuality, dessertMassPerServing,
-					(MarsClock) marsClock.clone(), producerName, this));
+					marsClock.getInstant(), producerName, this));
 
 			// consumeWater();
 			dessertCounterPerSol++;
@@ -695,7 +695,7 @@ public class PreparingDessert extends Function implements Serializable {
 					// MarsClock currentTime =
 					// Simulation.instance().getMasterClock().getMarsClock();
 
-					if (MarsClock.getTimeDiff(dessert.getExpirationTime(), marsClock) < 0D) {
+					if (dessert.getExpirationTime().isBefore(marsClock.getInstant())) {
 						try {
 							servingsOfDessert.remove(dessert);
 
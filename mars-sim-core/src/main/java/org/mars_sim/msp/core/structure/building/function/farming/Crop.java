@@ -232,6 +232,8 @@ public class Crop implements Serializable {
 	private int seedID;
 
 	private Map<Integer, Phase> phases = new HashMap<>();
+	/** The cumulative percent growth at the end of each phase. */
+	private transient double[] upperPercents;
 
 	private static int waterID = ResourceUtil.waterID;
 	private static int oxygenID = ResourceUtil.oxygenID;
@@ -829,13 +831,14 @@ public class Crop implements Serializable {
 					// Right before the harvesting phase
 					if (fractionalGrowingTimeCompleted * 100D > getUpperPercent(current)) {
 						// Advance onto the next phase
-						phaseType = CropConfig.getCropTypeByID(cropTypeID).getPhases().get(current + 1).getPhaseType();
+						phaseType = phases.get(current + 1).getPhaseType();
 						// currentPhaseWorkCompleted = 0D;
 					}
 				}
 
 				// check for the passing of each day
-				int newSol = marsClock.getMissionSol();
+				GreenhouseBatch batch = farm.getBatch();
+				int newSol = batch.isActive() ? batch.getMissionSol() : marsClock.getMissionSol();
 				if (currentSol != newSol) {
 					// TODO: what needs to be done at the end of each sol ?
 					currentSol = newSol;
@@ -864,7 +867,7 @@ public class Crop implements Serializable {
 					cumulativeDailyPAR = 0;
 				}
 
-				int msol = marsClock.getMillisolInt();
+				int msol = batch.isActive() ? batch.getMillisol() : marsClock.getMillisolInt();
 
 				if (msolCache != msol && msol % CHECK_HEALTH_FREQUENCY == 0) {
 					msolCache = msol;
@@ -922,11 +925,21 @@ public class Crop implements Serializable {
 	public double computeLight(double time) {
 		double lightModifier = 0;
 
-		int msols = marsClock.getMillisolInt();
+		GreenhouseBatch batch = farm.getBatch();
+		int msols = 0;
+		double irradiance = 0;
+		if (batch.isActive()) {
+			// Use the sunlight sampled once for the whole greenhouse
+			msols = batch.getMillisol();
+			irradiance = batch.getSolarIrradiance();
+		}
+		else {
+			msols = marsClock.getMillisolInt();
+			irradiance = surface.getSolarIrradiance(unitManager.getSettlementByID(settlementID).getCoordinates());
+		}
 		// Note : The average PAR is estimated to be 20.8 mol/(m² day) (Gertner, 1999)
 		// Calculate instantaneous PAR from solar irradiance
-		double uPAR = wattToPhotonConversionRatio 
-				* surface.getSolarIrradiance(unitManager.getSettlementByID(settlementID).getCoordinates());
+		double uPAR = wattToPhotonConversionRatio * irradiance;
 		// [umol /m^2 /s] = [u mol /m^2 /s /(Wm^-2)] * [Wm^-2]
 		double PAR_interval = uPAR / 1_000_000D * time * MarsClock.SECONDS_PER_MILLISOL; // in mol / m^2 within this
 																							// period of time
@@ -1023,7 +1036,7 @@ public class Crop implements Serializable {
 		}
 
 		// check for the passing of each day
-		int newSol = marsClock.getMissionSol();
+		int newSol = batch.isActive() ? batch.getMissionSol() : marsClock.getMissionSol();
 		// the crop has memory of the past lighting condition
 		lightModifier = cumulativeDailyPAR / (dailyPARRequired + .0001) * 1000D / ( msols  + .0001);
 		// TODO: If too much light, the crop's health may suffer unless a person comes
@@ -1046,7 +1059,8 @@ public class Crop implements Serializable {
 	public void computeTemperature() {
 
 		double temperatureModifier = 0;
-		double t_now = building.getCurrentTemperature();
+		GreenhouseBatch batch = farm.getBatch();
+		double t_now = batch.isActive() ? batch.getTemperature() : building.getCurrentTemperature();
 
 		if (t_now > (t_initial + T_TOLERANCE))
 			temperatureModifier = t_initial / t_now;
@@ -1071,8 +1085,11 @@ public class Crop implements Serializable {
 		double waterRequired =  TUNING_FACTOR * needFactor * (averageWaterNeeded * time / 1_000D) * growingArea; // fractionalGrowingTimeCompleted
 //		System.out.println(getCropType() + "  waterRequired : " + waterRequired);
 		// Determine the amount of grey water available.
-		double gw = building.getInventory().getAmountResourceStored(greywaterID, false);
-		double greyWaterAvailable = Math.min(gw * unitManager.getSettlementByID(settlementID).getGreyWaterFilteringRate() * time, gw);
+		GreenhouseBatch batch = farm.getBatch();
+		double gw = getAmountAvailable(greywaterID);
+		double filteringRate = batch.isActive() ? batch.getGreyWaterFilteringRate()
+				: unitManager.getSettlementByID(settlementID).getGreyWaterFilteringRate();
+		double greyWaterAvailable = Math.min(gw * filteringRate * time, gw);
 		double waterUsed = 0;
 		double greyWaterUsed = 0;
 //		double totalWaterUsed = 0;
@@ -1097,7 +1114,7 @@ public class Crop implements Serializable {
 				retrieve(greyWaterUsed, greywaterID, true);
 			// TODO: track grey water as well ?
 			waterRequired = waterRequired - greyWaterUsed;
-			double waterAvailable = building.getInventory().getAmountResourceStored(waterID, false);
+			double waterAvailable = getAmountAvailable(waterID);
 			
 			if (waterAvailable >= waterRequired) {
 				waterUsed = waterRequired;
@@ -1122,7 +1139,7 @@ public class Crop implements Serializable {
 				waterModifier = (greyWaterUsed + waterUsed) / (waterRequired + .0001);
 			}
 
-			double fertilizerAvailable = building.getInventory().getAmountResourceStored(fertilizerID, false);
+			double fertilizerAvailable = getAmountAvailable(fertilizerID);
 			// The amount of fertilizer to be used depends on the ratio of the grey water used
 			double fertilizerRequired = FERTILIZER_NEEDED_WATERING * time * greyWaterUsed / (greyWaterUsed + waterUsed + .0001);
 			double fertilizerUsed = fertilizerRequired;
@@ -1192,7 +1209,7 @@ public class Crop implements Serializable {
 			
 			double o2Required = fractionalGrowingTimeCompleted * fudge_factor * needFactor
 					* (averageOxygenNeeded * time / 1000) * growingArea;
-			double o2Available = building.getInventory().getAmountResourceStored(oxygenID, false);
+			double o2Available = getAmountAvailable(oxygenID);
 			double o2Used = o2Required;
 
 			o2Modifier = o2Available / o2Required;
@@ -1231,7 +1248,7 @@ public class Crop implements Serializable {
 			// Determine harvest modifier by amount of carbon dioxide available.
 			double cO2Req = fractionalGrowingTimeCompleted * fudge_factor * needFactor
 					* (averageCarbonDioxideNeeded * time / 1000) * growingArea;
-			double cO2Available = building.getInventory().getAmountResourceStored(carbonDioxideID, false);
+			double cO2Available = getAmountAvailable(carbonDioxideID);
 			double cO2Used = cO2Req;
 
 			// TODO: allow higher concentration of co2 to be pumped to increase the harvest
@@ -1393,12 +1410,22 @@ public class Crop implements Serializable {
 	 * Gets the upper limit percentage of the phase
 	 */
 	public double getUpperPercent(int phase) {
-		double result = 0;
-		for (int i = 1; i < phase + 1; i++) {
-			if (phases.get(i) != null)
-				result = result + phases.get(i).getPercentGrowth();
+		if (upperPercents == null) {
+			// Accumulate the percent growth of each phase once
+			int size = phases.size();
+			upperPercents = new double[size];
+			double sum = 0;
+			for (int i = 1; i < size; i++) {
+				if (phases.get(i) != null)
+					sum = sum + phases.get(i).getPercentGrowth();
+				upperPercents[i] = sum;
+			}
 		}
-		return result;
+		if (phase < 1)
+			return 0;
+		if (phase >= upperPercents.length)
+			return upperPercents[upperPercents.length - 1];
+		return upperPercents[phase];
 	}
 
 	public Map<Integer, Phase> getPhases() {
@@ -1422,11 +1449,32 @@ public class Crop implements Serializable {
 	}
 	
 	public boolean retrieve(double amount, int resource, boolean value) {
+		GreenhouseBatch batch = farm.getBatch();
+		if (value && batch.isActive())
+			return batch.retrieve(amount, resource);
 		return Storage.retrieveAnResource(amount, resource, building.getInventory(), value);
 	}
 	
 	public void store(double amount, int resource, String source) {
-		Storage.storeAnResource(amount, resource, building.getInventory(), source);
+		GreenhouseBatch batch = farm.getBatch();
+		if (batch.isActive())
+			batch.store(amount, resource, source);
+		else
+			Storage.storeAnResource(amount, resource, building.getInventory(), source);
+	}
+
+	/**
+	 * Gets the amount of a resource available to the crop. Within a pulse, it
+	 * accounts for what the other crops of the greenhouse have exchanged so far.
+	 * 
+	 * @param resource the resource id
+	 * @return amount [in kg]
+	 */
+	public double getAmountAvailable(int resource) {
+		GreenhouseBatch batch = farm.getBatch();
+		if (batch.isActive())
+			return batch.getAmountAvailable(resource);
+		return building.getInventory().getAmountResourceStored(resource, false);
 	}
 	
 	public boolean equals(Object obj) {
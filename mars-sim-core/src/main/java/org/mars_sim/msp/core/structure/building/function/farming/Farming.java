@@ -174,6 +174,8 @@ public class Farming extends Function implements Serializable {
     
 	private Building building;
 	private Research lab;
+	/** The batch that advances all the crops of this greenhouse within a pulse. */
+	private transient GreenhouseBatch batch;
 
 	private static CropConfig cropConfig;
 //	private static SurfaceFeatures surface;
@@ -861,6 +863,17 @@ public class Farming extends Function implements Serializable {
 		return result;
 	}
 
+	/**
+	 * Gets the batch that advances all the crops of this greenhouse.
+	 * 
+	 * @return {@link GreenhouseBatch}
+	 */
+	public GreenhouseBatch getBatch() {
+		if (batch == null)
+			batch = new GreenhouseBatch(building);
+		return batch;
+	}
+
 	public double TotalPercentGrowth() {
 		int sum = 0;
 		for (Crop crop : crops) {
@@ -909,33 +922,42 @@ public class Farming extends Function implements Serializable {
 		else if (building.getPowerMode() == PowerMode.POWER_DOWN)
 			productionLevel = .5D;
 
+		// Sample the greenhouse once for all crops
+		GreenhouseBatch b = getBatch();
+		b.begin(time * productionLevel, surface, marsClock);
+
 		// Call timePassing on each crop.
 		Iterator<Crop> i = crops.iterator();
 //		List<Crop> harvestedCrops = null;
 
-		while (i.hasNext()) {
-			Crop crop = i.next();
-			
-			try {
-				crop.timePassing(time * productionLevel);
-			
-			} catch (Exception e) {
-				LogConsolidated.log(Level.WARNING, 1000, sourceName,
-						"[" + building.getSettlement().getName() + "] " + crop.getCropName() + " ran into issues in " + building , e);
-				e.printStackTrace();
-			}
-			
-			// Remove old crops.
-			if (crop.getPhaseType() == PhaseType.FINISHED) {
-				// Take back the growing area
-				remainingGrowingArea = remainingGrowingArea + crop.getGrowingArea();
-//				if (harvestedCrops == null)
-//					harvestedCrops = new ArrayList<>();
-//				harvestedCrops.add(crop);
-//				i.remove();
-				crops.remove(crop);
-				numCrops2Plant++;
+		try {
+			while (i.hasNext()) {
+				Crop crop = i.next();
+				
+				try {
+					crop.timePassing(time * productionLevel);
+				
+				} catch (Exception e) {
+					LogConsolidated.log(Level.WARNING, 1000, sourceName,
+							"[" + building.getSettlement().getName() + "] " + crop.getCropName() + " ran into issues in " + building , e);
+					e.printStackTrace();
+				}
+				
+				// Remove old crops.
+				if (crop.getPhaseType() == PhaseType.FINISHED) {
+					// Take back the growing area
+					remainingGrowingArea = remainingGrowingArea + crop.getGrowingArea();
+//					if (harvestedCrops == null)
+//						harvestedCrops = new ArrayList<>();
+//					harvestedCrops.add(crop);
+//					i.remove();
+					crops.remove(crop);
+					numCrops2Plant++;
+				}
 			}
+		} finally {
+			// Exchange the net resources of all crops with the inventory at once
+			b.commit();
 		}
 
 		// Add beeGrowing.timePassing()
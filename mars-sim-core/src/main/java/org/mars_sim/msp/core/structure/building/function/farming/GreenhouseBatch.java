@@ -0,0 +1,225 @@
+/**
+ * Mars Simulation Project
+ * GreenhouseBatch.java
+ */
+package org.mars_sim.msp.core.structure.building.function.farming;
+
+import org.mars_sim.msp.core.Inventory;
+import org.mars_sim.msp.core.mars.SurfaceFeatures;
+import org.mars_sim.msp.core.resource.ResourceUtil;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.Building;
+import org.mars_sim.msp.core.structure.building.function.Storage;
+import org.mars_sim.msp.core.time.MarsClock;
+
+/**
+ * The GreenhouseBatch class advances all the crops of a greenhouse as one batch.
+ * The environment of the greenhouse is sampled once per pulse and the resources
+ * exchanged by the crops are tallied in primitive arrays, so that the settlement
+ * inventory is only visited once per greenhouse per pulse.
+ */
+public class GreenhouseBatch {
+
+	/** The minimal amount of resource to be exchanged with the inventory. */
+	private static final double MIN = 0.00001;
+
+	/** True if a pulse is being processed. */
+	private boolean active;
+	/** The time of the current pulse [in millisols]. */
+	private double time;
+	/** The solar irradiance at the settlement [in W/m^2]. */
+	private double solarIrradiance;
+	/** The current temperature of the greenhouse [in C]. */
+	private double temperature;
+	/** The grey water filtering rate of the settlement. */
+	private double greyWaterFilteringRate;
+	/** The current millisol of the pulse. */
+	private int millisol;
+	/** The current mission sol of the pulse. */
+	private int missionSol;
+
+	/** The ids of the resources exchanged by the crops. */
+	private int[] resources;
+	/** The amount of each resource in the inventory at the start of the pulse. */
+	private double[] available;
+	/** The amount of each resource retrieved by the crops during the pulse. */
+	private double[] retrieved;
+	/** The amount of each resource released by the crops during the pulse. */
+	private double[] stored;
+
+	private Building building;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param building the greenhouse
+	 */
+	public GreenhouseBatch(Building building) {
+		this.building = building;
+
+		resources = new int[] {
+				ResourceUtil.waterID,
+				ResourceUtil.greyWaterID,
+				ResourceUtil.oxygenID,
+				ResourceUtil.co2ID,
+				ResourceUtil.fertilizerID,
+				ResourceUtil.cropWasteID,
+				ResourceUtil.leavesID };
+
+		int size = resources.length;
+		available = new double[size];
+		retrieved = new double[size];
+		stored = new double[size];
+	}
+
+	/**
+	 * Starts a new pulse by sampling the environment and the inventory once for
+	 * all the crops.
+	 *
+	 * @param time      the time of the pulse [in millisols]
+	 * @param surface   the surface features
+	 * @param marsClock the mars clock
+	 */
+	public void begin(double time, SurfaceFeatures surface, MarsClock marsClock) {
+		this.time = time;
+
+		Settlement settlement = building.getSettlement();
+		solarIrradiance = surface.getSolarIrradiance(settlement.getCoordinates());
+		greyWaterFilteringRate = settlement.getGreyWaterFilteringRate();
+		temperature = building.getCurrentTemperature();
+		millisol = marsClock.getMillisolInt();
+		missionSol = marsClock.getMissionSol();
+
+		Inventory inv = building.getInventory();
+		for (int i = 0; i < resources.length; i++) {
+			available[i] = inv.getAmountResourceStored(resources[i], false);
+			retrieved[i] = 0;
+			stored[i] = 0;
+		}
+
+		active = true;
+	}
+
+	/**
+	 * Ends the pulse and applies the net resource exchange of all the crops to the
+	 * inventory.
+	 */
+	public void commit() {
+		active = false;
+
+		Inventory inv = building.getInventory();
+		for (int i = 0; i < resources.length; i++) {
+			double net = stored[i] - retrieved[i];
+			if (net > MIN)
+				Storage.storeAnResource(net, resources[i], inv, "GreenhouseBatch::commit");
+			else if (net < -MIN)
+				Storage.retrieveAnResource(-net, resources[i], inv, true);
+		}
+	}
+
+	/**
+	 * Checks if a pulse is being processed.
+	 *
+	 * @return true if crops should exchange resources through this batch
+	 */
+	public boolean isActive() {
+		return active;
+	}
+
+	/**
+	 * Checks if a resource is exchanged through this batch.
+	 *
+	 * @param resource the resource id
+	 * @return true if it is being tallied
+	 */
+	public boolean handles(int resource) {
+		return indexOf(resource) >= 0;
+	}
+
+	/**
+	 * Gets the amount of a resource available to the crops at this moment of the
+	 * pulse.
+	 *
+	 * @param resource the resource id
+	 * @return amount [in kg]
+	 */
+	public double getAmountAvailable(int resource) {
+		int i = indexOf(resource);
+		if (i < 0)
+			return building.getInventory().getAmountResourceStored(resource, false);
+		double result = available[i] + stored[i] - retrieved[i];
+		if (result < 0)
+			return 0;
+		return result;
+	}
+
+	/**
+	 * Retrieves a resource on behalf of a crop.
+	 *
+	 * @param amount   the amount requested [in kg]
+	 * @param resource the resource id
+	 * @return true if the full amount is available
+	 */
+	public boolean retrieve(double amount, int resource) {
+		int i = indexOf(resource);
+		if (i < 0)
+			return Storage.retrieveAnResource(amount, resource, building.getInventory(), true);
+
+		double left = getAmountAvailable(resource);
+		if (left < amount) {
+			retrieved[i] += left;
+			// Act on the shortage as a direct retrieval would
+			Storage.reportShortage(resource, building.getInventory(), left);
+			return false;
+		}
+		retrieved[i] += amount;
+		return true;
+	}
+
+	/**
+	 * Stores a resource released by a crop.
+	 *
+	 * @param amount   the amount [in kg]
+	 * @param resource the resource id
+	 * @param source   the name of the calling method
+	 */
+	public void store(double amount, int resource, String source) {
+		int i = indexOf(resource);
+		if (i < 0)
+			Storage.storeAnResource(amount, resource, building.getInventory(), source);
+		else if (amount > 0)
+			stored[i] += amount;
+	}
+
+	private int indexOf(int resource) {
+		for (int i = 0; i < resources.length; i++) {
+			if (resources[i] == resource)
+				return i;
+		}
+		return -1;
+	}
+
+	public double getTime() {
+		return time;
+	}
+
+	public double getSolarIrradiance() {
+		return solarIrradiance;
+	}
+
+	public double getTemperature() {
+		return temperature;
+	}
+
+	public double getGreyWaterFilteringRate() {
+		return greyWaterFilteringRate;
+	}
+
+	public int getMillisol() {
+		return millisol;
+	}
+
+	public int getMissionSol() {
+		return missionSol;
+	}
+}
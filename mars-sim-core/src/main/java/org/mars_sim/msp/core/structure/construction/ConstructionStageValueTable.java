@@ -0,0 +1,187 @@
+/**
+ * Mars Simulation Project
+ * ConstructionStageValueTable.java
+ */
+
+package org.mars_sim.msp.core.structure.construction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A table of the values and costs of all the construction stages of a
+ * settlement. The stages form a graph from the foundations through the frames
+ * to the buildings. The value of a building stage is the value of the
+ * building, and the value of a lower stage is the best profit of the stages
+ * built on it, times {@link ConstructionValues#LOWER_STAGE_VALUE_MODIFIER}.
+ * The values are worked out from the buildings down, once for each distinct
+ * architect construction skill, so a lookup does not recurse.
+ */
+class ConstructionStageValueTable {
+
+    // Data members
+    /** The stages, in the order their values are worked out. */
+    private List<ConstructionStageInfo> stages;
+    /** The index of each stage. */
+    private Map<ConstructionStageInfo, Integer> indices;
+    /** The indices of the constructable stages built on each stage. */
+    private int[][] nextStages;
+    /** The distinct architect construction skills, in ascending order. */
+    private int[] skills;
+    /** The cost of each stage (VP). */
+    private double[] costs;
+    /** The value of each stage, by skill row (VP). */
+    private double[][] values;
+
+    /**
+     * Constructor.
+     * @param stageInfos all the construction stage infos.
+     * @param buildingValues the value of the building of a building stage (VP).
+     * @param stageCosts the cost of the materials of a stage (VP).
+     */
+    ConstructionStageValueTable(List<ConstructionStageInfo> stageInfos,
+            ToDoubleFunction<ConstructionStageInfo> buildingValues,
+            ToDoubleFunction<ConstructionStageInfo> stageCosts) {
+
+        // Order the stages so that a stage comes after those built on it.
+        stages = new ArrayList<ConstructionStageInfo>(stageInfos.size());
+        addStages(stageInfos, ConstructionStageInfo.BUILDING);
+        addStages(stageInfos, ConstructionStageInfo.FRAME);
+        addStages(stageInfos, ConstructionStageInfo.FOUNDATION);
+
+        int size = stages.size();
+        indices = new HashMap<ConstructionStageInfo, Integer>(size);
+        for (int i = 0; i < size; i++) {
+            indices.put(stages.get(i), i);
+        }
+
+        nextStages = new int[size][];
+        TreeSet<Integer> skillSet = new TreeSet<Integer>();
+        for (int i = 0; i < size; i++) {
+            ConstructionStageInfo stageInfo = stages.get(i);
+            nextStages[i] = getNextStages(stageInfo);
+            skillSet.add(stageInfo.getArchitectConstructionSkill());
+        }
+        skills = new int[skillSet.size()];
+        int row = 0;
+        for (int skill : skillSet) {
+            skills[row++] = skill;
+        }
+
+        costs = new double[size];
+        double[] buildingValue = new double[size];
+        for (int i = 0; i < size; i++) {
+            ConstructionStageInfo stageInfo = stages.get(i);
+            costs[i] = stageCosts.applyAsDouble(stageInfo);
+            if (ConstructionStageInfo.BUILDING.equals(stageInfo.getType())) {
+                buildingValue[i] = buildingValues.applyAsDouble(stageInfo);
+            }
+        }
+
+        values = new double[skills.length][size];
+        for (row = 0; row < skills.length; row++) {
+            double[] rowValues = values[row];
+            for (int i = 0; i < size; i++) {
+                ConstructionStageInfo stageInfo = stages.get(i);
+                double result = 0D;
+                if (skills[row] >= stageInfo.getArchitectConstructionSkill()) {
+                    if (ConstructionStageInfo.BUILDING.equals(stageInfo.getType())) {
+                        result = buildingValue[i];
+                    }
+                    else {
+                        for (int next : nextStages[i]) {
+                            double stageValue = (rowValues[next] - costs[next]) *
+                                    ConstructionValues.LOWER_STAGE_VALUE_MODIFIER;
+                            if (stageValue > result) {
+                                result = stageValue;
+                            }
+                        }
+                    }
+                }
+                rowValues[i] = result;
+            }
+        }
+    }
+
+    /**
+     * Gets the value of a construction stage.
+     * @param stageInfo the construction stage info.
+     * @param constructionSkill the architect's construction skill.
+     * @return value (VP), or 0 if the stage is unknown.
+     */
+    double getValue(ConstructionStageInfo stageInfo, int constructionSkill) {
+        Integer index = indices.get(stageInfo);
+        // Find the highest skill row the construction skill reaches.
+        int row = Arrays.binarySearch(skills, constructionSkill);
+        if (row < 0) {
+            row = -row - 2;
+        }
+        if ((index == null) || (row < 0)) {
+            return 0D;
+        }
+        return values[row][index];
+    }
+
+    /**
+     * Gets the cost of a construction stage.
+     * @param stageInfo the construction stage info.
+     * @return cost (VP), or 0 if the stage is unknown.
+     */
+    double getCost(ConstructionStageInfo stageInfo) {
+        Integer index = indices.get(stageInfo);
+        if (index == null) {
+            return 0D;
+        }
+        return costs[index];
+    }
+
+    /**
+     * Gets all the construction stage infos in the table.
+     * @return list of construction stage infos.
+     */
+    List<ConstructionStageInfo> getStages() {
+        return stages;
+    }
+
+    private void addStages(List<ConstructionStageInfo> stageInfos, String type) {
+        for (ConstructionStageInfo stageInfo : stageInfos) {
+            if (type.equals(stageInfo.getType())) {
+                stages.add(stageInfo);
+            }
+        }
+    }
+
+    /**
+     * Gets the indices of the constructable stages built on a stage, as in
+     * {@link ConstructionUtil#getNextPossibleStages(ConstructionStageInfo)}.
+     */
+    private int[] getNextStages(ConstructionStageInfo stageInfo) {
+        String nextType = null;
+        if (ConstructionStageInfo.FOUNDATION.equals(stageInfo.getType()))
+            nextType = ConstructionStageInfo.FRAME;
+        else if (ConstructionStageInfo.FRAME.equals(stageInfo.getType()))
+            nextType = ConstructionStageInfo.BUILDING;
+
+        List<Integer> result = new ArrayList<Integer>();
+        if (nextType != null) {
+            for (int i = 0; i < stages.size(); i++) {
+                ConstructionStageInfo next = stages.get(i);
+                if (nextType.equals(next.getType()) && next.isConstructable() &&
+                        stageInfo.getName().equals(next.getPrerequisiteStage())) {
+                    result.add(i);
+                }
+            }
+        }
+
+        int[] array = new int[result.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = result.get(i);
+        }
+        return array;
+    }
+}
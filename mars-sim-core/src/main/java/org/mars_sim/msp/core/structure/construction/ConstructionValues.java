@@ -15,14 +15,13 @@ import java.util.List;
 import java.util.Map;
 
 import org.mars_sim.msp.core.Simulation;
-import org.mars_sim.msp.core.resource.AmountResource;
-import org.mars_sim.msp.core.resource.Part;
 import org.mars_sim.msp.core.structure.Settlement;
 import org.mars_sim.msp.core.structure.building.Building;
 import org.mars_sim.msp.core.structure.goods.Good;
 import org.mars_sim.msp.core.structure.goods.GoodsManager;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 
 /**
  * Provides value information for construction.
@@ -39,11 +38,12 @@ implements Serializable {
     // Data members
     private Settlement settlement;
     private Map<Integer, Double> settlementConstructionValueCache;
-    private MarsClock settlementConstructionValueCacheTime;
-    private Map<ConstructionStageInfoSkillKey, Double> stageInfoValueCache;
-    private MarsClock stageInfoValueCacheTime;
-    private Map<ConstructionStageInfoSkillKey, Double> allStageInfoValueCache;
-    private MarsClock allStageInfoValueCacheTime;
+    private MarsInstant settlementConstructionValueCacheTime;
+    /** The values and costs of all the construction stages. */
+    private transient ConstructionStageValueTable stageValueTable;
+    private transient MarsInstant stageValueTableTime;
+    /** The revision of the good values the stage value table was built from. */
+    private transient int goodsValuesRevision;
 
     /**
      * Constructor.
@@ -70,11 +70,11 @@ implements Serializable {
 
         MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
         if ((settlementConstructionValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, settlementConstructionValueCacheTime) > 1000D)) {
+                (currentTime.getInstant().getTimeDiff(settlementConstructionValueCacheTime) > 1000D)) {
             if (settlementConstructionValueCache == null) 
                 settlementConstructionValueCache = new HashMap<Integer, Double>();
             settlementConstructionValueCache.clear();
-            settlementConstructionValueCacheTime = (MarsClock) currentTime.clone();
+            settlementConstructionValueCacheTime = currentTime.getInstant();
         }
 
         if (!settlementConstructionValueCache.containsKey(constructionSkill)) {
@@ -263,35 +263,14 @@ implements Serializable {
      */
     public Map<ConstructionStageInfo, Double> getAllConstructionStageValues(int constructionSkill) {
 
-        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((allStageInfoValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, allStageInfoValueCacheTime) > 1000D)) {
-            if (allStageInfoValueCache == null) {
-                allStageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
-            }
-            allStageInfoValueCache.clear();
-
-            Iterator<ConstructionStageInfo> i = ConstructionUtil.getAllConstructionStageInfoList()
-                    .iterator();
-            while (i.hasNext()) {
-                ConstructionStageInfo stageInfo = i.next();
-                allStageInfoValueCache.put(new ConstructionStageInfoSkillKey(stageInfo, constructionSkill), 
-                        getConstructionStageValue(stageInfo, constructionSkill));
-            }
-
-            allStageInfoValueCacheTime = (MarsClock) currentTime.clone();
+        ConstructionStageValueTable table = getStageValueTable();
+        List<ConstructionStageInfo> stages = table.getStages();
 
-            // Display building construction values report to System.out for testing purposes.
-//            displayAllBuildingConstructionValues();
-        }
-        
-        // Create result map with just construction stage infos and their values.
-        Map<ConstructionStageInfo, Double> result = new HashMap<ConstructionStageInfo, Double>(allStageInfoValueCache.size());
-        Iterator<ConstructionStageInfoSkillKey> j = allStageInfoValueCache.keySet().iterator();
-        while (j.hasNext()) {
-            ConstructionStageInfoSkillKey key = j.next();
-            double value = allStageInfoValueCache.get(key);
-            result.put(key.stageInfo, value);
+        Map<ConstructionStageInfo, Double> result = new HashMap<ConstructionStageInfo, Double>(stages.size());
+        Iterator<ConstructionStageInfo> i = stages.iterator();
+        while (i.hasNext()) {
+            ConstructionStageInfo stageInfo = i.next();
+            result.put(stageInfo, table.getValue(stageInfo, constructionSkill));
         }
 
         return result;
@@ -304,46 +283,31 @@ implements Serializable {
      * @return value (VP).
      */
     public double getConstructionStageValue(ConstructionStageInfo stageInfo, int constructionSkill) {
+        return getStageValueTable().getValue(stageInfo, constructionSkill);
+    }
 
-        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
-        if ((stageInfoValueCacheTime == null) || 
-                (MarsClock.getTimeDiff(currentTime, stageInfoValueCacheTime) > 1000D)) {
-            if (stageInfoValueCache == null) {
-                stageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
-            }
-            stageInfoValueCache.clear();
-            stageInfoValueCacheTime = (MarsClock) currentTime.clone();
-        }
+    /**
+     * Gets the table of the construction stage values. The table is built again
+     * once the good values have changed, or the building values are a sol old.
+     * @return table
+     */
+    private ConstructionStageValueTable getStageValueTable() {
 
-        ConstructionStageInfoSkillKey key = new ConstructionStageInfoSkillKey(stageInfo, constructionSkill);
-        if (!stageInfoValueCache.containsKey(key)) {
-            double result = 0D;
+        MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
+        int revision = settlement.getGoodsManager().getValuesRevision();
+        if ((stageValueTable == null) || (revision != goodsValuesRevision) ||
+                (currentTime.getInstant().getTimeDiff(stageValueTableTime) > 1000D)) {
+            stageValueTable = new ConstructionStageValueTable(ConstructionUtil.getAllConstructionStageInfoList(),
+                    stageInfo -> getBuildingConstructionValue(stageInfo.getName()),
+                    stageInfo -> computeConstructionStageCost(stageInfo));
+            stageValueTableTime = currentTime.getInstant();
+            goodsValuesRevision = revision;
 
-            if (constructionSkill >= stageInfo.getArchitectConstructionSkill()) {
-                if (ConstructionStageInfo.BUILDING.equals(stageInfo.getType())) {
-                    result = getBuildingConstructionValue(stageInfo.getName());
-                }
-                else {
-                    Iterator<ConstructionStageInfo> i = 
-                            ConstructionUtil.getNextPossibleStages(stageInfo).iterator();
-                    while (i.hasNext()) {
-                        ConstructionStageInfo nextStageInfo = i.next();
-                        boolean constructable = nextStageInfo.isConstructable();
-                        if (constructable) {
-                            double stageValue = getConstructionStageProfit(nextStageInfo, constructionSkill) * 
-                                    LOWER_STAGE_VALUE_MODIFIER;
-                            if (stageValue > result) {
-                                result = stageValue;
-                            }
-                        }
-                    }
-                }
-            }
-            //System.out.println(settlement.getName() + " - " + stageInfo.getName() + ": " + (int) result);
-            stageInfoValueCache.put(key, result);
+            // Display building construction values report to System.out for testing purposes.
+//            displayAllBuildingConstructionValues();
         }
 
-        return stageInfoValueCache.get(key);
+        return stageValueTable;
     }
 
     /**
@@ -352,6 +316,15 @@ implements Serializable {
      * @return cost (VP)
      */
     private double getConstructionStageCost(ConstructionStageInfo stageInfo) {
+        return getStageValueTable().getCost(stageInfo);
+    }
+
+    /**
+     * Computes the cost of a construction stage from the good values.
+     * @param stageInfo the construction stage info.
+     * @return cost (VP)
+     */
+    private double computeConstructionStageCost(ConstructionStageInfo stageInfo) {
         double cost = 0D;
 
         GoodsManager manager = settlement.getGoodsManager();
@@ -501,18 +474,10 @@ implements Serializable {
             settlementConstructionValueCache = new HashMap<Integer, Double>();
         }
         settlementConstructionValueCache.clear();
-        settlementConstructionValueCacheTime = (MarsClock) currentTime.clone();
-
-        if (stageInfoValueCache == null) {
-            stageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
-        }
-        stageInfoValueCache.clear();
-        stageInfoValueCacheTime = (MarsClock) currentTime.clone();
+        settlementConstructionValueCacheTime = currentTime.getInstant();
 
-        if (allStageInfoValueCache == null) {
-            allStageInfoValueCache = new HashMap<ConstructionStageInfoSkillKey, Double>();
-        }
-        allStageInfoValueCache.clear();
+        stageValueTable = null;
+        stageValueTableTime = null;
     }
 
     /**
@@ -526,49 +491,7 @@ implements Serializable {
             settlementConstructionValueCache = null;
             settlementConstructionValueCacheTime = null;
         }
-        if(stageInfoValueCache != null){
-
-            stageInfoValueCache.clear();
-            stageInfoValueCache = null;
-            stageInfoValueCacheTime = null;
-        }
-        if(allStageInfoValueCache != null){
-
-            allStageInfoValueCache.clear();
-            allStageInfoValueCache = null;
-            allStageInfoValueCacheTime = null;
-        }
-    }
-    
-    /**
-     * Inner class for a construction stage info and skill combination map key value.
-     */
-    private class ConstructionStageInfoSkillKey implements Serializable {
-        
-        /** default serial id. */
-        private static final long serialVersionUID = 1L;
-        
-        // Data members.
-        ConstructionStageInfo stageInfo;
-        int skill;
-        
-        ConstructionStageInfoSkillKey(ConstructionStageInfo stageInfo, int skill) {
-            this.stageInfo = stageInfo;
-            this.skill = skill;
-        }
-        
-        @Override
-        public boolean equals(Object object) {
-            boolean result = false;
-            
-            if (object instanceof ConstructionStageInfoSkillKey) {
-                ConstructionStageInfoSkillKey objectKey = (ConstructionStageInfoSkillKey) object;
-                if (objectKey.stageInfo.equals(stageInfo) && (objectKey.skill == skill)) {
-                    result = true;
-                }
-            }
-            
-            return result;
-        }
+        stageValueTable = null;
+        stageValueTableTime = null;
     }
-}
\ No newline at end of file
+}
@@ -30,6 +30,7 @@ import org.mars_sim.msp.core.structure.building.function.RoboticStation;
 import org.mars_sim.msp.core.structure.goods.GoodsManager;
 import org.mars_sim.msp.core.structure.goods.GoodsUtil;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 
 /**
  * Calculates values for salvaging buildings at a settlement.
@@ -47,7 +48,7 @@ implements Serializable {
 	// Data members
 	private Settlement settlement;
 	private Map<Integer, Double> settlementSalvageValueCache;
-	private MarsClock settlementSalvageValueCacheTime;
+	private MarsInstant settlementSalvageValueCacheTime;
 
 	private static UnitManager unitManager = Simulation.instance().getUnitManager();
 
@@ -88,11 +89,11 @@ implements Serializable {
 
 		MarsClock currentTime = Simulation.instance().getMasterClock().getMarsClock();
 		if ((settlementSalvageValueCacheTime == null) || 
-				(MarsClock.getTimeDiff(currentTime, settlementSalvageValueCacheTime) > 1000D)) {
+				(currentTime.getInstant().getTimeDiff(settlementSalvageValueCacheTime) > 1000D)) {
 			if (settlementSalvageValueCache == null) 
 				settlementSalvageValueCache = new HashMap<Integer, Double>();
 			settlementSalvageValueCache.clear();
-			settlementSalvageValueCacheTime = (MarsClock) currentTime.clone();
+			settlementSalvageValueCacheTime = currentTime.getInstant();
 		}
 
 		if (!settlementSalvageValueCache.containsKey(constructionSkill)) {
@@ -223,6 +223,8 @@ public class GoodsManager implements Serializable {
 	
 	// Data members
 	private boolean initialized = false;
+	/** The number of times the good values have changed. */
+	private int valuesRevision;
 	// Add modifiers due to Settlement Development Objectives
 	private double cropFarm_factor = 1;
 	private double manufacturing_factor = 1;
@@ -282,6 +284,16 @@ public class GoodsManager implements Serializable {
 		return initialized;
 	}
 
+	/**
+	 * Gets the number of times the good values have changed. Anything computed
+	 * from the good values is stale once the revision has moved on.
+	 * 
+	 * @return revision
+	 */
+	public int getValuesRevision() {
+		return valuesRevision;
+	}
+
 	/**
 	 * Populates the goods cache maps with empty values.
 	 */
@@ -409,6 +421,7 @@ public class GoodsManager implements Serializable {
 	 * @param time
 	 */
 	public void updateGoodsValueBuffers(double time) {
+		boolean changed = false;
 		// Use buffer to gradually update 
 		for (Good good : goodsValues.keySet()) {
 			// Load the old good value
@@ -438,6 +451,7 @@ public class GoodsManager implements Serializable {
 				good.setGoodValue(newValue);
 				// Save the newValue in the goodsValues map
 				goodsValues.put(good, newValue);
+				changed = true;
 				
 //				logger.info(good.getName() + " +ve oldDelta : " + Math.round(oldDelta*1000.0)/1000.0
 //						+ "   newDelta : " + Math.round(newDelta*1000.0)/1000.0	
@@ -465,6 +479,7 @@ public class GoodsManager implements Serializable {
 				good.setGoodValue(newValue);
 				// Save the newValue in the goodsValues map
 				goodsValues.put(good, newValue);
+				changed = true;
 				
 //				logger.info(good.getName() + " -ve oldDelta : " + Math.round(oldDelta*1000.0)/1000.0
 //						+ "   newDelta : " + Math.round(newDelta*1000.0)/1000.0	
@@ -473,6 +488,9 @@ public class GoodsManager implements Serializable {
 //						);
 			}
 		}
+
+		if (changed)
+			valuesRevision++;
 	}
 
 	/**
@@ -489,6 +507,7 @@ public class GoodsManager implements Serializable {
 		Iterator<Good> i = goodsValues.keySet().iterator();
 		while (i.hasNext())
 			updateGoodValue(i.next(), true);
+		valuesRevision++;
  
 		settlement.fireUnitUpdate(UnitEventType.GOODS_VALUE_EVENT);
 
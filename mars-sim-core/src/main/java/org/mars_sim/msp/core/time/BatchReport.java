@@ -0,0 +1,144 @@
+/**
+ * Mars Simulation Project
+ * BatchReport.java
+ */
+package org.mars_sim.msp.core.time;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * The BatchReport class accumulates the throughput of a simulation being fast
+ * forwarded in batch mode, as well as the wall-clock time spent in each
+ * subsystem called by a clock pulse.
+ */
+public class BatchReport {
+
+	/** The subsystems advanced by a clock pulse, in the order they are called. */
+	public enum Subsystem {
+		MARS, MISSION_MANAGER, UNIT_MANAGER, SCIENTIFIC_STUDY_MANAGER, TRANSPORT_MANAGER
+	}
+
+	private static final double NANOS_PER_MILLI = 1_000_000D;
+	private static final double NANOS_PER_MINUTE = 60_000_000_000D;
+
+	/** The wall-clock nanoseconds spent in each subsystem. */
+	private long[] subsystemNanos = new long[Subsystem.values().length];
+
+	/** The number of pulses processed. */
+	private long pulses;
+	/** The simulated time processed [in millisols]. */
+	private double millisols;
+	/** The fixed step of each pulse [in millisols]. */
+	private double step;
+	/** The wall-clock time at the start of the run. */
+	private long startNanos;
+	/** The wall-clock time at the end of the run. */
+	private long endNanos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param step the fixed step of each pulse [in millisols]
+	 */
+	public BatchReport(double step) {
+		this.step = step;
+	}
+
+	/**
+	 * Marks the start of the run.
+	 */
+	public void start() {
+		startNanos = System.nanoTime();
+		endNanos = startNanos;
+	}
+
+	/**
+	 * Marks the end of the run.
+	 */
+	public void stop() {
+		endNanos = System.nanoTime();
+	}
+
+	/**
+	 * Records a pulse that has been processed.
+	 *
+	 * @param time the length of the pulse [in millisols]
+	 */
+	public void addPulse(double time) {
+		pulses++;
+		millisols += time;
+	}
+
+	/**
+	 * Adds the time spent in a subsystem.
+	 *
+	 * @param subsystem the subsystem
+	 * @param nanos     the wall-clock nanoseconds
+	 */
+	public void addTime(Subsystem subsystem, long nanos) {
+		subsystemNanos[subsystem.ordinal()] += nanos;
+	}
+
+	public long getPulses() {
+		return pulses;
+	}
+
+	public double getSols() {
+		return millisols / 1000D;
+	}
+
+	public double getWallClockMillis() {
+		return (endNanos - startNanos) / NANOS_PER_MILLI;
+	}
+
+	public double getSubsystemMillis(Subsystem subsystem) {
+		return subsystemNanos[subsystem.ordinal()] / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Gets the throughput of the run.
+	 *
+	 * @return the number of sols simulated per wall-clock minute
+	 */
+	public double getSolsPerMinute() {
+		long elapsed = endNanos - startNanos;
+		if (elapsed <= 0)
+			return 0;
+		return getSols() * NANOS_PER_MINUTE / elapsed;
+	}
+
+	/**
+	 * Writes the report to a file.
+	 *
+	 * @param file the destination
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(File file) throws IOException {
+		File dir = file.getParentFile();
+		if (dir != null && !dir.exists())
+			dir.mkdirs();
+		try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+			out.print(toString());
+		}
+	}
+
+	@Override
+	public String toString() {
+		double wall = getWallClockMillis();
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format(Locale.US, "Sols simulated       : %.3f%n", getSols()));
+		sb.append(String.format(Locale.US, "Pulses               : %d (step %.3f millisols)%n", pulses, step));
+		sb.append(String.format(Locale.US, "Wall-clock time      : %.1f ms%n", wall));
+		sb.append(String.format(Locale.US, "Sols per minute      : %.3f%n", getSolsPerMinute()));
+		for (Subsystem s : Subsystem.values()) {
+			double ms = getSubsystemMillis(s);
+			double percent = wall > 0 ? ms * 100D / wall : 0;
+			sb.append(String.format(Locale.US, "%-21s: %.1f ms (%.1f%%)%n", s.name(), ms, percent));
+		}
+		return sb.toString();
+	}
+}
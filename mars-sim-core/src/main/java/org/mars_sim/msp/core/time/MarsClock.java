@@ -43,7 +43,7 @@ public class MarsClock implements Serializable {
 	// Martian calendar static members
 	public static final int SOLS_PER_ORBIT_NON_LEAPYEAR = 668;
 	public static final int SOLS_PER_ORBIT_LEAPYEAR = 669;
-	private static final int MONTHS_PER_ORBIT = 24;
+	public static final int MONTHS_PER_ORBIT = 24;
 	private static final int SOLS_PER_MONTH_SHORT = 27;
 	public static final int SOLS_PER_MONTH_LONG = 28;
 	// private static final int WEEKS_IN_ORBIT = 96;
@@ -152,6 +152,8 @@ public class MarsClock implements Serializable {
 	private double millisol;
 	/** The millisol of the day in 1 decimal place. */
 	private double msol1;
+	/** The instant of this time, worked out when first needed. */
+	private transient MarsInstant instant;
 
 	
 	private static OrbitInfo orbitInfo;
@@ -442,7 +444,22 @@ public class MarsClock implements Serializable {
 	 * @return time difference in millisols
 	 */
 	public static double getTimeDiff(MarsClock firstTime, MarsClock secondTime) {
-		return getTotalMillisols(firstTime) - getTotalMillisols(secondTime);
+		return firstTime.getInstant().getTimeDiff(secondTime.getInstant());
+	}
+
+	/**
+	 * Gets the instant of this time on the Martian timeline. Use it instead of a
+	 * clone of this clock to remember a time.
+	 * 
+	 * @return {@link MarsInstant} instance
+	 */
+	public MarsInstant getInstant() {
+		MarsInstant result = instant;
+		if (result == null) {
+			result = new MarsInstant(getTotalMillisols(this));
+			instant = result;
+		}
+		return result;
 	}
 
 	/**
@@ -525,6 +542,7 @@ public class MarsClock implements Serializable {
 	 */
 	public void addTime(double addedMillisols) {
 
+		instant = null;
 		millisol += addedMillisols;
 
 		if (addedMillisols > 0D) {
@@ -559,7 +577,7 @@ public class MarsClock implements Serializable {
 		
 		msol1 = Math.round(millisol * 10.0) / 10.0;
 		msolInt = (int) msol1;//illisol;
-
+		instant = null;
 	}
 
 	/**
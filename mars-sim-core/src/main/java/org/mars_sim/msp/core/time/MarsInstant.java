@@ -0,0 +1,167 @@
+/**
+ * Mars Simulation Project
+ * MarsInstant.java
+ */
+package org.mars_sim.msp.core.time;
+
+import java.io.Serializable;
+
+import org.mars_sim.msp.core.Simulation;
+
+/**
+ * The MarsInstant class is an immutable point on the Martian timeline, stored
+ * as the total number of millisols since the start of the calendar. It is
+ * meant for remembering, comparing and subtracting times in caches, events and
+ * histories, where a clone of a {@link MarsClock} would carry the calendar
+ * fields along. The calendar fields are only worked out when the instant is
+ * displayed.
+ */
+public final class MarsInstant implements Serializable, Comparable<MarsInstant> {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The total number of millisols since the start of the calendar. */
+	private final double totalMillisols;
+
+	/** The calendar of this instant, worked out when first needed. */
+	private transient MarsClock calendar;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param totalMillisols the total number of millisols since the start of the
+	 *                       calendar
+	 */
+	public MarsInstant(double totalMillisols) {
+		this.totalMillisols = totalMillisols;
+	}
+
+	/**
+	 * Gets the total number of millisols since the start of the calendar.
+	 *
+	 * @return total millisols
+	 */
+	public double getTotalMillisols() {
+		return totalMillisols;
+	}
+
+	/**
+	 * Gets the instant a given time after this one.
+	 *
+	 * @param millisols the time to add (may be negative)
+	 * @return the new instant
+	 */
+	public MarsInstant plus(double millisols) {
+		return new MarsInstant(totalMillisols + millisols);
+	}
+
+	/**
+	 * Returns the time difference between this instant and another one.
+	 *
+	 * @param other the other instant
+	 * @return time difference in millisols, positive if this instant is later
+	 */
+	public double getTimeDiff(MarsInstant other) {
+		return totalMillisols - other.totalMillisols;
+	}
+
+	/**
+	 * Checks if this instant is before another one.
+	 *
+	 * @param other the other instant
+	 * @return true if this instant is earlier
+	 */
+	public boolean isBefore(MarsInstant other) {
+		return totalMillisols < other.totalMillisols;
+	}
+
+	/**
+	 * Checks if this instant is after another one.
+	 *
+	 * @param other the other instant
+	 * @return true if this instant is later
+	 */
+	public boolean isAfter(MarsInstant other) {
+		return totalMillisols > other.totalMillisols;
+	}
+
+	/**
+	 * Gets the calendar of this instant. Note: its time is set and won't
+	 * increment.
+	 *
+	 * @return a new {@link MarsClock} instance, free to be changed
+	 */
+	public MarsClock getMarsClock() {
+		if (calendar == null) {
+			double remaining = totalMillisols;
+
+			int orbit = 0;
+			double orbitMillisols = getSolsInOrbit(orbit) * 1000D;
+			while (remaining >= orbitMillisols) {
+				remaining -= orbitMillisols;
+				orbit++;
+				orbitMillisols = getSolsInOrbit(orbit) * 1000D;
+			}
+
+			int month = 1;
+			double monthMillisols = MarsClock.getSolsInMonth(month, orbit) * 1000D;
+			while (month < MarsClock.MONTHS_PER_ORBIT && remaining >= monthMillisols) {
+				remaining -= monthMillisols;
+				month++;
+				monthMillisols = MarsClock.getSolsInMonth(month, orbit) * 1000D;
+			}
+
+			int solIndex = (int) (remaining / 1000D);
+			double millisol = remaining - solIndex * 1000D;
+
+			calendar = new MarsClock(orbit, month, solIndex + 1, millisol, getMissionSol());
+		}
+		return (MarsClock) calendar.clone();
+	}
+
+	/**
+	 * Gets the mission sol of this instant, relative to the current time.
+	 *
+	 * @return mission sol
+	 */
+	private int getMissionSol() {
+		MasterClock masterClock = Simulation.instance().getMasterClock();
+		if (masterClock == null || masterClock.getMarsClock() == null)
+			return 0;
+		MarsClock now = masterClock.getMarsClock();
+		int solsAgo = (int) Math.floor(now.getInstant().totalMillisols / 1000D)
+				- (int) Math.floor(totalMillisols / 1000D);
+		return now.getMissionSol() - solsAgo;
+	}
+
+	private static int getSolsInOrbit(int orbit) {
+		if (MarsClock.isLeapOrbit(orbit))
+			return MarsClock.SOLS_PER_ORBIT_LEAPYEAR;
+		return MarsClock.SOLS_PER_ORBIT_NON_LEAPYEAR;
+	}
+
+	@Override
+	public int compareTo(MarsInstant other) {
+		return Double.compare(totalMillisols, other.totalMillisols);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof MarsInstant))
+			return false;
+		return Double.compare(totalMillisols, ((MarsInstant) obj).totalMillisols) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Double.hashCode(totalMillisols);
+	}
+
+	@Override
+	public String toString() {
+		return getMarsClock().getDateTimeStamp();
+	}
+}
@@ -1178,6 +1178,49 @@ public class MasterClock implements Serializable {
 		}
 	}
 
+	/**
+	 * Fast forwards the simulation on the calling thread. The clocks are advanced
+	 * by a fixed step as fast as the CPU allows, without sleeping between pulses,
+	 * without handing the pulses over to the clock listener executor and without
+	 * firing any ui pulse.
+	 *
+	 * @param sols the number of sols to simulate
+	 * @param step the fixed length of each pulse [in millisols]
+	 * @return the throughput report of the run
+	 */
+	public BatchReport runBatch(double sols, double step) {
+		if (step <= 0)
+			throw new IllegalArgumentException("The batch step must be positive : " + step);
+
+		BatchReport report = new BatchReport(step);
+		double target = sols * 1000D;
+		double elapsed = 0;
+
+		keepRunning = true;
+		report.start();
+		while (keepRunning && elapsed < target) {
+			double timePulse = Math.min(step, target - elapsed);
+
+			totalPulses++;
+			earthClock.addTime(Math.round(timePulse * MILLISECONDS_PER_MILLISOL));
+			marsClock.addTime(timePulse);
+
+			sim.batchPulse(timePulse, report);
+			report.addPulse(timePulse);
+
+			elapsed += timePulse;
+			millisols += timePulse;
+			if (millisols > MAX_SOLS)
+				millisols = millisols - MAX_SOLS;
+
+			checkSave();
+		}
+		report.stop();
+		keepRunning = false;
+
+		return report;
+	}
+
 	/**
 	 * Stop the clock
 	 */
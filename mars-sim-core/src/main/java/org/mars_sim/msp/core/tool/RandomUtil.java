@@ -43,6 +43,15 @@ public final class RandomUtil {
 	// private final static SFMT19937 random = new SFMT19937();
 	// private final static SFMT19937j random = new SFMT19937j();
 
+	/**
+	 * Seeds the random generator so that a sequence of draws can be repeated.
+	 * 
+	 * @param seed the seed
+	 */
+	public static void setSeed(long seed) {
+		random.setSeed(seed);
+	}
+
 	/**
 	 * Returns true if given number is less than a random percentage.
 	 * 
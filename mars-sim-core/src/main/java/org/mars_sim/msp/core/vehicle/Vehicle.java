@@ -190,8 +190,8 @@ public abstract class Vehicle extends Unit
 	/** The type of dessert loaded. */	
 	private String typeOfDessertLoaded;
 	
-	/** A collection of locations that make up the vehicle's trail. */
-	private ArrayList<Coordinates> trail;
+	/** The locations that make up the vehicle's trail. */
+	private VehicleTrail trail;
 	/** List of operator activity spots. */
 	private List<Point2D> operatorActivitySpots;
 	/** List of passenger activity spots. */
@@ -275,7 +275,7 @@ public abstract class Vehicle extends Unit
 		vehicleType = vehicleType.toLowerCase();
 
 		direction = new Direction(0);
-		trail = new ArrayList<Coordinates>();
+		trail = new VehicleTrail();
 		statusTypes = new ArrayList<>();
 		
 		isReservedMission = false;
@@ -433,7 +433,7 @@ public abstract class Vehicle extends Unit
 		settlement.getInventory().storeUnit(this);
 
 		direction = new Direction(0);
-		trail = new ArrayList<Coordinates>();
+		trail = new VehicleTrail();
 		statusTypes = new ArrayList<>();
 		
 		// Set description
@@ -1586,11 +1586,11 @@ public abstract class Vehicle extends Unit
 	}
 
 	/**
-	 * Gets the vehicle's trail as a collection of coordinate locations.
+	 * Gets the vehicle's trail.
 	 * 
-	 * @return trail collection
+	 * @return trail
 	 */
-	public Collection<Coordinates> getTrail() {
+	public VehicleTrail getTrail() {
 		return trail;
 	}
 
@@ -1604,12 +1604,8 @@ public abstract class Vehicle extends Unit
 		if (getSettlement() != null) {
 			if (trail.size() > 0)
 				trail.clear();
-		} else if (trail.size() > 0) {
-			Coordinates lastLocation = trail.get(trail.size() - 1);
-			if (!lastLocation.equals(location) && (lastLocation.getDistance(location) >= 2D))
-				trail.add(new Coordinates(location));
 		} else
-			trail.add(new Coordinates(location));
+			trail.add(location);
 	}
 
 	/**
@@ -0,0 +1,266 @@
+/**
+ * Mars Simulation Project
+ * VehicleTrail.java
+ */
+package org.mars_sim.msp.core.vehicle;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.mars.Mars;
+
+/**
+ * The VehicleTrail class stores the trail of a vehicle as a polyline of packed
+ * float phi/theta arrays. Points that add no detail are dropped as they come in,
+ * and once the point budget is exceeded the trail is simplified with the
+ * Douglas-Peucker algorithm using a coarser tolerance.
+ */
+public class VehicleTrail implements Serializable {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	/** The default maximum number of points of a trail. */
+	public static final int DEFAULT_BUDGET = 500;
+	/** The minimum distance between two points of a trail [in km]. */
+	public static final double MIN_SPACING = 2D;
+	/** The initial simplification tolerance [in km]. */
+	private static final double INITIAL_TOLERANCE = .5D;
+
+	private static final double TWO_PI = 2D * Math.PI;
+
+	/** The maximum number of points. */
+	private int budget;
+	/** The number of points. */
+	private int size;
+	/** The current simplification tolerance [in km]. */
+	private double tolerance = INITIAL_TOLERANCE;
+
+	/** The phi of each point [in radians]. */
+	private float[] phi;
+	/** The theta of each point [in radians]. */
+	private float[] theta;
+
+	/**
+	 * Constructor.
+	 */
+	public VehicleTrail() {
+		this(DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param budget the maximum number of points
+	 */
+	public VehicleTrail(int budget) {
+		this.budget = Math.max(budget, 4);
+		phi = new float[16];
+		theta = new float[16];
+	}
+
+	/**
+	 * Adds a location to the trail if it is far enough from the last point.
+	 *
+	 * @param location the location
+	 */
+	public synchronized void add(Coordinates location) {
+		float p = (float) location.getPhi();
+		float t = (float) location.getTheta();
+
+		if (size > 0 && distance(phi[size - 1], theta[size - 1], p, t) < MIN_SPACING)
+			return;
+
+		// Drop the last point if it lies on the way to the new one
+		if (size >= 2 && offset(size - 1, size - 2, p, t) < tolerance) {
+			phi[size - 1] = p;
+			theta[size - 1] = t;
+			return;
+		}
+
+		if (size == phi.length) {
+			int capacity = Math.min(phi.length * 2, budget + 1);
+			phi = Arrays.copyOf(phi, capacity);
+			theta = Arrays.copyOf(theta, capacity);
+		}
+		phi[size] = p;
+		theta[size] = t;
+		size++;
+
+		if (size > budget)
+			shrink();
+	}
+
+	/**
+	 * Removes all the points.
+	 */
+	public synchronized void clear() {
+		size = 0;
+		tolerance = INITIAL_TOLERANCE;
+	}
+
+	/**
+	 * Gets the number of points.
+	 *
+	 * @return number of points
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the last point of the trail.
+	 *
+	 * @return location or null if the trail is empty
+	 */
+	public synchronized Coordinates getLast() {
+		if (size == 0)
+			return null;
+		return new Coordinates(phi[size - 1], theta[size - 1]);
+	}
+
+	/**
+	 * Gets all the points of the trail.
+	 *
+	 * @return list of locations
+	 */
+	public List<Coordinates> getPoints() {
+		return getPoints(0D);
+	}
+
+	/**
+	 * Gets the points of the trail at a level of detail. Points closer than the
+	 * given spacing to the previous point are skipped; the first and the last
+	 * points are always included.
+	 *
+	 * @param spacing the minimum distance between two points [in km], typically the
+	 *                size of a pixel of the map
+	 * @return list of locations
+	 */
+	public synchronized List<Coordinates> getPoints(double spacing) {
+		List<Coordinates> result = new ArrayList<>();
+		int last = -1;
+		for (int i = 0; i < size; i++) {
+			if (last < 0 || i == size - 1 || distance(phi[last], theta[last], phi[i], theta[i]) >= spacing) {
+				result.add(new Coordinates(phi[i], theta[i]));
+				last = i;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Simplifies the trail with a doubling tolerance until it fits in three
+	 * quarters of its budget.
+	 */
+	private void shrink() {
+		boolean[] keep = new boolean[size];
+		int target = budget * 3 / 4;
+		int count = size;
+		while (count > target) {
+			tolerance *= 2D;
+			Arrays.fill(keep, false);
+			keep[0] = true;
+			keep[size - 1] = true;
+			simplify(0, size - 1, keep);
+			count = 0;
+			for (boolean k : keep)
+				if (k)
+					count++;
+		}
+
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			if (keep[i]) {
+				phi[j] = phi[i];
+				theta[j] = theta[i];
+				j++;
+			}
+		}
+		size = j;
+	}
+
+	/**
+	 * Marks the points to keep between two points with the Douglas-Peucker
+	 * algorithm.
+	 */
+	private void simplify(int first, int last, boolean[] keep) {
+		// Use an explicit stack to avoid deep recursion on long trails
+		int[] stack = new int[2 * size];
+		int top = 0;
+		stack[top++] = first;
+		stack[top++] = last;
+		while (top > 0) {
+			int b = stack[--top];
+			int a = stack[--top];
+			double max = 0;
+			int index = -1;
+			for (int i = a + 1; i < b; i++) {
+				double d = offset(i, a, phi[b], theta[b]);
+				if (d > max) {
+					max = d;
+					index = i;
+				}
+			}
+			if (index > 0 && max >= tolerance) {
+				keep[index] = true;
+				stack[top++] = a;
+				stack[top++] = index;
+				stack[top++] = index;
+				stack[top++] = b;
+			}
+		}
+	}
+
+	/**
+	 * Gets the distance of a point from the segment between another point and a
+	 * location, on a local equirectangular projection.
+	 *
+	 * @return distance [in km]
+	 */
+	private double offset(int i, int a, float bPhi, float bTheta) {
+		double cos = Math.cos(Math.PI / 2D - phi[a]);
+		double ax = 0;
+		double ay = 0;
+		double bx = wrap(bTheta - theta[a]) * cos;
+		double by = bPhi - phi[a];
+		double px = wrap(theta[i] - theta[a]) * cos;
+		double py = phi[i] - phi[a];
+
+		double dx = bx - ax;
+		double dy = by - ay;
+		double lengthSq = dx * dx + dy * dy;
+		double u = 0;
+		if (lengthSq > 0) {
+			u = (px * dx + py * dy) / lengthSq;
+			if (u < 0)
+				u = 0;
+			else if (u > 1)
+				u = 1;
+		}
+		double ex = px - u * dx;
+		double ey = py - u * dy;
+		return Math.sqrt(ex * ex + ey * ey) * Mars.MARS_RADIUS_KM;
+	}
+
+	private static double distance(float phi1, float theta1, float phi2, float theta2) {
+		double cos = Math.cos(Math.PI / 2D - (phi1 + phi2) / 2D);
+		double dx = wrap(theta2 - theta1) * cos;
+		double dy = phi2 - phi1;
+		return Math.sqrt(dx * dx + dy * dy) * Mars.MARS_RADIUS_KM;
+	}
+
+	/**
+	 * Wraps an angle difference to [-PI, PI].
+	 */
+	private static double wrap(double angle) {
+		if (angle > Math.PI)
+			return angle - TWO_PI;
+		if (angle < -Math.PI)
+			return angle + TWO_PI;
+		return angle;
+	}
+}
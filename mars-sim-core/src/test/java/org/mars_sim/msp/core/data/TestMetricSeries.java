@@ -0,0 +1,66 @@
+package org.mars_sim.msp.core.data;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the MetricSeries class.
+ */
+public class TestMetricSeries extends TestCase {
+
+	/**
+	 * Test the aggregates of a sol.
+	 */
+	public void testSolRollup() {
+		MetricSeries series = new MetricSeries(10, 3, 2, 1);
+		series.record(1, 100D, 0, 0, 4D);
+		series.record(1, 200D, 0, 0, 2D);
+		series.record(1, 300D, 0, 0, 6D);
+		series.record(2, 100D, 0, 0, 10D);
+
+		assertEquals(3, series.getCount(RollupPeriod.SOL, 1));
+		assertEquals(12D, series.getSum(RollupPeriod.SOL, 1), 1E-9);
+		assertEquals(4D, series.getAverage(RollupPeriod.SOL, 1), 1E-9);
+		assertEquals(2D, series.getMin(RollupPeriod.SOL, 1), 1E-9);
+		assertEquals(6D, series.getMax(RollupPeriod.SOL, 1), 1E-9);
+		assertEquals(10D, series.getAverage(RollupPeriod.SOL, 2), 1E-9);
+		assertEquals(4, series.getCount(RollupPeriod.MONTH, 0));
+		assertEquals(5.5D, series.getAverage(RollupPeriod.ORBIT, 0), 1E-9);
+	}
+
+	/**
+	 * Test that the aggregates of the oldest sols are dropped.
+	 */
+	public void testRetention() {
+		MetricSeries series = new MetricSeries(10, 3, 2, 1);
+		for (int sol = 1; sol <= 5; sol++)
+			series.record(sol, 0D, 0, 0, sol);
+
+		assertEquals(0, series.getCount(RollupPeriod.SOL, 1));
+		assertEquals(0, series.getCount(RollupPeriod.SOL, 2));
+		assertEquals(0D, series.getAverage(RollupPeriod.SOL, 2), 1E-9);
+		assertEquals(3D, series.getAverage(RollupPeriod.SOL, 3), 1E-9);
+		int[] keys = series.getKeys(RollupPeriod.SOL);
+		assertEquals(3, keys.length);
+		assertEquals(3, keys[0]);
+		assertEquals(5, keys[2]);
+
+		// A late sample of a dropped sol is ignored
+		series.record(2, 500D, 0, 0, 100D);
+		assertEquals(0, series.getCount(RollupPeriod.SOL, 2));
+		assertEquals(5D, series.getAverage(RollupPeriod.SOL, 5), 1E-9);
+	}
+
+	/**
+	 * Test that the ring buffer keeps the latest samples in order.
+	 */
+	public void testSamples() {
+		MetricSeries series = new MetricSeries(3, 1, 1, 1);
+		for (int i = 0; i < 5; i++)
+			series.record(1, i * 10D, 0, 0, i);
+
+		assertEquals(3, series.getSampleCount());
+		assertEquals(2D, series.getSampleValue(0), 1E-9);
+		assertEquals(4D, series.getSampleValue(2), 1E-9);
+		assertEquals(1020D, series.getSampleTime(0), 1E-9);
+	}
+}
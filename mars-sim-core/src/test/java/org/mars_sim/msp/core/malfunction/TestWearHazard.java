@@ -0,0 +1,73 @@
+package org.mars_sim.msp.core.malfunction;
+
+import org.mars_sim.msp.core.tool.RandomUtil;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the WearHazard class.
+ */
+public class TestWearHazard extends TestCase {
+
+	private static final long SEED = 20201019L;
+
+	private static final int PULSES = 1_000_000;
+
+	@Override
+	public void setUp() throws Exception {
+		RandomUtil.setSeed(SEED);
+	}
+
+	/**
+	 * Test that a small chance gives the same number of malfunctions as rolling
+	 * the chance every pulse.
+	 */
+	public void testSmallChance() {
+		double chance = 0.1D;
+		double expected = PULSES * chance / 100D;
+
+		int rolled = 0;
+		for (int i = 0; i < PULSES; i++) {
+			if (RandomUtil.lessThanRandPercent(chance))
+				rolled++;
+		}
+
+		WearHazard hazard = new WearHazard();
+		int accrued = 0;
+		for (int i = 0; i < PULSES; i++) {
+			if (hazard.accrue(chance))
+				accrued++;
+		}
+
+		// Both counts are about 1000, with a standard deviation of about 32
+		assertEquals("Rolled malfunctions", expected, rolled, expected * 0.1D);
+		assertEquals("Accrued malfunctions", expected, accrued, expected * 0.1D);
+		assertEquals("Accrued against rolled malfunctions", rolled, accrued, expected * 0.1D);
+	}
+
+	/**
+	 * Test that a chance of 100 % gives a malfunction in 1 - 1/e of the pulses
+	 * rather than in every pulse.
+	 */
+	public void testFullChance() {
+		WearHazard hazard = new WearHazard();
+		int accrued = 0;
+		for (int i = 0; i < PULSES; i++) {
+			if (hazard.accrue(100D))
+				accrued++;
+		}
+
+		double rate = (double) accrued / PULSES;
+		assertEquals("Malfunctions per pulse", 1D - Math.exp(-1D), rate, 0.005D);
+	}
+
+	/**
+	 * Test that no malfunction happens without a chance.
+	 */
+	public void testNoChance() {
+		WearHazard hazard = new WearHazard();
+		for (int i = 0; i < PULSES; i++) {
+			assertFalse("No malfunction", hazard.accrue(0D));
+		}
+	}
+}
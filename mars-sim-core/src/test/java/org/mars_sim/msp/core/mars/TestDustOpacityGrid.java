@@ -0,0 +1,54 @@
+package org.mars_sim.msp.core.mars;
+
+import org.mars_sim.msp.core.Coordinates;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the DustOpacityGrid class.
+ */
+public class TestDustOpacityGrid extends TestCase {
+
+	/**
+	 * Test that a storm raises the optical depth around it only.
+	 */
+	public void testSource() {
+		DustOpacityGrid grid = new DustOpacityGrid();
+		Coordinates center = new Coordinates(Math.PI / 2D, Math.PI);
+		grid.addSource(center, 1000D, 2D);
+
+		assertEquals(2D, grid.getOpticalDepth(center), 1E-9);
+		assertEquals(2D, grid.getOpticalDepth(new Coordinates(Math.PI / 2D, Math.PI + .2D)), 1E-9);
+		assertEquals(0D, grid.getOpticalDepth(new Coordinates(Math.PI / 2D, 0D)), 1E-9);
+		assertEquals(0D, grid.getOpticalDepth(new Coordinates(.1D, Math.PI)), 1E-9);
+	}
+
+	/**
+	 * Test that a small storm still covers its own cell.
+	 */
+	public void testSmallSource() {
+		DustOpacityGrid grid = new DustOpacityGrid();
+		Coordinates center = new Coordinates(1D, 1D);
+		grid.addSource(center, 1D, .2D);
+
+		assertEquals(.2D, grid.getOpticalDepth(center), 1E-9);
+	}
+
+	/**
+	 * Test that the dust drifts east, spreads and settles out.
+	 */
+	public void testUpdate() {
+		DustOpacityGrid grid = new DustOpacityGrid();
+		Coordinates center = new Coordinates(Math.PI / 2D, Math.PI);
+		grid.addSource(center, 1D, 1D);
+		grid.update();
+
+		double east = grid.getOpticalDepth(
+				new Coordinates(Math.PI / 2D, Math.PI + Math.toRadians(DustOpacityGrid.CELL_DEGREES)));
+		double west = grid.getOpticalDepth(
+				new Coordinates(Math.PI / 2D, Math.PI - Math.toRadians(DustOpacityGrid.CELL_DEGREES)));
+		assertTrue(grid.getOpticalDepth(center) < 1D);
+		assertTrue(east > west);
+		assertTrue(west > 0D);
+	}
+}
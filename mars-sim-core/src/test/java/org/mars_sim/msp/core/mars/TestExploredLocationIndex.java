@@ -0,0 +1,74 @@
+package org.mars_sim.msp.core.mars;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the ExploredLocationIndex class.
+ */
+public class TestExploredLocationIndex extends TestCase {
+
+	/**
+	 * Test that a search only finds the locations within its radius.
+	 */
+	public void testGetLocationsWithin() {
+		ExploredLocationIndex index = new ExploredLocationIndex();
+		Coordinates center = new Coordinates(Math.PI / 2D, 0D);
+		ExploredLocation near = createLocation(new Coordinates(Math.PI / 2D, .01D));
+		// Across the 0 meridian
+		ExploredLocation wrapped = createLocation(new Coordinates(Math.PI / 2D, 2D * Math.PI - .01D));
+		ExploredLocation far = createLocation(new Coordinates(Math.PI / 2D, 1D));
+		index.add(near);
+		index.add(wrapped);
+		index.add(far);
+
+		List<ExploredLocation> result = index.getLocationsWithin(center, 100D);
+		assertEquals(2, result.size());
+		assertTrue(result.contains(near));
+		assertTrue(result.contains(wrapped));
+	}
+
+	/**
+	 * Test that a search over a pole finds the locations at every longitude.
+	 */
+	public void testPole() {
+		ExploredLocationIndex index = new ExploredLocationIndex();
+		ExploredLocation location = createLocation(new Coordinates(.01D, Math.PI));
+		index.add(location);
+
+		List<ExploredLocation> result = index.getLocationsWithin(new Coordinates(.01D, 0D), 100D);
+		assertEquals(1, result.size());
+		assertEquals(location, result.get(0));
+	}
+
+	/**
+	 * Test that the locations of a settlement are still found after it is renamed.
+	 */
+	public void testRenamedSettlement() {
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+		Settlement settlement = new MockSettlement();
+
+		ExploredLocationIndex index = new ExploredLocationIndex();
+		ExploredLocation location = new ExploredLocation(new Coordinates(1D, 1D), new HashMap<String, Double>(),
+				settlement);
+		index.add(location);
+
+		settlement.setName("Renamed Settlement");
+		List<ExploredLocation> result = index.getLocations(settlement);
+		assertEquals(1, result.size());
+		assertEquals(location, result.get(0));
+	}
+
+	private ExploredLocation createLocation(Coordinates c) {
+		return new ExploredLocation(c, new HashMap<String, Double>(), null);
+	}
+}
@@ -0,0 +1,102 @@
+package org.mars_sim.msp.core.mars;
+
+import org.mars_sim.msp.core.Coordinates;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the RoutePlanner class.
+ */
+public class TestRoutePlanner extends TestCase {
+
+	/** The longitudes of the ridge [in radians]. */
+	private static final double RIDGE_WEST = .3D;
+	private static final double RIDGE_EAST = .4D;
+	/** The colatitude south of which the ridge can be crossed [in radians]. */
+	private static final double RIDGE_PASS = 2.5D;
+
+	private static final Coordinates WEST = new Coordinates(Math.PI / 2D, .1D);
+	private static final Coordinates EAST = new Coordinates(Math.PI / 2D, .6D);
+
+	/**
+	 * A flat terrain.
+	 */
+	private static class FlatTerrain extends TerrainElevation {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getMOLAElevation(double phi, double theta) {
+			return 0D;
+		}
+	}
+
+	/**
+	 * A flat terrain with a steep ridge from the north pole down to a pass.
+	 */
+	private static class RidgeTerrain extends TerrainElevation {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public double getMOLAElevation(double phi, double theta) {
+			if (theta >= RIDGE_WEST && theta <= RIDGE_EAST && phi < RIDGE_PASS)
+				return 50D;
+			return 0D;
+		}
+	}
+
+	/**
+	 * Test that a route over flat terrain stays close to the straight leg.
+	 */
+	public void testFlatRoute() {
+		RoutePlanner planner = new RoutePlanner(new FlatTerrain());
+		Coordinates destination = new Coordinates(Math.PI / 2D + .3D, .6D);
+		double straight = Coordinates.computeDistance(WEST, destination);
+
+		Route route = planner.getRoute(WEST, destination);
+		assertTrue(route.getDistance() >= straight - 1E-6);
+		// Allow for the grid steps and the cells at both ends
+		assertTrue(route.getDistance() <= straight * 1.1D + 120D);
+		assertEquals(0D, route.getClimb(), 1E-9);
+	}
+
+	/**
+	 * Test that a route within a cell is the straight leg.
+	 */
+	public void testSameCell() {
+		RoutePlanner planner = new RoutePlanner(new FlatTerrain());
+		Coordinates destination = new Coordinates(Math.PI / 2D + .001D, .101D);
+
+		Route route = planner.getRoute(WEST, destination);
+		assertEquals(Coordinates.computeDistance(WEST, destination), route.getDistance(), 1E-9);
+		assertEquals(2, route.getWaypoints().size());
+	}
+
+	/**
+	 * Test that a route goes around terrain too steep to drive on.
+	 */
+	public void testRidgeRoute() {
+		RoutePlanner planner = new RoutePlanner(new RidgeTerrain());
+
+		Route route = planner.getRoute(WEST, EAST);
+		// The pass is more than 0.9 radians south of both ends
+		assertTrue(route.getDistance() > 2D * .9D * Mars.MARS_RADIUS_KM);
+		for (Coordinates waypoint : route.getWaypoints()) {
+			double theta = waypoint.getTheta();
+			assertFalse(theta >= RIDGE_WEST && theta <= RIDGE_EAST && waypoint.getPhi() < RIDGE_PASS);
+		}
+	}
+
+	/**
+	 * Test that a search gives the same route after other searches have used its
+	 * buffers.
+	 */
+	public void testReusedSearch() {
+		double fresh = new RoutePlanner(new RidgeTerrain()).getDistance(WEST, EAST);
+
+		RoutePlanner planner = new RoutePlanner(new RidgeTerrain());
+		planner.getDistance(EAST, new Coordinates(1D, 1D));
+		planner.getDistance(new Coordinates(2D, 5D), WEST);
+		assertEquals(fresh, planner.getDistance(WEST, EAST), 1E-9);
+		assertEquals(3, planner.getNumCachedLegs());
+	}
+}
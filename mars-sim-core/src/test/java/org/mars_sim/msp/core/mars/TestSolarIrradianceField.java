@@ -0,0 +1,133 @@
+package org.mars_sim.msp.core.mars;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the SolarIrradianceField class.
+ */
+public class TestSolarIrradianceField extends TestCase {
+
+	/**
+	 * A surface where the irradiance of a site only depends on its longitude and
+	 * the distance to the Sun.
+	 */
+	private static class MockSurfaceFeatures extends SurfaceFeatures {
+		private static final long serialVersionUID = 1L;
+
+		private double distanceToSun = 1.5D;
+
+		@Override
+		double getDistanceToSun() {
+			return distanceToSun;
+		}
+
+		@Override
+		double calculateSolarIrradiance(Coordinates location, double r) {
+			return location.getTheta() * 100D / r;
+		}
+	}
+
+	private MockSurfaceFeatures surface;
+	private SolarIrradianceField field;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+
+		surface = new MockSurfaceFeatures();
+		field = new SolarIrradianceField(surface);
+	}
+
+	/**
+	 * Test that the first read of a site activates it.
+	 */
+	public void testRead() {
+		Coordinates location = new Coordinates(1D, 2D);
+		assertEquals(0, field.getNumSites());
+		assertEquals(200D / 1.5D, field.getSolarIrradiance(location), 1E-9);
+		assertEquals(1, field.getNumSites());
+		assertEquals(0, field.getTrend(location));
+	}
+
+	/**
+	 * Test that the trend follows the history of a site.
+	 */
+	public void testTrend() {
+		Coordinates location = new Coordinates(1D, 2D);
+		field.getSolarIrradiance(location);
+
+		for (int i = 0; i < 3; i++) {
+			surface.distanceToSun -= .01D;
+			field.update();
+		}
+		assertEquals(3, field.getTrend(location));
+
+		surface.distanceToSun += .01D;
+		field.update();
+		assertEquals(3 - 1, field.getTrend(location));
+		assertEquals(200D / surface.distanceToSun, field.getSolarIrradiance(location), 1E-9);
+	}
+
+	/**
+	 * Test that a site which is no longer read is dropped.
+	 */
+	public void testIdleSite() {
+		Coordinates location = new Coordinates(1D, 2D);
+		field.getSolarIrradiance(location);
+
+		for (int i = 0; i <= 100; i++) {
+			field.update();
+		}
+		assertEquals(0, field.getNumSites());
+		assertEquals(0, field.getTrend(location));
+	}
+
+	/**
+	 * Test that reads running with the updates always get the irradiance of
+	 * their own site, while sites are dropped and activated again.
+	 */
+	public void testConcurrentReads() throws Exception {
+		AtomicReference<String> failure = new AtomicReference<>();
+		Thread updater = new Thread(() -> {
+			for (int i = 0; i < 50_000; i++) {
+				field.update();
+			}
+		});
+
+		Thread[] readers = new Thread[4];
+		for (int r = 0; r < readers.length; r++) {
+			int offset = r;
+			readers[r] = new Thread(() -> {
+				int k = offset;
+				while (updater.isAlive() && failure.get() == null) {
+					// Each reader moves on to other sites, leaving its old ones to be dropped
+					double theta = (k / 1000 % 100) * .01D + offset;
+					Coordinates location = new Coordinates(1D, theta);
+					double expected = theta * 100D / 1.5D;
+					double value = field.getSolarIrradiance(location);
+					if (Math.abs(value - expected) > 1E-9)
+						failure.set(location + " read " + value + " instead of " + expected);
+					k++;
+				}
+			});
+		}
+
+		updater.start();
+		for (Thread reader : readers) {
+			reader.start();
+		}
+		updater.join();
+		for (Thread reader : readers) {
+			reader.join();
+		}
+
+		assertNull(failure.get());
+	}
+}
@@ -0,0 +1,78 @@
+package org.mars_sim.msp.core.mars;
+
+import java.util.HashMap;
+
+import org.mars_sim.msp.core.Coordinates;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.person.ai.mission.MockMission;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the mining site claims of the SurfaceFeatures class.
+ */
+public class TestSurfaceFeatures extends TestCase {
+
+	private SurfaceFeatures surface;
+	private Settlement settlement;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+
+		surface = Simulation.instance().getMars().getSurfaceFeatures();
+		settlement = new MockSettlement();
+	}
+
+	private ExploredLocation createSite() {
+		return surface.addExploredLocation(new Coordinates(1D, 1D), new HashMap<String, Double>(), settlement);
+	}
+
+	/**
+	 * Test that claiming and releasing a site reserves and frees it.
+	 */
+	public void testClaimAndRelease() {
+		ExploredLocation site = createSite();
+		MockMission mission = new MockMission(settlement);
+
+		surface.claimMiningSite(site, mission);
+		assertTrue(site.isReserved());
+
+		surface.releaseMiningSite(site);
+		assertFalse(site.isReserved());
+	}
+
+	/**
+	 * Test that a site stays claimed while its mission goes on.
+	 */
+	public void testClaimOfOngoingMission() {
+		ExploredLocation site = createSite();
+		MockMission mission = new MockMission(settlement);
+
+		surface.claimMiningSite(site, mission);
+		surface.timePassing(1D);
+		assertTrue(site.isReserved());
+	}
+
+	/**
+	 * Test that the claim of an ended mission is released on the next pulse.
+	 */
+	public void testClaimOfEndedMission() {
+		ExploredLocation site = createSite();
+		MockMission mission = new MockMission(settlement);
+
+		surface.claimMiningSite(site, mission);
+		mission.setDone(true);
+		surface.timePassing(1D);
+		assertFalse(site.isReserved());
+
+		// The released claim does not come back
+		site.setReserved(true);
+		surface.timePassing(1D);
+		assertTrue(site.isReserved());
+	}
+}
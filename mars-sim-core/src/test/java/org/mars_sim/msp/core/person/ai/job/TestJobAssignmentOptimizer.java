@@ -0,0 +1,79 @@
+package org.mars_sim.msp.core.person.ai.job;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the assignment solver of the JobAssignmentOptimizer class.
+ */
+public class TestJobAssignmentOptimizer extends TestCase {
+
+	/**
+	 * Test a square problem where the greedy choice is not the best one.
+	 */
+	public void testSquare() {
+		double[][] cost = {
+				{ 1, 2, 3 },
+				{ 2, 4, 6 },
+				{ 3, 6, 9 } };
+		int[] result = JobAssignmentOptimizer.solve(cost);
+		assertEquals(2, result[0]);
+		assertEquals(1, result[1]);
+		assertEquals(0, result[2]);
+	}
+
+	/**
+	 * Test a problem with more columns than rows.
+	 */
+	public void testRectangular() {
+		double[][] cost = {
+				{ 5, 1, 9, 9 },
+				{ 5, 2, 9, 1 } };
+		int[] result = JobAssignmentOptimizer.solve(cost);
+		assertEquals(1, result[0]);
+		assertEquals(3, result[1]);
+	}
+
+	/**
+	 * Test that the total cost matches a brute force search.
+	 */
+	public void testOptimal() {
+		double[][] cost = new double[5][7];
+		Random random = new Random(42);
+		for (int i = 0; i < cost.length; i++)
+			for (int j = 0; j < cost[i].length; j++)
+				cost[i][j] = random.nextInt(100);
+
+		int[] result = JobAssignmentOptimizer.solve(cost);
+		double total = 0;
+		boolean[] used = new boolean[7];
+		for (int i = 0; i < result.length; i++) {
+			assertFalse(used[result[i]]);
+			used[result[i]] = true;
+			total += cost[i][result[i]];
+		}
+		assertEquals(bruteForce(cost, 0, new boolean[7]), total, 1E-9);
+	}
+
+	/**
+	 * Test that an empty problem is solved.
+	 */
+	public void testEmpty() {
+		assertEquals(0, JobAssignmentOptimizer.solve(new double[0][0]).length);
+	}
+
+	private static double bruteForce(double[][] cost, int row, boolean[] used) {
+		if (row == cost.length)
+			return 0;
+		double best = Double.MAX_VALUE;
+		for (int j = 0; j < used.length; j++) {
+			if (!used[j]) {
+				used[j] = true;
+				best = Math.min(best, cost[row][j] + bruteForce(cost, row + 1, used));
+				used[j] = false;
+			}
+		}
+		return best;
+	}
+}
@@ -0,0 +1,59 @@
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mars_sim.msp.core.structure.Settlement;
+
+/**
+ * A mission with no phases, whose associated settlement is set by the test.
+ */
+public class MockMission extends Mission {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	private Settlement settlement;
+
+	public MockMission(Settlement settlement) {
+		this(settlement, Collections.emptyList());
+	}
+
+	public MockMission(Settlement settlement, Collection<MissionMember> members) {
+		// Use Mission constructor.
+		super("Mock Mission", MissionType.TRAVEL_TO_SETTLEMENT, members);
+		this.settlement = settlement;
+	}
+
+	/**
+	 * Sends the mission to another settlement, as TravelToSettlement does.
+	 * 
+	 * @param settlement the destination settlement
+	 */
+	public void setDestinationSettlement(Settlement settlement) {
+		this.settlement = settlement;
+		fireMissionUpdate(MissionEventType.DESTINATION_SETTLEMENT);
+	}
+
+	@Override
+	protected void determineNewPhase() {
+		// Nothing to do
+	}
+
+	@Override
+	public Settlement getAssociatedSettlement() {
+		return settlement;
+	}
+
+	@Override
+	public Map<Integer, Number> getResourcesNeededForRemainingMission(boolean useBuffer) {
+		return new HashMap<>();
+	}
+
+	@Override
+	public Map<Integer, Integer> getEquipmentNeededForRemainingMission(boolean useBuffer) {
+		return new HashMap<>();
+	}
+}
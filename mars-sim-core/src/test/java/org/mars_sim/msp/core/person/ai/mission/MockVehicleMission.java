@@ -0,0 +1,57 @@
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.Collections;
+
+import org.mars_sim.msp.core.person.ai.task.OperateVehicle;
+import org.mars_sim.msp.core.person.ai.task.utils.TaskPhase;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.vehicle.Vehicle;
+
+/**
+ * A vehicle mission with no phases, whose vehicle is set by the test.
+ */
+public class MockVehicleMission extends VehicleMission {
+
+	/** default serial id. */
+	private static final long serialVersionUID = 1L;
+
+	public MockVehicleMission(Vehicle vehicle) {
+		// Use VehicleMission constructor.
+		super("Mock Vehicle Mission", MissionType.TRAVEL_TO_SETTLEMENT, Collections.emptyList(), vehicle);
+	}
+
+	@Override
+	protected void determineNewPhase() {
+		// Nothing to do
+	}
+
+	@Override
+	public Settlement getAssociatedSettlement() {
+		return null;
+	}
+
+	@Override
+	protected OperateVehicle createOperateVehicleTask(MissionMember member, TaskPhase lastOperateVehicleTaskPhase) {
+		return null;
+	}
+
+	@Override
+	protected void performEmbarkFromSettlementPhase(MissionMember member) {
+		// Nothing to do
+	}
+
+	@Override
+	protected void performDisembarkToSettlementPhase(MissionMember member, Settlement disembarkSettlement) {
+		// Nothing to do
+	}
+
+	@Override
+	public double getEstimatedRemainingMissionTime(boolean useBuffer) {
+		return 0D;
+	}
+
+	@Override
+	public void updateTravelDestination() {
+		// Nothing to do
+	}
+}
@@ -0,0 +1,106 @@
+package org.mars_sim.msp.core.person.ai.mission;
+
+import java.util.Collections;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.vehicle.MockVehicle;
+import org.mars_sim.msp.core.vehicle.Vehicle;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the MissionIndex class.
+ */
+public class TestMissionIndex extends TestCase {
+
+	private Settlement start;
+	private Settlement destination;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+
+		start = new MockSettlement();
+		destination = new MockSettlement();
+	}
+
+	/**
+	 * Test that an added mission is found by identifier and settlement.
+	 */
+	public void testAdd() {
+		MissionIndex index = new MissionIndex();
+		MockMission mission = new MockMission(start);
+		index.add(mission);
+
+		assertEquals(mission, index.getMission(mission.getIdentifier()));
+		assertEquals(1, index.getMissions(start).size());
+		assertTrue(index.getMissions(start).contains(mission));
+		assertTrue(index.getMissions(destination).isEmpty());
+	}
+
+	/**
+	 * Test that a mission moves to its new destination settlement.
+	 */
+	public void testDestinationSettlement() {
+		MissionIndex index = new MissionIndex();
+		MockMission mission = new MockMission(start);
+		index.add(mission);
+
+		mission.setDestinationSettlement(destination);
+		assertTrue(index.getMissions(start).isEmpty());
+		assertEquals(1, index.getMissions(destination).size());
+		assertTrue(index.getMissions(destination).contains(mission));
+	}
+
+	/**
+	 * Test that a removed mission is no longer followed.
+	 */
+	public void testRemove() {
+		MissionIndex index = new MissionIndex();
+		MockMission mission = new MockMission(start);
+		index.add(mission);
+		index.remove(mission);
+
+		mission.setDestinationSettlement(destination);
+		assertNull(index.getMission(mission.getIdentifier()));
+		assertTrue(index.getMissions(start).isEmpty());
+		assertTrue(index.getMissions(destination).isEmpty());
+	}
+
+	/**
+	 * Test that a member's mission is found after the member ages.
+	 */
+	public void testMember() {
+		MissionIndex index = new MissionIndex();
+		Person person = new Person(start);
+		MockMission mission = new MockMission(start, Collections.singletonList(person));
+		index.add(mission);
+
+		person.changeAge(person.getAge() + 1);
+		assertEquals(mission, index.getMission(person));
+
+		index.remove(mission);
+		assertNull(index.getMission(person));
+	}
+
+	/**
+	 * Test that a vehicle's mission is found after the vehicle is renamed.
+	 */
+	public void testVehicle() throws Exception {
+		MissionIndex index = new MissionIndex();
+		Vehicle vehicle = new MockVehicle(start);
+		MockVehicleMission mission = new MockVehicleMission(vehicle);
+		index.add(mission);
+
+		vehicle.setName("Renamed Vehicle");
+		assertEquals(mission, index.getMission(vehicle));
+
+		index.remove(mission);
+		assertNull(index.getMission(vehicle));
+	}
+}
@@ -0,0 +1,66 @@
+package org.mars_sim.msp.core.person.ai.task.utils;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the ActivityLog class.
+ */
+public class TestActivityLog extends TestCase {
+
+	/**
+	 * Test that the strings are interned once for all the actors.
+	 */
+	public void testStringIDs() {
+		ActivityLog log = new ActivityLog();
+		int walk = log.getStringID("Walk");
+		int eat = log.getStringID("Eat");
+
+		assertTrue(walk != eat);
+		assertEquals(walk, log.getStringID("Walk"));
+		assertEquals("Eat", log.getString(eat));
+		assertEquals("", log.getString(log.getStringID(null)));
+		assertNull(log.getString(100));
+	}
+
+	/**
+	 * Test that the records of each actor are kept apart and in order, across
+	 * several blocks.
+	 */
+	public void testRecords() {
+		ActivityLog log = new ActivityLog();
+		int a = log.addActor();
+		int b = log.addActor();
+
+		for (int i = 0; i < 3000; i++) {
+			log.record(1, i / 3, i % 2 == 0 ? a : b, i, 0, 0, 0);
+		}
+
+		List<int[]> records = log.getRecords(1, b);
+		assertEquals(1500, records.size());
+		for (int i = 0; i < records.size(); i++) {
+			assertEquals(2 * i + 1, records.get(i)[1]);
+		}
+		assertEquals(2998, log.getLastRecord(1, a)[1]);
+		assertNull(log.getLastRecord(2, a));
+		assertTrue(log.getRecords(1, log.addActor()).isEmpty());
+	}
+
+	/**
+	 * Test that only the latest sols are kept.
+	 */
+	public void testRetention() {
+		ActivityLog log = new ActivityLog();
+		int a = log.addActor();
+
+		for (int sol = 1; sol <= ActivityLog.NUM_SOLS + 5; sol++) {
+			log.record(sol, 0, a, sol, 0, 0, 0);
+		}
+
+		int[] sols = log.getSols();
+		assertEquals(ActivityLog.NUM_SOLS, sols.length);
+		assertEquals(6, sols[0]);
+		assertEquals(ActivityLog.NUM_SOLS + 5, sols[sols.length - 1]);
+	}
+}
@@ -0,0 +1,61 @@
+package org.mars_sim.msp.core.person.health;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the dose accumulation of the RadiationModel class.
+ */
+public class TestRadiationModel extends TestCase {
+
+	/**
+	 * Test that no dose is received without a radiation event.
+	 */
+	public void testNoExposure() {
+		RadiationModel model = new RadiationModel();
+		model.setExposed(false, false, false);
+		assertEquals(0D, model.getDoseRate(), 0D);
+		assertEquals(0D, model.getDose(100D, RadiationExposure.EVA_SUIT_SHIELDING), 0D);
+	}
+
+	/**
+	 * Test that the dose over a period does not depend on the length of the
+	 * pulses it is received in.
+	 */
+	public void testDoseAccumulation() {
+		RadiationModel model = new RadiationModel();
+		model.setExposed(true, true, false);
+
+		double accumulated = 0D;
+		for (int i = 0; i < 200; i++) {
+			accumulated += model.getDose(.25D, RadiationExposure.EVA_SUIT_SHIELDING);
+		}
+		double whole = model.getDose(50D, RadiationExposure.EVA_SUIT_SHIELDING);
+		assertEquals(whole, accumulated, 1E-12);
+		assertEquals(model.getDoseRate() * 50D, whole, 1E-12);
+
+		// Half the dose passes a shielding of .5
+		assertEquals(whole / 2D, model.getDose(50D, .5D), 1E-12);
+	}
+
+	/**
+	 * Test that the dose rate of each event stays within its range.
+	 */
+	public void testDoseRate() {
+		RadiationModel model = new RadiationModel();
+		for (int i = 0; i < 100; i++) {
+			model.setExposed(true, false, false);
+			assertTrue(model.getExposed()[RadiationModel.BASELINE]);
+			assertTrue(model.getDoseRate() >= RadiationExposure.BASELINE_RAD_PER_SOL / 1000D * 2D / 3D - 1E-12);
+			assertTrue(model.getDoseRate() <= RadiationExposure.BASELINE_RAD_PER_SOL / 1000D * 4D / 3D + 1E-12);
+
+			model.setExposed(true, true, false);
+			assertTrue(model.getDoseRate() >= (RadiationExposure.GCR_RAD_PER_SOL - RadiationExposure.GCR_RAD_SWING) / 1000D - 1E-12);
+			assertTrue(model.getDoseRate() <= (RadiationExposure.GCR_RAD_PER_SOL + RadiationExposure.GCR_RAD_SWING) / 1000D + 1E-12);
+
+			model.setExposed(true, true, true);
+			assertTrue(model.getExposed()[RadiationModel.SEP]);
+			assertTrue(model.getDoseRate() >= 0D);
+			assertTrue(model.getDoseRate() <= RadiationExposure.SEP_RAD_PER_SOL / 1000D * RadiationExposure.SEP_SWING_FACTOR);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package org.mars_sim.msp.core.robot.ai.task;
+
+import org.mars_sim.msp.core.person.ai.task.meta.CookMealMeta;
+import org.mars_sim.msp.core.person.ai.task.meta.TendGreenhouseMeta;
+import org.mars_sim.msp.core.person.ai.task.utils.MetaTask;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the work orders of the RobotWorkBoard class.
+ */
+public class TestWorkOrders extends TestCase {
+
+	private static final int CLAIMS = 10_000;
+
+	private MetaTask cooking = new CookMealMeta();
+	private MetaTask farming = new TendGreenhouseMeta();
+
+	/**
+	 * Test that the orders are claimed in proportion to their weights.
+	 */
+	public void testClaimWeighting() {
+		int cookingClaims = 0;
+		for (int i = 0; i < CLAIMS; i++) {
+			RobotWorkBoard.WorkOrders orders = new RobotWorkBoard.WorkOrders(0D);
+			orders.add(cooking, 1D);
+			orders.add(farming, 3D);
+			if (orders.claim(mt -> true) == cooking)
+				cookingClaims++;
+		}
+
+		// Expect a quarter of the claims, within 5 standard deviations
+		assertEquals(CLAIMS / 4D, cookingClaims, 5D * Math.sqrt(CLAIMS * 0.25D * 0.75D));
+	}
+
+	/**
+	 * Test that the weight of an order drops with each claim on it.
+	 */
+	public void testClaimDecay() {
+		RobotWorkBoard.WorkOrders orders = new RobotWorkBoard.WorkOrders(0D);
+		orders.add(cooking, 6D);
+
+		assertEquals(6D, orders.getWeight(0), 1E-9);
+		assertEquals(cooking, orders.claim(mt -> true));
+		assertEquals(3D, orders.getWeight(0), 1E-9);
+		assertEquals(cooking, orders.claim(mt -> true));
+		assertEquals(2D, orders.getWeight(0), 1E-9);
+	}
+
+	/**
+	 * Test that an order the claimant cannot take is neither returned nor decayed.
+	 */
+	public void testClaimUnclaimable() {
+		RobotWorkBoard.WorkOrders orders = new RobotWorkBoard.WorkOrders(0D);
+		orders.add(cooking, 100D);
+		orders.add(farming, 1D);
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals(farming, orders.claim(mt -> mt != cooking));
+		}
+		assertEquals(100D, orders.getWeight(0), 1E-9);
+		assertNull(orders.claim(mt -> false));
+	}
+
+	/**
+	 * Test that there is nothing to claim without orders.
+	 */
+	public void testClaimEmpty() {
+		RobotWorkBoard.WorkOrders orders = new RobotWorkBoard.WorkOrders(0D);
+		assertNull(orders.claim(mt -> true));
+	}
+}
@@ -0,0 +1,106 @@
+package org.mars_sim.msp.core.structure;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.person.GenderType;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.person.ai.Skill;
+import org.mars_sim.msp.core.person.ai.SkillType;
+import org.mars_sim.msp.core.structure.building.MockBuilding;
+import org.mars_sim.msp.core.structure.building.function.BuildingAirlock;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the operator election of the Airlock class.
+ */
+public class TestAirlock extends TestCase {
+
+	private Settlement settlement;
+	private Airlock airlock;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+
+		UnitManager unitManager = Simulation.instance().getUnitManager();
+		settlement = new MockSettlement();
+		unitManager.addUnit(settlement);
+
+		MockBuilding building = new MockBuilding(settlement.getBuildingManager());
+		settlement.getBuildingManager().addBuilding(building, false);
+		airlock = new BuildingAirlock(building, 3, 0D, 0D, 0D, 0D, 0D, 0D);
+	}
+
+	private Person createPerson(String name, int evaLevel) {
+		Person person = Person.create(name, settlement).setGender(GenderType.MALE).build();
+		person.initialize();
+		person.getSkillManager().addNewSkill(new Skill(SkillType.EVA_OPERATIONS, evaLevel));
+		return person;
+	}
+
+	/**
+	 * Test that the best EVA operator takes over when the operator's task ends.
+	 */
+	public void testEndOperatorTask() {
+		Person operator = createPerson("Test Operator", 0);
+		Person novice = createPerson("Test Novice", 1);
+		Person expert = createPerson("Test Expert", 3);
+		airlock.addAwaitingAirlockInnerDoor(operator);
+		airlock.addAwaitingAirlockInnerDoor(novice);
+		airlock.addAwaitingAirlockInnerDoor(expert);
+
+		assertTrue(airlock.activateAirlock(operator));
+		assertEquals(3, airlock.getOccupants().size());
+		assertEquals(operator, airlock.getOperator());
+
+		airlock.endAirlockTask(operator);
+		assertEquals(expert, airlock.getOperator());
+
+		airlock.endAirlockTask(expert);
+		assertEquals(novice, airlock.getOperator());
+	}
+
+	/**
+	 * Test that no one is elected when the last occupant steps down.
+	 */
+	public void testEndLastOperatorTask() {
+		Person operator = createPerson("Test Operator", 2);
+		airlock.addAwaitingAirlockInnerDoor(operator);
+
+		assertTrue(airlock.activateAirlock(operator));
+		airlock.endAirlockTask(operator);
+		assertNull(airlock.getOperator());
+	}
+
+	/**
+	 * Test that a person whose airlock task has ended leaves the waiting queue.
+	 */
+	public void testEndWaitingTask() {
+		Person operator = createPerson("Test Operator", 2);
+		Person waiting = createPerson("Test Waiting", 1);
+		airlock.addAwaitingAirlockInnerDoor(waiting);
+		airlock.endAirlockTask(waiting);
+
+		assertTrue(airlock.activateAirlock(operator));
+		assertFalse(airlock.getOccupants().contains(waiting.getIdentifier()));
+	}
+
+	/**
+	 * Test that an operator who dropped the airlock task without ending it is
+	 * replaced on the next pulse.
+	 */
+	public void testDroppedOperatorTask() {
+		Person operator = createPerson("Test Operator", 0);
+		Person expert = createPerson("Test Expert", 3);
+		airlock.addAwaitingAirlockInnerDoor(operator);
+		airlock.addAwaitingAirlockInnerDoor(expert);
+
+		assertTrue(airlock.activateAirlock(operator));
+		// Neither has an airlock task
+		airlock.timePassing(1D);
+		assertEquals(expert, airlock.getOperator());
+	}
+}
@@ -0,0 +1,78 @@
+package org.mars_sim.msp.core.structure;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the SettlementScheduler class.
+ */
+public class TestSettlementScheduler extends TestCase {
+
+	private int count;
+
+	/**
+	 * Test that a job fires once per period with one millisol pulses.
+	 */
+	public void testFiresOncePerPeriod() {
+		SettlementScheduler scheduler = new SettlementScheduler(0);
+		scheduler.register("test", 15, 1, t -> count++);
+
+		for (long tick = 0; tick < 150; tick++) {
+			scheduler.advance(tick, 1D);
+		}
+
+		assertEquals(10, count);
+	}
+
+	/**
+	 * Test that a job is not missed when a pulse skips over its due millisol.
+	 */
+	public void testLongPulse() {
+		SettlementScheduler scheduler = new SettlementScheduler(0);
+		scheduler.register("test", 20, 1, t -> count++);
+
+		scheduler.advance(0, 1D);
+		// Skips over millisol 1
+		scheduler.advance(7, 7D);
+		assertEquals(1, count);
+
+		// Covers several periods, still fired exactly once
+		scheduler.advance(200, 193D);
+		assertEquals(2, count);
+
+		scheduler.advance(201, 1D);
+		assertEquals(3, count);
+
+		scheduler.advance(220, 19D);
+		assertEquals(3, count);
+	}
+
+	/**
+	 * Test that several pulses within the same millisol fire a job once.
+	 */
+	public void testShortPulses() {
+		SettlementScheduler scheduler = new SettlementScheduler(0);
+		scheduler.register("test", 50, 5, t -> count++);
+
+		for (int i = 0; i < 10; i++) {
+			scheduler.advance(5, .1D);
+		}
+
+		assertEquals(1, count);
+	}
+
+	/**
+	 * Test that the spread shifts the phase of the jobs.
+	 */
+	public void testSpread() {
+		SettlementScheduler scheduler = new SettlementScheduler(7);
+		scheduler.register("test", 20, 1, t -> count++);
+
+		for (long tick = 0; tick < 8; tick++) {
+			scheduler.advance(tick, 1D);
+		}
+		assertEquals(0, count);
+
+		scheduler.advance(8, 1D);
+		assertEquals(1, count);
+	}
+}
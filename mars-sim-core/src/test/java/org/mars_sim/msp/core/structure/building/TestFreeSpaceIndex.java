@@ -0,0 +1,62 @@
+package org.mars_sim.msp.core.structure.building;
+
+import java.awt.geom.Point2D;
+
+import org.mars_sim.msp.core.BoundedObject;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the FreeSpaceIndex class.
+ */
+public class TestFreeSpaceIndex extends TestCase {
+
+	/**
+	 * Test that a footprint covers the cells under it, and frees them again once
+	 * removed.
+	 */
+	public void testAddRemove() {
+		FreeSpaceIndex index = new FreeSpaceIndex();
+		BoundedObject building = new BoundedObject(0D, 0D, 4D, 10D, 90D);
+		index.add(building);
+
+		// Facing east, the length runs along the x axis
+		assertTrue(index.isOccupied(4.5D, 0D));
+		assertFalse(index.isOccupied(0D, 4.5D));
+
+		index.remove(building);
+		assertFalse(index.isOccupied(4.5D, 0D));
+	}
+
+	/**
+	 * Test that the nearest open location keeps the clearance from the
+	 * footprints.
+	 */
+	public void testFindNearestOpenLocation() {
+		FreeSpaceIndex index = new FreeSpaceIndex();
+		BoundedObject building = new BoundedObject(0D, 0D, 10D, 10D, 0D);
+		index.add(building);
+
+		Point2D location = index.findNearestOpenLocation(0D, 0D, 6D, 6D, 2D, p -> true);
+		assertNotNull(location);
+
+		// Half the building, plus the clearance, plus half the diagonal of the new footprint
+		double distance = Math.max(Math.abs(location.getX()), Math.abs(location.getY()));
+		assertTrue(distance >= 5D + 2D + Math.hypot(3D, 3D));
+		assertTrue(distance <= 5D + 2D + Math.hypot(3D, 3D) + 4D);
+	}
+
+	/**
+	 * Test that a candidate rejected by the exact check is passed over.
+	 */
+	public void testCheck() {
+		FreeSpaceIndex index = new FreeSpaceIndex();
+		index.add(new BoundedObject(0D, 0D, 10D, 10D, 0D));
+
+		Point2D location = index.findNearestOpenLocation(0D, 0D, 6D, 6D, 2D, p -> p.getX() > 0D);
+		assertNotNull(location);
+		assertTrue(location.getX() > 0D);
+
+		assertNull(index.findNearestOpenLocation(0D, 0D, 6D, 6D, 2D, p -> false));
+	}
+}
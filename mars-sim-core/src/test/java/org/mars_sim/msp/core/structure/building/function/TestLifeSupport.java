@@ -0,0 +1,71 @@
+package org.mars_sim.msp.core.structure.building.function;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.person.Person;
+import org.mars_sim.msp.core.structure.MockSettlement;
+import org.mars_sim.msp.core.structure.Settlement;
+import org.mars_sim.msp.core.structure.building.MockBuilding;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the occupants of the LifeSupport class.
+ */
+public class TestLifeSupport extends TestCase {
+
+	private Settlement settlement;
+	private LifeSupport lifeSupport;
+
+	@Override
+	public void setUp() throws Exception {
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+
+		UnitManager unitManager = Simulation.instance().getUnitManager();
+		settlement = new MockSettlement();
+		unitManager.addUnit(settlement);
+
+		MockBuilding building = new MockBuilding(settlement.getBuildingManager());
+		settlement.getBuildingManager().addBuilding(building, false);
+		lifeSupport = building.getLifeSupport();
+	}
+
+	/**
+	 * Test that an occupant who has a birthday inside can still be removed.
+	 */
+	public void testRemoveAgedOccupant() {
+		Person person = new Person(settlement);
+		if (!lifeSupport.containsOccupant(person))
+			lifeSupport.addPerson(person);
+		assertEquals(1, lifeSupport.getOccupantNumber());
+
+		// The hash code of a person changes with age
+		person.changeAge(person.getAge() + 1);
+		assertTrue(lifeSupport.containsOccupant(person));
+
+		lifeSupport.removePerson(person);
+		assertFalse(lifeSupport.containsOccupant(person));
+		assertEquals(0, lifeSupport.getOccupantNumber());
+		assertTrue(lifeSupport.getOccupants().isEmpty());
+	}
+
+	/**
+	 * Test that a person who has a birthday within the settlement can still leave
+	 * it, and is not counted twice on coming back.
+	 */
+	public void testRemoveAgedPersonWithin() {
+		Person person = new Person(settlement);
+		settlement.addPeopleWithin(person);
+		int count = settlement.getIndoorPeopleCount();
+
+		person.changeAge(person.getAge() + 1);
+		settlement.addPeopleWithin(person);
+		assertEquals(count, settlement.getIndoorPeopleCount());
+
+		settlement.removePeopleWithin(person);
+		assertFalse(settlement.getPeopleWithin().contains(person));
+		assertEquals(count - 1, settlement.getIndoorPeopleCount());
+	}
+}
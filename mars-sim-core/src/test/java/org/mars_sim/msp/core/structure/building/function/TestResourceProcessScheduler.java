@@ -0,0 +1,88 @@
+package org.mars_sim.msp.core.structure.building.function;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the production levels worked out by the
+ * ResourceProcessScheduler class.
+ */
+public class TestResourceProcessScheduler extends TestCase {
+
+	private static final int WATER = 1;
+	private static final int OXYGEN = 2;
+	private static final int ICE = 3;
+
+	/**
+	 * Test that the more valuable process gets a scarce input first.
+	 */
+	public void testScarceInput() {
+		ResourceProcess cheap = new ResourceProcess("cheap", 0D, true);
+		cheap.addMaxInputResourceRate(WATER, 1D, false);
+		cheap.addMaxOutputResourceRate(ICE, 1D, false);
+
+		ResourceProcess valuable = new ResourceProcess("valuable", 0D, true);
+		valuable.addMaxInputResourceRate(WATER, 1D, false);
+		valuable.addMaxOutputResourceRate(OXYGEN, 1D, false);
+
+		List<ResourceProcess> processes = new ArrayList<>();
+		processes.add(cheap);
+		processes.add(valuable);
+
+		Map<Integer, Double> stock = new HashMap<>();
+		stock.put(WATER, 15D);
+		double[] levels = ResourceProcessScheduler.solve(10D, processes, new double[] { 1D, 1D }, stock,
+				capacity(1000D), id -> id == OXYGEN ? 10D : 1D);
+
+		assertEquals(1D, levels[1], 1E-9);
+		assertEquals(.5D, levels[0], 1E-9);
+	}
+
+	/**
+	 * Test that a process stops once none of its outputs can be stored.
+	 */
+	public void testCapacity() {
+		ResourceProcess process = new ResourceProcess("process", 0D, true);
+		process.addMaxInputResourceRate(WATER, 1D, false);
+		process.addMaxOutputResourceRate(OXYGEN, 2D, false);
+		process.addMaxOutputResourceRate(ICE, 1D, true);
+
+		List<ResourceProcess> processes = new ArrayList<>();
+		processes.add(process);
+
+		Map<Integer, Double> stock = new HashMap<>();
+		stock.put(WATER, 100D);
+		double[] levels = ResourceProcessScheduler.solve(10D, processes, new double[] { 1D }, stock,
+				capacity(5D), id -> 1D);
+
+		assertEquals(.25D, levels[0], 1E-9);
+	}
+
+	/**
+	 * Test that ambient inputs and the power down level are respected.
+	 */
+	public void testAmbientInput() {
+		ResourceProcess process = new ResourceProcess("process", 0D, true);
+		process.addMaxInputResourceRate(WATER, 1D, true);
+		process.addMaxOutputResourceRate(OXYGEN, 1D, false);
+
+		List<ResourceProcess> processes = new ArrayList<>();
+		processes.add(process);
+
+		double[] levels = ResourceProcessScheduler.solve(10D, processes, new double[] { .5D },
+				new HashMap<>(), capacity(1000D), id -> 1D);
+
+		assertEquals(.5D, levels[0], 1E-9);
+	}
+
+	private static Map<Integer, Double> capacity(double amount) {
+		Map<Integer, Double> capacity = new HashMap<>();
+		capacity.put(OXYGEN, amount);
+		capacity.put(ICE, amount);
+		return capacity;
+	}
+}
@@ -0,0 +1,78 @@
+/**
+ * Mars Simulation Project
+ * ConstructionStageValueTableTest.java
+ */
+
+package org.mars_sim.msp.core.structure.construction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test for the ConstructionStageValueTable class.
+ */
+public class ConstructionStageValueTableTest extends TestCase {
+
+    // Data members
+    private ConstructionStageInfo foundation;
+    private ConstructionStageInfo frame;
+    private ConstructionStageInfo cheapBuilding;
+    private ConstructionStageInfo expertBuilding;
+    private ConstructionStageValueTable table;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        foundation = createStage("foundation", ConstructionStageInfo.FOUNDATION, 1, null);
+        frame = createStage("frame", ConstructionStageInfo.FRAME, 1, "foundation");
+        cheapBuilding = createStage("cheap building", ConstructionStageInfo.BUILDING, 1, "frame");
+        expertBuilding = createStage("expert building", ConstructionStageInfo.BUILDING, 5, "frame");
+
+        List<ConstructionStageInfo> stages = new ArrayList<ConstructionStageInfo>();
+        stages.add(foundation);
+        stages.add(frame);
+        stages.add(cheapBuilding);
+        stages.add(expertBuilding);
+
+        table = new ConstructionStageValueTable(stages,
+                stageInfo -> (stageInfo == expertBuilding) ? 1000D : 200D,
+                stageInfo -> (stageInfo == frame) ? 40D : 0D);
+    }
+
+    /**
+     * Test the values propagated down from the building stages.
+     */
+    public void testGetValue() {
+        // An expert can build the more valuable building.
+        assertEquals(1000D, table.getValue(expertBuilding, 5), 0D);
+        assertEquals(500D, table.getValue(frame, 5), 0D);
+        assertEquals(230D, table.getValue(foundation, 5), 0D);
+        assertEquals(230D, table.getValue(foundation, Integer.MAX_VALUE), 0D);
+
+        // A novice can only build the cheap building.
+        assertEquals(0D, table.getValue(expertBuilding, 4), 0D);
+        assertEquals(100D, table.getValue(frame, 4), 0D);
+        assertEquals(30D, table.getValue(foundation, 1), 0D);
+
+        // Without the skill, nothing can be built.
+        assertEquals(0D, table.getValue(foundation, 0), 0D);
+    }
+
+    /**
+     * Test the stage costs.
+     */
+    public void testGetCost() {
+        assertEquals(40D, table.getCost(frame), 0D);
+        assertEquals(0D, table.getCost(foundation), 0D);
+    }
+
+    private ConstructionStageInfo createStage(String name, String type, int skill, String prerequisite) {
+        return new ConstructionStageInfo(name, type, 10D, 10D, false, 0, true, false, 10000D, skill,
+                prerequisite, new HashMap<Integer, Integer>(), new HashMap<Integer, Double>(),
+                new ArrayList<ConstructionVehicleType>());
+    }
+}
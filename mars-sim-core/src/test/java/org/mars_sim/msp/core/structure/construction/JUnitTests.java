@@ -16,6 +16,7 @@ public class JUnitTests extends TestCase {
         suite.addTestSuite(ConstructionSiteTest.class);
         suite.addTestSuite(ConstructionStageInfoTest.class);
         suite.addTestSuite(ConstructionStageTest.class);
+        suite.addTestSuite(ConstructionStageValueTableTest.class);
         suite.addTestSuite(ConstructionVehicleTypeTest.class);
         
         return suite;
@@ -0,0 +1,87 @@
+package org.mars_sim.msp.core.time;
+
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.SimulationConfig;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the MarsInstant class.
+ */
+public class TestMarsInstant extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		// The calendar fields need the orbit info of a running simulation
+		SimulationConfig.instance().loadConfig();
+		Simulation.instance().testRun();
+	}
+
+	/**
+	 * Test adding time to an instant.
+	 */
+	public void testPlus() {
+		MarsInstant start = new MarsInstant(1500D);
+		MarsInstant later = start.plus(250D);
+		assertEquals(1750D, later.getTotalMillisols(), 1E-9);
+		assertEquals(1500D, start.getTotalMillisols(), 1E-9);
+		assertEquals(1250D, start.plus(-250D).getTotalMillisols(), 1E-9);
+	}
+
+	/**
+	 * Test the time difference between two instants.
+	 */
+	public void testTimeDiff() {
+		MarsInstant first = new MarsInstant(668000D);
+		MarsInstant second = new MarsInstant(667250D);
+		assertEquals(750D, first.getTimeDiff(second), 1E-9);
+		assertEquals(-750D, second.getTimeDiff(first), 1E-9);
+	}
+
+	/**
+	 * Test the ordering and equality of instants.
+	 */
+	public void testOrdering() {
+		MarsInstant first = new MarsInstant(100D);
+		MarsInstant second = new MarsInstant(200D);
+		assertTrue(first.isBefore(second));
+		assertFalse(second.isBefore(first));
+		assertTrue(second.isAfter(first));
+		assertTrue(first.compareTo(second) < 0);
+		assertEquals(0, first.compareTo(new MarsInstant(100D)));
+		assertEquals(first, new MarsInstant(100D));
+		assertEquals(first.hashCode(), new MarsInstant(100D).hashCode());
+		assertFalse(first.equals(second));
+	}
+
+	/**
+	 * Test that the calendar of an instant matches the clock it came from.
+	 */
+	public void testMarsClockRoundTrip() {
+		MarsClock[] clocks = {
+				new MarsClock(0, 1, 1, 0D, 1),
+				new MarsClock(3, 7, 15, 500.5D, 1),
+				new MarsClock(1, 23, 27, 999.25D, 1) };
+		for (MarsClock clock : clocks) {
+			MarsInstant instant = clock.getInstant();
+			MarsClock calendar = instant.getMarsClock();
+			assertEquals(MarsClock.getTotalMillisols(clock), MarsClock.getTotalMillisols(calendar), 1E-6);
+			assertEquals(clock.getOrbit(), calendar.getOrbit());
+			assertEquals(clock.getMonth(), calendar.getMonth());
+			assertEquals(clock.getSolOfMonth(), calendar.getSolOfMonth());
+			assertEquals(clock.getMillisol(), calendar.getMillisol(), 1E-6);
+		}
+	}
+
+	/**
+	 * Test that changing the calendar of an instant leaves the instant alone.
+	 */
+	public void testMarsClockIsCopy() {
+		MarsInstant instant = new MarsClock(2, 5, 10, 250D, 1).getInstant();
+		MarsClock calendar = instant.getMarsClock();
+		calendar.addTime(1000D);
+		assertNotSame(calendar, instant.getMarsClock());
+		assertEquals(instant.getTotalMillisols(), MarsClock.getTotalMillisols(instant.getMarsClock()), 1E-6);
+		assertEquals(10, instant.getMarsClock().getSolOfMonth());
+	}
+}
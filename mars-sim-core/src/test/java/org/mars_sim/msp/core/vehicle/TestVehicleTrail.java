@@ -0,0 +1,69 @@
+package org.mars_sim.msp.core.vehicle;
+
+import java.util.List;
+
+import org.mars_sim.msp.core.Coordinates;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit test suite for the VehicleTrail class.
+ */
+public class TestVehicleTrail extends TestCase {
+
+	/** About 6.8 km at the equator. */
+	private static final double STEP = .002D;
+
+	/**
+	 * Test that close locations are not added.
+	 */
+	public void testMinSpacing() {
+		VehicleTrail trail = new VehicleTrail();
+		Coordinates start = new Coordinates(Math.PI / 2D, 1D);
+		trail.add(start);
+		trail.add(new Coordinates(Math.PI / 2D, 1.0001D));
+		assertEquals(1, trail.size());
+	}
+
+	/**
+	 * Test that a straight trail keeps only its ends.
+	 */
+	public void testStraightTrail() {
+		VehicleTrail trail = new VehicleTrail();
+		for (int i = 0; i < 100; i++) {
+			trail.add(new Coordinates(Math.PI / 2D, 1D + i * STEP));
+		}
+		assertEquals(2, trail.size());
+	}
+
+	/**
+	 * Test that a winding trail stays within its budget and keeps its ends.
+	 */
+	public void testBudget() {
+		VehicleTrail trail = new VehicleTrail(50);
+		for (int i = 0; i < 1000; i++) {
+			double phi = Math.PI / 2D + ((i % 2 == 0) ? STEP : -STEP) + i * STEP / 10D;
+			trail.add(new Coordinates(phi, 1D + i * STEP));
+		}
+		assertTrue(trail.size() <= 50);
+
+		List<Coordinates> points = trail.getPoints();
+		assertEquals(trail.size(), points.size());
+		assertEquals(1D + 999 * STEP, points.get(points.size() - 1).getTheta(), 1E-5);
+	}
+
+	/**
+	 * Test that a coarser level of detail returns fewer points.
+	 */
+	public void testLevelOfDetail() {
+		VehicleTrail trail = new VehicleTrail();
+		for (int i = 0; i < 100; i++) {
+			double phi = Math.PI / 2D + ((i % 2 == 0) ? STEP : -STEP);
+			trail.add(new Coordinates(phi, 1D + i * STEP));
+		}
+		int all = trail.getPoints().size();
+		int coarse = trail.getPoints(100D).size();
+		assertTrue(coarse < all);
+		assertTrue(coarse >= 2);
+	}
+}
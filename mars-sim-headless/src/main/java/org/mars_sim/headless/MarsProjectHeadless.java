@@ -32,6 +32,7 @@ import org.mars_sim.msp.core.UnitManager;
 import org.mars_sim.msp.core.reportingAuthority.ReportingAuthorityType;
 import org.mars_sim.msp.core.structure.SettlementConfig;
 import org.mars_sim.msp.core.structure.SettlementTemplate;
+import org.mars_sim.msp.core.time.BatchReport;
 import org.mars_sim.msp.core.tool.RandomUtil;
 
 /**
@@ -46,6 +47,13 @@ public class MarsProjectHeadless {
 	private static final String LOGGING_PROPERTIES = "/logging.properties";
 
 	private static final String DEFAULT_SIM_FILENAME = "default.sim";
+
+	private static final String BATCH_REPORT_FILENAME = "batch_report.txt";
+
+	/** The default number of sols simulated in batch mode. */
+	private static final double DEFAULT_BATCH_SOLS = 10;
+	/** The default fixed step of a pulse in batch mode [in millisols]. */
+	private static final double DEFAULT_BATCH_STEP = 1;
 	
 	private List<String> argList;
 
@@ -88,7 +96,13 @@ public class MarsProjectHeadless {
 	 +"                            folder as the jarfile)" + System.lineSeparator()
 	 +"    noaudio         disable background music and sound effect" + System.lineSeparator()
 	 +"    512x            set time ratio to 512x (for headless edition only)" + System.lineSeparator()		
-	 +"    1024x           set time ratio to 1024x (for headless edition only)" + System.lineSeparator();                   		
+	 +"    1024x           set time ratio to 1024x (for headless edition only)" + System.lineSeparator()
+	 +"    batch           fast forward a new sim without any delay and exit" + System.lineSeparator()
+	 +"    batch:100       fast forward a new sim for 100 sols (10 sols by default)" + System.lineSeparator()
+	 +"    step:0.5        set the fixed pulse of the batch mode to 0.5 millisols" + System.lineSeparator()
+	 +"                    (1 millisol by default)" + System.lineSeparator()
+	 +"    report:run.txt  write the throughput report of the batch mode to 'run.txt'" + System.lineSeparator()
+	 +"                    (/.mars-sim/logs/batch_report.txt by default)" + System.lineSeparator();                   		
 
 	 
 	/**
@@ -165,11 +179,25 @@ public class MarsProjectHeadless {
 		else if (argList.contains("-8192x"))
 			userTimeRatio = 8192;
 
+		boolean useBatch = false;
+		for (String arg: argList) {
+			if (StringUtils.startsWithIgnoreCase(arg, "-batch")) {
+				useBatch = true;
+				break;
+			}
+		}
+
 		if (argList.contains("-help")) {
 			System.out.println(HELP);
 			System.exit(1);
 		}
 		
+		else if (useBatch) {
+			// Fast forward a new simulation without any user interface
+			handleBatchSimulation();
+			result = true;
+		}
+		
 		else if (argList.contains("-load")) {
 			// If load argument, load simulation from file.
 			try {
@@ -504,6 +532,67 @@ public class MarsProjectHeadless {
 		}
 	}
 
+	/**
+	 * Creates a new simulation and fast forwards it for a number of sols as fast as
+	 * the CPU allows, then writes the throughput report and exits.
+	 */
+	private void handleBatchSimulation() {
+		double sols = DEFAULT_BATCH_SOLS;
+		double step = DEFAULT_BATCH_STEP;
+		File reportFile = new File(Simulation.USER_HOME, Simulation.MARS_SIM_DIR + File.separator
+				+ Simulation.LOGS_DIR + File.separator + BATCH_REPORT_FILENAME);
+		boolean useTemplate = false;
+
+		try {
+			for (String arg: argList) {
+				if (StringUtils.startsWithIgnoreCase(arg, "-batch:"))
+					sols = Double.parseDouble(getArgValue(arg));
+				else if (StringUtils.startsWithIgnoreCase(arg, "-step:"))
+					step = Double.parseDouble(getArgValue(arg));
+				else if (StringUtils.startsWithIgnoreCase(arg, "-report:"))
+					reportFile = new File(getArgValue(arg));
+				else if (arg.contains("-template:"))
+					useTemplate = true;
+			}
+		} catch (NumberFormatException e) {
+			exitWithError("Invalid batch argument. Use -help for the list of arguments.", e);
+		}
+
+		try {
+			// Load xml files
+			simulationConfig.loadConfig();
+			if (useTemplate) {
+				// Clear the default templates and load the specified template
+				loadSettlementTemplate();
+			}
+			// Create new simulation on this thread
+			sim.createNewSimulation(-1, false);
+
+			logger.config("Fast forwarding " + sols + " sols with a fixed step of " + step + " millisols.");
+			BatchReport report = sim.getMasterClock().runBatch(sols, step);
+
+			logger.config("Batch run completed." + System.lineSeparator() + report);
+			report.write(reportFile);
+			logger.config("Batch report written to " + reportFile.getPath());
+
+		} catch (Exception e) {
+			e.printStackTrace();
+			exitWithError("Could not complete the batch run.", e);
+		}
+
+		System.exit(0);
+	}
+
+	/**
+	 * Gets the value of an argument in the form of -name:value.
+	 * 
+	 * @param arg the argument
+	 * @return the value
+	 */
+	private static String getArgValue(String arg) {
+		return arg.substring(arg.indexOf(":") + 1, arg.length());
+	}
+
 	/**
 	 * Start the simulation instance.
 	 */
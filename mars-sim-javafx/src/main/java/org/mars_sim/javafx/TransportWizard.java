@@ -731,10 +731,15 @@ public class TransportWizard {
 
 			    	BuildingTemplate repositionedTemplate = resupply.positionNewResupplyBuilding(template.getBuildingType());
 
-			    	// Add setMissionName()
-					repositionedTemplate.setMissionName(template.getMissionName());
-
-					pauseAndCheck(mgr, repositionedTemplate, false);
+					if (repositionedTemplate == null) {
+						logger.info("No open location left for " + template.getNickName() + " in "
+								+ mgr.getSettlement() + ". Quit building placement.");
+					} else {
+						// Add setMissionName()
+						repositionedTemplate.setMissionName(template.getMissionName());
+
+						pauseAndCheck(mgr, repositionedTemplate, false);
+					}
 					//checkTemplatePosition(mgr, repositionedTemplate, false);
 
 				} else if (result.isPresent() && result.get() == buttonTypeMouseKB) {
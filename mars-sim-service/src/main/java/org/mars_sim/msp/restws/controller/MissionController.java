@@ -2,7 +2,6 @@ package org.mars_sim.msp.restws.controller;
 
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -18,19 +17,21 @@ import org.mars_sim.msp.core.person.ai.mission.Trade;
 import org.mars_sim.msp.core.person.ai.mission.TravelToSettlement;
 import org.mars_sim.msp.core.person.ai.mission.VehicleMission;
 import org.mars_sim.msp.restws.mapper.MissionDetailsMapper;
-import org.mars_sim.msp.restws.mapper.MissionSummaryMapper;
 import org.mars_sim.msp.restws.mapper.PersonSummaryMapper;
 import org.mars_sim.msp.restws.mapper.RobotSummaryMapper;
 import org.mars_sim.msp.restws.model.MissionDetails;
 import org.mars_sim.msp.restws.model.MissionSummary;
 import org.mars_sim.msp.restws.model.PagedList;
 import org.mars_sim.msp.restws.model.PersonSummary;
+import org.mars_sim.msp.restws.snapshot.SimulationSnapshot;
+import org.mars_sim.msp.restws.snapshot.SnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -47,7 +48,7 @@ public class MissionController extends BaseController {
 	private MissionManager manager;
 	
 	@Autowired
-    private MissionSummaryMapper mapper;
+	private SnapshotService snapshotService;
 	
 	@Autowired
 	private MissionDetailsMapper detailsMapper;
@@ -59,18 +60,14 @@ public class MissionController extends BaseController {
 	private RobotSummaryMapper robotMapper;
 	
 	/**
-	 * Need a better way to find missions
+	 * Find a Mission by the unique identifier
 	 * @param missionId
 	 * @return Found Mission
 	 */
 	private Mission findMission(int missionId) {
-		// Need a better way to find people
-		Iterator<Mission> it = manager.getMissions().iterator();
-		while (it.hasNext()) {
-			Mission item = it.next();
-			if (item.getIdentifier() == missionId) {
-				return item;
-			}
+		Mission mission = manager.getMissionByID(missionId);
+		if (mission != null) {
+			return mission;
 		}
 		
 		log.error("Mission " + missionId + " not found");
@@ -80,13 +77,13 @@ public class MissionController extends BaseController {
 	@ApiOperation(value = "get All Missions", nickname = "getMissions")
     @RequestMapping(method=RequestMethod.GET, path="/missions", produces = "application/json")
     public PagedList<MissionSummary> getMissions(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-    	List<Mission> allMissions = manager.getMissions();
-		List<Mission> filtered = filter(allMissions, page, pageSize);
-    	
-    	
-		return new PagedList<MissionSummary>(mapper.missionsToMissionSummarys(filtered),
-				 								page, pageSize, allMissions.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   WebRequest request) {
+		SimulationSnapshot snapshot = snapshotService.getSnapshot();
+		if (request.checkNotModified(snapshot.getETag())) {
+			return null;
+		}
+		return snapshot.getMissions().getPage(page, pageSize);
     }
 
 	/**
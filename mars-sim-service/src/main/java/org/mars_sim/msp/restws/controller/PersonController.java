@@ -1,8 +1,6 @@
 package org.mars_sim.msp.restws.controller;
 
 
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -11,18 +9,20 @@ import org.mars_sim.msp.core.UnitManager;
 import org.mars_sim.msp.core.person.Person;
 import org.mars_sim.msp.restws.mapper.InventoryMapper;
 import org.mars_sim.msp.restws.mapper.PersonDetailsMapper;
-import org.mars_sim.msp.restws.mapper.PersonSummaryMapper;
 import org.mars_sim.msp.restws.model.PagedList;
 import org.mars_sim.msp.restws.model.PersonDetails;
 import org.mars_sim.msp.restws.model.PersonSummary;
 import org.mars_sim.msp.restws.model.StoredAmount;
 import org.mars_sim.msp.restws.model.StoredItem;
+import org.mars_sim.msp.restws.snapshot.SimulationSnapshot;
+import org.mars_sim.msp.restws.snapshot.SnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -36,7 +36,7 @@ public class PersonController extends BaseController {
     private UnitManager personManager;
 	
 	@Autowired
-    private PersonSummaryMapper summaryMapper;
+	private SnapshotService snapshotService;
 	
 	@Autowired
 	private PersonDetailsMapper personMapper;
@@ -50,13 +50,9 @@ public class PersonController extends BaseController {
 	 * @return
 	 */
 	private Person getPerson(int personId) {
-		// Need a better way to find people
-		Iterator<Person> it = personManager.getPeople().iterator();
-		while (it.hasNext()) {
-			Person person = it.next();
-			if (person.getIdentifier() == personId) {
-				return person;
-			}
+		Person person = personManager.getPersonByID(personId);
+		if (person != null) {
+			return person;
 		}
 		log.error("Can not find " + personId);
 		throw new NotFoundException("Person", personId);
@@ -73,11 +69,13 @@ public class PersonController extends BaseController {
 	@ApiOperation(value = "get All Persons", nickname = "getPersons")
     @RequestMapping(method=RequestMethod.GET, path="/persons", produces = "application/json")
     public PagedList<PersonSummary> persons(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-    	Collection<Person> allPerson = personManager.getPeople();  	
-    	List<Person> filtered = filter(allPerson, page, pageSize);
-		return new PagedList<PersonSummary>(summaryMapper.personsToPersonSummarys(filtered),
-											page, pageSize, allPerson.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   WebRequest request) {
+		SimulationSnapshot snapshot = snapshotService.getSnapshot();
+		if (request.checkNotModified(snapshot.getETag())) {
+			return null;
+		}
+		return snapshot.getPersons().getPage(page, pageSize);
     }
 	
 	@ApiOperation(value = "get Person Resources", nickname = "getPersonResources")
@@ -2,8 +2,6 @@ package org.mars_sim.msp.restws.controller;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -19,7 +17,6 @@ import org.mars_sim.msp.restws.mapper.MissionSummaryMapper;
 import org.mars_sim.msp.restws.mapper.PersonSummaryMapper;
 import org.mars_sim.msp.restws.mapper.RobotSummaryMapper;
 import org.mars_sim.msp.restws.mapper.SettlementDetailsMapper;
-import org.mars_sim.msp.restws.mapper.SettlementSummaryMapper;
 import org.mars_sim.msp.restws.mapper.VehicleSummaryMapper;
 import org.mars_sim.msp.restws.model.BuildingDetails;
 import org.mars_sim.msp.restws.model.MissionSummary;
@@ -31,12 +28,15 @@ import org.mars_sim.msp.restws.model.SettlementSummary;
 import org.mars_sim.msp.restws.model.StoredAmount;
 import org.mars_sim.msp.restws.model.StoredItem;
 import org.mars_sim.msp.restws.model.VehicleSummary;
+import org.mars_sim.msp.restws.snapshot.SimulationSnapshot;
+import org.mars_sim.msp.restws.snapshot.SnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -54,7 +54,7 @@ public class SettlementController extends BaseController {
 	private MissionManager missionManager;
 	
 	@Autowired
-    private SettlementSummaryMapper mapper;
+	private SnapshotService snapshotService;
 	
 	@Autowired
 	private SettlementDetailsMapper settlementMapper;
@@ -78,18 +78,14 @@ public class SettlementController extends BaseController {
 	private RobotSummaryMapper robotMapper;
 	
 	/**
-	 * Need a better way to find settlements
+	 * Find a Settlement entity by the unique identifier
 	 * @param settlementId
 	 * @return Found Settlement
 	 */
 	private Settlement findSettlement(int settlementId) {
-		// Need a better way to find people
-		Iterator<Settlement> it = manager.getSettlements().iterator();
-		while (it.hasNext()) {
-			Settlement item = it.next();
-			if (item.getIdentifier() == settlementId) {
-				return item;
-			}
+		Settlement item = manager.getSettlementByID(settlementId);
+		if (item != null) {
+			return item;
 		}
 		log.error("Settlement not found: id=" + settlementId);
 		throw new NotFoundException("Settlement", settlementId);
@@ -98,12 +94,13 @@ public class SettlementController extends BaseController {
 	@ApiOperation(value = "get All Settlement", nickname = "getSettlements")
     @RequestMapping(method=RequestMethod.GET, path="/settlements", produces = "application/json")
     public PagedList<SettlementSummary> getSettlements(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-    	Collection<Settlement> allSettlements = manager.getSettlements();
-    	List<Settlement> filtered = filter(allSettlements, page, pageSize);
-    	
-		return new PagedList<SettlementSummary>(mapper.settlementsToSettlementSummarys(filtered),
-				 								page, pageSize, allSettlements.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   WebRequest request) {
+		SimulationSnapshot snapshot = snapshotService.getSnapshot();
+		if (request.checkNotModified(snapshot.getETag())) {
+			return null;
+		}
+		return snapshot.getSettlements().getPage(page, pageSize);
     }
 
 	@ApiOperation(value = "get Settlement by Id", nickname = "getSettlement")
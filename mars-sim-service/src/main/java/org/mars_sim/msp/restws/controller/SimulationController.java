@@ -16,11 +16,13 @@ import org.mars_sim.msp.restws.model.EntityReference;
 import org.mars_sim.msp.restws.model.EventDTO;
 import org.mars_sim.msp.restws.model.PagedList;
 import org.mars_sim.msp.restws.model.SimulationDetails;
+import org.mars_sim.msp.restws.snapshot.SnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -29,6 +31,9 @@ public class SimulationController {
 
 	@Autowired
 	private Simulation simulation;
+
+	@Autowired
+	private SnapshotService snapshotService;
 	
 	@ApiOperation(value = "get Details", nickname = "getDetails")
 	@RequestMapping(method = RequestMethod.GET, path="/simulation", produces = "application/json")
@@ -54,6 +59,17 @@ public class SimulationController {
 		
 	}
 
+	/**
+	 * This opens a stream of server-sent events, each listing the entities that
+	 * have changed since the previous snapshot.
+	 * @return
+	 */
+	@ApiOperation(value = "stream changed entities", nickname = "getChanges")
+	@RequestMapping(method = RequestMethod.GET, path="/simulation/changes", produces = "text/event-stream")
+	public SseEmitter getChanges() {
+		return snapshotService.subscribe();
+	}
+
 	/**
 	 * This creates a list of historical events.
 	 * @param first Index of first event
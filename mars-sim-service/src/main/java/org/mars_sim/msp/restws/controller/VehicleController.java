@@ -2,8 +2,6 @@ package org.mars_sim.msp.restws.controller;
 
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -14,19 +12,21 @@ import org.mars_sim.msp.core.vehicle.Vehicle;
 import org.mars_sim.msp.restws.mapper.InventoryMapper;
 import org.mars_sim.msp.restws.mapper.PersonSummaryMapper;
 import org.mars_sim.msp.restws.mapper.VehicleDetailsMapper;
-import org.mars_sim.msp.restws.mapper.VehicleSummaryMapper;
 import org.mars_sim.msp.restws.model.PagedList;
 import org.mars_sim.msp.restws.model.PersonSummary;
 import org.mars_sim.msp.restws.model.StoredAmount;
 import org.mars_sim.msp.restws.model.StoredItem;
 import org.mars_sim.msp.restws.model.VehicleDetails;
 import org.mars_sim.msp.restws.model.VehicleSummary;
+import org.mars_sim.msp.restws.snapshot.SimulationSnapshot;
+import org.mars_sim.msp.restws.snapshot.SnapshotService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -45,7 +45,7 @@ public class VehicleController extends BaseController {
 	private InventoryMapper inventoryMapper;
 
 	@Autowired
-	private VehicleSummaryMapper summaryMapper;
+	private SnapshotService snapshotService;
 
 	@Autowired
 	private PersonSummaryMapper personSummaryMapper;
@@ -56,13 +56,9 @@ public class VehicleController extends BaseController {
 	 * @return
 	 */
 	private Vehicle getVehicle(int vehicleId) {
-		// Need a better way to find people
-		Iterator<Vehicle> it = vehicleManager.getVehicles().iterator();
-		while (it.hasNext()) {
-			Vehicle v = it.next();
-			if (v.getIdentifier() == vehicleId) {
-				return v;
-			}
+		Vehicle v = vehicleManager.getVehicleByID(vehicleId);
+		if (v != null) {
+			return v;
 		}
 		log.error("There is no Vehicle with id=" + vehicleId);
 		
@@ -80,12 +76,13 @@ public class VehicleController extends BaseController {
 	@ApiOperation(value = "get All Vehicles", nickname = "getVehicles")
     @RequestMapping(method=RequestMethod.GET, path="/vehicles", produces = "application/json")
     public PagedList<VehicleSummary> getVehicles(@RequestParam(value="page", defaultValue="1") int page,
-    								   @RequestParam(value="size", defaultValue="10") int pageSize) {
-		Collection<Vehicle> allVehicles = vehicleManager.getVehicles();
-    	List<Vehicle> filtered = filter(allVehicles, page, pageSize); 
-		
-		return new PagedList<VehicleSummary>(summaryMapper.vehiclesToVehicleSummarys(filtered),
-											page, pageSize, allVehicles.size());
+    								   @RequestParam(value="size", defaultValue="10") int pageSize,
+    								   WebRequest request) {
+		SimulationSnapshot snapshot = snapshotService.getSnapshot();
+		if (request.checkNotModified(snapshot.getETag())) {
+			return null;
+		}
+		return snapshot.getVehicles().getPage(page, pageSize);
     }
 	
 	@ApiOperation(value = "get Vehicle Resources", nickname = "getVehicleResources")
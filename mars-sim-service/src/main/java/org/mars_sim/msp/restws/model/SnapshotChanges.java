@@ -0,0 +1,53 @@
+package org.mars_sim.msp.restws.model;
+
+import java.util.List;
+
+/**
+ * The identifiers of the entities whose summary changed between two snapshots.
+ */
+public class SnapshotChanges {
+
+	private long tick;
+	private List<Integer> settlements;
+	private List<Integer> persons;
+	private List<Integer> vehicles;
+	private List<Integer> missions;
+
+	public SnapshotChanges(long tick, List<Integer> settlements, List<Integer> persons,
+						   List<Integer> vehicles, List<Integer> missions) {
+		super();
+		this.tick = tick;
+		this.settlements = settlements;
+		this.persons = persons;
+		this.vehicles = vehicles;
+		this.missions = missions;
+	}
+
+	public long getTick() {
+		return tick;
+	}
+
+	public List<Integer> getSettlements() {
+		return settlements;
+	}
+
+	public List<Integer> getPersons() {
+		return persons;
+	}
+
+	public List<Integer> getVehicles() {
+		return vehicles;
+	}
+
+	public List<Integer> getMissions() {
+		return missions;
+	}
+
+	/**
+	 * Is there any change?
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return settlements.isEmpty() && persons.isEmpty() && vehicles.isEmpty() && missions.isEmpty();
+	}
+}
@@ -0,0 +1,67 @@
+package org.mars_sim.msp.restws.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mars_sim.msp.restws.model.EntityReference;
+import org.mars_sim.msp.restws.model.PagedList;
+
+/**
+ * An immutable set of entity DTOs, ordered and indexed by identifier.
+ *
+ * @param <T> The DTO object being indexed
+ */
+public class EntityIndex<T extends EntityReference> {
+
+	private List<T> items;
+	private Map<Integer, T> byId;
+
+	public EntityIndex(List<T> source) {
+		List<T> sorted = new ArrayList<>(source);
+		sorted.sort(Comparator.comparingInt(EntityReference::getId));
+		this.items = Collections.unmodifiableList(sorted);
+
+		Map<Integer, T> index = new HashMap<>(sorted.size() * 2);
+		for (T item : sorted) {
+			index.put(item.getId(), item);
+		}
+		this.byId = Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * Find an entity by the unique identifier.
+	 * @param id
+	 * @return The DTO or null if not present
+	 */
+	public T get(int id) {
+		return byId.get(id);
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * Get a single page of the entities.
+	 * @param page Page number starting at 1; 0 or less returns everything
+	 * @param pageSize
+	 * @return
+	 */
+	public PagedList<T> getPage(int page, int pageSize) {
+		int start = 0;
+		int end = items.size();
+		if (page > 0) {
+			start = Math.min((page - 1) * pageSize, items.size());
+			end = Math.min(start + pageSize, items.size());
+		}
+		return new PagedList<T>(items.subList(start, end), page, pageSize, items.size());
+	}
+}
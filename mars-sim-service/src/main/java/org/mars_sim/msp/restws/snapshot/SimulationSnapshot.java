@@ -0,0 +1,63 @@
+package org.mars_sim.msp.restws.snapshot;
+
+import org.mars_sim.msp.restws.model.MissionSummary;
+import org.mars_sim.msp.restws.model.PersonSummary;
+import org.mars_sim.msp.restws.model.SettlementSummary;
+import org.mars_sim.msp.restws.model.VehicleSummary;
+
+/**
+ * An immutable copy of the entity summaries taken on the simulation thread at a
+ * given clock pulse. The REST threads read from it without touching the live
+ * simulation objects.
+ */
+public class SimulationSnapshot {
+
+	private long tick;
+	private EntityIndex<SettlementSummary> settlements;
+	private EntityIndex<PersonSummary> persons;
+	private EntityIndex<VehicleSummary> vehicles;
+	private EntityIndex<MissionSummary> missions;
+
+	public SimulationSnapshot(long tick, EntityIndex<SettlementSummary> settlements,
+							  EntityIndex<PersonSummary> persons, EntityIndex<VehicleSummary> vehicles,
+							  EntityIndex<MissionSummary> missions) {
+		super();
+		this.tick = tick;
+		this.settlements = settlements;
+		this.persons = persons;
+		this.vehicles = vehicles;
+		this.missions = missions;
+	}
+
+	/**
+	 * The total number of clock pulses when the snapshot was taken.
+	 * @return
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * The entity tag of every resource served from this snapshot.
+	 * @return
+	 */
+	public String getETag() {
+		return "\"" + tick + "\"";
+	}
+
+	public EntityIndex<SettlementSummary> getSettlements() {
+		return settlements;
+	}
+
+	public EntityIndex<PersonSummary> getPersons() {
+		return persons;
+	}
+
+	public EntityIndex<VehicleSummary> getVehicles() {
+		return vehicles;
+	}
+
+	public EntityIndex<MissionSummary> getMissions() {
+		return missions;
+	}
+}
@@ -0,0 +1,204 @@
+package org.mars_sim.msp.restws.snapshot;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.mars_sim.msp.core.Simulation;
+import org.mars_sim.msp.core.UnitManager;
+import org.mars_sim.msp.core.person.ai.mission.MissionManager;
+import org.mars_sim.msp.core.time.ClockListener;
+import org.mars_sim.msp.core.time.MasterClock;
+import org.mars_sim.msp.restws.mapper.MissionSummaryMapper;
+import org.mars_sim.msp.restws.mapper.PersonSummaryMapper;
+import org.mars_sim.msp.restws.mapper.SettlementSummaryMapper;
+import org.mars_sim.msp.restws.mapper.VehicleSummaryMapper;
+import org.mars_sim.msp.restws.model.EntityReference;
+import org.mars_sim.msp.restws.model.SnapshotChanges;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * This maintains the read model of the REST service. A new SimulationSnapshot is
+ * mapped on the clock thread at most once per interval, so the mappers never
+ * read the simulation while it is being updated. The identifiers of the changed
+ * entities are pushed to the subscribed clients as server-sent events.
+ */
+@Component
+public class SnapshotService implements ClockListener {
+
+	/** initialized logger for this class. */
+	private static Log log = LogFactory.getLog(SnapshotService.class);
+
+	// Minimum duration between two snapshots in milliseconds
+	private static final long SNAPSHOT_INTERVAL = 1000;
+
+	// Name of the server-sent event carrying the changes
+	private static final String CHANGES_EVENT = "changes";
+
+	@Autowired
+	private Simulation simulation;
+
+	@Autowired
+	private UnitManager unitManager;
+
+	@Autowired
+	private MissionManager missionManager;
+
+	@Autowired
+	private SettlementSummaryMapper settlementMapper;
+
+	@Autowired
+	private PersonSummaryMapper personMapper;
+
+	@Autowired
+	private VehicleSummaryMapper vehicleMapper;
+
+	@Autowired
+	private MissionSummaryMapper missionMapper;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// Empty until the first clock pulse maps the simulation
+	private volatile SimulationSnapshot snapshot = new SimulationSnapshot(0,
+			new EntityIndex<>(Collections.emptyList()), new EntityIndex<>(Collections.emptyList()),
+			new EntityIndex<>(Collections.emptyList()), new EntityIndex<>(Collections.emptyList()));
+
+	private long lastSnapshotTime;
+
+	private List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+	@PostConstruct
+	public void init() {
+		// The first snapshot is taken on the next pulse, as the clock thread may
+		// already be updating the simulation
+		simulation.getMasterClock().addClockListener(this);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		simulation.getMasterClock().removeClockListener(this);
+		for (SseEmitter emitter : emitters) {
+			emitter.complete();
+		}
+		emitters.clear();
+	}
+
+	/**
+	 * The latest snapshot of the simulation.
+	 * @return
+	 */
+	public SimulationSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Subscribe to the stream of changed entities.
+	 * @return
+	 */
+	public SseEmitter subscribe() {
+		// No timeout, the stream lasts until the client goes away
+		SseEmitter emitter = new SseEmitter(0L);
+		emitter.onCompletion(() -> emitters.remove(emitter));
+		emitter.onTimeout(() -> emitters.remove(emitter));
+		emitters.add(emitter);
+		return emitter;
+	}
+
+	@Override
+	public void clockPulse(double time) {
+		long now = System.currentTimeMillis();
+		if (now - lastSnapshotTime < SNAPSHOT_INTERVAL) {
+			return;
+		}
+		lastSnapshotTime = now;
+
+		SimulationSnapshot previous = snapshot;
+		SimulationSnapshot next = takeSnapshot();
+		snapshot = next;
+
+		SnapshotChanges changes = new SnapshotChanges(next.getTick(),
+				getChanges(previous.getSettlements(), next.getSettlements()),
+				getChanges(previous.getPersons(), next.getPersons()),
+				getChanges(previous.getVehicles(), next.getVehicles()),
+				getChanges(previous.getMissions(), next.getMissions()));
+		if (!changes.isEmpty()) {
+			publish(changes);
+		}
+	}
+
+	@Override
+	public void uiPulse(double time) {
+		// Nothing to do
+	}
+
+	@Override
+	public void pauseChange(boolean isPaused, boolean showPane) {
+		// Nothing to do
+	}
+
+	/**
+	 * Maps the summaries of all the entities. Must run on the clock thread.
+	 * @return
+	 */
+	private SimulationSnapshot takeSnapshot() {
+		MasterClock clock = simulation.getMasterClock();
+		long tick = (clock != null ? clock.getTotalPulses() : 0);
+
+		return new SimulationSnapshot(tick,
+				new EntityIndex<>(settlementMapper.settlementsToSettlementSummarys(
+						new ArrayList<>(unitManager.getSettlements()))),
+				new EntityIndex<>(personMapper.personsToPersonSummarys(unitManager.getPeople())),
+				new EntityIndex<>(vehicleMapper.vehiclesToVehicleSummarys(
+						new ArrayList<>(unitManager.getVehicles()))),
+				new EntityIndex<>(missionMapper.missionsToMissionSummarys(
+						new ArrayList<>(missionManager.getMissions()))));
+	}
+
+	/**
+	 * Find the entities that have been added, removed or whose summary has changed.
+	 * @param previous
+	 * @param next
+	 * @return Identifiers of the changed entities
+	 */
+	private <T extends EntityReference> List<Integer> getChanges(EntityIndex<T> previous, EntityIndex<T> next) {
+		List<Integer> changed = new ArrayList<>();
+		for (T item : next.getItems()) {
+			T old = previous.get(item.getId());
+			if (old == null || !objectMapper.valueToTree(old).equals(objectMapper.valueToTree(item))) {
+				changed.add(item.getId());
+			}
+		}
+		for (T old : previous.getItems()) {
+			if (next.get(old.getId()) == null) {
+				changed.add(old.getId());
+			}
+		}
+		return changed;
+	}
+
+	private void publish(SnapshotChanges changes) {
+		for (SseEmitter emitter : emitters) {
+			try {
+				emitter.send(SseEmitter.event()
+						.name(CHANGES_EVENT)
+						.id(Long.toString(changes.getTick()))
+						.data(changes));
+			} catch (IOException | IllegalStateException e) {
+				log.debug("Dropping event subscriber", e);
+				emitters.remove(emitter);
+			}
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package org.mars_sim.msp.restws.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.mars_sim.msp.restws.model.EntityReference;
+import org.mars_sim.msp.restws.model.PagedList;
+
+/**
+ * Test class for the EntityIndex of a snapshot.
+ */
+public class EntityIndexTest {
+
+	private EntityIndex<EntityReference> build(int size) {
+		List<EntityReference> items = new ArrayList<>();
+		for (int id = size; id > 0; id--) {
+			items.add(new EntityReference(id, "Entity " + id));
+		}
+		return new EntityIndex<>(items);
+	}
+
+	@Test
+	public void lookup() {
+		EntityIndex<EntityReference> index = build(25);
+		assertEquals("Entity 7", index.get(7).getName());
+		assertNull(index.get(26));
+	}
+
+	@Test
+	public void pages() {
+		EntityIndex<EntityReference> index = build(25);
+
+		PagedList<EntityReference> first = index.getPage(1, 10);
+		assertEquals(10, first.getItems().size());
+		assertEquals(1, first.getItems().get(0).getId());
+		assertEquals(25, first.getTotalSize());
+
+		PagedList<EntityReference> last = index.getPage(3, 10);
+		assertEquals(5, last.getItems().size());
+		assertEquals(25, last.getItems().get(4).getId());
+
+		assertEquals(0, index.getPage(4, 10).getItems().size());
+		assertEquals(25, index.getPage(0, 10).getItems().size());
+	}
+}
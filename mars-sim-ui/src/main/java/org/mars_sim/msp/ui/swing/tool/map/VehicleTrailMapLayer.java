@@ -9,11 +9,11 @@ package org.mars_sim.msp.ui.swing.tool.map;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.util.ArrayList;
 import java.util.Iterator;
 
 import org.mars_sim.msp.core.Coordinates;
 import org.mars_sim.msp.core.IntPoint;
+import org.mars_sim.msp.core.mars.Mars;
 import org.mars_sim.msp.core.vehicle.Vehicle;
 
 /**
@@ -21,6 +21,9 @@ import org.mars_sim.msp.core.vehicle.Vehicle;
  */
 public class VehicleTrailMapLayer implements MapLayer {
 
+	/** The distance covered by a pixel of the map (in km), used as the level of detail of the trails. */
+	private static final double KM_PER_PIXEL = Mars.MARS_CIRCUMFERENCE / CannedMarsMap.MAP_WIDTH;
+
 	// Data members
 	private Vehicle singleVehicle;
 
@@ -76,7 +79,7 @@ public class VehicleTrailMapLayer implements MapLayer {
 
 		// Draw trail.
 		IntPoint oldSpot = null;
-		Iterator<Coordinates> j = (new ArrayList<Coordinates>(vehicle.getTrail())).iterator();
+		Iterator<Coordinates> j = vehicle.getTrail().getPoints(KM_PER_PIXEL).iterator();
 		while (j.hasNext()) {
 			Coordinates trailSpot = j.next();
 			if (trailSpot != null) {
@@ -9,6 +9,8 @@ package org.mars_sim.msp.ui.swing.tool.settlement;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.batik.gvt.GraphicsNode;
@@ -26,6 +28,9 @@ public final class SVGMapUtil {
 	 
     private static Properties svgMapProperties;
 
+    /** The resolved SVG graphics nodes (or null if none), by prefix and map item name. */
+    private static Map<String, Map<String, GraphicsNode>> svgNodeCache = new HashMap<>();
+
     /**
      * Private constructor for utility class.
      */
@@ -63,7 +68,13 @@ public final class SVGMapUtil {
      * @param name the name of the map item.
      * @return the SVG graphics node.
      */
-    private static GraphicsNode getSVGGraphicsNode(String prefix, String name) {
+    private static synchronized GraphicsNode getSVGGraphicsNode(String prefix, String name) {
+
+        // Look up the node resolved for a previous frame.
+        Map<String, GraphicsNode> nodes = svgNodeCache.computeIfAbsent(prefix, k -> new HashMap<>());
+        if (nodes.containsKey(name)) {
+            return nodes.get(name);
+        }
 
         GraphicsNode result = null;
 
@@ -92,6 +103,7 @@ public final class SVGMapUtil {
             result = SVGLoader.getSVGImage(svgFileName);
         }
 
+        nodes.put(name, result);
         return result;
     }
 
@@ -13,6 +13,7 @@ import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -55,6 +56,14 @@ public class SettlementMapPanel extends WebPanel implements ClockListener {
 	public static final double MAX_SCALE = 55D;
 	public static final double MIN_SCALE = 5D / 11D;
 	private static final Color MAP_BACKGROUND = new Color(181, 95, 0);
+	/** The number of UI pulses between two repaints of the whole map. */
+	private static final int FULL_REPAINT_PULSES = 20;
+	/** The margin around a person or robot marker to repaint [in pixels]. */
+	private static final int UNIT_MARGIN = 12;
+	/** The width to the right of a unit to repaint for its labels [in pixels]. */
+	private static final int LABEL_WIDTH = 250;
+	/** The height above and below a unit to repaint for its labels [in pixels]. */
+	private static final int LABEL_HEIGHT = 60;
 
 	// Data members
 	private double xPos;
@@ -68,6 +77,11 @@ public class SettlementMapPanel extends WebPanel implements ClockListener {
 	private int yLast;
 
 	private int size;
+	/** The number of UI pulses since the whole map was repainted. */
+	private int pulses;
+
+	/** The screen area of the moving units at the last UI pulse. */
+	private Rectangle unitBounds;
 
 	private boolean showBuildingLabels;
 	private boolean showConstructionLabels;
@@ -965,6 +979,64 @@ public class SettlementMapPanel extends WebPanel implements ClockListener {
 		return result;
 	}
 
+	/**
+	 * Convert a X,Y (meter) position local to the settlement in view to a pixel
+	 * X,Y position.
+	 * 
+	 * @param xLoc the X settlement position.
+	 * @param yLoc the Y settlement position.
+	 * @return the pixel X,Y position.
+	 */
+	public Point.Double convertToPixelLocation(double xLoc, double yLoc) {
+
+		double xDiff3 = xLoc - xPos;
+		double yDiff3 = yLoc - yPos;
+
+		// Correct due to rotation of map.
+		double c = MoreMath.cos(rotation);
+		double s = MoreMath.sin(rotation);
+		double xDiff2 = (c * xDiff3) - (s * yDiff3);
+		double yDiff2 = (s * xDiff3) + (c * yDiff3);
+
+		return new Point.Double((getWidth() / 2) - xDiff2 * scale, (getHeight() / 2) - yDiff2 * scale);
+	}
+
+	/**
+	 * Gets the screen area of the people, robots and vehicles shown on the map,
+	 * including their labels.
+	 * 
+	 * @return the area, or null if no unit is shown.
+	 */
+	private Rectangle getUnitBounds() {
+		Rectangle result = null;
+		if (settlement == null)
+			return result;
+
+		for (Person p : CollectionUtils.getPeopleToDisplay(settlement)) {
+			result = addUnitBounds(result, p.getXLocation(), p.getYLocation(), UNIT_MARGIN);
+		}
+		for (Robot r : RobotMapLayer.getRobotsToDisplay(settlement)) {
+			result = addUnitBounds(result, r.getXLocation(), r.getYLocation(), UNIT_MARGIN);
+		}
+		for (Vehicle v : settlement.getParkedVehicles()) {
+			int margin = (int) Math.ceil(Math.max(v.getWidth(), v.getLength()) * scale / 2D) + 1;
+			result = addUnitBounds(result, v.getXLocation(), v.getYLocation(), margin);
+		}
+		return result;
+	}
+
+	private Rectangle addUnitBounds(Rectangle bounds, double xLoc, double yLoc, int margin) {
+		Point.Double p = convertToPixelLocation(xLoc, yLoc);
+		int x = (int) p.getX();
+		int y = (int) p.getY();
+		int height = Math.max(margin, LABEL_HEIGHT);
+		Rectangle r = new Rectangle(x - margin, y - height, margin + Math.max(margin, LABEL_WIDTH), 2 * height);
+		if (bounds == null)
+			return r;
+		bounds.add(r);
+		return bounds;
+	}
+
 	/**
 	 * Checks if building labels should be displayed.
 	 * 
@@ -1169,7 +1241,20 @@ public class SettlementMapPanel extends WebPanel implements ClockListener {
 	@Override
 	public void uiPulse(double time) {
 		if (isShowing() && desktop.isToolWindowOpen(SettlementWindow.NAME)) {
-			repaint();
+			// Repaint only where units have moved, and the whole map from time to
+			// time for the daylight and the structures
+			Rectangle bounds = getUnitBounds();
+			if (++pulses >= FULL_REPAINT_PULSES) {
+				pulses = 0;
+				repaint();
+			}
+			else if (bounds != null || unitBounds != null) {
+				Rectangle dirty = (bounds == null) ? new Rectangle(unitBounds) : new Rectangle(bounds);
+				if (unitBounds != null)
+					dirty.add(unitBounds);
+				repaint(dirty);
+			}
+			unitBounds = bounds;
 		}
 	}
 
@@ -0,0 +1,327 @@
+/**
+ * Mars Simulation Project
+ * StructureImageCache.java
+ */
+package org.mars_sim.msp.ui.swing.tool.settlement;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.batik.gvt.GraphicsNode;
+
+/**
+ * A cache of the rasterized SVG images of the structures on the settlement map.
+ * The map scale is quantized into buckets so that zooming reuses a few sizes of
+ * each image, and the least recently used images are evicted once the cache
+ * holds more than a given number of pixel bytes. The images of a neighbouring
+ * bucket can be rasterized ahead in the background.
+ */
+public class StructureImageCache {
+
+	/** The number of scale buckets per doubling of the scale. */
+	private static final int BUCKETS_PER_OCTAVE = 4;
+	/** The default maximum size of the cached images [in bytes]. */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+	/** The number of bytes of a pixel of an ARGB image. */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/** The maximum size of the cached images [in bytes]. */
+	private long maxBytes;
+	/** The size of the cached images [in bytes]. */
+	private long bytes;
+
+	/** The cached images, in access order. */
+	private Map<ImageKey, BufferedImage> images = new LinkedHashMap<>(64, .75F, true);
+	/** The images waiting to be rasterized in the background. */
+	private Set<ImageKey> pending = ConcurrentHashMap.newKeySet();
+
+	private ExecutorService executor;
+
+	/**
+	 * Constructor.
+	 */
+	public StructureImageCache() {
+		this(DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxBytes the maximum size of the cached images [in bytes].
+	 */
+	public StructureImageCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Gets the scale bucket nearest to a map scale.
+	 *
+	 * @param scale the map scale (pixels per meter).
+	 * @return the bucket.
+	 */
+	public static int getBucket(double scale) {
+		return (int) Math.round(Math.log(scale) / Math.log(2D) * BUCKETS_PER_OCTAVE);
+	}
+
+	/**
+	 * Gets the scale of a bucket.
+	 *
+	 * @param bucket the bucket.
+	 * @return the scale (pixels per meter).
+	 */
+	public static double getBucketScale(int bucket) {
+		return Math.pow(2D, (double) bucket / BUCKETS_PER_OCTAVE);
+	}
+
+	/**
+	 * Gets the image of a structure, rasterizing it if needed.
+	 *
+	 * @param svg the SVG graphics node.
+	 * @param patternSVG the pattern SVG graphics node (null if no pattern).
+	 * @param width the structure width (meters).
+	 * @param length the structure length (meters).
+	 * @param bucket the scale bucket.
+	 * @return buffered image at the scale of the bucket.
+	 */
+	public BufferedImage getImage(GraphicsNode svg, GraphicsNode patternSVG, double width, double length,
+			int bucket) {
+		ImageKey key = new ImageKey(svg, patternSVG, width, length, bucket);
+		BufferedImage image = get(key);
+		if (image == null) {
+			image = createBufferedImage(svg, patternSVG, width, length, getBucketScale(bucket));
+			put(key, image);
+		}
+		return image;
+	}
+
+	/**
+	 * Rasterizes the image of a structure in the background, if it is not cached.
+	 *
+	 * @param svg the SVG graphics node.
+	 * @param patternSVG the pattern SVG graphics node (null if no pattern).
+	 * @param width the structure width (meters).
+	 * @param length the structure length (meters).
+	 * @param bucket the scale bucket.
+	 */
+	public void prefetch(GraphicsNode svg, GraphicsNode patternSVG, double width, double length, int bucket) {
+		ImageKey key = new ImageKey(svg, patternSVG, width, length, bucket);
+		if (get(key) != null || !pending.add(key))
+			return;
+
+		synchronized (this) {
+			if (executor == null) {
+				executor = Executors.newSingleThreadExecutor(r -> {
+					Thread t = new Thread(r, "StructureImageCache");
+					t.setDaemon(true);
+					t.setPriority(Thread.MIN_PRIORITY);
+					return t;
+				});
+			}
+			executor.execute(() -> {
+				try {
+					if (get(key) == null)
+						put(key, createBufferedImage(svg, patternSVG, width, length, getBucketScale(bucket)));
+				} finally {
+					pending.remove(key);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Gets the size of the cached images.
+	 *
+	 * @return size [in bytes].
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Gets the number of cached images.
+	 *
+	 * @return number of images.
+	 */
+	public synchronized int size() {
+		return images.size();
+	}
+
+	/**
+	 * Removes all the cached images.
+	 */
+	public synchronized void clear() {
+		images.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Removes all the cached images and stops the background rasterization.
+	 */
+	public synchronized void destroy() {
+		clear();
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		pending.clear();
+	}
+
+	private synchronized BufferedImage get(ImageKey key) {
+		return images.get(key);
+	}
+
+	private synchronized void put(ImageKey key, BufferedImage image) {
+		BufferedImage old = images.put(key, image);
+		if (old != null)
+			bytes -= getBytes(old);
+		bytes += getBytes(image);
+
+		// Evict the least recently used images, but always keep the newest one
+		Iterator<BufferedImage> i = images.values().iterator();
+		while (bytes > maxBytes && images.size() > 1 && i.hasNext()) {
+			BufferedImage eldest = i.next();
+			bytes -= getBytes(eldest);
+			i.remove();
+		}
+	}
+
+	private static long getBytes(BufferedImage image) {
+		return (long) image.getWidth() * image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	/**
+	 * Creates a buffered image from a SVG graphics node.
+	 * @param svg the SVG graphics node.
+	 * @param patternSVG the pattern SVG graphics node (null if no pattern).
+	 * @param width the structure width (meters).
+	 * @param length the structure length (meters).
+	 * @param scale the map scale (pixels per meter).
+	 * @return the created buffered image.
+	 */
+	private static BufferedImage createBufferedImage(GraphicsNode svg, GraphicsNode patternSVG, double width,
+			double length, double scale) {
+
+		int imageWidth = (int) (width * scale);
+		if (imageWidth <= 0) {
+			imageWidth = 1;
+		}
+		int imageLength = (int) (length * scale);
+		if (imageLength <= 0) {
+			imageLength = 1;
+		}
+		BufferedImage bufferedImage = new BufferedImage(
+				imageWidth, imageLength,
+				BufferedImage.TYPE_INT_ARGB
+				);
+
+		// Draw the SVG image on the buffered image.
+		Graphics2D g2d = (Graphics2D) bufferedImage.getGraphics();
+		g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+		// The graphics nodes are shared, and their transform is set for each paint
+		synchronized (svg) {
+			// Determine bounds.
+			Rectangle2D bounds = svg.getBounds();
+
+			// Determine transform information.
+			double scalingWidth = width / bounds.getWidth() * scale;
+			double scalingLength = length / bounds.getHeight() * scale;
+
+			svg.setTransform(AffineTransform.getScaleInstance(scalingWidth, scalingLength));
+			svg.paint(g2d);
+
+			// Draw repeating pattern SVG image on the buffered image.
+			if (patternSVG != null) {
+				synchronized (patternSVG) {
+					drawPattern(g2d, patternSVG, bounds, width, length, scalingWidth, scalingLength);
+				}
+			}
+		}
+
+		// Cleanup and return image
+		g2d.dispose();
+
+		return bufferedImage;
+	}
+
+	private static void drawPattern(Graphics2D g2d, GraphicsNode patternSVG, Rectangle2D bounds, double width,
+			double length, double scalingWidth, double scalingLength) {
+		double patternScaling = 0D;
+		double patternWidth = 0D;
+		double patternLength = 0D;
+
+		double originalProportions = bounds.getWidth() / bounds.getHeight();
+		double finalProportions = width / length;
+		Rectangle2D patternBounds = patternSVG.getBounds();
+		if ((finalProportions / originalProportions) >= 1D) {
+			patternScaling = scalingLength;
+			patternLength = length * (patternBounds.getHeight() / bounds.getHeight());
+			patternWidth = patternLength * (patternBounds.getWidth() / patternBounds.getHeight());
+		}
+		else {
+			patternScaling = scalingWidth;
+			patternWidth = width * (patternBounds.getWidth() / bounds.getWidth());
+			patternLength = patternWidth * (patternBounds.getHeight() / patternBounds.getWidth());
+		}
+
+		AffineTransform patternTransform = new AffineTransform();
+		patternTransform.scale(patternScaling, patternScaling);
+		for (double x = 0D; x < length; x += patternLength) {
+			patternTransform.translate(0D, x * bounds.getHeight());
+			double y = 0D;
+			for (; y < width; y += patternWidth) {
+				patternTransform.translate(y * bounds.getWidth(), 0D);
+				patternSVG.setTransform(patternTransform);
+				patternSVG.paint(g2d);
+				patternTransform.translate(y * bounds.getWidth() * -1D, 0D);
+			}
+			patternTransform.translate(0D, x * bounds.getHeight() * -1D);
+		}
+	}
+
+	/**
+	 * Inner class to serve as map key for structure images.
+	 */
+	private static class ImageKey {
+
+		private GraphicsNode svg;
+		private GraphicsNode patternSVG;
+		private double width;
+		private double length;
+		private int bucket;
+
+		ImageKey(GraphicsNode svg, GraphicsNode patternSVG, double width, double length, int bucket) {
+			this.svg = svg;
+			this.patternSVG = patternSVG;
+			this.width = width;
+			this.length = length;
+			this.bucket = bucket;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object)
+				return true;
+			if (!(object instanceof ImageKey))
+				return false;
+			ImageKey other = (ImageKey) object;
+			return svg.equals(other.svg) && patternSVG == other.patternSVG && width == other.width
+					&& length == other.length && bucket == other.bucket;
+		}
+
+		@Override
+		public int hashCode() {
+			return (svg.hashCode() * 31 + bucket) * 31 + (int) ((width + length) * 10D);
+		}
+	}
+}
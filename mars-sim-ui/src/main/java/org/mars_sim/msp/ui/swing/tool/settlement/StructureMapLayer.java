@@ -9,7 +9,6 @@ package org.mars_sim.msp.ui.swing.tool.settlement;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.Stroke;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
@@ -17,9 +16,7 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 
 import org.apache.batik.gvt.GraphicsNode;
 import org.mars_sim.msp.core.LocalAreaUtil;
@@ -62,8 +59,13 @@ public class StructureMapLayer implements SettlementMapLayer {
     private boolean selected = false;
     
     private double scale;
+    /** The scale bucket of the last frame. */
+    private int lastBucket;
+    /** The scale bucket to rasterize ahead, in the direction of the last zoom. */
+    private int nextBucket;
+    private boolean prefetching;
     private SettlementMapPanel mapPanel;
-    private Map<Double, Map<BuildingKey, BufferedImage>> svgImageCache;
+    private StructureImageCache imageCache;
 
 //	private Building building;
 
@@ -75,7 +77,7 @@ public class StructureMapLayer implements SettlementMapLayer {
 
         // Initialize data members.
         this.mapPanel = mapPanel;
-        svgImageCache = new HashMap<Double, Map<BuildingKey, BufferedImage>>(21);
+        imageCache = new StructureImageCache();
 
         // Set Apache Batik library system property so that it doesn't output:
         // "Graphics2D from BufferedImage lacks BUFFERED_IMAGE hint" in system err.
@@ -90,7 +92,7 @@ public class StructureMapLayer implements SettlementMapLayer {
 //    	System.out.println("StructureMapLayer : building is "+ building);
         // Initialize data members.
         this.mapPanel = mapPanel;
-        svgImageCache = new HashMap<Double, Map<BuildingKey, BufferedImage>>(21);
+        imageCache = new StructureImageCache();
 
         // Set Apache Batik library system property so that it doesn't output:
         // "Graphics2D from BufferedImage lacks BUFFERED_IMAGE hint" in system err.
@@ -101,7 +103,7 @@ public class StructureMapLayer implements SettlementMapLayer {
 
         // Initialize data members.
 
-        svgImageCache = new HashMap<Double, Map<BuildingKey, BufferedImage>>(21);
+        imageCache = new StructureImageCache();
 
         // Set Apache Batik library system property so that it doesn't output:
         // "Graphics2D from BufferedImage lacks BUFFERED_IMAGE hint" in system err.
@@ -120,6 +122,12 @@ public class StructureMapLayer implements SettlementMapLayer {
         this.scale = scale;
 //        this.building = building;
 
+        // Rasterize the next zoom level ahead when the scale bucket changes
+        int bucket = StructureImageCache.getBucket(scale);
+        prefetching = bucket != lastBucket;
+        nextBucket = bucket + Integer.signum(bucket - lastBucket);
+        lastBucket = bucket;
+
         // Save original graphics transforms.
         AffineTransform saveTransform = g2d.getTransform();
 
@@ -445,7 +453,12 @@ public class StructureMapLayer implements SettlementMapLayer {
         
         // Determine bounds.
         Rectangle2D bounds = null;
-        if (isSVG) bounds = svg.getBounds();
+        if (isSVG) {
+            // The image cache may be setting the transform of the same node
+            synchronized (svg) {
+                bounds = svg.getBounds();
+            }
+        }
         else bounds = new Rectangle2D.Double(0, 0, width, length);
 
         // Determine transform information.
@@ -467,14 +480,21 @@ public class StructureMapLayer implements SettlementMapLayer {
         newTransform.rotate(facingRadian, centerX + boundsPosX, centerY + boundsPosY);
     
         if (isSVG) {
-            // Draw buffered image of structure.
-            BufferedImage image = getBufferedImage(svg, width, length, patternSVG);
+            // Draw buffered image of structure, scaled from its bucket to the map scale.
+            int bucket = StructureImageCache.getBucket(scale);
+            BufferedImage image = imageCache.getImage(svg, patternSVG, width, length, bucket);
+            if (prefetching) {
+                imageCache.prefetch(svg, patternSVG, width, length, nextBucket);
+            }
             if (image != null) {
                 g2d.transform(newTransform);
-                
+                double imageScale = scale / StructureImageCache.getBucketScale(bucket);
+                g2d.scale(imageScale, imageScale);
+
                 if (mapPanel != null) {              	
                 	g2d.drawImage(image, 0, 0, mapPanel);      
                 }
+                g2d.scale(1D / imageScale, 1D / imageScale);
             }
         }
         else {
@@ -549,120 +569,6 @@ public class StructureMapLayer implements SettlementMapLayer {
         g2d.setTransform(saveTransform);
     }
 
-    /**
-     * Gets a buffered image for a given graphics node.
-     * @param svg the SVG graphics node.
-     * @param width the structure width (meters).
-     * @param length the structure length (meters).
-     * @param patternSVG the pattern SVG graphics node (null if no pattern).
-     * @return buffered image.
-     */
-    private BufferedImage getBufferedImage(
-            GraphicsNode svg, double width, double length,
-            GraphicsNode patternSVG) {
-
-        // Get image cache for current scale or create it if it doesn't exist.
-        Map<BuildingKey, BufferedImage> imageCache = null;
-        if (svgImageCache.containsKey(scale)) {
-            imageCache = svgImageCache.get(scale);
-        }
-        else {
-            imageCache = new HashMap<BuildingKey, BufferedImage>(100);
-            svgImageCache.put(scale, imageCache);
-        }
-
-        // Get image from image cache or create it if it doesn't exist.
-        BufferedImage image = null;
-        BuildingKey buildingKey = new BuildingKey(svg, width, length);
-        if (imageCache.containsKey(buildingKey)) {
-            image = imageCache.get(buildingKey);
-        }
-        else {
-            image = createBufferedImage(svg, width, length, patternSVG);
-            imageCache.put(buildingKey, image);
-        }
-
-        return image;
-    }
-
-    /**
-     * Creates a buffered image from a SVG graphics node.
-     * @param svg the SVG graphics node.
-     * @param width the structure width (meters).
-     * @param length the structure length (meters).
-     * @param patternSVG the pattern SVG graphics node (null if no pattern).
-     * @return the created buffered image.
-     */
-    private BufferedImage createBufferedImage(GraphicsNode svg, double width, double length,
-            GraphicsNode patternSVG) {
-
-        int imageWidth = (int) (width * scale);
-        if (imageWidth <= 0) {
-            imageWidth = 1;
-        }
-        int imageLength = (int) (length * scale);
-        if (imageLength <= 0) {
-            imageLength = 1;
-        }
-        BufferedImage bufferedImage = new BufferedImage(
-                imageWidth, imageLength,
-                BufferedImage.TYPE_INT_ARGB
-                );
-
-        // Determine bounds.
-        Rectangle2D bounds = svg.getBounds();
-
-        // Determine transform information.
-        double scalingWidth = width / bounds.getWidth() * scale;
-        double scalingLength = length / bounds.getHeight() * scale;
-
-        // Draw the SVG image on the buffered image.
-        Graphics2D g2d = (Graphics2D) bufferedImage.getGraphics();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        svg.setTransform(AffineTransform.getScaleInstance(scalingWidth, scalingLength));
-        svg.paint(g2d);
-
-        // Draw repeating pattern SVG image on the buffered image.
-        if (patternSVG != null) {
-            double patternScaling = 0D;
-            double patternWidth = 0D;
-            double patternLength = 0D;
-
-            double originalProportions = bounds.getWidth() / bounds.getHeight();
-            double finalProportions = width / length;
-            Rectangle2D patternBounds = patternSVG.getBounds();
-            if ((finalProportions / originalProportions) >= 1D) {
-                patternScaling = scalingLength;
-                patternLength = length * (patternBounds.getHeight() / bounds.getHeight());
-                patternWidth = patternLength * (patternBounds.getWidth() / patternBounds.getHeight());
-            }
-            else {
-                patternScaling = scalingWidth;
-                patternWidth = width * (patternBounds.getWidth() / bounds.getWidth());
-                patternLength = patternWidth * (patternBounds.getHeight() / patternBounds.getWidth());
-            }
-
-            AffineTransform patternTransform = new AffineTransform();
-            patternTransform.scale(patternScaling, patternScaling);
-            for (double x = 0D; x < length; x += patternLength) {
-                patternTransform.translate(0D, x * bounds.getHeight());
-                double y = 0D;
-                for (; y < width; y += patternWidth) {
-                    patternTransform.translate(y * bounds.getWidth(), 0D);
-                    patternSVG.setTransform(patternTransform);
-                    patternSVG.paint(g2d);
-                    patternTransform.translate(y * bounds.getWidth() * -1D, 0D);
-                }
-                patternTransform.translate(0D, x * bounds.getHeight() * -1D);
-            }
-        }
-
-        // Cleanup and return image
-        g2d.dispose();
-
-        return bufferedImage;
-    }
-
     public void setSelected(boolean value) {
     	selected = value;
     }
@@ -670,48 +576,6 @@ public class StructureMapLayer implements SettlementMapLayer {
     @Override
     public void destroy() {
         // Clear all buffered image caches.
-        Iterator<Map<BuildingKey, BufferedImage>> i = svgImageCache.values().iterator();
-        while (i.hasNext()) {
-            i.next().clear();
-        }
-        svgImageCache.clear();
-    }
-
-    /**
-     * Inner class to serve as map key for building images.
-     */
-    private class BuildingKey {
-
-        private GraphicsNode svg;
-        private double width;
-        private double length;
-
-        BuildingKey(GraphicsNode svg, double width, double length) {
-            this.svg = svg;
-            this.width = width;
-            this.length = length;
-        }
-
-        @Override
-        public boolean equals(Object object) {
-
-            boolean result = false;
-            if (object instanceof BuildingKey) {
-                BuildingKey buildingKeyObject = (BuildingKey) object;
-                if (
-                        svg.equals(buildingKeyObject.svg) &&
-                        (width == buildingKeyObject.width) &&
-                        (length == buildingKeyObject.length)) {
-                    result = true;
-                }
-            }
-
-            return result;
-        }
-
-        @Override
-        public int hashCode() {
-            return svg.hashCode() + (int) ((width + length) * 10D);
-        }
+        imageCache.destroy();
     }
-}
\ No newline at end of file
+}
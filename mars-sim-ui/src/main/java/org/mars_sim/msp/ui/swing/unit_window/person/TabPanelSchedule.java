@@ -584,10 +584,8 @@ public class TabPanelSchedule extends TabPanel {
 			} 
 			
 			else {
-				allActivities = taskSchedule.getAllActivities();
 				// Load the schedule of a particular sol
-				if (allActivities.containsKey(selectedSol))
-					activityList.addAll(allActivities.get(selectedSol));
+				activityList.addAll(taskSchedule.getActivities(selectedSol));
 			}
 			
 			if (hideRepeatedTasks) {
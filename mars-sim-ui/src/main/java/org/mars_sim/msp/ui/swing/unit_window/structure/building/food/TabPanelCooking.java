@@ -37,6 +37,7 @@ import org.mars_sim.msp.core.structure.building.function.cooking.CookedMeal;
 import org.mars_sim.msp.core.structure.building.function.cooking.Cooking;
 import org.mars_sim.msp.core.structure.building.function.cooking.PreparingDessert;
 import org.mars_sim.msp.core.time.MarsClock;
+import org.mars_sim.msp.core.time.MarsInstant;
 import org.mars_sim.msp.ui.swing.MainDesktopPane;
 import org.mars_sim.msp.ui.swing.NumberCellRenderer;
 import org.mars_sim.msp.ui.swing.tool.TableStyle;
@@ -420,11 +421,11 @@ public class TabPanelCooking extends TabPanel {
 		private Multimap<String, Double> qualityMap;
 		private Multimap<String, Double> allQualityMap;
 
-		private Multimap<String, MarsClock> timeMap;
-		private Multimap<String, MarsClock> allTimeMap;
+		private Multimap<String, MarsInstant> timeMap;
+		private Multimap<String, MarsInstant> allTimeMap;
 
 		private Collection<Map.Entry<String, Double>> allQualityMapE;
-		private Collection<Entry<String, MarsClock>> allTimeMapE;
+		private Collection<Entry<String, MarsInstant>> allTimeMapE;
 
 		private CookingTableModel(Settlement settlement) {
 			this.settlement = settlement;